@@ -0,0 +1,2884 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.api.AccountMethods;
+import facebook4j.api.ActivityMethods;
+import facebook4j.api.AlbumMethods;
+import facebook4j.api.BatchRequestsMethods;
+import facebook4j.api.CheckinMethods;
+import facebook4j.api.CommentMethods;
+import facebook4j.api.ConversationMethods;
+import facebook4j.api.DomainMethods;
+import facebook4j.api.EventMethods;
+import facebook4j.api.FQLMethods;
+import facebook4j.api.FamilyMethods;
+import facebook4j.api.FavoriteMethods;
+import facebook4j.api.FriendMethods;
+import facebook4j.api.GameMethods;
+import facebook4j.api.GroupMethods;
+import facebook4j.api.InsightMethods;
+import facebook4j.api.LikeMethods;
+import facebook4j.api.LinkMethods;
+import facebook4j.api.LocationMethods;
+import facebook4j.api.MessageMethods;
+import facebook4j.api.NoteMethods;
+import facebook4j.api.NotificationMethods;
+import facebook4j.api.PageMethods;
+import facebook4j.api.PermissionMethods;
+import facebook4j.api.PhotoMethods;
+import facebook4j.api.PokeMethods;
+import facebook4j.api.PostMethods;
+import facebook4j.api.QuestionMethods;
+import facebook4j.api.RawAPIMethods;
+import facebook4j.api.SearchMethods;
+import facebook4j.api.SubscribeMethods;
+import facebook4j.api.TestUserMethods;
+import facebook4j.api.UserMethods;
+import facebook4j.api.VideoMethods;
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * Asynchronous version of {@link Facebook}.<br>
+ * Every operation is submitted to an executor and returns immediately with a {@link Future} of its result.
+ * If the operation fails, {@link Future#get()} throws an {@link java.util.concurrent.ExecutionException}
+ * whose cause is the {@link FacebookException}.<br>
+ * Instances are obtained from {@link FacebookFactory#getAsyncInstance()}.
+ */
+public interface AsyncFacebook {
+
+    /**
+     * Returns the synchronous instance which the operations are delegated to.
+     *
+     * @return the synchronous instance
+     */
+    Facebook getFacebook();
+
+    /**
+     * Shuts down this instance and releases allocated resources.<br>
+     * An executor passed to {@link FacebookFactory#getAsyncInstance(facebook4j.auth.Authorization, java.util.concurrent.ExecutorService)} is not shut down.
+     */
+    void shutdown();
+
+    /* Base Methods */
+
+    /**
+     * @see FacebookBase#getId()
+     */
+    Future<String> getId();
+
+    /**
+     * @see FacebookBase#getName()
+     */
+    Future<String> getName();
+
+    /**
+     * @see FacebookBase#fetchNext(Paging)
+     */
+    <T> Future<ResponseList<T>> fetchNext(Paging<T> paging);
+
+    /**
+     * @see FacebookBase#fetchPrevious(Paging)
+     */
+    <T> Future<ResponseList<T>> fetchPrevious(Paging<T> paging);
+
+    /* User Methods */
+
+    /**
+     * @see UserMethods#getMe()
+     */
+    Future<User> getMe();
+
+    /**
+     * @see UserMethods#getMe(Reading)
+     */
+    Future<User> getMe(Reading reading);
+
+    /**
+     * @see UserMethods#getUser(String)
+     */
+    Future<User> getUser(String userId);
+
+    /**
+     * @see UserMethods#getUser(String, Reading)
+     */
+    Future<User> getUser(String userId, Reading reading);
+
+    /**
+     * @see UserMethods#getPictureURL()
+     */
+    Future<URL> getPictureURL();
+
+    /**
+     * @see UserMethods#getPictureURL(PictureSize)
+     */
+    Future<URL> getPictureURL(PictureSize size);
+
+    /**
+     * @see UserMethods#getPictureURL(int, int)
+     */
+    Future<URL> getPictureURL(int width, int height);
+
+    /**
+     * @see UserMethods#getPictureURL(String)
+     */
+    Future<URL> getPictureURL(String userId);
+
+    /**
+     * @see UserMethods#getPictureURL(String, PictureSize)
+     */
+    Future<URL> getPictureURL(String userId, PictureSize size);
+
+    /**
+     * @see UserMethods#getPictureURL(String, int, int)
+     */
+    Future<URL> getPictureURL(String userId, int width, int height);
+
+    /**
+     * @see UserMethods#getSSLPictureURL()
+     */
+    Future<URL> getSSLPictureURL();
+
+    /**
+     * @see UserMethods#getSSLPictureURL(PictureSize)
+     */
+    Future<URL> getSSLPictureURL(PictureSize size);
+
+    /**
+     * @see UserMethods#getSSLPictureURL(String)
+     */
+    Future<URL> getSSLPictureURL(String userId);
+
+    /**
+     * @see UserMethods#getSSLPictureURL(String, PictureSize)
+     */
+    Future<URL> getSSLPictureURL(String userId, PictureSize size);
+
+    /**
+     * @see UserMethods#getUsers(String...)
+     */
+    Future<List<User>> getUsers(String... ids);
+
+    /* Account Methods */
+
+    /**
+     * @see AccountMethods#getAccounts()
+     */
+    Future<ResponseList<Account>> getAccounts();
+
+    /**
+     * @see AccountMethods#getAccounts(Reading)
+     */
+    Future<ResponseList<Account>> getAccounts(Reading reading);
+
+    /**
+     * @see AccountMethods#getAccounts(String)
+     */
+    Future<ResponseList<Account>> getAccounts(String userId);
+
+    /**
+     * @see AccountMethods#getAccounts(String, Reading)
+     */
+    Future<ResponseList<Account>> getAccounts(String userId, Reading reading);
+
+    /* Activity Methods */
+
+    /**
+     * @see ActivityMethods#getActivities()
+     */
+    Future<ResponseList<Activity>> getActivities();
+
+    /**
+     * @see ActivityMethods#getActivities(Reading)
+     */
+    Future<ResponseList<Activity>> getActivities(Reading reading);
+
+    /**
+     * @see ActivityMethods#getActivities(String)
+     */
+    Future<ResponseList<Activity>> getActivities(String userId);
+
+    /**
+     * @see ActivityMethods#getActivities(String, Reading)
+     */
+    Future<ResponseList<Activity>> getActivities(String userId, Reading reading);
+
+    /* Album Methods */
+
+    /**
+     * @see AlbumMethods#getAlbums()
+     */
+    Future<ResponseList<Album>> getAlbums();
+
+    /**
+     * @see AlbumMethods#getAlbums(Reading)
+     */
+    Future<ResponseList<Album>> getAlbums(Reading reading);
+
+    /**
+     * @see AlbumMethods#getAlbums(String)
+     */
+    Future<ResponseList<Album>> getAlbums(String id);
+
+    /**
+     * @see AlbumMethods#getAlbums(String, Reading)
+     */
+    Future<ResponseList<Album>> getAlbums(String id, Reading reading);
+
+    /**
+     * @see AlbumMethods#createAlbum(AlbumUpdate)
+     */
+    Future<String> createAlbum(AlbumUpdate albumUpdate);
+
+    /**
+     * @see AlbumMethods#createAlbum(String, AlbumUpdate)
+     */
+    Future<String> createAlbum(String userId, AlbumUpdate albumUpdate);
+
+    /**
+     * @see AlbumMethods#getAlbum(String)
+     */
+    Future<Album> getAlbum(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbum(String, Reading)
+     */
+    Future<Album> getAlbum(String albumId, Reading reading);
+
+    /**
+     * @see AlbumMethods#getAlbumPhotos(String)
+     */
+    Future<ResponseList<Photo>> getAlbumPhotos(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbumPhotos(String, Reading)
+     */
+    Future<ResponseList<Photo>> getAlbumPhotos(String albumId, Reading reading);
+
+    /**
+     * @see AlbumMethods#addAlbumPhoto(String, Media)
+     */
+    Future<String> addAlbumPhoto(String albumId, Media source);
+
+    /**
+     * @see AlbumMethods#addAlbumPhoto(String, Media, String)
+     */
+    Future<String> addAlbumPhoto(String albumId, Media source, String message);
+
+    /**
+     * @see AlbumMethods#getAlbumComments(String)
+     */
+    Future<ResponseList<Comment>> getAlbumComments(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbumComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getAlbumComments(String albumId, Reading reading);
+
+    /**
+     * @see AlbumMethods#commentAlbum(String, String)
+     */
+    Future<String> commentAlbum(String albumId, String message);
+
+    /**
+     * @see AlbumMethods#commentAlbum(String, CommentUpdate)
+     */
+    Future<String> commentAlbum(String albumId, CommentUpdate commentUpdate);
+
+    /**
+     * @see AlbumMethods#getAlbumLikes(String)
+     */
+    Future<ResponseList<Like>> getAlbumLikes(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbumLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getAlbumLikes(String albumId, Reading reading);
+
+    /**
+     * @see AlbumMethods#likeAlbum(String)
+     */
+    Future<Boolean> likeAlbum(String albumId);
+
+    /**
+     * @see AlbumMethods#unlikeAlbum(String)
+     */
+    Future<Boolean> unlikeAlbum(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbumCoverPhoto(String)
+     */
+    Future<URL> getAlbumCoverPhoto(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbumReactions(String)
+     */
+    Future<ResponseList<Reaction>> getAlbumReactions(String albumId);
+
+    /**
+     * @see AlbumMethods#getAlbumReactions(String, Reading)
+     */
+    Future<ResponseList<Reaction>> getAlbumReactions(String albumId, Reading reading);
+
+    /* Checkin Methods */
+
+    /**
+     * @see CheckinMethods#getCheckins()
+     */
+    Future<ResponseList<Checkin>> getCheckins();
+
+    /**
+     * @see CheckinMethods#getCheckins(Reading)
+     */
+    Future<ResponseList<Checkin>> getCheckins(Reading reading);
+
+    /**
+     * @see CheckinMethods#getCheckins(String)
+     */
+    Future<ResponseList<Checkin>> getCheckins(String id);
+
+    /**
+     * @see CheckinMethods#getCheckins(String, Reading)
+     */
+    Future<ResponseList<Checkin>> getCheckins(String id, Reading reading);
+
+    /**
+     * @see CheckinMethods#checkin(CheckinUpdate)
+     */
+    Future<String> checkin(CheckinUpdate checkinUpdate);
+
+    /**
+     * @see CheckinMethods#checkin(String, CheckinUpdate)
+     */
+    Future<String> checkin(String userId, CheckinUpdate checkinUpdate);
+
+    /**
+     * @see CheckinMethods#getCheckin(String)
+     */
+    Future<Checkin> getCheckin(String checkinId);
+
+    /**
+     * @see CheckinMethods#getCheckin(String, Reading)
+     */
+    Future<Checkin> getCheckin(String checkinId, Reading reading);
+
+    /**
+     * @see CheckinMethods#getCheckinComments(String)
+     */
+    Future<ResponseList<Comment>> getCheckinComments(String checkinId);
+
+    /**
+     * @see CheckinMethods#getCheckinComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getCheckinComments(String checkinId, Reading reading);
+
+    /**
+     * @see CheckinMethods#commentCheckin(String, String)
+     */
+    Future<String> commentCheckin(String checkinId, String message);
+
+    /**
+     * @see CheckinMethods#getCheckinLikes(String)
+     */
+    Future<ResponseList<Like>> getCheckinLikes(String checkinId);
+
+    /**
+     * @see CheckinMethods#getCheckinLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getCheckinLikes(String checkinId, Reading reading);
+
+    /**
+     * @see CheckinMethods#likeCheckin(String)
+     */
+    Future<Boolean> likeCheckin(String checkinId);
+
+    /**
+     * @see CheckinMethods#unlikeCheckin(String)
+     */
+    Future<Boolean> unlikeCheckin(String checkinId);
+
+    /* Comment Methods */
+
+    /**
+     * @see CommentMethods#getComment(String)
+     */
+    Future<Comment> getComment(String commentId);
+
+    /**
+     * @see CommentMethods#getComment(String, Reading)
+     */
+    Future<Comment> getComment(String commentId, Reading reading);
+
+    /**
+     * @see CommentMethods#getCommentReplies(String)
+     */
+    Future<ResponseList<Comment>> getCommentReplies(String commentId);
+
+    /**
+     * @see CommentMethods#getCommentReplies(String, Reading)
+     */
+    Future<ResponseList<Comment>> getCommentReplies(String commentId, Reading reading);
+
+    /**
+     * @see CommentMethods#deleteComment(String)
+     */
+    Future<Boolean> deleteComment(String commentId);
+
+    /**
+     * @see CommentMethods#getCommentLikes(String)
+     */
+    Future<ResponseList<Like>> getCommentLikes(String commentId);
+
+    /**
+     * @see CommentMethods#getCommentLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getCommentLikes(String commentId, Reading reading);
+
+    /**
+     * @see CommentMethods#likeComment(String)
+     */
+    Future<Boolean> likeComment(String commentId);
+
+    /**
+     * @see CommentMethods#unlikeComment(String)
+     */
+    Future<Boolean> unlikeComment(String commentId);
+
+    /* Domain Methods */
+
+    /**
+     * @see DomainMethods#getDomain(String)
+     */
+    Future<Domain> getDomain(String domainId);
+
+    /**
+     * @see DomainMethods#getDomainByName(String)
+     */
+    Future<Domain> getDomainByName(String domainName);
+
+    /**
+     * @see DomainMethods#getDomainsByName(String...)
+     */
+    Future<List<Domain>> getDomainsByName(String... domainName);
+
+    /* Event Methods */
+
+    /**
+     * @see EventMethods#getEvents()
+     */
+    Future<ResponseList<Event>> getEvents();
+
+    /**
+     * @see EventMethods#getEvents(Reading)
+     */
+    Future<ResponseList<Event>> getEvents(Reading reading);
+
+    /**
+     * @see EventMethods#getEvents(String)
+     */
+    Future<ResponseList<Event>> getEvents(String id);
+
+    /**
+     * @see EventMethods#getEvents(String, Reading)
+     */
+    Future<ResponseList<Event>> getEvents(String id, Reading reading);
+
+    /**
+     * @see EventMethods#createEvent(EventUpdate)
+     */
+    Future<String> createEvent(EventUpdate eventUpdate);
+
+    /**
+     * @see EventMethods#createEvent(String, EventUpdate)
+     */
+    Future<String> createEvent(String id, EventUpdate eventUpdate);
+
+    /**
+     * @see EventMethods#editEvent(String, EventUpdate)
+     */
+    Future<Boolean> editEvent(String eventId, EventUpdate eventUpdate);
+
+    /**
+     * @see EventMethods#deleteEvent(String)
+     */
+    Future<Boolean> deleteEvent(String eventId);
+
+    /**
+     * @see EventMethods#getEvent(String)
+     */
+    Future<Event> getEvent(String eventId);
+
+    /**
+     * @see EventMethods#getEvent(String, Reading)
+     */
+    Future<Event> getEvent(String eventId, Reading reading);
+
+    /**
+     * @see EventMethods#postEventLink(String, URL)
+     */
+    Future<String> postEventLink(String eventId, URL link);
+
+    /**
+     * @see EventMethods#postEventLink(String, URL, String)
+     */
+    Future<String> postEventLink(String eventId, URL link, String message);
+
+    /**
+     * @see EventMethods#postEventStatusMessage(String, String)
+     */
+    Future<String> postEventStatusMessage(String eventId, String message);
+
+    /**
+     * @see EventMethods#getRSVPStatusAsNoreply(String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusAsNoreply(String, String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(String eventId, String userId);
+
+    /**
+     * @see EventMethods#getRSVPStatusAsInvited(String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusAsInvited(String, String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(String eventId, String userId);
+
+    /**
+     * @see EventMethods#inviteToEvent(String, String)
+     */
+    Future<Boolean> inviteToEvent(String eventId, String userId);
+
+    /**
+     * @see EventMethods#inviteToEvent(String, String[])
+     */
+    Future<Boolean> inviteToEvent(String eventId, String[] userIds);
+
+    /**
+     * @see EventMethods#uninviteFromEvent(String, String)
+     */
+    Future<Boolean> uninviteFromEvent(String eventId, String userId);
+
+    /**
+     * @see EventMethods#getRSVPStatusInAttending(String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusInAttending(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusInAttending(String, String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusInAttending(String eventId, String userId);
+
+    /**
+     * @see EventMethods#rsvpEventAsAttending(String)
+     */
+    Future<Boolean> rsvpEventAsAttending(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusInMaybe(String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusInMaybe(String, String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(String eventId, String userId);
+
+    /**
+     * @see EventMethods#rsvpEventAsMaybe(String)
+     */
+    Future<Boolean> rsvpEventAsMaybe(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusInDeclined(String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(String eventId);
+
+    /**
+     * @see EventMethods#getRSVPStatusInDeclined(String, String)
+     */
+    Future<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(String eventId, String userId);
+
+    /**
+     * @see EventMethods#rsvpEventAsDeclined(String)
+     */
+    Future<Boolean> rsvpEventAsDeclined(String eventId);
+
+    /**
+     * @see EventMethods#getEventPictureURL(String)
+     */
+    Future<URL> getEventPictureURL(String eventId);
+
+    /**
+     * @see EventMethods#getEventPictureURL(String, PictureSize)
+     */
+    Future<URL> getEventPictureURL(String eventId, PictureSize size);
+
+    /**
+     * @see EventMethods#updateEventPicture(String, Media)
+     */
+    Future<Boolean> updateEventPicture(String eventId, Media source);
+
+    /**
+     * @see EventMethods#deleteEventPicture(String)
+     */
+    Future<Boolean> deleteEventPicture(String eventId);
+
+    /**
+     * @see EventMethods#getEventPhotos(String)
+     */
+    Future<ResponseList<Photo>> getEventPhotos(String eventId);
+
+    /**
+     * @see EventMethods#getEventPhotos(String, Reading)
+     */
+    Future<ResponseList<Photo>> getEventPhotos(String eventId, Reading reading);
+
+    /**
+     * @see EventMethods#postEventPhoto(String, Media)
+     */
+    Future<String> postEventPhoto(String eventId, Media source);
+
+    /**
+     * @see EventMethods#postEventPhoto(String, Media, String)
+     */
+    Future<String> postEventPhoto(String eventId, Media source, String message);
+
+    /**
+     * @see EventMethods#getEventVideos(String)
+     */
+    Future<ResponseList<Video>> getEventVideos(String eventId);
+
+    /**
+     * @see EventMethods#getEventVideos(String, Reading)
+     */
+    Future<ResponseList<Video>> getEventVideos(String eventId, Reading reading);
+
+    /**
+     * @see EventMethods#postEventVideo(String, Media)
+     */
+    Future<String> postEventVideo(String eventId, Media source);
+
+    /**
+     * @see EventMethods#postEventVideo(String, Media, String, String)
+     */
+    Future<String> postEventVideo(String eventId, Media source, String title, String description);
+
+    /* Family Methods */
+
+    /**
+     * @see FamilyMethods#getFamily()
+     */
+    Future<ResponseList<Family>> getFamily();
+
+    /**
+     * @see FamilyMethods#getFamily(Reading)
+     */
+    Future<ResponseList<Family>> getFamily(Reading reading);
+
+    /**
+     * @see FamilyMethods#getFamily(String)
+     */
+    Future<ResponseList<Family>> getFamily(String userId);
+
+    /**
+     * @see FamilyMethods#getFamily(String, Reading)
+     */
+    Future<ResponseList<Family>> getFamily(String userId, Reading reading);
+
+    /* Favorite Methods */
+
+    /**
+     * @see FavoriteMethods#getBooks()
+     */
+    Future<ResponseList<Book>> getBooks();
+
+    /**
+     * @see FavoriteMethods#getBooks(Reading)
+     */
+    Future<ResponseList<Book>> getBooks(Reading reading);
+
+    /**
+     * @see FavoriteMethods#getBooks(String)
+     */
+    Future<ResponseList<Book>> getBooks(String userId);
+
+    /**
+     * @see FavoriteMethods#getBooks(String, Reading)
+     */
+    Future<ResponseList<Book>> getBooks(String userId, Reading reading);
+
+    /**
+     * @see FavoriteMethods#getGames()
+     */
+    Future<ResponseList<Game>> getGames();
+
+    /**
+     * @see FavoriteMethods#getGames(Reading)
+     */
+    Future<ResponseList<Game>> getGames(Reading reading);
+
+    /**
+     * @see FavoriteMethods#getGames(String)
+     */
+    Future<ResponseList<Game>> getGames(String userId);
+
+    /**
+     * @see FavoriteMethods#getGames(String, Reading)
+     */
+    Future<ResponseList<Game>> getGames(String userId, Reading reading);
+
+    /**
+     * @see FavoriteMethods#getMovies()
+     */
+    Future<ResponseList<Movie>> getMovies();
+
+    /**
+     * @see FavoriteMethods#getMovies(Reading)
+     */
+    Future<ResponseList<Movie>> getMovies(Reading reading);
+
+    /**
+     * @see FavoriteMethods#getMovies(String)
+     */
+    Future<ResponseList<Movie>> getMovies(String userId);
+
+    /**
+     * @see FavoriteMethods#getMovies(String, Reading)
+     */
+    Future<ResponseList<Movie>> getMovies(String userId, Reading reading);
+
+    /**
+     * @see FavoriteMethods#getMusic()
+     */
+    Future<ResponseList<Music>> getMusic();
+
+    /**
+     * @see FavoriteMethods#getMusic(Reading)
+     */
+    Future<ResponseList<Music>> getMusic(Reading reading);
+
+    /**
+     * @see FavoriteMethods#getMusic(String)
+     */
+    Future<ResponseList<Music>> getMusic(String userId);
+
+    /**
+     * @see FavoriteMethods#getMusic(String, Reading)
+     */
+    Future<ResponseList<Music>> getMusic(String userId, Reading reading);
+
+    /**
+     * @see FavoriteMethods#getTelevision()
+     */
+    Future<ResponseList<Television>> getTelevision();
+
+    /**
+     * @see FavoriteMethods#getTelevision(Reading)
+     */
+    Future<ResponseList<Television>> getTelevision(Reading reading);
+
+    /**
+     * @see FavoriteMethods#getTelevision(String)
+     */
+    Future<ResponseList<Television>> getTelevision(String userId);
+
+    /**
+     * @see FavoriteMethods#getTelevision(String, Reading)
+     */
+    Future<ResponseList<Television>> getTelevision(String userId, Reading reading);
+
+    /**
+     * @see FavoriteMethods#getInterests()
+     */
+    Future<ResponseList<Interest>> getInterests();
+
+    /**
+     * @see FavoriteMethods#getInterests(Reading)
+     */
+    Future<ResponseList<Interest>> getInterests(Reading reading);
+
+    /**
+     * @see FavoriteMethods#getInterests(String)
+     */
+    Future<ResponseList<Interest>> getInterests(String userId);
+
+    /**
+     * @see FavoriteMethods#getInterests(String, Reading)
+     */
+    Future<ResponseList<Interest>> getInterests(String userId, Reading reading);
+
+    /* Friend Methods */
+
+    /**
+     * @see FriendMethods#getFriends()
+     */
+    Future<ResponseList<Friend>> getFriends();
+
+    /**
+     * @see FriendMethods#getFriends(Reading)
+     */
+    Future<ResponseList<Friend>> getFriends(Reading reading);
+
+    /**
+     * @see FriendMethods#getFriends(String)
+     */
+    Future<ResponseList<Friend>> getFriends(String userId);
+
+    /**
+     * @see FriendMethods#getFriends(String, Reading)
+     */
+    Future<ResponseList<Friend>> getFriends(String userId, Reading reading);
+
+    /**
+     * @see FriendMethods#getBelongsFriend(String)
+     */
+    Future<ResponseList<Friend>> getBelongsFriend(String friendId);
+
+    /**
+     * @see FriendMethods#getBelongsFriend(String, Reading)
+     */
+    Future<ResponseList<Friend>> getBelongsFriend(String friendId, Reading reading);
+
+    /**
+     * @see FriendMethods#getBelongsFriend(String, String)
+     */
+    Future<ResponseList<Friend>> getBelongsFriend(String userId, String friendId);
+
+    /**
+     * @see FriendMethods#getBelongsFriend(String, String, Reading)
+     */
+    Future<ResponseList<Friend>> getBelongsFriend(String userId, String friendId, Reading reading);
+
+    /**
+     * @see FriendMethods#getFriendlists()
+     */
+    Future<ResponseList<Friendlist>> getFriendlists();
+
+    /**
+     * @see FriendMethods#getFriendlists(Reading)
+     */
+    Future<ResponseList<Friendlist>> getFriendlists(Reading reading);
+
+    /**
+     * @see FriendMethods#getFriendlists(String)
+     */
+    Future<ResponseList<Friendlist>> getFriendlists(String userId);
+
+    /**
+     * @see FriendMethods#getFriendlists(String, Reading)
+     */
+    Future<ResponseList<Friendlist>> getFriendlists(String userId, Reading reading);
+
+    /**
+     * @see FriendMethods#createFriendlist(String)
+     */
+    Future<String> createFriendlist(String friendlistName);
+
+    /**
+     * @see FriendMethods#createFriendlist(String, String)
+     */
+    Future<String> createFriendlist(String userId, String friendlistName);
+
+    /**
+     * @see FriendMethods#getFriendlist(String)
+     */
+    Future<Friendlist> getFriendlist(String friendlistId);
+
+    /**
+     * @see FriendMethods#getFriendlist(String, Reading)
+     */
+    Future<Friendlist> getFriendlist(String friendlistId, Reading reading);
+
+    /**
+     * @see FriendMethods#deleteFriendlist(String)
+     */
+    Future<Boolean> deleteFriendlist(String friendlistId);
+
+    /**
+     * @see FriendMethods#getFriendlistMembers(String)
+     */
+    Future<ResponseList<Friend>> getFriendlistMembers(String friendlistId);
+
+    /**
+     * @see FriendMethods#addFriendlistMember(String, String)
+     */
+    Future<Boolean> addFriendlistMember(String friendlistId, String userId);
+
+    /**
+     * @see FriendMethods#removeFriendlistMember(String, String)
+     */
+    Future<Boolean> removeFriendlistMember(String friendlistId, String userId);
+
+    /**
+     * @see FriendMethods#deleteFriendlistMember(String, String)
+     */
+    Future<Boolean> deleteFriendlistMember(String friendlistId, String userId);
+
+    /**
+     * @see FriendMethods#getFriendRequests()
+     */
+    Future<ResponseList<FriendRequest>> getFriendRequests();
+
+    /**
+     * @see FriendMethods#getFriendRequests(Reading)
+     */
+    Future<ResponseList<FriendRequest>> getFriendRequests(Reading reading);
+
+    /**
+     * @see FriendMethods#getFriendRequests(String)
+     */
+    Future<ResponseList<FriendRequest>> getFriendRequests(String userId);
+
+    /**
+     * @see FriendMethods#getFriendRequests(String, Reading)
+     */
+    Future<ResponseList<FriendRequest>> getFriendRequests(String userId, Reading reading);
+
+    /**
+     * @see FriendMethods#getMutualFriends(String)
+     */
+    Future<ResponseList<Friend>> getMutualFriends(String friendUserId);
+
+    /**
+     * @see FriendMethods#getMutualFriends(String, Reading)
+     */
+    Future<ResponseList<Friend>> getMutualFriends(String friendUserId, Reading reading);
+
+    /**
+     * @see FriendMethods#getMutualFriends(String, String)
+     */
+    Future<ResponseList<Friend>> getMutualFriends(String userId1, String userId2);
+
+    /**
+     * @see FriendMethods#getMutualFriends(String, String, Reading)
+     */
+    Future<ResponseList<Friend>> getMutualFriends(String userId1, String userId2, Reading reading);
+
+    /**
+     * @see FriendMethods#getTaggableFriends()
+     */
+    Future<ResponseList<TaggableFriend>> getTaggableFriends();
+
+    /**
+     * @see FriendMethods#getTaggableFriends(Reading)
+     */
+    Future<ResponseList<TaggableFriend>> getTaggableFriends(Reading reading);
+
+    /**
+     * @see FriendMethods#getTaggableFriends(String)
+     */
+    Future<ResponseList<TaggableFriend>> getTaggableFriends(String userId);
+
+    /**
+     * @see FriendMethods#getTaggableFriends(String, Reading)
+     */
+    Future<ResponseList<TaggableFriend>> getTaggableFriends(String userId, Reading reading);
+
+    /* Game Methods */
+
+    /**
+     * @see GameMethods#getAchievements()
+     */
+    Future<ResponseList<Achievement>> getAchievements();
+
+    /**
+     * @see GameMethods#getAchievements(Reading)
+     */
+    Future<ResponseList<Achievement>> getAchievements(Reading reading);
+
+    /**
+     * @see GameMethods#getAchievements(String)
+     */
+    Future<ResponseList<Achievement>> getAchievements(String userId);
+
+    /**
+     * @see GameMethods#getAchievements(String, Reading)
+     */
+    Future<ResponseList<Achievement>> getAchievements(String userId, Reading reading);
+
+    /**
+     * @see GameMethods#postAchievement(URL)
+     */
+    Future<String> postAchievement(URL achievementURL);
+
+    /**
+     * @see GameMethods#postAchievement(String, URL)
+     */
+    Future<String> postAchievement(String userId, URL achievementURL);
+
+    /**
+     * @see GameMethods#deleteAchievement(URL)
+     */
+    Future<Boolean> deleteAchievement(URL achievementURL);
+
+    /**
+     * @see GameMethods#deleteAchievement(String, URL)
+     */
+    Future<Boolean> deleteAchievement(String userId, URL achievementURL);
+
+    /**
+     * @see GameMethods#getScores()
+     */
+    Future<ResponseList<Score>> getScores();
+
+    /**
+     * @see GameMethods#getScores(Reading)
+     */
+    Future<ResponseList<Score>> getScores(Reading reading);
+
+    /**
+     * @see GameMethods#getScores(String)
+     */
+    Future<ResponseList<Score>> getScores(String userId);
+
+    /**
+     * @see GameMethods#getScores(String, Reading)
+     */
+    Future<ResponseList<Score>> getScores(String userId, Reading reading);
+
+    /**
+     * @see GameMethods#postScore(int)
+     */
+    Future<Boolean> postScore(int scoreValue);
+
+    /**
+     * @see GameMethods#postScore(String, int)
+     */
+    Future<Boolean> postScore(String userId, int scoreValue);
+
+    /**
+     * @see GameMethods#deleteScore()
+     */
+    Future<Boolean> deleteScore();
+
+    /**
+     * @see GameMethods#deleteScore(String)
+     */
+    Future<Boolean> deleteScore(String userId);
+
+    /* Group Methods */
+
+    /**
+     * @see GroupMethods#getGroups()
+     */
+    Future<ResponseList<Group>> getGroups();
+
+    /**
+     * @see GroupMethods#getGroups(Reading)
+     */
+    Future<ResponseList<Group>> getGroups(Reading reading);
+
+    /**
+     * @see GroupMethods#getGroups(String)
+     */
+    Future<ResponseList<Group>> getGroups(String userId);
+
+    /**
+     * @see GroupMethods#getGroups(String, Reading)
+     */
+    Future<ResponseList<Group>> getGroups(String userId, Reading reading);
+
+    /**
+     * @see GroupMethods#getGroup(String)
+     */
+    Future<Group> getGroup(String groupId);
+
+    /**
+     * @see GroupMethods#getGroup(String, Reading)
+     */
+    Future<Group> getGroup(String groupId, Reading reading);
+
+    /**
+     * @see GroupMethods#getGroupFeed(String)
+     */
+    Future<ResponseList<Post>> getGroupFeed(String groupId);
+
+    /**
+     * @see GroupMethods#getGroupFeed(String, Reading)
+     */
+    Future<ResponseList<Post>> getGroupFeed(String groupId, Reading reading);
+
+    /**
+     * @see GroupMethods#postGroupFeed(String, PostUpdate)
+     */
+    Future<String> postGroupFeed(String groupId, PostUpdate postUpdate);
+
+    /**
+     * @see GroupMethods#postGroupLink(String, URL)
+     */
+    Future<String> postGroupLink(String groupId, URL link);
+
+    /**
+     * @see GroupMethods#postGroupLink(String, URL, String)
+     */
+    Future<String> postGroupLink(String groupId, URL link, String message);
+
+    /**
+     * @see GroupMethods#postGroupStatusMessage(String, String)
+     */
+    Future<String> postGroupStatusMessage(String groupId, String message);
+
+    /**
+     * @see GroupMethods#getGroupMembers(String)
+     */
+    Future<ResponseList<GroupMember>> getGroupMembers(String groupId);
+
+    /**
+     * @see GroupMethods#getGroupMembers(String, Reading)
+     */
+    Future<ResponseList<GroupMember>> getGroupMembers(String groupId, Reading reading);
+
+    /**
+     * @see GroupMethods#getGroupPictureURL(String)
+     */
+    Future<URL> getGroupPictureURL(String groupId);
+
+    /**
+     * @see GroupMethods#getGroupDocs(String)
+     */
+    Future<ResponseList<GroupDoc>> getGroupDocs(String groupId);
+
+    /**
+     * @see GroupMethods#getGroupDocs(String, Reading)
+     */
+    Future<ResponseList<GroupDoc>> getGroupDocs(String groupId, Reading reading);
+
+    /* Like Methods */
+
+    /**
+     * @see LikeMethods#getUserLikes()
+     */
+    Future<ResponseList<Like>> getUserLikes();
+
+    /**
+     * @see LikeMethods#getUserLikes(Reading)
+     */
+    Future<ResponseList<Like>> getUserLikes(Reading reading);
+
+    /**
+     * @see LikeMethods#getUserLikes(String)
+     */
+    Future<ResponseList<Like>> getUserLikes(String userId);
+
+    /**
+     * @see LikeMethods#getUserLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getUserLikes(String userId, Reading reading);
+
+    /* Link Methods */
+
+    /**
+     * @see LinkMethods#getLinks()
+     */
+    Future<ResponseList<Link>> getLinks();
+
+    /**
+     * @see LinkMethods#getLinks(Reading)
+     */
+    Future<ResponseList<Link>> getLinks(Reading reading);
+
+    /**
+     * @see LinkMethods#getLinks(String)
+     */
+    Future<ResponseList<Link>> getLinks(String id);
+
+    /**
+     * @see LinkMethods#getLinks(String, Reading)
+     */
+    Future<ResponseList<Link>> getLinks(String id, Reading reading);
+
+    /**
+     * @see LinkMethods#getLink(String)
+     */
+    Future<Link> getLink(String linkId);
+
+    /**
+     * @see LinkMethods#getLink(String, Reading)
+     */
+    Future<Link> getLink(String linkId, Reading reading);
+
+    /**
+     * @see LinkMethods#getLinkComments(String)
+     */
+    Future<ResponseList<Comment>> getLinkComments(String linkId);
+
+    /**
+     * @see LinkMethods#getLinkComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getLinkComments(String linkId, Reading reading);
+
+    /**
+     * @see LinkMethods#commentLink(String, String)
+     */
+    Future<String> commentLink(String linkId, String message);
+
+    /**
+     * @see LinkMethods#commentLink(String, CommentUpdate)
+     */
+    Future<String> commentLink(String linkId, CommentUpdate commentUpdate);
+
+    /**
+     * @see LinkMethods#getLinkLikes(String)
+     */
+    Future<ResponseList<Like>> getLinkLikes(String linkId);
+
+    /**
+     * @see LinkMethods#getLinkLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getLinkLikes(String linkId, Reading reading);
+
+    /**
+     * @see LinkMethods#likeLink(String)
+     */
+    Future<Boolean> likeLink(String linkId);
+
+    /**
+     * @see LinkMethods#unlikeLink(String)
+     */
+    Future<Boolean> unlikeLink(String linkId);
+
+    /* Location Methods */
+
+    /**
+     * @see LocationMethods#getLocations()
+     */
+    Future<ResponseList<Location>> getLocations();
+
+    /**
+     * @see LocationMethods#getLocations(Reading)
+     */
+    Future<ResponseList<Location>> getLocations(Reading reading);
+
+    /**
+     * @see LocationMethods#getLocations(String)
+     */
+    Future<ResponseList<Location>> getLocations(String userId);
+
+    /**
+     * @see LocationMethods#getLocations(String, Reading)
+     */
+    Future<ResponseList<Location>> getLocations(String userId, Reading reading);
+
+    /**
+     * @see LocationMethods#getTaggedPlaces()
+     */
+    Future<ResponseList<PlaceTag>> getTaggedPlaces();
+
+    /**
+     * @see LocationMethods#getTaggedPlaces(Reading)
+     */
+    Future<ResponseList<PlaceTag>> getTaggedPlaces(Reading reading);
+
+    /**
+     * @see LocationMethods#getTaggedPlaces(String)
+     */
+    Future<ResponseList<PlaceTag>> getTaggedPlaces(String userId);
+
+    /**
+     * @see LocationMethods#getTaggedPlaces(String, Reading)
+     */
+    Future<ResponseList<PlaceTag>> getTaggedPlaces(String userId, Reading reading);
+
+    /* Message Methods */
+
+    /**
+     * @see MessageMethods#getInbox()
+     */
+    Future<InboxResponseList<Message>> getInbox();
+
+    /**
+     * @see MessageMethods#getInbox(Reading)
+     */
+    Future<InboxResponseList<Message>> getInbox(Reading reading);
+
+    /**
+     * @see MessageMethods#getInbox(String)
+     */
+    Future<InboxResponseList<Message>> getInbox(String userId);
+
+    /**
+     * @see MessageMethods#getInbox(String, Reading)
+     */
+    Future<InboxResponseList<Message>> getInbox(String userId, Reading reading);
+
+    /**
+     * @see MessageMethods#getOutbox()
+     */
+    Future<ResponseList<Message>> getOutbox();
+
+    /**
+     * @see MessageMethods#getOutbox(Reading)
+     */
+    Future<ResponseList<Message>> getOutbox(Reading reading);
+
+    /**
+     * @see MessageMethods#getOutbox(String)
+     */
+    Future<ResponseList<Message>> getOutbox(String userId);
+
+    /**
+     * @see MessageMethods#getOutbox(String, Reading)
+     */
+    Future<ResponseList<Message>> getOutbox(String userId, Reading reading);
+
+    /**
+     * @see MessageMethods#getUpdates()
+     */
+    Future<ResponseList<Message>> getUpdates();
+
+    /**
+     * @see MessageMethods#getUpdates(Reading)
+     */
+    Future<ResponseList<Message>> getUpdates(Reading reading);
+
+    /**
+     * @see MessageMethods#getUpdates(String)
+     */
+    Future<ResponseList<Message>> getUpdates(String userId);
+
+    /**
+     * @see MessageMethods#getUpdates(String, Reading)
+     */
+    Future<ResponseList<Message>> getUpdates(String userId, Reading reading);
+
+    /**
+     * @see MessageMethods#getMessage(String)
+     */
+    Future<Message> getMessage(String messageId);
+
+    /**
+     * @see MessageMethods#getMessage(String, Reading)
+     */
+    Future<Message> getMessage(String messageId, Reading reading);
+
+    /* Conversation Methods */
+
+    /**
+     * @see ConversationMethods#getConversations()
+     */
+    Future<InboxResponseList<Conversation>> getConversations();
+
+    /**
+     * @see ConversationMethods#getConversations(Reading)
+     */
+    Future<InboxResponseList<Conversation>> getConversations(Reading reading);
+
+    /**
+     * @see ConversationMethods#getConversations(String)
+     */
+    Future<InboxResponseList<Conversation>> getConversations(String pageId);
+
+    /**
+     * @see ConversationMethods#getConversations(String, Reading)
+     */
+    Future<InboxResponseList<Conversation>> getConversations(String pageId, Reading reading);
+
+    /**
+     * @see ConversationMethods#getConversation(String)
+     */
+    Future<Conversation> getConversation(String conversationId);
+
+    /**
+     * @see ConversationMethods#getConversation(String, Reading)
+     */
+    Future<Conversation> getConversation(String conversationId, Reading reading);
+
+    /**
+     * @see ConversationMethods#answerConversation(String, String)
+     */
+    Future<String> answerConversation(String conversationId, String conversation);
+
+    /* Note Methods */
+
+    /**
+     * @see NoteMethods#getNotes()
+     */
+    Future<ResponseList<Note>> getNotes();
+
+    /**
+     * @see NoteMethods#getNotes(Reading)
+     */
+    Future<ResponseList<Note>> getNotes(Reading reading);
+
+    /**
+     * @see NoteMethods#getNotes(String)
+     */
+    Future<ResponseList<Note>> getNotes(String id);
+
+    /**
+     * @see NoteMethods#getNotes(String, Reading)
+     */
+    Future<ResponseList<Note>> getNotes(String id, Reading reading);
+
+    /**
+     * @see NoteMethods#createNote(String, String)
+     */
+    Future<String> createNote(String subject, String message);
+
+    /**
+     * @see NoteMethods#createNote(String, String, String)
+     */
+    Future<String> createNote(String id, String subject, String message);
+
+    /**
+     * @see NoteMethods#getNote(String)
+     */
+    Future<Note> getNote(String noteId);
+
+    /**
+     * @see NoteMethods#getNote(String, Reading)
+     */
+    Future<Note> getNote(String noteId, Reading reading);
+
+    /**
+     * @see NoteMethods#getNoteComments(String)
+     */
+    Future<ResponseList<Comment>> getNoteComments(String noteId);
+
+    /**
+     * @see NoteMethods#getNoteComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getNoteComments(String noteId, Reading reading);
+
+    /**
+     * @see NoteMethods#commentNote(String, String)
+     */
+    Future<String> commentNote(String noteId, String message);
+
+    /**
+     * @see NoteMethods#getNoteLikes(String)
+     */
+    Future<ResponseList<Like>> getNoteLikes(String noteId);
+
+    /**
+     * @see NoteMethods#getNoteLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getNoteLikes(String noteId, Reading reading);
+
+    /**
+     * @see NoteMethods#likeNote(String)
+     */
+    Future<Boolean> likeNote(String noteId);
+
+    /**
+     * @see NoteMethods#unlikeNote(String)
+     */
+    Future<Boolean> unlikeNote(String noteId);
+
+    /* Notification Methods */
+
+    /**
+     * @see NotificationMethods#getNotifications()
+     */
+    Future<ResponseList<Notification>> getNotifications();
+
+    /**
+     * @see NotificationMethods#getNotifications(boolean)
+     */
+    Future<ResponseList<Notification>> getNotifications(boolean includeRead);
+
+    /**
+     * @see NotificationMethods#getNotifications(Reading)
+     */
+    Future<ResponseList<Notification>> getNotifications(Reading reading);
+
+    /**
+     * @see NotificationMethods#getNotifications(Reading, boolean)
+     */
+    Future<ResponseList<Notification>> getNotifications(Reading reading, boolean includeRead);
+
+    /**
+     * @see NotificationMethods#getNotifications(String)
+     */
+    Future<ResponseList<Notification>> getNotifications(String userId);
+
+    /**
+     * @see NotificationMethods#getNotifications(String, boolean)
+     */
+    Future<ResponseList<Notification>> getNotifications(String userId, boolean includeRead);
+
+    /**
+     * @see NotificationMethods#getNotifications(String, Reading)
+     */
+    Future<ResponseList<Notification>> getNotifications(String userId, Reading reading);
+
+    /**
+     * @see NotificationMethods#getNotifications(String, Reading, boolean)
+     */
+    Future<ResponseList<Notification>> getNotifications(String userId, Reading reading, boolean includeRead);
+
+    /**
+     * @see NotificationMethods#markNotificationAsRead(String)
+     */
+    Future<Boolean> markNotificationAsRead(String notificationId);
+
+    /* Page Methods */
+
+    /**
+     * @see PageMethods#getPage()
+     */
+    Future<Page> getPage();
+
+    /**
+     * @see PageMethods#getPage(Reading)
+     */
+    Future<Page> getPage(Reading reading);
+
+    /**
+     * @see PageMethods#getPage(String)
+     */
+    Future<Page> getPage(String pageId);
+
+    /**
+     * @see PageMethods#getPage(String, Reading)
+     */
+    Future<Page> getPage(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getPagePictureURL()
+     */
+    Future<URL> getPagePictureURL();
+
+    /**
+     * @see PageMethods#getPagePictureURL(PictureSize)
+     */
+    Future<URL> getPagePictureURL(PictureSize size);
+
+    /**
+     * @see PageMethods#getPagePictureURL(String)
+     */
+    Future<URL> getPagePictureURL(String pageId);
+
+    /**
+     * @see PageMethods#getPagePictureURL(String, PictureSize)
+     */
+    Future<URL> getPagePictureURL(String pageId, PictureSize size);
+
+    /**
+     * @see PageMethods#getPromotablePosts()
+     */
+    Future<ResponseList<Post>> getPromotablePosts();
+
+    /**
+     * @see PageMethods#getPromotablePosts(Reading)
+     */
+    Future<ResponseList<Post>> getPromotablePosts(Reading reading);
+
+    /**
+     * @see PageMethods#getPromotablePosts(String)
+     */
+    Future<ResponseList<Post>> getPromotablePosts(String pageId);
+
+    /**
+     * @see PageMethods#getPromotablePosts(String, Reading)
+     */
+    Future<ResponseList<Post>> getPromotablePosts(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#updatePageBasicAttributes(PageUpdate)
+     */
+    Future<Boolean> updatePageBasicAttributes(PageUpdate pageUpdate);
+
+    /**
+     * @see PageMethods#updatePageBasicAttributes(String, PageUpdate)
+     */
+    Future<Boolean> updatePageBasicAttributes(String pageId, PageUpdate pageUpdate);
+
+    /**
+     * @see PageMethods#updatePageProfilePhoto(URL)
+     */
+    Future<Boolean> updatePageProfilePhoto(URL picture);
+
+    /**
+     * @see PageMethods#updatePageProfilePhoto(String, URL)
+     */
+    Future<Boolean> updatePageProfilePhoto(String pageId, URL picture);
+
+    /**
+     * @see PageMethods#updatePageProfilePhoto(Media)
+     */
+    Future<Boolean> updatePageProfilePhoto(Media source);
+
+    /**
+     * @see PageMethods#updatePageProfilePhoto(String, Media)
+     */
+    Future<Boolean> updatePageProfilePhoto(String pageId, Media source);
+
+    /**
+     * @see PageMethods#updatePageCoverPhoto(PageCoverUpdate)
+     */
+    Future<Boolean> updatePageCoverPhoto(PageCoverUpdate pageCoverUpdate);
+
+    /**
+     * @see PageMethods#updatePageCoverPhoto(String, PageCoverUpdate)
+     */
+    Future<Boolean> updatePageCoverPhoto(String pageId, PageCoverUpdate pageCoverUpdate);
+
+    /**
+     * @see PageMethods#displayPagePost(String, boolean)
+     */
+    Future<Boolean> displayPagePost(String postId, boolean isHidden);
+
+    /**
+     * @see PageMethods#getPageSettings()
+     */
+    Future<ResponseList<PageSetting>> getPageSettings();
+
+    /**
+     * @see PageMethods#getPageSettings(String)
+     */
+    Future<ResponseList<PageSetting>> getPageSettings(String pageId);
+
+    /**
+     * @see PageMethods#updatePageSetting(PageSettingUpdate)
+     */
+    Future<Boolean> updatePageSetting(PageSettingUpdate pageSettingUpdate);
+
+    /**
+     * @see PageMethods#updatePageSetting(String, PageSettingUpdate)
+     */
+    Future<Boolean> updatePageSetting(String pageId, PageSettingUpdate pageSettingUpdate);
+
+    /**
+     * @see PageMethods#postBackdatingFeed(BackdatingPostUpdate)
+     */
+    Future<String> postBackdatingFeed(BackdatingPostUpdate backdatingPostUpdate);
+
+    /**
+     * @see PageMethods#postBackdatingFeed(String, BackdatingPostUpdate)
+     */
+    Future<String> postBackdatingFeed(String pageId, BackdatingPostUpdate backdatingPostUpdate);
+
+    /**
+     * @see PageMethods#postPagePhoto(PagePhotoUpdate)
+     */
+    Future<String> postPagePhoto(PagePhotoUpdate pagePhotoUpdate);
+
+    /**
+     * @see PageMethods#postPagePhoto(String, PagePhotoUpdate)
+     */
+    Future<String> postPagePhoto(String pageId, PagePhotoUpdate pagePhotoUpdate);
+
+    /**
+     * @see PageMethods#getGlobalBrandChildren(String)
+     */
+    Future<ResponseList<Page>> getGlobalBrandChildren(String pageId);
+
+    /**
+     * @see PageMethods#getGlobalBrandChildren(String, Reading)
+     */
+    Future<ResponseList<Page>> getGlobalBrandChildren(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getPageInsights(String)
+     */
+    Future<ResponseList<Insight>> getPageInsights(String pageId);
+
+    /**
+     * @see PageMethods#getPageInsights(String, Reading)
+     */
+    Future<ResponseList<Insight>> getPageInsights(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getPageTagged(String)
+     */
+    Future<ResponseList<Tagged>> getPageTagged(String pageId);
+
+    /**
+     * @see PageMethods#getPageTagged(String, Reading)
+     */
+    Future<ResponseList<Tagged>> getPageTagged(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getMilestones()
+     */
+    Future<ResponseList<Milestone>> getMilestones();
+
+    /**
+     * @see PageMethods#getMilestones(Reading)
+     */
+    Future<ResponseList<Milestone>> getMilestones(Reading reading);
+
+    /**
+     * @see PageMethods#getMilestones(String)
+     */
+    Future<ResponseList<Milestone>> getMilestones(String pageId);
+
+    /**
+     * @see PageMethods#getMilestones(String, Reading)
+     */
+    Future<ResponseList<Milestone>> getMilestones(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#createMilestone(MilestoneUpdate)
+     */
+    Future<String> createMilestone(MilestoneUpdate milestoneUpdate);
+
+    /**
+     * @see PageMethods#createMilestone(String, MilestoneUpdate)
+     */
+    Future<String> createMilestone(String pageId, MilestoneUpdate milestoneUpdate);
+
+    /**
+     * @see PageMethods#deleteMilestone(String)
+     */
+    Future<Boolean> deleteMilestone(String milestoneId);
+
+    /**
+     * @see PageMethods#getPageAdmins()
+     */
+    Future<ResponseList<Admin>> getPageAdmins();
+
+    /**
+     * @see PageMethods#getPageAdmins(Reading)
+     */
+    Future<ResponseList<Admin>> getPageAdmins(Reading reading);
+
+    /**
+     * @see PageMethods#getPageAdmins(String)
+     */
+    Future<ResponseList<Admin>> getPageAdmins(String pageId);
+
+    /**
+     * @see PageMethods#getPageAdmins(String, Reading)
+     */
+    Future<ResponseList<Admin>> getPageAdmins(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getTabs()
+     */
+    Future<ResponseList<Tab>> getTabs();
+
+    /**
+     * @see PageMethods#getTabs(Reading)
+     */
+    Future<ResponseList<Tab>> getTabs(Reading reading);
+
+    /**
+     * @see PageMethods#getTabs(String)
+     */
+    Future<ResponseList<Tab>> getTabs(String pageId);
+
+    /**
+     * @see PageMethods#getTabs(String, Reading)
+     */
+    Future<ResponseList<Tab>> getTabs(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getInstalledTabs(List)
+     */
+    Future<ResponseList<Tab>> getInstalledTabs(List<String> appIds);
+
+    /**
+     * @see PageMethods#getInstalledTabs(List, Reading)
+     */
+    Future<ResponseList<Tab>> getInstalledTabs(List<String> appIds, Reading reading);
+
+    /**
+     * @see PageMethods#getInstalledTabs(String, List)
+     */
+    Future<ResponseList<Tab>> getInstalledTabs(String pageId, List<String> appIds);
+
+    /**
+     * @see PageMethods#getInstalledTabs(String, List, Reading)
+     */
+    Future<ResponseList<Tab>> getInstalledTabs(String pageId, List<String> appIds, Reading reading);
+
+    /**
+     * @see PageMethods#installTab(String)
+     */
+    Future<Boolean> installTab(String appId);
+
+    /**
+     * @see PageMethods#installTab(String, String)
+     */
+    Future<Boolean> installTab(String pageId, String appId);
+
+    /**
+     * @see PageMethods#updateTab(String, TabUpdate)
+     */
+    Future<Boolean> updateTab(String tabId, TabUpdate tabUpdate);
+
+    /**
+     * @see PageMethods#updateTab(String, String, TabUpdate)
+     */
+    Future<Boolean> updateTab(String pageId, String tabId, TabUpdate tabUpdate);
+
+    /**
+     * @see PageMethods#deleteTab(String)
+     */
+    Future<Boolean> deleteTab(String tabId);
+
+    /**
+     * @see PageMethods#deleteTab(String, String)
+     */
+    Future<Boolean> deleteTab(String pageId, String tabId);
+
+    /**
+     * @see PageMethods#getBlocked()
+     */
+    Future<ResponseList<User>> getBlocked();
+
+    /**
+     * @see PageMethods#getBlocked(Reading)
+     */
+    Future<ResponseList<User>> getBlocked(Reading reading);
+
+    /**
+     * @see PageMethods#getBlocked(String)
+     */
+    Future<ResponseList<User>> getBlocked(String pageId);
+
+    /**
+     * @see PageMethods#getBlocked(String, Reading)
+     */
+    Future<ResponseList<User>> getBlocked(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#block(List)
+     */
+    Future<Map<String, Boolean>> block(List<String> userIds);
+
+    /**
+     * @see PageMethods#block(String, List)
+     */
+    Future<Map<String, Boolean>> block(String pageId, List<String> userIds);
+
+    /**
+     * @see PageMethods#unblock(String)
+     */
+    Future<Boolean> unblock(String userId);
+
+    /**
+     * @see PageMethods#unblock(String, String)
+     */
+    Future<Boolean> unblock(String pageId, String userId);
+
+    /**
+     * @see PageMethods#getOffers()
+     */
+    Future<ResponseList<Offer>> getOffers();
+
+    /**
+     * @see PageMethods#getOffers(Reading)
+     */
+    Future<ResponseList<Offer>> getOffers(Reading reading);
+
+    /**
+     * @see PageMethods#getOffers(String)
+     */
+    Future<ResponseList<Offer>> getOffers(String pageId);
+
+    /**
+     * @see PageMethods#getOffers(String, Reading)
+     */
+    Future<ResponseList<Offer>> getOffers(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#createOffer(OfferUpdate)
+     */
+    Future<String> createOffer(OfferUpdate offerUpdate);
+
+    /**
+     * @see PageMethods#createOffer(String, OfferUpdate)
+     */
+    Future<String> createOffer(String pageId, OfferUpdate offerUpdate);
+
+    /**
+     * @see PageMethods#deleteOffer(String)
+     */
+    Future<Boolean> deleteOffer(String offerId);
+
+    /**
+     * @see PageMethods#getOffer(String)
+     */
+    Future<Offer> getOffer(String offerId);
+
+    /**
+     * @see PageMethods#getLikedPage(String)
+     */
+    Future<Page> getLikedPage(String pageId);
+
+    /**
+     * @see PageMethods#getLikedPage(String, Reading)
+     */
+    Future<Page> getLikedPage(String pageId, Reading reading);
+
+    /**
+     * @see PageMethods#getLikedPage(String, String)
+     */
+    Future<Page> getLikedPage(String userId, String pageId);
+
+    /**
+     * @see PageMethods#getLikedPage(String, String, Reading)
+     */
+    Future<Page> getLikedPage(String userId, String pageId, Reading reading);
+
+    /* Permission Methods */
+
+    /**
+     * @see PermissionMethods#getPermissions()
+     */
+    Future<List<Permission>> getPermissions();
+
+    /**
+     * @see PermissionMethods#getPermissions(String)
+     */
+    Future<List<Permission>> getPermissions(String userId);
+
+    /**
+     * @see PermissionMethods#revokeAllPermissions()
+     */
+    Future<Boolean> revokeAllPermissions();
+
+    /**
+     * @see PermissionMethods#revokeAllPermissions(String)
+     */
+    Future<Boolean> revokeAllPermissions(String userId);
+
+    /**
+     * @see PermissionMethods#revokePermission(String)
+     */
+    Future<Boolean> revokePermission(String permissionName);
+
+    /**
+     * @see PermissionMethods#revokePermission(String, String)
+     */
+    Future<Boolean> revokePermission(String userId, String permissionName);
+
+    /**
+     * @see PermissionMethods#deleteAllPermissions()
+     */
+    Future<Boolean> deleteAllPermissions();
+
+    /**
+     * @see PermissionMethods#deleteAllPermissions(String)
+     */
+    Future<Boolean> deleteAllPermissions(String userId);
+
+    /**
+     * @see PermissionMethods#deletePermission(String)
+     */
+    Future<Boolean> deletePermission(String permissionName);
+
+    /**
+     * @see PermissionMethods#deletePermission(String, String)
+     */
+    Future<Boolean> deletePermission(String userId, String permissionName);
+
+    /* Photo Methods */
+
+    /**
+     * @see PhotoMethods#getUploadedPhotos()
+     */
+    Future<ResponseList<Photo>> getUploadedPhotos();
+
+    /**
+     * @see PhotoMethods#getUploadedPhotos(Reading)
+     */
+    Future<ResponseList<Photo>> getUploadedPhotos(Reading reading);
+
+    /**
+     * @see PhotoMethods#getUploadedPhotos(String)
+     */
+    Future<ResponseList<Photo>> getUploadedPhotos(String id);
+
+    /**
+     * @see PhotoMethods#getUploadedPhotos(String, Reading)
+     */
+    Future<ResponseList<Photo>> getUploadedPhotos(String id, Reading reading);
+
+    /**
+     * @see PhotoMethods#getPhotos()
+     */
+    Future<ResponseList<Photo>> getPhotos();
+
+    /**
+     * @see PhotoMethods#getPhotos(Reading)
+     */
+    Future<ResponseList<Photo>> getPhotos(Reading reading);
+
+    /**
+     * @see PhotoMethods#getPhotos(String)
+     */
+    Future<ResponseList<Photo>> getPhotos(String id);
+
+    /**
+     * @see PhotoMethods#getPhotos(String, Reading)
+     */
+    Future<ResponseList<Photo>> getPhotos(String id, Reading reading);
+
+    /**
+     * @see PhotoMethods#postPhoto(Media)
+     */
+    Future<String> postPhoto(Media source);
+
+    /**
+     * @see PhotoMethods#postPhoto(PhotoUpdate)
+     */
+    Future<String> postPhoto(PhotoUpdate photoUpdate);
+
+    /**
+     * @see PhotoMethods#postPhoto(String, Media)
+     */
+    Future<String> postPhoto(String userId, Media source);
+
+    /**
+     * @see PhotoMethods#postPhoto(String, PhotoUpdate)
+     */
+    Future<String> postPhoto(String userId, PhotoUpdate photoUpdate);
+
+    /**
+     * @see PhotoMethods#deletePhoto(String)
+     */
+    Future<Boolean> deletePhoto(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhoto(String)
+     */
+    Future<Photo> getPhoto(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhoto(String, Reading)
+     */
+    Future<Photo> getPhoto(String photoId, Reading reading);
+
+    /**
+     * @see PhotoMethods#getPhotoComments(String)
+     */
+    Future<ResponseList<Comment>> getPhotoComments(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhotoComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getPhotoComments(String photoId, Reading reading);
+
+    /**
+     * @see PhotoMethods#getPhotoSharedposts(String)
+     */
+    Future<ResponseList<Post>> getPhotoSharedposts(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhotoSharedposts(String, Reading)
+     */
+    Future<ResponseList<Post>> getPhotoSharedposts(String photoId, Reading reading);
+
+    /**
+     * @see PhotoMethods#commentPhoto(String, String)
+     */
+    Future<String> commentPhoto(String photoId, String message);
+
+    /**
+     * @see PhotoMethods#commentPhoto(String, CommentUpdate)
+     */
+    Future<String> commentPhoto(String photoId, CommentUpdate commentUpdate);
+
+    /**
+     * @see PhotoMethods#getPhotoLikes(String)
+     */
+    Future<ResponseList<Like>> getPhotoLikes(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhotoLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getPhotoLikes(String photoId, Reading reading);
+
+    /**
+     * @see PhotoMethods#likePhoto(String)
+     */
+    Future<Boolean> likePhoto(String photoId);
+
+    /**
+     * @see PhotoMethods#unlikePhoto(String)
+     */
+    Future<Boolean> unlikePhoto(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhotoURL(String)
+     */
+    Future<URL> getPhotoURL(String photoId);
+
+    /**
+     * @see PhotoMethods#getTagsOnPhoto(String)
+     */
+    Future<ResponseList<Tag>> getTagsOnPhoto(String photoId);
+
+    /**
+     * @see PhotoMethods#getTagsOnPhoto(String, Reading)
+     */
+    Future<ResponseList<Tag>> getTagsOnPhoto(String photoId, Reading reading);
+
+    /**
+     * @see PhotoMethods#addTagToPhoto(String, String)
+     */
+    Future<Boolean> addTagToPhoto(String photoId, String toUserId);
+
+    /**
+     * @see PhotoMethods#addTagToPhoto(String, List)
+     */
+    Future<Boolean> addTagToPhoto(String photoId, List<String> toUserIds);
+
+    /**
+     * @see PhotoMethods#addTagToPhoto(String, TagUpdate)
+     */
+    Future<Boolean> addTagToPhoto(String photoId, TagUpdate tagUpdate);
+
+    /**
+     * @see PhotoMethods#updateTagOnPhoto(String, TagUpdate)
+     */
+    Future<Boolean> updateTagOnPhoto(String photoId, TagUpdate tagUpdate);
+
+    /**
+     * @see PhotoMethods#deleteTagOnPhoto(String, String)
+     */
+    Future<Boolean> deleteTagOnPhoto(String photoId, String toUserId);
+
+    /**
+     * @see PhotoMethods#getPhotoReactions(String)
+     */
+    Future<ResponseList<Reaction>> getPhotoReactions(String photoId);
+
+    /**
+     * @see PhotoMethods#getPhotoReactions(String, Reading)
+     */
+    Future<ResponseList<Reaction>> getPhotoReactions(String photoId, Reading reading);
+
+    /* Poke Methods */
+
+    /**
+     * @see PokeMethods#getPokes()
+     */
+    Future<ResponseList<Poke>> getPokes();
+
+    /**
+     * @see PokeMethods#getPokes(Reading)
+     */
+    Future<ResponseList<Poke>> getPokes(Reading reading);
+
+    /**
+     * @see PokeMethods#getPokes(String)
+     */
+    Future<ResponseList<Poke>> getPokes(String userId);
+
+    /**
+     * @see PokeMethods#getPokes(String, Reading)
+     */
+    Future<ResponseList<Poke>> getPokes(String userId, Reading reading);
+
+    /* Post Methods */
+
+    /**
+     * @see PostMethods#getFeed()
+     */
+    Future<ResponseList<Post>> getFeed();
+
+    /**
+     * @see PostMethods#getFeed(Reading)
+     */
+    Future<ResponseList<Post>> getFeed(Reading reading);
+
+    /**
+     * @see PostMethods#getFeed(String)
+     */
+    Future<ResponseList<Post>> getFeed(String id);
+
+    /**
+     * @see PostMethods#getFeed(String, Reading)
+     */
+    Future<ResponseList<Post>> getFeed(String id, Reading reading);
+
+    /**
+     * @see PostMethods#getHome()
+     */
+    Future<ResponseList<Post>> getHome();
+
+    /**
+     * @see PostMethods#getHome(Reading)
+     */
+    Future<ResponseList<Post>> getHome(Reading reading);
+
+    /**
+     * @see PostMethods#getPosts()
+     */
+    Future<ResponseList<Post>> getPosts();
+
+    /**
+     * @see PostMethods#getPosts(Reading)
+     */
+    Future<ResponseList<Post>> getPosts(Reading reading);
+
+    /**
+     * @see PostMethods#getPosts(String)
+     */
+    Future<ResponseList<Post>> getPosts(String id);
+
+    /**
+     * @see PostMethods#getPosts(String, Reading)
+     */
+    Future<ResponseList<Post>> getPosts(String id, Reading reading);
+
+    /**
+     * @see PostMethods#getStatuses()
+     */
+    Future<ResponseList<Post>> getStatuses();
+
+    /**
+     * @see PostMethods#getStatuses(Reading)
+     */
+    Future<ResponseList<Post>> getStatuses(Reading reading);
+
+    /**
+     * @see PostMethods#getStatuses(String)
+     */
+    Future<ResponseList<Post>> getStatuses(String id);
+
+    /**
+     * @see PostMethods#getStatuses(String, Reading)
+     */
+    Future<ResponseList<Post>> getStatuses(String id, Reading reading);
+
+    /**
+     * @see PostMethods#getTagged()
+     */
+    Future<ResponseList<Post>> getTagged();
+
+    /**
+     * @see PostMethods#getTagged(Reading)
+     */
+    Future<ResponseList<Post>> getTagged(Reading reading);
+
+    /**
+     * @see PostMethods#getTagged(String)
+     */
+    Future<ResponseList<Post>> getTagged(String userId);
+
+    /**
+     * @see PostMethods#getTagged(String, Reading)
+     */
+    Future<ResponseList<Post>> getTagged(String userId, Reading reading);
+
+    /**
+     * @see PostMethods#getPost(String)
+     */
+    Future<Post> getPost(String postId);
+
+    /**
+     * @see PostMethods#getPost(String, Reading)
+     */
+    Future<Post> getPost(String postId, Reading reading);
+
+    /**
+     * @see PostMethods#getPostComments(String)
+     */
+    Future<ResponseList<Comment>> getPostComments(String postId);
+
+    /**
+     * @see PostMethods#getPostComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getPostComments(String postId, Reading reading);
+
+    /**
+     * @see PostMethods#commentPost(String, String)
+     */
+    Future<String> commentPost(String postId, String message);
+
+    /**
+     * @see PostMethods#commentPost(String, CommentUpdate)
+     */
+    Future<String> commentPost(String postId, CommentUpdate commentUpdate);
+
+    /**
+     * @see PostMethods#getPostLikes(String)
+     */
+    Future<ResponseList<Like>> getPostLikes(String postId);
+
+    /**
+     * @see PostMethods#getPostLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getPostLikes(String postId, Reading reading);
+
+    /**
+     * @see PostMethods#getSharedPosts(String)
+     */
+    Future<ResponseList<Post>> getSharedPosts(String postId);
+
+    /**
+     * @see PostMethods#getSharedPosts(String, Reading)
+     */
+    Future<ResponseList<Post>> getSharedPosts(String postId, Reading reading);
+
+    /**
+     * @see PostMethods#likePost(String)
+     */
+    Future<Boolean> likePost(String postId);
+
+    /**
+     * @see PostMethods#unlikePost(String)
+     */
+    Future<Boolean> unlikePost(String postId);
+
+    /**
+     * @see PostMethods#postFeed(PostUpdate)
+     */
+    Future<String> postFeed(PostUpdate postUpdate);
+
+    /**
+     * @see PostMethods#postFeed(String, PostUpdate)
+     */
+    Future<String> postFeed(String id, PostUpdate postUpdate);
+
+    /**
+     * @see PostMethods#postLink(URL)
+     */
+    Future<String> postLink(URL link);
+
+    /**
+     * @see PostMethods#postLink(URL, String)
+     */
+    Future<String> postLink(URL link, String message);
+
+    /**
+     * @see PostMethods#postLink(String, URL)
+     */
+    Future<String> postLink(String userId, URL link);
+
+    /**
+     * @see PostMethods#postLink(String, URL, String)
+     */
+    Future<String> postLink(String userId, URL link, String message);
+
+    /**
+     * @see PostMethods#postStatusMessage(String)
+     */
+    Future<String> postStatusMessage(String message);
+
+    /**
+     * @see PostMethods#postStatusMessage(String, String)
+     */
+    Future<String> postStatusMessage(String id, String message);
+
+    /**
+     * @see PostMethods#deletePost(String)
+     */
+    Future<Boolean> deletePost(String postId);
+
+    /**
+     * @see PostMethods#getPostReactions(String)
+     */
+    Future<ResponseList<Reaction>> getPostReactions(String postId);
+
+    /**
+     * @see PostMethods#getPostReactions(String, Reading)
+     */
+    Future<ResponseList<Reaction>> getPostReactions(String postId, Reading reading);
+
+    /* Question Methods */
+
+    /**
+     * @see QuestionMethods#getQuestions()
+     */
+    Future<ResponseList<Question>> getQuestions();
+
+    /**
+     * @see QuestionMethods#getQuestions(Reading)
+     */
+    Future<ResponseList<Question>> getQuestions(Reading reading);
+
+    /**
+     * @see QuestionMethods#getQuestions(String)
+     */
+    Future<ResponseList<Question>> getQuestions(String id);
+
+    /**
+     * @see QuestionMethods#getQuestions(String, Reading)
+     */
+    Future<ResponseList<Question>> getQuestions(String id, Reading reading);
+
+    /**
+     * @see QuestionMethods#createQuestion(QuestionUpdate)
+     */
+    Future<String> createQuestion(QuestionUpdate questionUpdate);
+
+    /**
+     * @see QuestionMethods#createQuestion(String, QuestionUpdate)
+     */
+    Future<String> createQuestion(String id, QuestionUpdate questionUpdate);
+
+    /**
+     * @see QuestionMethods#getQuestion(String)
+     */
+    Future<Question> getQuestion(String questionId);
+
+    /**
+     * @see QuestionMethods#getQuestion(String, Reading)
+     */
+    Future<Question> getQuestion(String questionId, Reading reading);
+
+    /**
+     * @see QuestionMethods#deleteQuestion(String)
+     */
+    Future<Boolean> deleteQuestion(String questionId);
+
+    /**
+     * @see QuestionMethods#getQuestionOptions(String)
+     */
+    Future<ResponseList<Question.Option>> getQuestionOptions(String questionId);
+
+    /**
+     * @see QuestionMethods#getQuestionOptions(String, Reading)
+     */
+    Future<ResponseList<Question.Option>> getQuestionOptions(String questionId, Reading reading);
+
+    /**
+     * @see QuestionMethods#addQuestionOption(String, String)
+     */
+    Future<String> addQuestionOption(String questionId, String optionDescription);
+
+    /**
+     * @see QuestionMethods#getQuestionOptionVotes(String)
+     */
+    Future<ResponseList<QuestionVotes>> getQuestionOptionVotes(String questionId);
+
+    /* Subscribe Methods */
+
+    /**
+     * @see SubscribeMethods#getSubscribedto()
+     */
+    Future<ResponseList<Subscribedto>> getSubscribedto();
+
+    /**
+     * @see SubscribeMethods#getSubscribedto(Reading)
+     */
+    Future<ResponseList<Subscribedto>> getSubscribedto(Reading reading);
+
+    /**
+     * @see SubscribeMethods#getSubscribedto(String)
+     */
+    Future<ResponseList<Subscribedto>> getSubscribedto(String userId);
+
+    /**
+     * @see SubscribeMethods#getSubscribedto(String, Reading)
+     */
+    Future<ResponseList<Subscribedto>> getSubscribedto(String userId, Reading reading);
+
+    /**
+     * @see SubscribeMethods#getSubscribers()
+     */
+    Future<ResponseList<Subscriber>> getSubscribers();
+
+    /**
+     * @see SubscribeMethods#getSubscribers(Reading)
+     */
+    Future<ResponseList<Subscriber>> getSubscribers(Reading reading);
+
+    /**
+     * @see SubscribeMethods#getSubscribers(String)
+     */
+    Future<ResponseList<Subscriber>> getSubscribers(String userId);
+
+    /**
+     * @see SubscribeMethods#getSubscribers(String, Reading)
+     */
+    Future<ResponseList<Subscriber>> getSubscribers(String userId, Reading reading);
+
+    /* Video Methods */
+
+    /**
+     * @see VideoMethods#getVideos()
+     */
+    Future<ResponseList<Video>> getVideos();
+
+    /**
+     * @see VideoMethods#getVideos(Reading)
+     */
+    Future<ResponseList<Video>> getVideos(Reading reading);
+
+    /**
+     * @see VideoMethods#getVideos(String)
+     */
+    Future<ResponseList<Video>> getVideos(String id);
+
+    /**
+     * @see VideoMethods#getVideos(String, Reading)
+     */
+    Future<ResponseList<Video>> getVideos(String id, Reading reading);
+
+    /**
+     * @see VideoMethods#postVideo(VideoUpdate)
+     */
+    Future<String> postVideo(VideoUpdate videoUpdate);
+
+    /**
+     * @see VideoMethods#postVideo(String, VideoUpdate)
+     */
+    Future<String> postVideo(String id, VideoUpdate videoUpdate);
+
+    /**
+     * @see VideoMethods#postVideo(String, VideoUpdate, VideoUploadListener)
+     */
+    Future<String> postVideo(String id, VideoUpdate videoUpdate, VideoUploadListener listener);
+
+    /**
+     * @see VideoMethods#startVideoUpload(VideoUpdate)
+     */
+    Future<VideoUploadSession> startVideoUpload(VideoUpdate videoUpdate);
+
+    /**
+     * @see VideoMethods#startVideoUpload(String, VideoUpdate)
+     */
+    Future<VideoUploadSession> startVideoUpload(String id, VideoUpdate videoUpdate);
+
+    /**
+     * @see VideoMethods#resumeVideoUpload(VideoUploadSession, VideoUploadListener)
+     */
+    Future<String> resumeVideoUpload(VideoUploadSession session, VideoUploadListener listener);
+
+    /**
+     * @see VideoMethods#getVideo(String)
+     */
+    Future<Video> getVideo(String videoId);
+
+    /**
+     * @see VideoMethods#getVideo(String, Reading)
+     */
+    Future<Video> getVideo(String videoId, Reading reading);
+
+    /**
+     * @see VideoMethods#getVideoLikes(String)
+     */
+    Future<ResponseList<Like>> getVideoLikes(String videoId);
+
+    /**
+     * @see VideoMethods#getVideoLikes(String, Reading)
+     */
+    Future<ResponseList<Like>> getVideoLikes(String videoId, Reading reading);
+
+    /**
+     * @see VideoMethods#getVideoSharedposts(String)
+     */
+    Future<ResponseList<Post>> getVideoSharedposts(String videoId);
+
+    /**
+     * @see VideoMethods#getVideoSharedposts(String, Reading)
+     */
+    Future<ResponseList<Post>> getVideoSharedposts(String videoId, Reading reading);
+
+    /**
+     * @see VideoMethods#likeVideo(String)
+     */
+    Future<Boolean> likeVideo(String videoId);
+
+    /**
+     * @see VideoMethods#unlikeVideo(String)
+     */
+    Future<Boolean> unlikeVideo(String videoId);
+
+    /**
+     * @see VideoMethods#getVideoComments(String)
+     */
+    Future<ResponseList<Comment>> getVideoComments(String videoId);
+
+    /**
+     * @see VideoMethods#getVideoComments(String, Reading)
+     */
+    Future<ResponseList<Comment>> getVideoComments(String videoId, Reading reading);
+
+    /**
+     * @see VideoMethods#commentVideo(String, String)
+     */
+    Future<String> commentVideo(String videoId, String message);
+
+    /**
+     * @see VideoMethods#commentVideo(String, CommentUpdate)
+     */
+    Future<String> commentVideo(String videoId, CommentUpdate commentUpdate);
+
+    /**
+     * @see VideoMethods#getVideoCover(String)
+     */
+    Future<URL> getVideoCover(String videoId);
+
+    /**
+     * @see VideoMethods#getVideoReactions(String)
+     */
+    Future<ResponseList<Reaction>> getVideoReactions(String videoId);
+
+    /**
+     * @see VideoMethods#getVideoReactions(String, Reading)
+     */
+    Future<ResponseList<Reaction>> getVideoReactions(String videoId, Reading reading);
+
+    /* Insight Methods */
+
+    /**
+     * @see InsightMethods#getInsights(String, String)
+     */
+    Future<ResponseList<Insight>> getInsights(String objectId, String metric);
+
+    /**
+     * @see InsightMethods#getInsights(String, String, Reading)
+     */
+    Future<ResponseList<Insight>> getInsights(String objectId, String metric, Reading reading);
+
+    /* Search Methods */
+
+    /**
+     * @see SearchMethods#searchPosts(String)
+     */
+    Future<ResponseList<Post>> searchPosts(String query);
+
+    /**
+     * @see SearchMethods#searchPosts(String, Reading)
+     */
+    Future<ResponseList<Post>> searchPosts(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#searchUsers(String)
+     */
+    Future<ResponseList<User>> searchUsers(String query);
+
+    /**
+     * @see SearchMethods#searchUsers(String, Reading)
+     */
+    Future<ResponseList<User>> searchUsers(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#searchEvents(String)
+     */
+    Future<ResponseList<Event>> searchEvents(String query);
+
+    /**
+     * @see SearchMethods#searchEvents(String, Reading)
+     */
+    Future<ResponseList<Event>> searchEvents(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#searchGroups(String)
+     */
+    Future<ResponseList<Group>> searchGroups(String query);
+
+    /**
+     * @see SearchMethods#searchGroups(String, Reading)
+     */
+    Future<ResponseList<Group>> searchGroups(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#searchPlaces(String)
+     */
+    Future<ResponseList<Place>> searchPlaces(String query);
+
+    /**
+     * @see SearchMethods#searchPlaces(String, Reading)
+     */
+    Future<ResponseList<Place>> searchPlaces(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#searchPlaces(String, GeoLocation, int)
+     */
+    Future<ResponseList<Place>> searchPlaces(String query, GeoLocation center, int distance);
+
+    /**
+     * @see SearchMethods#searchPlaces(String, GeoLocation, int, Reading)
+     */
+    Future<ResponseList<Place>> searchPlaces(String query, GeoLocation center, int distance, Reading reading);
+
+    /**
+     * @see SearchMethods#searchCheckins()
+     */
+    Future<ResponseList<Checkin>> searchCheckins();
+
+    /**
+     * @see SearchMethods#searchCheckins(Reading)
+     */
+    Future<ResponseList<Checkin>> searchCheckins(Reading reading);
+
+    /**
+     * @see SearchMethods#searchLocations(GeoLocation, int)
+     */
+    Future<ResponseList<Location>> searchLocations(GeoLocation center, int distance);
+
+    /**
+     * @see SearchMethods#searchLocations(GeoLocation, int, Reading)
+     */
+    Future<ResponseList<Location>> searchLocations(GeoLocation center, int distance, Reading reading);
+
+    /**
+     * @see SearchMethods#searchLocations(String)
+     */
+    Future<ResponseList<Location>> searchLocations(String placeId);
+
+    /**
+     * @see SearchMethods#searchLocations(String, Reading)
+     */
+    Future<ResponseList<Location>> searchLocations(String placeId, Reading reading);
+
+    /**
+     * @see SearchMethods#searchPages(String)
+     */
+    Future<ResponseList<Page>> searchPages(String query);
+
+    /**
+     * @see SearchMethods#searchPages(String, Reading)
+     */
+    Future<ResponseList<Page>> searchPages(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#search(String)
+     */
+    Future<ResponseList<JSONObject>> search(String query);
+
+    /**
+     * @see SearchMethods#search(String, Reading)
+     */
+    Future<ResponseList<JSONObject>> search(String query, Reading reading);
+
+    /**
+     * @see SearchMethods#search(String, String, Reading)
+     */
+    Future<ResponseList<JSONObject>> search(String query, String type, Reading reading);
+
+    /* Test User Methods */
+
+    /**
+     * @see TestUserMethods#createTestUser(String)
+     */
+    Future<TestUser> createTestUser(String appId);
+
+    /**
+     * @see TestUserMethods#createTestUser(String, String, String, String)
+     */
+    Future<TestUser> createTestUser(String appId, String name, String locale, String permissions);
+
+    /**
+     * @see TestUserMethods#createTestUser(String, String, String, String, boolean)
+     */
+    Future<TestUser> createTestUser(String appId, String name, String locale, String permissions, boolean installed);
+
+    /**
+     * @see TestUserMethods#getTestUsers(String)
+     */
+    Future<ResponseList<TestUser>> getTestUsers(String appId);
+
+    /**
+     * @see TestUserMethods#getTestUsers(String, Integer)
+     */
+    Future<ResponseList<TestUser>> getTestUsers(String appId, Integer limit);
+
+    /**
+     * @see TestUserMethods#deleteTestUser(String)
+     */
+    Future<Boolean> deleteTestUser(String testUserId);
+
+    /**
+     * @see TestUserMethods#makeFriendTestUser(TestUser, TestUser)
+     */
+    Future<Boolean> makeFriendTestUser(TestUser testUser1, TestUser testUser2);
+
+    /* FQL Methods */
+
+    /**
+     * @see FQLMethods#executeFQL(String)
+     */
+    Future<JSONArray> executeFQL(String query);
+
+    /**
+     * @see FQLMethods#executeFQL(String, Locale)
+     */
+    Future<JSONArray> executeFQL(String query, Locale locale);
+
+    /**
+     * @see FQLMethods#executeMultiFQL(Map)
+     */
+    Future<Map<String, JSONArray>> executeMultiFQL(Map<String, String> queries);
+
+    /**
+     * @see FQLMethods#executeMultiFQL(Map, Locale)
+     */
+    Future<Map<String, JSONArray>> executeMultiFQL(Map<String, String> queries, Locale locale);
+
+    /* Batch Requests Methods */
+
+    /**
+     * @see BatchRequestsMethods#executeBatch(BatchRequests)
+     */
+    Future<List<BatchResponse>> executeBatch(BatchRequests<BatchRequest> requests);
+
+    /* Raw API Methods */
+
+    /**
+     * @see RawAPIMethods#callGetAPI(String)
+     */
+    Future<RawAPIResponse> callGetAPI(String relativeUrl);
+
+    /**
+     * @see RawAPIMethods#callGetAPI(String, Map)
+     */
+    Future<RawAPIResponse> callGetAPI(String relativeUrl, Map<String, String> parameters);
+
+    /**
+     * @see RawAPIMethods#callGetAPI(String, HttpParameter...)
+     */
+    Future<RawAPIResponse> callGetAPI(String relativeUrl, HttpParameter... parameters);
+
+    /**
+     * @see RawAPIMethods#callGetAPI(String, Class)
+     */
+    <T> Future<ResponseList<T>> callGetAPI(String relativeUrl, Class<T> type);
+
+    /**
+     * @see RawAPIMethods#callGetAPI(String, Map, Class)
+     */
+    <T> Future<ResponseList<T>> callGetAPI(String relativeUrl, Map<String, String> parameters, Class<T> type);
+
+    /**
+     * @see RawAPIMethods#callPostAPI(String)
+     */
+    Future<RawAPIResponse> callPostAPI(String relativeUrl);
+
+    /**
+     * @see RawAPIMethods#callPostAPI(String, Map)
+     */
+    Future<RawAPIResponse> callPostAPI(String relativeUrl, Map<String, String> parameters);
+
+    /**
+     * @see RawAPIMethods#callPostAPI(String, HttpParameter...)
+     */
+    Future<RawAPIResponse> callPostAPI(String relativeUrl, HttpParameter... parameters);
+
+    /**
+     * @see RawAPIMethods#callDeleteAPI(String)
+     */
+    Future<RawAPIResponse> callDeleteAPI(String relativeUrl);
+
+    /**
+     * @see RawAPIMethods#callDeleteAPI(String, Map)
+     */
+    Future<RawAPIResponse> callDeleteAPI(String relativeUrl, Map<String, String> parameters);
+}
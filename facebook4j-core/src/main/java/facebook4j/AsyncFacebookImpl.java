@@ -0,0 +1,4551 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.logging.Logger;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Submits every operation of the wrapped {@link Facebook} instance to an executor.<br>
+ * Decoding is done by the wrapped instance, so results are the same as the synchronous API.
+ */
+/*package*/ class AsyncFacebookImpl implements AsyncFacebook {
+    private static final Logger logger = Logger.getLogger(AsyncFacebookImpl.class);
+
+    private static ExecutorService defaultExecutor;
+
+    private final Facebook facebook;
+    private final ExecutorService executor;
+
+    /*package*/ AsyncFacebookImpl(Facebook facebook) {
+        this(facebook, getDefaultExecutor());
+    }
+
+    /*package*/ AsyncFacebookImpl(Facebook facebook, ExecutorService executor) {
+        if (facebook == null) {
+            throw new NullPointerException("facebook is null");
+        }
+        if (executor == null) {
+            throw new NullPointerException("executor is null");
+        }
+        this.facebook = facebook;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the executor shared by instances created without an explicit executor.<br>
+     * It runs each operation on a virtual thread when the JVM supports them, or on a cached pool of daemon threads otherwise.
+     *
+     * @return the default executor
+     */
+    /*package*/ static synchronized ExecutorService getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                defaultExecutor = (ExecutorService) method.invoke(null);
+                logger.debug("Using virtual threads for asynchronous calls");
+            } catch (Exception ignore) {
+                // virtual threads are not available on this JVM
+                defaultExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+                    private int count = 0;
+
+                    public synchronized Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "Facebook4J Async Dispatcher[" + (count++) + "]");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+        }
+        return defaultExecutor;
+    }
+
+    private <V> Future<V> submit(FacebookCall<V> call) {
+        return executor.submit(call);
+    }
+
+    private interface FacebookCall<V> extends Callable<V> {
+        V call() throws FacebookException;
+    }
+
+    public Facebook getFacebook() {
+        return facebook;
+    }
+
+    public void shutdown() {
+        facebook.shutdown();
+    }
+
+    /* Base Methods */
+
+    public Future<String> getId() {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.getId();
+            }
+        });
+    }
+
+    public Future<String> getName() {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.getName();
+            }
+        });
+    }
+
+    public <T> Future<ResponseList<T>> fetchNext(final Paging<T> paging) {
+        return submit(new FacebookCall<ResponseList<T>>() {
+            public ResponseList<T> call() throws FacebookException {
+                return facebook.fetchNext(paging);
+            }
+        });
+    }
+
+    public <T> Future<ResponseList<T>> fetchPrevious(final Paging<T> paging) {
+        return submit(new FacebookCall<ResponseList<T>>() {
+            public ResponseList<T> call() throws FacebookException {
+                return facebook.fetchPrevious(paging);
+            }
+        });
+    }
+
+    /* User Methods */
+
+    public Future<User> getMe() {
+        return submit(new FacebookCall<User>() {
+            public User call() throws FacebookException {
+                return facebook.getMe();
+            }
+        });
+    }
+
+    public Future<User> getMe(final Reading reading) {
+        return submit(new FacebookCall<User>() {
+            public User call() throws FacebookException {
+                return facebook.getMe(reading);
+            }
+        });
+    }
+
+    public Future<User> getUser(final String userId) {
+        return submit(new FacebookCall<User>() {
+            public User call() throws FacebookException {
+                return facebook.getUser(userId);
+            }
+        });
+    }
+
+    public Future<User> getUser(final String userId, final Reading reading) {
+        return submit(new FacebookCall<User>() {
+            public User call() throws FacebookException {
+                return facebook.getUser(userId, reading);
+            }
+        });
+    }
+
+    public Future<URL> getPictureURL() {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPictureURL();
+            }
+        });
+    }
+
+    public Future<URL> getPictureURL(final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPictureURL(size);
+            }
+        });
+    }
+
+    public Future<URL> getPictureURL(final int width, final int height) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPictureURL(width, height);
+            }
+        });
+    }
+
+    public Future<URL> getPictureURL(final String userId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPictureURL(userId);
+            }
+        });
+    }
+
+    public Future<URL> getPictureURL(final String userId, final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPictureURL(userId, size);
+            }
+        });
+    }
+
+    public Future<URL> getPictureURL(final String userId, final int width, final int height) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPictureURL(userId, width, height);
+            }
+        });
+    }
+
+    public Future<URL> getSSLPictureURL() {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getSSLPictureURL();
+            }
+        });
+    }
+
+    public Future<URL> getSSLPictureURL(final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getSSLPictureURL(size);
+            }
+        });
+    }
+
+    public Future<URL> getSSLPictureURL(final String userId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getSSLPictureURL(userId);
+            }
+        });
+    }
+
+    public Future<URL> getSSLPictureURL(final String userId, final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getSSLPictureURL(userId, size);
+            }
+        });
+    }
+
+    public Future<List<User>> getUsers(final String... ids) {
+        return submit(new FacebookCall<List<User>>() {
+            public List<User> call() throws FacebookException {
+                return facebook.getUsers(ids);
+            }
+        });
+    }
+
+    /* Account Methods */
+
+    public Future<ResponseList<Account>> getAccounts() {
+        return submit(new FacebookCall<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws FacebookException {
+                return facebook.getAccounts();
+            }
+        });
+    }
+
+    public Future<ResponseList<Account>> getAccounts(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws FacebookException {
+                return facebook.getAccounts(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Account>> getAccounts(final String userId) {
+        return submit(new FacebookCall<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws FacebookException {
+                return facebook.getAccounts(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Account>> getAccounts(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Account>>() {
+            public ResponseList<Account> call() throws FacebookException {
+                return facebook.getAccounts(userId, reading);
+            }
+        });
+    }
+
+    /* Activity Methods */
+
+    public Future<ResponseList<Activity>> getActivities() {
+        return submit(new FacebookCall<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws FacebookException {
+                return facebook.getActivities();
+            }
+        });
+    }
+
+    public Future<ResponseList<Activity>> getActivities(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws FacebookException {
+                return facebook.getActivities(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Activity>> getActivities(final String userId) {
+        return submit(new FacebookCall<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws FacebookException {
+                return facebook.getActivities(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Activity>> getActivities(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Activity>>() {
+            public ResponseList<Activity> call() throws FacebookException {
+                return facebook.getActivities(userId, reading);
+            }
+        });
+    }
+
+    /* Album Methods */
+
+    public Future<ResponseList<Album>> getAlbums() {
+        return submit(new FacebookCall<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws FacebookException {
+                return facebook.getAlbums();
+            }
+        });
+    }
+
+    public Future<ResponseList<Album>> getAlbums(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws FacebookException {
+                return facebook.getAlbums(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Album>> getAlbums(final String id) {
+        return submit(new FacebookCall<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws FacebookException {
+                return facebook.getAlbums(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Album>> getAlbums(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Album>>() {
+            public ResponseList<Album> call() throws FacebookException {
+                return facebook.getAlbums(id, reading);
+            }
+        });
+    }
+
+    public Future<String> createAlbum(final AlbumUpdate albumUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createAlbum(albumUpdate);
+            }
+        });
+    }
+
+    public Future<String> createAlbum(final String userId, final AlbumUpdate albumUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createAlbum(userId, albumUpdate);
+            }
+        });
+    }
+
+    public Future<Album> getAlbum(final String albumId) {
+        return submit(new FacebookCall<Album>() {
+            public Album call() throws FacebookException {
+                return facebook.getAlbum(albumId);
+            }
+        });
+    }
+
+    public Future<Album> getAlbum(final String albumId, final Reading reading) {
+        return submit(new FacebookCall<Album>() {
+            public Album call() throws FacebookException {
+                return facebook.getAlbum(albumId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getAlbumPhotos(final String albumId) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getAlbumPhotos(albumId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getAlbumPhotos(final String albumId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getAlbumPhotos(albumId, reading);
+            }
+        });
+    }
+
+    public Future<String> addAlbumPhoto(final String albumId, final Media source) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.addAlbumPhoto(albumId, source);
+            }
+        });
+    }
+
+    public Future<String> addAlbumPhoto(final String albumId, final Media source, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.addAlbumPhoto(albumId, source, message);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getAlbumComments(final String albumId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getAlbumComments(albumId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getAlbumComments(final String albumId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getAlbumComments(albumId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentAlbum(final String albumId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentAlbum(albumId, message);
+            }
+        });
+    }
+
+    public Future<String> commentAlbum(final String albumId, final CommentUpdate commentUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentAlbum(albumId, commentUpdate);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getAlbumLikes(final String albumId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getAlbumLikes(albumId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getAlbumLikes(final String albumId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getAlbumLikes(albumId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likeAlbum(final String albumId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likeAlbum(albumId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikeAlbum(final String albumId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikeAlbum(albumId);
+            }
+        });
+    }
+
+    public Future<URL> getAlbumCoverPhoto(final String albumId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getAlbumCoverPhoto(albumId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getAlbumReactions(final String albumId) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getAlbumReactions(albumId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getAlbumReactions(final String albumId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getAlbumReactions(albumId, reading);
+            }
+        });
+    }
+
+    /* Checkin Methods */
+
+    public Future<ResponseList<Checkin>> getCheckins() {
+        return submit(new FacebookCall<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws FacebookException {
+                return facebook.getCheckins();
+            }
+        });
+    }
+
+    public Future<ResponseList<Checkin>> getCheckins(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws FacebookException {
+                return facebook.getCheckins(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Checkin>> getCheckins(final String id) {
+        return submit(new FacebookCall<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws FacebookException {
+                return facebook.getCheckins(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Checkin>> getCheckins(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws FacebookException {
+                return facebook.getCheckins(id, reading);
+            }
+        });
+    }
+
+    public Future<String> checkin(final CheckinUpdate checkinUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.checkin(checkinUpdate);
+            }
+        });
+    }
+
+    public Future<String> checkin(final String userId, final CheckinUpdate checkinUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.checkin(userId, checkinUpdate);
+            }
+        });
+    }
+
+    public Future<Checkin> getCheckin(final String checkinId) {
+        return submit(new FacebookCall<Checkin>() {
+            public Checkin call() throws FacebookException {
+                return facebook.getCheckin(checkinId);
+            }
+        });
+    }
+
+    public Future<Checkin> getCheckin(final String checkinId, final Reading reading) {
+        return submit(new FacebookCall<Checkin>() {
+            public Checkin call() throws FacebookException {
+                return facebook.getCheckin(checkinId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getCheckinComments(final String checkinId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getCheckinComments(checkinId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getCheckinComments(final String checkinId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getCheckinComments(checkinId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentCheckin(final String checkinId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentCheckin(checkinId, message);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getCheckinLikes(final String checkinId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getCheckinLikes(checkinId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getCheckinLikes(final String checkinId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getCheckinLikes(checkinId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likeCheckin(final String checkinId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likeCheckin(checkinId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikeCheckin(final String checkinId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikeCheckin(checkinId);
+            }
+        });
+    }
+
+    /* Comment Methods */
+
+    public Future<Comment> getComment(final String commentId) {
+        return submit(new FacebookCall<Comment>() {
+            public Comment call() throws FacebookException {
+                return facebook.getComment(commentId);
+            }
+        });
+    }
+
+    public Future<Comment> getComment(final String commentId, final Reading reading) {
+        return submit(new FacebookCall<Comment>() {
+            public Comment call() throws FacebookException {
+                return facebook.getComment(commentId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getCommentReplies(final String commentId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getCommentReplies(commentId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getCommentReplies(final String commentId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getCommentReplies(commentId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteComment(final String commentId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteComment(commentId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getCommentLikes(final String commentId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getCommentLikes(commentId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getCommentLikes(final String commentId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getCommentLikes(commentId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likeComment(final String commentId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likeComment(commentId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikeComment(final String commentId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikeComment(commentId);
+            }
+        });
+    }
+
+    /* Domain Methods */
+
+    public Future<Domain> getDomain(final String domainId) {
+        return submit(new FacebookCall<Domain>() {
+            public Domain call() throws FacebookException {
+                return facebook.getDomain(domainId);
+            }
+        });
+    }
+
+    public Future<Domain> getDomainByName(final String domainName) {
+        return submit(new FacebookCall<Domain>() {
+            public Domain call() throws FacebookException {
+                return facebook.getDomainByName(domainName);
+            }
+        });
+    }
+
+    public Future<List<Domain>> getDomainsByName(final String... domainName) {
+        return submit(new FacebookCall<List<Domain>>() {
+            public List<Domain> call() throws FacebookException {
+                return facebook.getDomainsByName(domainName);
+            }
+        });
+    }
+
+    /* Event Methods */
+
+    public Future<ResponseList<Event>> getEvents() {
+        return submit(new FacebookCall<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws FacebookException {
+                return facebook.getEvents();
+            }
+        });
+    }
+
+    public Future<ResponseList<Event>> getEvents(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws FacebookException {
+                return facebook.getEvents(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Event>> getEvents(final String id) {
+        return submit(new FacebookCall<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws FacebookException {
+                return facebook.getEvents(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Event>> getEvents(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws FacebookException {
+                return facebook.getEvents(id, reading);
+            }
+        });
+    }
+
+    public Future<String> createEvent(final EventUpdate eventUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createEvent(eventUpdate);
+            }
+        });
+    }
+
+    public Future<String> createEvent(final String id, final EventUpdate eventUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createEvent(id, eventUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> editEvent(final String eventId, final EventUpdate eventUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.editEvent(eventId, eventUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteEvent(final String eventId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteEvent(eventId);
+            }
+        });
+    }
+
+    public Future<Event> getEvent(final String eventId) {
+        return submit(new FacebookCall<Event>() {
+            public Event call() throws FacebookException {
+                return facebook.getEvent(eventId);
+            }
+        });
+    }
+
+    public Future<Event> getEvent(final String eventId, final Reading reading) {
+        return submit(new FacebookCall<Event>() {
+            public Event call() throws FacebookException {
+                return facebook.getEvent(eventId, reading);
+            }
+        });
+    }
+
+    public Future<String> postEventLink(final String eventId, final URL link) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventLink(eventId, link);
+            }
+        });
+    }
+
+    public Future<String> postEventLink(final String eventId, final URL link, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventLink(eventId, link, message);
+            }
+        });
+    }
+
+    public Future<String> postEventStatusMessage(final String eventId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventStatusMessage(eventId, message);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(final String eventId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusAsNoreply(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusAsNoreply(final String eventId, final String userId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusAsNoreply(eventId, userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(final String eventId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusAsInvited(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusAsInvited(final String eventId, final String userId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusAsInvited(eventId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> inviteToEvent(final String eventId, final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.inviteToEvent(eventId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> inviteToEvent(final String eventId, final String[] userIds) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.inviteToEvent(eventId, userIds);
+            }
+        });
+    }
+
+    public Future<Boolean> uninviteFromEvent(final String eventId, final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.uninviteFromEvent(eventId, userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusInAttending(final String eventId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusInAttending(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusInAttending(final String eventId, final String userId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusInAttending(eventId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> rsvpEventAsAttending(final String eventId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.rsvpEventAsAttending(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(final String eventId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusInMaybe(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusInMaybe(final String eventId, final String userId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusInMaybe(eventId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> rsvpEventAsMaybe(final String eventId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.rsvpEventAsMaybe(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(final String eventId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusInDeclined(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<RSVPStatus>> getRSVPStatusInDeclined(final String eventId, final String userId) {
+        return submit(new FacebookCall<ResponseList<RSVPStatus>>() {
+            public ResponseList<RSVPStatus> call() throws FacebookException {
+                return facebook.getRSVPStatusInDeclined(eventId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> rsvpEventAsDeclined(final String eventId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.rsvpEventAsDeclined(eventId);
+            }
+        });
+    }
+
+    public Future<URL> getEventPictureURL(final String eventId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getEventPictureURL(eventId);
+            }
+        });
+    }
+
+    public Future<URL> getEventPictureURL(final String eventId, final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getEventPictureURL(eventId, size);
+            }
+        });
+    }
+
+    public Future<Boolean> updateEventPicture(final String eventId, final Media source) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updateEventPicture(eventId, source);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteEventPicture(final String eventId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteEventPicture(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getEventPhotos(final String eventId) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getEventPhotos(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getEventPhotos(final String eventId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getEventPhotos(eventId, reading);
+            }
+        });
+    }
+
+    public Future<String> postEventPhoto(final String eventId, final Media source) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventPhoto(eventId, source);
+            }
+        });
+    }
+
+    public Future<String> postEventPhoto(final String eventId, final Media source, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventPhoto(eventId, source, message);
+            }
+        });
+    }
+
+    public Future<ResponseList<Video>> getEventVideos(final String eventId) {
+        return submit(new FacebookCall<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws FacebookException {
+                return facebook.getEventVideos(eventId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Video>> getEventVideos(final String eventId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws FacebookException {
+                return facebook.getEventVideos(eventId, reading);
+            }
+        });
+    }
+
+    public Future<String> postEventVideo(final String eventId, final Media source) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventVideo(eventId, source);
+            }
+        });
+    }
+
+    public Future<String> postEventVideo(final String eventId, final Media source, final String title, final String description) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postEventVideo(eventId, source, title, description);
+            }
+        });
+    }
+
+    /* Family Methods */
+
+    public Future<ResponseList<Family>> getFamily() {
+        return submit(new FacebookCall<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws FacebookException {
+                return facebook.getFamily();
+            }
+        });
+    }
+
+    public Future<ResponseList<Family>> getFamily(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws FacebookException {
+                return facebook.getFamily(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Family>> getFamily(final String userId) {
+        return submit(new FacebookCall<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws FacebookException {
+                return facebook.getFamily(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Family>> getFamily(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Family>>() {
+            public ResponseList<Family> call() throws FacebookException {
+                return facebook.getFamily(userId, reading);
+            }
+        });
+    }
+
+    /* Favorite Methods */
+
+    public Future<ResponseList<Book>> getBooks() {
+        return submit(new FacebookCall<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws FacebookException {
+                return facebook.getBooks();
+            }
+        });
+    }
+
+    public Future<ResponseList<Book>> getBooks(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws FacebookException {
+                return facebook.getBooks(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Book>> getBooks(final String userId) {
+        return submit(new FacebookCall<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws FacebookException {
+                return facebook.getBooks(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Book>> getBooks(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Book>>() {
+            public ResponseList<Book> call() throws FacebookException {
+                return facebook.getBooks(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Game>> getGames() {
+        return submit(new FacebookCall<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws FacebookException {
+                return facebook.getGames();
+            }
+        });
+    }
+
+    public Future<ResponseList<Game>> getGames(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws FacebookException {
+                return facebook.getGames(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Game>> getGames(final String userId) {
+        return submit(new FacebookCall<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws FacebookException {
+                return facebook.getGames(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Game>> getGames(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Game>>() {
+            public ResponseList<Game> call() throws FacebookException {
+                return facebook.getGames(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Movie>> getMovies() {
+        return submit(new FacebookCall<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws FacebookException {
+                return facebook.getMovies();
+            }
+        });
+    }
+
+    public Future<ResponseList<Movie>> getMovies(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws FacebookException {
+                return facebook.getMovies(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Movie>> getMovies(final String userId) {
+        return submit(new FacebookCall<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws FacebookException {
+                return facebook.getMovies(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Movie>> getMovies(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Movie>>() {
+            public ResponseList<Movie> call() throws FacebookException {
+                return facebook.getMovies(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Music>> getMusic() {
+        return submit(new FacebookCall<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws FacebookException {
+                return facebook.getMusic();
+            }
+        });
+    }
+
+    public Future<ResponseList<Music>> getMusic(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws FacebookException {
+                return facebook.getMusic(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Music>> getMusic(final String userId) {
+        return submit(new FacebookCall<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws FacebookException {
+                return facebook.getMusic(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Music>> getMusic(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Music>>() {
+            public ResponseList<Music> call() throws FacebookException {
+                return facebook.getMusic(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Television>> getTelevision() {
+        return submit(new FacebookCall<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws FacebookException {
+                return facebook.getTelevision();
+            }
+        });
+    }
+
+    public Future<ResponseList<Television>> getTelevision(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws FacebookException {
+                return facebook.getTelevision(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Television>> getTelevision(final String userId) {
+        return submit(new FacebookCall<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws FacebookException {
+                return facebook.getTelevision(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Television>> getTelevision(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Television>>() {
+            public ResponseList<Television> call() throws FacebookException {
+                return facebook.getTelevision(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Interest>> getInterests() {
+        return submit(new FacebookCall<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws FacebookException {
+                return facebook.getInterests();
+            }
+        });
+    }
+
+    public Future<ResponseList<Interest>> getInterests(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws FacebookException {
+                return facebook.getInterests(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Interest>> getInterests(final String userId) {
+        return submit(new FacebookCall<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws FacebookException {
+                return facebook.getInterests(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Interest>> getInterests(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Interest>>() {
+            public ResponseList<Interest> call() throws FacebookException {
+                return facebook.getInterests(userId, reading);
+            }
+        });
+    }
+
+    /* Friend Methods */
+
+    public Future<ResponseList<Friend>> getFriends() {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getFriends();
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getFriends(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getFriends(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getFriends(final String userId) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getFriends(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getFriends(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getFriends(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getBelongsFriend(final String friendId) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getBelongsFriend(friendId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getBelongsFriend(final String friendId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getBelongsFriend(friendId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getBelongsFriend(final String userId, final String friendId) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getBelongsFriend(userId, friendId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getBelongsFriend(final String userId, final String friendId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getBelongsFriend(userId, friendId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friendlist>> getFriendlists() {
+        return submit(new FacebookCall<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws FacebookException {
+                return facebook.getFriendlists();
+            }
+        });
+    }
+
+    public Future<ResponseList<Friendlist>> getFriendlists(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws FacebookException {
+                return facebook.getFriendlists(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friendlist>> getFriendlists(final String userId) {
+        return submit(new FacebookCall<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws FacebookException {
+                return facebook.getFriendlists(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friendlist>> getFriendlists(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friendlist>>() {
+            public ResponseList<Friendlist> call() throws FacebookException {
+                return facebook.getFriendlists(userId, reading);
+            }
+        });
+    }
+
+    public Future<String> createFriendlist(final String friendlistName) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createFriendlist(friendlistName);
+            }
+        });
+    }
+
+    public Future<String> createFriendlist(final String userId, final String friendlistName) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createFriendlist(userId, friendlistName);
+            }
+        });
+    }
+
+    public Future<Friendlist> getFriendlist(final String friendlistId) {
+        return submit(new FacebookCall<Friendlist>() {
+            public Friendlist call() throws FacebookException {
+                return facebook.getFriendlist(friendlistId);
+            }
+        });
+    }
+
+    public Future<Friendlist> getFriendlist(final String friendlistId, final Reading reading) {
+        return submit(new FacebookCall<Friendlist>() {
+            public Friendlist call() throws FacebookException {
+                return facebook.getFriendlist(friendlistId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteFriendlist(final String friendlistId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteFriendlist(friendlistId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getFriendlistMembers(final String friendlistId) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getFriendlistMembers(friendlistId);
+            }
+        });
+    }
+
+    public Future<Boolean> addFriendlistMember(final String friendlistId, final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.addFriendlistMember(friendlistId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> removeFriendlistMember(final String friendlistId, final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.removeFriendlistMember(friendlistId, userId);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteFriendlistMember(final String friendlistId, final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteFriendlistMember(friendlistId, userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<FriendRequest>> getFriendRequests() {
+        return submit(new FacebookCall<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws FacebookException {
+                return facebook.getFriendRequests();
+            }
+        });
+    }
+
+    public Future<ResponseList<FriendRequest>> getFriendRequests(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws FacebookException {
+                return facebook.getFriendRequests(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<FriendRequest>> getFriendRequests(final String userId) {
+        return submit(new FacebookCall<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws FacebookException {
+                return facebook.getFriendRequests(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<FriendRequest>> getFriendRequests(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<FriendRequest>>() {
+            public ResponseList<FriendRequest> call() throws FacebookException {
+                return facebook.getFriendRequests(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getMutualFriends(final String friendUserId) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getMutualFriends(friendUserId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getMutualFriends(final String friendUserId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getMutualFriends(friendUserId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getMutualFriends(final String userId1, final String userId2) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getMutualFriends(userId1, userId2);
+            }
+        });
+    }
+
+    public Future<ResponseList<Friend>> getMutualFriends(final String userId1, final String userId2, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Friend>>() {
+            public ResponseList<Friend> call() throws FacebookException {
+                return facebook.getMutualFriends(userId1, userId2, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<TaggableFriend>> getTaggableFriends() {
+        return submit(new FacebookCall<ResponseList<TaggableFriend>>() {
+            public ResponseList<TaggableFriend> call() throws FacebookException {
+                return facebook.getTaggableFriends();
+            }
+        });
+    }
+
+    public Future<ResponseList<TaggableFriend>> getTaggableFriends(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<TaggableFriend>>() {
+            public ResponseList<TaggableFriend> call() throws FacebookException {
+                return facebook.getTaggableFriends(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<TaggableFriend>> getTaggableFriends(final String userId) {
+        return submit(new FacebookCall<ResponseList<TaggableFriend>>() {
+            public ResponseList<TaggableFriend> call() throws FacebookException {
+                return facebook.getTaggableFriends(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<TaggableFriend>> getTaggableFriends(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<TaggableFriend>>() {
+            public ResponseList<TaggableFriend> call() throws FacebookException {
+                return facebook.getTaggableFriends(userId, reading);
+            }
+        });
+    }
+
+    /* Game Methods */
+
+    public Future<ResponseList<Achievement>> getAchievements() {
+        return submit(new FacebookCall<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws FacebookException {
+                return facebook.getAchievements();
+            }
+        });
+    }
+
+    public Future<ResponseList<Achievement>> getAchievements(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws FacebookException {
+                return facebook.getAchievements(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Achievement>> getAchievements(final String userId) {
+        return submit(new FacebookCall<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws FacebookException {
+                return facebook.getAchievements(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Achievement>> getAchievements(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Achievement>>() {
+            public ResponseList<Achievement> call() throws FacebookException {
+                return facebook.getAchievements(userId, reading);
+            }
+        });
+    }
+
+    public Future<String> postAchievement(final URL achievementURL) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postAchievement(achievementURL);
+            }
+        });
+    }
+
+    public Future<String> postAchievement(final String userId, final URL achievementURL) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postAchievement(userId, achievementURL);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteAchievement(final URL achievementURL) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteAchievement(achievementURL);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteAchievement(final String userId, final URL achievementURL) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteAchievement(userId, achievementURL);
+            }
+        });
+    }
+
+    public Future<ResponseList<Score>> getScores() {
+        return submit(new FacebookCall<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws FacebookException {
+                return facebook.getScores();
+            }
+        });
+    }
+
+    public Future<ResponseList<Score>> getScores(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws FacebookException {
+                return facebook.getScores(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Score>> getScores(final String userId) {
+        return submit(new FacebookCall<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws FacebookException {
+                return facebook.getScores(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Score>> getScores(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Score>>() {
+            public ResponseList<Score> call() throws FacebookException {
+                return facebook.getScores(userId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> postScore(final int scoreValue) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.postScore(scoreValue);
+            }
+        });
+    }
+
+    public Future<Boolean> postScore(final String userId, final int scoreValue) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.postScore(userId, scoreValue);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteScore() {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteScore();
+            }
+        });
+    }
+
+    public Future<Boolean> deleteScore(final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteScore(userId);
+            }
+        });
+    }
+
+    /* Group Methods */
+
+    public Future<ResponseList<Group>> getGroups() {
+        return submit(new FacebookCall<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws FacebookException {
+                return facebook.getGroups();
+            }
+        });
+    }
+
+    public Future<ResponseList<Group>> getGroups(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws FacebookException {
+                return facebook.getGroups(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Group>> getGroups(final String userId) {
+        return submit(new FacebookCall<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws FacebookException {
+                return facebook.getGroups(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Group>> getGroups(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws FacebookException {
+                return facebook.getGroups(userId, reading);
+            }
+        });
+    }
+
+    public Future<Group> getGroup(final String groupId) {
+        return submit(new FacebookCall<Group>() {
+            public Group call() throws FacebookException {
+                return facebook.getGroup(groupId);
+            }
+        });
+    }
+
+    public Future<Group> getGroup(final String groupId, final Reading reading) {
+        return submit(new FacebookCall<Group>() {
+            public Group call() throws FacebookException {
+                return facebook.getGroup(groupId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getGroupFeed(final String groupId) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getGroupFeed(groupId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getGroupFeed(final String groupId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getGroupFeed(groupId, reading);
+            }
+        });
+    }
+
+    public Future<String> postGroupFeed(final String groupId, final PostUpdate postUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postGroupFeed(groupId, postUpdate);
+            }
+        });
+    }
+
+    public Future<String> postGroupLink(final String groupId, final URL link) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postGroupLink(groupId, link);
+            }
+        });
+    }
+
+    public Future<String> postGroupLink(final String groupId, final URL link, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postGroupLink(groupId, link, message);
+            }
+        });
+    }
+
+    public Future<String> postGroupStatusMessage(final String groupId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postGroupStatusMessage(groupId, message);
+            }
+        });
+    }
+
+    public Future<ResponseList<GroupMember>> getGroupMembers(final String groupId) {
+        return submit(new FacebookCall<ResponseList<GroupMember>>() {
+            public ResponseList<GroupMember> call() throws FacebookException {
+                return facebook.getGroupMembers(groupId);
+            }
+        });
+    }
+
+    public Future<ResponseList<GroupMember>> getGroupMembers(final String groupId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<GroupMember>>() {
+            public ResponseList<GroupMember> call() throws FacebookException {
+                return facebook.getGroupMembers(groupId, reading);
+            }
+        });
+    }
+
+    public Future<URL> getGroupPictureURL(final String groupId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getGroupPictureURL(groupId);
+            }
+        });
+    }
+
+    public Future<ResponseList<GroupDoc>> getGroupDocs(final String groupId) {
+        return submit(new FacebookCall<ResponseList<GroupDoc>>() {
+            public ResponseList<GroupDoc> call() throws FacebookException {
+                return facebook.getGroupDocs(groupId);
+            }
+        });
+    }
+
+    public Future<ResponseList<GroupDoc>> getGroupDocs(final String groupId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<GroupDoc>>() {
+            public ResponseList<GroupDoc> call() throws FacebookException {
+                return facebook.getGroupDocs(groupId, reading);
+            }
+        });
+    }
+
+    /* Like Methods */
+
+    public Future<ResponseList<Like>> getUserLikes() {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getUserLikes();
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getUserLikes(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getUserLikes(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getUserLikes(final String userId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getUserLikes(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getUserLikes(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getUserLikes(userId, reading);
+            }
+        });
+    }
+
+    /* Link Methods */
+
+    public Future<ResponseList<Link>> getLinks() {
+        return submit(new FacebookCall<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws FacebookException {
+                return facebook.getLinks();
+            }
+        });
+    }
+
+    public Future<ResponseList<Link>> getLinks(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws FacebookException {
+                return facebook.getLinks(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Link>> getLinks(final String id) {
+        return submit(new FacebookCall<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws FacebookException {
+                return facebook.getLinks(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Link>> getLinks(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Link>>() {
+            public ResponseList<Link> call() throws FacebookException {
+                return facebook.getLinks(id, reading);
+            }
+        });
+    }
+
+    public Future<Link> getLink(final String linkId) {
+        return submit(new FacebookCall<Link>() {
+            public Link call() throws FacebookException {
+                return facebook.getLink(linkId);
+            }
+        });
+    }
+
+    public Future<Link> getLink(final String linkId, final Reading reading) {
+        return submit(new FacebookCall<Link>() {
+            public Link call() throws FacebookException {
+                return facebook.getLink(linkId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getLinkComments(final String linkId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getLinkComments(linkId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getLinkComments(final String linkId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getLinkComments(linkId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentLink(final String linkId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentLink(linkId, message);
+            }
+        });
+    }
+
+    public Future<String> commentLink(final String linkId, final CommentUpdate commentUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentLink(linkId, commentUpdate);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getLinkLikes(final String linkId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getLinkLikes(linkId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getLinkLikes(final String linkId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getLinkLikes(linkId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likeLink(final String linkId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likeLink(linkId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikeLink(final String linkId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikeLink(linkId);
+            }
+        });
+    }
+
+    /* Location Methods */
+
+    public Future<ResponseList<Location>> getLocations() {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.getLocations();
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> getLocations(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.getLocations(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> getLocations(final String userId) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.getLocations(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> getLocations(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.getLocations(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<PlaceTag>> getTaggedPlaces() {
+        return submit(new FacebookCall<ResponseList<PlaceTag>>() {
+            public ResponseList<PlaceTag> call() throws FacebookException {
+                return facebook.getTaggedPlaces();
+            }
+        });
+    }
+
+    public Future<ResponseList<PlaceTag>> getTaggedPlaces(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<PlaceTag>>() {
+            public ResponseList<PlaceTag> call() throws FacebookException {
+                return facebook.getTaggedPlaces(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<PlaceTag>> getTaggedPlaces(final String userId) {
+        return submit(new FacebookCall<ResponseList<PlaceTag>>() {
+            public ResponseList<PlaceTag> call() throws FacebookException {
+                return facebook.getTaggedPlaces(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<PlaceTag>> getTaggedPlaces(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<PlaceTag>>() {
+            public ResponseList<PlaceTag> call() throws FacebookException {
+                return facebook.getTaggedPlaces(userId, reading);
+            }
+        });
+    }
+
+    /* Message Methods */
+
+    public Future<InboxResponseList<Message>> getInbox() {
+        return submit(new FacebookCall<InboxResponseList<Message>>() {
+            public InboxResponseList<Message> call() throws FacebookException {
+                return facebook.getInbox();
+            }
+        });
+    }
+
+    public Future<InboxResponseList<Message>> getInbox(final Reading reading) {
+        return submit(new FacebookCall<InboxResponseList<Message>>() {
+            public InboxResponseList<Message> call() throws FacebookException {
+                return facebook.getInbox(reading);
+            }
+        });
+    }
+
+    public Future<InboxResponseList<Message>> getInbox(final String userId) {
+        return submit(new FacebookCall<InboxResponseList<Message>>() {
+            public InboxResponseList<Message> call() throws FacebookException {
+                return facebook.getInbox(userId);
+            }
+        });
+    }
+
+    public Future<InboxResponseList<Message>> getInbox(final String userId, final Reading reading) {
+        return submit(new FacebookCall<InboxResponseList<Message>>() {
+            public InboxResponseList<Message> call() throws FacebookException {
+                return facebook.getInbox(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getOutbox() {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getOutbox();
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getOutbox(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getOutbox(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getOutbox(final String userId) {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getOutbox(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getOutbox(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getOutbox(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getUpdates() {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getUpdates();
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getUpdates(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getUpdates(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getUpdates(final String userId) {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getUpdates(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Message>> getUpdates(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Message>>() {
+            public ResponseList<Message> call() throws FacebookException {
+                return facebook.getUpdates(userId, reading);
+            }
+        });
+    }
+
+    public Future<Message> getMessage(final String messageId) {
+        return submit(new FacebookCall<Message>() {
+            public Message call() throws FacebookException {
+                return facebook.getMessage(messageId);
+            }
+        });
+    }
+
+    public Future<Message> getMessage(final String messageId, final Reading reading) {
+        return submit(new FacebookCall<Message>() {
+            public Message call() throws FacebookException {
+                return facebook.getMessage(messageId, reading);
+            }
+        });
+    }
+
+    /* Conversation Methods */
+
+    public Future<InboxResponseList<Conversation>> getConversations() {
+        return submit(new FacebookCall<InboxResponseList<Conversation>>() {
+            public InboxResponseList<Conversation> call() throws FacebookException {
+                return facebook.getConversations();
+            }
+        });
+    }
+
+    public Future<InboxResponseList<Conversation>> getConversations(final Reading reading) {
+        return submit(new FacebookCall<InboxResponseList<Conversation>>() {
+            public InboxResponseList<Conversation> call() throws FacebookException {
+                return facebook.getConversations(reading);
+            }
+        });
+    }
+
+    public Future<InboxResponseList<Conversation>> getConversations(final String pageId) {
+        return submit(new FacebookCall<InboxResponseList<Conversation>>() {
+            public InboxResponseList<Conversation> call() throws FacebookException {
+                return facebook.getConversations(pageId);
+            }
+        });
+    }
+
+    public Future<InboxResponseList<Conversation>> getConversations(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<InboxResponseList<Conversation>>() {
+            public InboxResponseList<Conversation> call() throws FacebookException {
+                return facebook.getConversations(pageId, reading);
+            }
+        });
+    }
+
+    public Future<Conversation> getConversation(final String conversationId) {
+        return submit(new FacebookCall<Conversation>() {
+            public Conversation call() throws FacebookException {
+                return facebook.getConversation(conversationId);
+            }
+        });
+    }
+
+    public Future<Conversation> getConversation(final String conversationId, final Reading reading) {
+        return submit(new FacebookCall<Conversation>() {
+            public Conversation call() throws FacebookException {
+                return facebook.getConversation(conversationId, reading);
+            }
+        });
+    }
+
+    public Future<String> answerConversation(final String conversationId, final String conversation) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.answerConversation(conversationId, conversation);
+            }
+        });
+    }
+
+    /* Note Methods */
+
+    public Future<ResponseList<Note>> getNotes() {
+        return submit(new FacebookCall<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws FacebookException {
+                return facebook.getNotes();
+            }
+        });
+    }
+
+    public Future<ResponseList<Note>> getNotes(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws FacebookException {
+                return facebook.getNotes(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Note>> getNotes(final String id) {
+        return submit(new FacebookCall<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws FacebookException {
+                return facebook.getNotes(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Note>> getNotes(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Note>>() {
+            public ResponseList<Note> call() throws FacebookException {
+                return facebook.getNotes(id, reading);
+            }
+        });
+    }
+
+    public Future<String> createNote(final String subject, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createNote(subject, message);
+            }
+        });
+    }
+
+    public Future<String> createNote(final String id, final String subject, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createNote(id, subject, message);
+            }
+        });
+    }
+
+    public Future<Note> getNote(final String noteId) {
+        return submit(new FacebookCall<Note>() {
+            public Note call() throws FacebookException {
+                return facebook.getNote(noteId);
+            }
+        });
+    }
+
+    public Future<Note> getNote(final String noteId, final Reading reading) {
+        return submit(new FacebookCall<Note>() {
+            public Note call() throws FacebookException {
+                return facebook.getNote(noteId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getNoteComments(final String noteId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getNoteComments(noteId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getNoteComments(final String noteId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getNoteComments(noteId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentNote(final String noteId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentNote(noteId, message);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getNoteLikes(final String noteId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getNoteLikes(noteId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getNoteLikes(final String noteId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getNoteLikes(noteId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likeNote(final String noteId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likeNote(noteId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikeNote(final String noteId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikeNote(noteId);
+            }
+        });
+    }
+
+    /* Notification Methods */
+
+    public Future<ResponseList<Notification>> getNotifications() {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications();
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final boolean includeRead) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(includeRead);
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final Reading reading, final boolean includeRead) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(reading, includeRead);
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final String userId) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final String userId, final boolean includeRead) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(userId, includeRead);
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Notification>> getNotifications(final String userId, final Reading reading, final boolean includeRead) {
+        return submit(new FacebookCall<ResponseList<Notification>>() {
+            public ResponseList<Notification> call() throws FacebookException {
+                return facebook.getNotifications(userId, reading, includeRead);
+            }
+        });
+    }
+
+    public Future<Boolean> markNotificationAsRead(final String notificationId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.markNotificationAsRead(notificationId);
+            }
+        });
+    }
+
+    /* Page Methods */
+
+    public Future<Page> getPage() {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getPage();
+            }
+        });
+    }
+
+    public Future<Page> getPage(final Reading reading) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getPage(reading);
+            }
+        });
+    }
+
+    public Future<Page> getPage(final String pageId) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getPage(pageId);
+            }
+        });
+    }
+
+    public Future<Page> getPage(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getPage(pageId, reading);
+            }
+        });
+    }
+
+    public Future<URL> getPagePictureURL() {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPagePictureURL();
+            }
+        });
+    }
+
+    public Future<URL> getPagePictureURL(final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPagePictureURL(size);
+            }
+        });
+    }
+
+    public Future<URL> getPagePictureURL(final String pageId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPagePictureURL(pageId);
+            }
+        });
+    }
+
+    public Future<URL> getPagePictureURL(final String pageId, final PictureSize size) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPagePictureURL(pageId, size);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPromotablePosts() {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPromotablePosts();
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPromotablePosts(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPromotablePosts(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPromotablePosts(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPromotablePosts(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPromotablePosts(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPromotablePosts(pageId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageBasicAttributes(final PageUpdate pageUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageBasicAttributes(pageUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageBasicAttributes(final String pageId, final PageUpdate pageUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageBasicAttributes(pageId, pageUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageProfilePhoto(final URL picture) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageProfilePhoto(picture);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageProfilePhoto(final String pageId, final URL picture) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageProfilePhoto(pageId, picture);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageProfilePhoto(final Media source) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageProfilePhoto(source);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageProfilePhoto(final String pageId, final Media source) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageProfilePhoto(pageId, source);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageCoverPhoto(final PageCoverUpdate pageCoverUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageCoverPhoto(pageCoverUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageCoverPhoto(final String pageId, final PageCoverUpdate pageCoverUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageCoverPhoto(pageId, pageCoverUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> displayPagePost(final String postId, final boolean isHidden) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.displayPagePost(postId, isHidden);
+            }
+        });
+    }
+
+    public Future<ResponseList<PageSetting>> getPageSettings() {
+        return submit(new FacebookCall<ResponseList<PageSetting>>() {
+            public ResponseList<PageSetting> call() throws FacebookException {
+                return facebook.getPageSettings();
+            }
+        });
+    }
+
+    public Future<ResponseList<PageSetting>> getPageSettings(final String pageId) {
+        return submit(new FacebookCall<ResponseList<PageSetting>>() {
+            public ResponseList<PageSetting> call() throws FacebookException {
+                return facebook.getPageSettings(pageId);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageSetting(final PageSettingUpdate pageSettingUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageSetting(pageSettingUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> updatePageSetting(final String pageId, final PageSettingUpdate pageSettingUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updatePageSetting(pageId, pageSettingUpdate);
+            }
+        });
+    }
+
+    public Future<String> postBackdatingFeed(final BackdatingPostUpdate backdatingPostUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postBackdatingFeed(backdatingPostUpdate);
+            }
+        });
+    }
+
+    public Future<String> postBackdatingFeed(final String pageId, final BackdatingPostUpdate backdatingPostUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postBackdatingFeed(pageId, backdatingPostUpdate);
+            }
+        });
+    }
+
+    public Future<String> postPagePhoto(final PagePhotoUpdate pagePhotoUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postPagePhoto(pagePhotoUpdate);
+            }
+        });
+    }
+
+    public Future<String> postPagePhoto(final String pageId, final PagePhotoUpdate pagePhotoUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postPagePhoto(pageId, pagePhotoUpdate);
+            }
+        });
+    }
+
+    public Future<ResponseList<Page>> getGlobalBrandChildren(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Page>>() {
+            public ResponseList<Page> call() throws FacebookException {
+                return facebook.getGlobalBrandChildren(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Page>> getGlobalBrandChildren(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Page>>() {
+            public ResponseList<Page> call() throws FacebookException {
+                return facebook.getGlobalBrandChildren(pageId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Insight>> getPageInsights(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Insight>>() {
+            public ResponseList<Insight> call() throws FacebookException {
+                return facebook.getPageInsights(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Insight>> getPageInsights(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Insight>>() {
+            public ResponseList<Insight> call() throws FacebookException {
+                return facebook.getPageInsights(pageId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tagged>> getPageTagged(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Tagged>>() {
+            public ResponseList<Tagged> call() throws FacebookException {
+                return facebook.getPageTagged(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tagged>> getPageTagged(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Tagged>>() {
+            public ResponseList<Tagged> call() throws FacebookException {
+                return facebook.getPageTagged(pageId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Milestone>> getMilestones() {
+        return submit(new FacebookCall<ResponseList<Milestone>>() {
+            public ResponseList<Milestone> call() throws FacebookException {
+                return facebook.getMilestones();
+            }
+        });
+    }
+
+    public Future<ResponseList<Milestone>> getMilestones(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Milestone>>() {
+            public ResponseList<Milestone> call() throws FacebookException {
+                return facebook.getMilestones(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Milestone>> getMilestones(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Milestone>>() {
+            public ResponseList<Milestone> call() throws FacebookException {
+                return facebook.getMilestones(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Milestone>> getMilestones(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Milestone>>() {
+            public ResponseList<Milestone> call() throws FacebookException {
+                return facebook.getMilestones(pageId, reading);
+            }
+        });
+    }
+
+    public Future<String> createMilestone(final MilestoneUpdate milestoneUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createMilestone(milestoneUpdate);
+            }
+        });
+    }
+
+    public Future<String> createMilestone(final String pageId, final MilestoneUpdate milestoneUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createMilestone(pageId, milestoneUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteMilestone(final String milestoneId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteMilestone(milestoneId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Admin>> getPageAdmins() {
+        return submit(new FacebookCall<ResponseList<Admin>>() {
+            public ResponseList<Admin> call() throws FacebookException {
+                return facebook.getPageAdmins();
+            }
+        });
+    }
+
+    public Future<ResponseList<Admin>> getPageAdmins(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Admin>>() {
+            public ResponseList<Admin> call() throws FacebookException {
+                return facebook.getPageAdmins(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Admin>> getPageAdmins(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Admin>>() {
+            public ResponseList<Admin> call() throws FacebookException {
+                return facebook.getPageAdmins(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Admin>> getPageAdmins(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Admin>>() {
+            public ResponseList<Admin> call() throws FacebookException {
+                return facebook.getPageAdmins(pageId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getTabs() {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getTabs();
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getTabs(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getTabs(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getTabs(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getTabs(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getTabs(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getTabs(pageId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getInstalledTabs(final List<String> appIds) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getInstalledTabs(appIds);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getInstalledTabs(final List<String> appIds, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getInstalledTabs(appIds, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getInstalledTabs(final String pageId, final List<String> appIds) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getInstalledTabs(pageId, appIds);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tab>> getInstalledTabs(final String pageId, final List<String> appIds, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Tab>>() {
+            public ResponseList<Tab> call() throws FacebookException {
+                return facebook.getInstalledTabs(pageId, appIds, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> installTab(final String appId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.installTab(appId);
+            }
+        });
+    }
+
+    public Future<Boolean> installTab(final String pageId, final String appId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.installTab(pageId, appId);
+            }
+        });
+    }
+
+    public Future<Boolean> updateTab(final String tabId, final TabUpdate tabUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updateTab(tabId, tabUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> updateTab(final String pageId, final String tabId, final TabUpdate tabUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updateTab(pageId, tabId, tabUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteTab(final String tabId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteTab(tabId);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteTab(final String pageId, final String tabId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteTab(pageId, tabId);
+            }
+        });
+    }
+
+    public Future<ResponseList<User>> getBlocked() {
+        return submit(new FacebookCall<ResponseList<User>>() {
+            public ResponseList<User> call() throws FacebookException {
+                return facebook.getBlocked();
+            }
+        });
+    }
+
+    public Future<ResponseList<User>> getBlocked(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<User>>() {
+            public ResponseList<User> call() throws FacebookException {
+                return facebook.getBlocked(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<User>> getBlocked(final String pageId) {
+        return submit(new FacebookCall<ResponseList<User>>() {
+            public ResponseList<User> call() throws FacebookException {
+                return facebook.getBlocked(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<User>> getBlocked(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<User>>() {
+            public ResponseList<User> call() throws FacebookException {
+                return facebook.getBlocked(pageId, reading);
+            }
+        });
+    }
+
+    public Future<Map<String, Boolean>> block(final List<String> userIds) {
+        return submit(new FacebookCall<Map<String, Boolean>>() {
+            public Map<String, Boolean> call() throws FacebookException {
+                return facebook.block(userIds);
+            }
+        });
+    }
+
+    public Future<Map<String, Boolean>> block(final String pageId, final List<String> userIds) {
+        return submit(new FacebookCall<Map<String, Boolean>>() {
+            public Map<String, Boolean> call() throws FacebookException {
+                return facebook.block(pageId, userIds);
+            }
+        });
+    }
+
+    public Future<Boolean> unblock(final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unblock(userId);
+            }
+        });
+    }
+
+    public Future<Boolean> unblock(final String pageId, final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unblock(pageId, userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Offer>> getOffers() {
+        return submit(new FacebookCall<ResponseList<Offer>>() {
+            public ResponseList<Offer> call() throws FacebookException {
+                return facebook.getOffers();
+            }
+        });
+    }
+
+    public Future<ResponseList<Offer>> getOffers(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Offer>>() {
+            public ResponseList<Offer> call() throws FacebookException {
+                return facebook.getOffers(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Offer>> getOffers(final String pageId) {
+        return submit(new FacebookCall<ResponseList<Offer>>() {
+            public ResponseList<Offer> call() throws FacebookException {
+                return facebook.getOffers(pageId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Offer>> getOffers(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Offer>>() {
+            public ResponseList<Offer> call() throws FacebookException {
+                return facebook.getOffers(pageId, reading);
+            }
+        });
+    }
+
+    public Future<String> createOffer(final OfferUpdate offerUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createOffer(offerUpdate);
+            }
+        });
+    }
+
+    public Future<String> createOffer(final String pageId, final OfferUpdate offerUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createOffer(pageId, offerUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteOffer(final String offerId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteOffer(offerId);
+            }
+        });
+    }
+
+    public Future<Offer> getOffer(final String offerId) {
+        return submit(new FacebookCall<Offer>() {
+            public Offer call() throws FacebookException {
+                return facebook.getOffer(offerId);
+            }
+        });
+    }
+
+    public Future<Page> getLikedPage(final String pageId) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getLikedPage(pageId);
+            }
+        });
+    }
+
+    public Future<Page> getLikedPage(final String pageId, final Reading reading) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getLikedPage(pageId, reading);
+            }
+        });
+    }
+
+    public Future<Page> getLikedPage(final String userId, final String pageId) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getLikedPage(userId, pageId);
+            }
+        });
+    }
+
+    public Future<Page> getLikedPage(final String userId, final String pageId, final Reading reading) {
+        return submit(new FacebookCall<Page>() {
+            public Page call() throws FacebookException {
+                return facebook.getLikedPage(userId, pageId, reading);
+            }
+        });
+    }
+
+    /* Permission Methods */
+
+    public Future<List<Permission>> getPermissions() {
+        return submit(new FacebookCall<List<Permission>>() {
+            public List<Permission> call() throws FacebookException {
+                return facebook.getPermissions();
+            }
+        });
+    }
+
+    public Future<List<Permission>> getPermissions(final String userId) {
+        return submit(new FacebookCall<List<Permission>>() {
+            public List<Permission> call() throws FacebookException {
+                return facebook.getPermissions(userId);
+            }
+        });
+    }
+
+    public Future<Boolean> revokeAllPermissions() {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.revokeAllPermissions();
+            }
+        });
+    }
+
+    public Future<Boolean> revokeAllPermissions(final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.revokeAllPermissions(userId);
+            }
+        });
+    }
+
+    public Future<Boolean> revokePermission(final String permissionName) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.revokePermission(permissionName);
+            }
+        });
+    }
+
+    public Future<Boolean> revokePermission(final String userId, final String permissionName) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.revokePermission(userId, permissionName);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteAllPermissions() {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteAllPermissions();
+            }
+        });
+    }
+
+    public Future<Boolean> deleteAllPermissions(final String userId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteAllPermissions(userId);
+            }
+        });
+    }
+
+    public Future<Boolean> deletePermission(final String permissionName) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deletePermission(permissionName);
+            }
+        });
+    }
+
+    public Future<Boolean> deletePermission(final String userId, final String permissionName) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deletePermission(userId, permissionName);
+            }
+        });
+    }
+
+    /* Photo Methods */
+
+    public Future<ResponseList<Photo>> getUploadedPhotos() {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getUploadedPhotos();
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getUploadedPhotos(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getUploadedPhotos(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getUploadedPhotos(final String id) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getUploadedPhotos(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getUploadedPhotos(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getUploadedPhotos(id, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getPhotos() {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getPhotos();
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getPhotos(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getPhotos(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getPhotos(final String id) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getPhotos(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Photo>> getPhotos(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Photo>>() {
+            public ResponseList<Photo> call() throws FacebookException {
+                return facebook.getPhotos(id, reading);
+            }
+        });
+    }
+
+    public Future<String> postPhoto(final Media source) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postPhoto(source);
+            }
+        });
+    }
+
+    public Future<String> postPhoto(final PhotoUpdate photoUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postPhoto(photoUpdate);
+            }
+        });
+    }
+
+    public Future<String> postPhoto(final String userId, final Media source) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postPhoto(userId, source);
+            }
+        });
+    }
+
+    public Future<String> postPhoto(final String userId, final PhotoUpdate photoUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postPhoto(userId, photoUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> deletePhoto(final String photoId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deletePhoto(photoId);
+            }
+        });
+    }
+
+    public Future<Photo> getPhoto(final String photoId) {
+        return submit(new FacebookCall<Photo>() {
+            public Photo call() throws FacebookException {
+                return facebook.getPhoto(photoId);
+            }
+        });
+    }
+
+    public Future<Photo> getPhoto(final String photoId, final Reading reading) {
+        return submit(new FacebookCall<Photo>() {
+            public Photo call() throws FacebookException {
+                return facebook.getPhoto(photoId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getPhotoComments(final String photoId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getPhotoComments(photoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getPhotoComments(final String photoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getPhotoComments(photoId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPhotoSharedposts(final String photoId) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPhotoSharedposts(photoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPhotoSharedposts(final String photoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPhotoSharedposts(photoId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentPhoto(final String photoId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentPhoto(photoId, message);
+            }
+        });
+    }
+
+    public Future<String> commentPhoto(final String photoId, final CommentUpdate commentUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentPhoto(photoId, commentUpdate);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getPhotoLikes(final String photoId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getPhotoLikes(photoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getPhotoLikes(final String photoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getPhotoLikes(photoId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likePhoto(final String photoId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likePhoto(photoId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikePhoto(final String photoId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikePhoto(photoId);
+            }
+        });
+    }
+
+    public Future<URL> getPhotoURL(final String photoId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getPhotoURL(photoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tag>> getTagsOnPhoto(final String photoId) {
+        return submit(new FacebookCall<ResponseList<Tag>>() {
+            public ResponseList<Tag> call() throws FacebookException {
+                return facebook.getTagsOnPhoto(photoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Tag>> getTagsOnPhoto(final String photoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Tag>>() {
+            public ResponseList<Tag> call() throws FacebookException {
+                return facebook.getTagsOnPhoto(photoId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> addTagToPhoto(final String photoId, final String toUserId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.addTagToPhoto(photoId, toUserId);
+            }
+        });
+    }
+
+    public Future<Boolean> addTagToPhoto(final String photoId, final List<String> toUserIds) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.addTagToPhoto(photoId, toUserIds);
+            }
+        });
+    }
+
+    public Future<Boolean> addTagToPhoto(final String photoId, final TagUpdate tagUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.addTagToPhoto(photoId, tagUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> updateTagOnPhoto(final String photoId, final TagUpdate tagUpdate) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.updateTagOnPhoto(photoId, tagUpdate);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteTagOnPhoto(final String photoId, final String toUserId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteTagOnPhoto(photoId, toUserId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getPhotoReactions(final String photoId) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getPhotoReactions(photoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getPhotoReactions(final String photoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getPhotoReactions(photoId, reading);
+            }
+        });
+    }
+
+    /* Poke Methods */
+
+    public Future<ResponseList<Poke>> getPokes() {
+        return submit(new FacebookCall<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws FacebookException {
+                return facebook.getPokes();
+            }
+        });
+    }
+
+    public Future<ResponseList<Poke>> getPokes(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws FacebookException {
+                return facebook.getPokes(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Poke>> getPokes(final String userId) {
+        return submit(new FacebookCall<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws FacebookException {
+                return facebook.getPokes(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Poke>> getPokes(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Poke>>() {
+            public ResponseList<Poke> call() throws FacebookException {
+                return facebook.getPokes(userId, reading);
+            }
+        });
+    }
+
+    /* Post Methods */
+
+    public Future<ResponseList<Post>> getFeed() {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getFeed();
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getFeed(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getFeed(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getFeed(final String id) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getFeed(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getFeed(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getFeed(id, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getHome() {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getHome();
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getHome(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getHome(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPosts() {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPosts();
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPosts(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPosts(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPosts(final String id) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPosts(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getPosts(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getPosts(id, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getStatuses() {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getStatuses();
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getStatuses(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getStatuses(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getStatuses(final String id) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getStatuses(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getStatuses(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getStatuses(id, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getTagged() {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getTagged();
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getTagged(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getTagged(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getTagged(final String userId) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getTagged(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getTagged(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getTagged(userId, reading);
+            }
+        });
+    }
+
+    public Future<Post> getPost(final String postId) {
+        return submit(new FacebookCall<Post>() {
+            public Post call() throws FacebookException {
+                return facebook.getPost(postId);
+            }
+        });
+    }
+
+    public Future<Post> getPost(final String postId, final Reading reading) {
+        return submit(new FacebookCall<Post>() {
+            public Post call() throws FacebookException {
+                return facebook.getPost(postId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getPostComments(final String postId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getPostComments(postId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getPostComments(final String postId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getPostComments(postId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentPost(final String postId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentPost(postId, message);
+            }
+        });
+    }
+
+    public Future<String> commentPost(final String postId, final CommentUpdate commentUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentPost(postId, commentUpdate);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getPostLikes(final String postId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getPostLikes(postId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getPostLikes(final String postId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getPostLikes(postId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getSharedPosts(final String postId) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getSharedPosts(postId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getSharedPosts(final String postId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getSharedPosts(postId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likePost(final String postId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likePost(postId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikePost(final String postId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikePost(postId);
+            }
+        });
+    }
+
+    public Future<String> postFeed(final PostUpdate postUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postFeed(postUpdate);
+            }
+        });
+    }
+
+    public Future<String> postFeed(final String id, final PostUpdate postUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postFeed(id, postUpdate);
+            }
+        });
+    }
+
+    public Future<String> postLink(final URL link) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postLink(link);
+            }
+        });
+    }
+
+    public Future<String> postLink(final URL link, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postLink(link, message);
+            }
+        });
+    }
+
+    public Future<String> postLink(final String userId, final URL link) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postLink(userId, link);
+            }
+        });
+    }
+
+    public Future<String> postLink(final String userId, final URL link, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postLink(userId, link, message);
+            }
+        });
+    }
+
+    public Future<String> postStatusMessage(final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postStatusMessage(message);
+            }
+        });
+    }
+
+    public Future<String> postStatusMessage(final String id, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postStatusMessage(id, message);
+            }
+        });
+    }
+
+    public Future<Boolean> deletePost(final String postId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deletePost(postId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getPostReactions(final String postId) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getPostReactions(postId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getPostReactions(final String postId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getPostReactions(postId, reading);
+            }
+        });
+    }
+
+    /* Question Methods */
+
+    public Future<ResponseList<Question>> getQuestions() {
+        return submit(new FacebookCall<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws FacebookException {
+                return facebook.getQuestions();
+            }
+        });
+    }
+
+    public Future<ResponseList<Question>> getQuestions(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws FacebookException {
+                return facebook.getQuestions(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Question>> getQuestions(final String id) {
+        return submit(new FacebookCall<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws FacebookException {
+                return facebook.getQuestions(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Question>> getQuestions(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Question>>() {
+            public ResponseList<Question> call() throws FacebookException {
+                return facebook.getQuestions(id, reading);
+            }
+        });
+    }
+
+    public Future<String> createQuestion(final QuestionUpdate questionUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createQuestion(questionUpdate);
+            }
+        });
+    }
+
+    public Future<String> createQuestion(final String id, final QuestionUpdate questionUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.createQuestion(id, questionUpdate);
+            }
+        });
+    }
+
+    public Future<Question> getQuestion(final String questionId) {
+        return submit(new FacebookCall<Question>() {
+            public Question call() throws FacebookException {
+                return facebook.getQuestion(questionId);
+            }
+        });
+    }
+
+    public Future<Question> getQuestion(final String questionId, final Reading reading) {
+        return submit(new FacebookCall<Question>() {
+            public Question call() throws FacebookException {
+                return facebook.getQuestion(questionId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteQuestion(final String questionId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteQuestion(questionId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Question.Option>> getQuestionOptions(final String questionId) {
+        return submit(new FacebookCall<ResponseList<Question.Option>>() {
+            public ResponseList<Question.Option> call() throws FacebookException {
+                return facebook.getQuestionOptions(questionId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Question.Option>> getQuestionOptions(final String questionId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Question.Option>>() {
+            public ResponseList<Question.Option> call() throws FacebookException {
+                return facebook.getQuestionOptions(questionId, reading);
+            }
+        });
+    }
+
+    public Future<String> addQuestionOption(final String questionId, final String optionDescription) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.addQuestionOption(questionId, optionDescription);
+            }
+        });
+    }
+
+    public Future<ResponseList<QuestionVotes>> getQuestionOptionVotes(final String questionId) {
+        return submit(new FacebookCall<ResponseList<QuestionVotes>>() {
+            public ResponseList<QuestionVotes> call() throws FacebookException {
+                return facebook.getQuestionOptionVotes(questionId);
+            }
+        });
+    }
+
+    /* Subscribe Methods */
+
+    public Future<ResponseList<Subscribedto>> getSubscribedto() {
+        return submit(new FacebookCall<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws FacebookException {
+                return facebook.getSubscribedto();
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscribedto>> getSubscribedto(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws FacebookException {
+                return facebook.getSubscribedto(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscribedto>> getSubscribedto(final String userId) {
+        return submit(new FacebookCall<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws FacebookException {
+                return facebook.getSubscribedto(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscribedto>> getSubscribedto(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Subscribedto>>() {
+            public ResponseList<Subscribedto> call() throws FacebookException {
+                return facebook.getSubscribedto(userId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscriber>> getSubscribers() {
+        return submit(new FacebookCall<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws FacebookException {
+                return facebook.getSubscribers();
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscriber>> getSubscribers(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws FacebookException {
+                return facebook.getSubscribers(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscriber>> getSubscribers(final String userId) {
+        return submit(new FacebookCall<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws FacebookException {
+                return facebook.getSubscribers(userId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Subscriber>> getSubscribers(final String userId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Subscriber>>() {
+            public ResponseList<Subscriber> call() throws FacebookException {
+                return facebook.getSubscribers(userId, reading);
+            }
+        });
+    }
+
+    /* Video Methods */
+
+    public Future<ResponseList<Video>> getVideos() {
+        return submit(new FacebookCall<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws FacebookException {
+                return facebook.getVideos();
+            }
+        });
+    }
+
+    public Future<ResponseList<Video>> getVideos(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws FacebookException {
+                return facebook.getVideos(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Video>> getVideos(final String id) {
+        return submit(new FacebookCall<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws FacebookException {
+                return facebook.getVideos(id);
+            }
+        });
+    }
+
+    public Future<ResponseList<Video>> getVideos(final String id, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Video>>() {
+            public ResponseList<Video> call() throws FacebookException {
+                return facebook.getVideos(id, reading);
+            }
+        });
+    }
+
+    public Future<String> postVideo(final VideoUpdate videoUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postVideo(videoUpdate);
+            }
+        });
+    }
+
+    public Future<String> postVideo(final String id, final VideoUpdate videoUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postVideo(id, videoUpdate);
+            }
+        });
+    }
+
+    public Future<String> postVideo(final String id, final VideoUpdate videoUpdate, final VideoUploadListener listener) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.postVideo(id, videoUpdate, listener);
+            }
+        });
+    }
+
+    public Future<VideoUploadSession> startVideoUpload(final VideoUpdate videoUpdate) {
+        return submit(new FacebookCall<VideoUploadSession>() {
+            public VideoUploadSession call() throws FacebookException {
+                return facebook.startVideoUpload(videoUpdate);
+            }
+        });
+    }
+
+    public Future<VideoUploadSession> startVideoUpload(final String id, final VideoUpdate videoUpdate) {
+        return submit(new FacebookCall<VideoUploadSession>() {
+            public VideoUploadSession call() throws FacebookException {
+                return facebook.startVideoUpload(id, videoUpdate);
+            }
+        });
+    }
+
+    public Future<String> resumeVideoUpload(final VideoUploadSession session, final VideoUploadListener listener) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.resumeVideoUpload(session, listener);
+            }
+        });
+    }
+
+    public Future<Video> getVideo(final String videoId) {
+        return submit(new FacebookCall<Video>() {
+            public Video call() throws FacebookException {
+                return facebook.getVideo(videoId);
+            }
+        });
+    }
+
+    public Future<Video> getVideo(final String videoId, final Reading reading) {
+        return submit(new FacebookCall<Video>() {
+            public Video call() throws FacebookException {
+                return facebook.getVideo(videoId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getVideoLikes(final String videoId) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getVideoLikes(videoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Like>> getVideoLikes(final String videoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Like>>() {
+            public ResponseList<Like> call() throws FacebookException {
+                return facebook.getVideoLikes(videoId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getVideoSharedposts(final String videoId) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getVideoSharedposts(videoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> getVideoSharedposts(final String videoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.getVideoSharedposts(videoId, reading);
+            }
+        });
+    }
+
+    public Future<Boolean> likeVideo(final String videoId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.likeVideo(videoId);
+            }
+        });
+    }
+
+    public Future<Boolean> unlikeVideo(final String videoId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.unlikeVideo(videoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getVideoComments(final String videoId) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getVideoComments(videoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Comment>> getVideoComments(final String videoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Comment>>() {
+            public ResponseList<Comment> call() throws FacebookException {
+                return facebook.getVideoComments(videoId, reading);
+            }
+        });
+    }
+
+    public Future<String> commentVideo(final String videoId, final String message) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentVideo(videoId, message);
+            }
+        });
+    }
+
+    public Future<String> commentVideo(final String videoId, final CommentUpdate commentUpdate) {
+        return submit(new FacebookCall<String>() {
+            public String call() throws FacebookException {
+                return facebook.commentVideo(videoId, commentUpdate);
+            }
+        });
+    }
+
+    public Future<URL> getVideoCover(final String videoId) {
+        return submit(new FacebookCall<URL>() {
+            public URL call() throws FacebookException {
+                return facebook.getVideoCover(videoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getVideoReactions(final String videoId) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getVideoReactions(videoId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Reaction>> getVideoReactions(final String videoId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Reaction>>() {
+            public ResponseList<Reaction> call() throws FacebookException {
+                return facebook.getVideoReactions(videoId, reading);
+            }
+        });
+    }
+
+    /* Insight Methods */
+
+    public Future<ResponseList<Insight>> getInsights(final String objectId, final String metric) {
+        return submit(new FacebookCall<ResponseList<Insight>>() {
+            public ResponseList<Insight> call() throws FacebookException {
+                return facebook.getInsights(objectId, metric);
+            }
+        });
+    }
+
+    public Future<ResponseList<Insight>> getInsights(final String objectId, final String metric, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Insight>>() {
+            public ResponseList<Insight> call() throws FacebookException {
+                return facebook.getInsights(objectId, metric, reading);
+            }
+        });
+    }
+
+    /* Search Methods */
+
+    public Future<ResponseList<Post>> searchPosts(final String query) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.searchPosts(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<Post>> searchPosts(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Post>>() {
+            public ResponseList<Post> call() throws FacebookException {
+                return facebook.searchPosts(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<User>> searchUsers(final String query) {
+        return submit(new FacebookCall<ResponseList<User>>() {
+            public ResponseList<User> call() throws FacebookException {
+                return facebook.searchUsers(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<User>> searchUsers(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<User>>() {
+            public ResponseList<User> call() throws FacebookException {
+                return facebook.searchUsers(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Event>> searchEvents(final String query) {
+        return submit(new FacebookCall<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws FacebookException {
+                return facebook.searchEvents(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<Event>> searchEvents(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Event>>() {
+            public ResponseList<Event> call() throws FacebookException {
+                return facebook.searchEvents(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Group>> searchGroups(final String query) {
+        return submit(new FacebookCall<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws FacebookException {
+                return facebook.searchGroups(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<Group>> searchGroups(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Group>>() {
+            public ResponseList<Group> call() throws FacebookException {
+                return facebook.searchGroups(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Place>> searchPlaces(final String query) {
+        return submit(new FacebookCall<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws FacebookException {
+                return facebook.searchPlaces(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<Place>> searchPlaces(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws FacebookException {
+                return facebook.searchPlaces(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Place>> searchPlaces(final String query, final GeoLocation center, final int distance) {
+        return submit(new FacebookCall<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws FacebookException {
+                return facebook.searchPlaces(query, center, distance);
+            }
+        });
+    }
+
+    public Future<ResponseList<Place>> searchPlaces(final String query, final GeoLocation center, final int distance, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Place>>() {
+            public ResponseList<Place> call() throws FacebookException {
+                return facebook.searchPlaces(query, center, distance, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Checkin>> searchCheckins() {
+        return submit(new FacebookCall<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws FacebookException {
+                return facebook.searchCheckins();
+            }
+        });
+    }
+
+    public Future<ResponseList<Checkin>> searchCheckins(final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Checkin>>() {
+            public ResponseList<Checkin> call() throws FacebookException {
+                return facebook.searchCheckins(reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> searchLocations(final GeoLocation center, final int distance) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.searchLocations(center, distance);
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> searchLocations(final GeoLocation center, final int distance, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.searchLocations(center, distance, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> searchLocations(final String placeId) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.searchLocations(placeId);
+            }
+        });
+    }
+
+    public Future<ResponseList<Location>> searchLocations(final String placeId, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Location>>() {
+            public ResponseList<Location> call() throws FacebookException {
+                return facebook.searchLocations(placeId, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<Page>> searchPages(final String query) {
+        return submit(new FacebookCall<ResponseList<Page>>() {
+            public ResponseList<Page> call() throws FacebookException {
+                return facebook.searchPages(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<Page>> searchPages(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<Page>>() {
+            public ResponseList<Page> call() throws FacebookException {
+                return facebook.searchPages(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<JSONObject>> search(final String query) {
+        return submit(new FacebookCall<ResponseList<JSONObject>>() {
+            public ResponseList<JSONObject> call() throws FacebookException {
+                return facebook.search(query);
+            }
+        });
+    }
+
+    public Future<ResponseList<JSONObject>> search(final String query, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<JSONObject>>() {
+            public ResponseList<JSONObject> call() throws FacebookException {
+                return facebook.search(query, reading);
+            }
+        });
+    }
+
+    public Future<ResponseList<JSONObject>> search(final String query, final String type, final Reading reading) {
+        return submit(new FacebookCall<ResponseList<JSONObject>>() {
+            public ResponseList<JSONObject> call() throws FacebookException {
+                return facebook.search(query, type, reading);
+            }
+        });
+    }
+
+    /* Test User Methods */
+
+    public Future<TestUser> createTestUser(final String appId) {
+        return submit(new FacebookCall<TestUser>() {
+            public TestUser call() throws FacebookException {
+                return facebook.createTestUser(appId);
+            }
+        });
+    }
+
+    public Future<TestUser> createTestUser(final String appId, final String name, final String locale, final String permissions) {
+        return submit(new FacebookCall<TestUser>() {
+            public TestUser call() throws FacebookException {
+                return facebook.createTestUser(appId, name, locale, permissions);
+            }
+        });
+    }
+
+    public Future<TestUser> createTestUser(final String appId, final String name, final String locale, final String permissions, final boolean installed) {
+        return submit(new FacebookCall<TestUser>() {
+            public TestUser call() throws FacebookException {
+                return facebook.createTestUser(appId, name, locale, permissions, installed);
+            }
+        });
+    }
+
+    public Future<ResponseList<TestUser>> getTestUsers(final String appId) {
+        return submit(new FacebookCall<ResponseList<TestUser>>() {
+            public ResponseList<TestUser> call() throws FacebookException {
+                return facebook.getTestUsers(appId);
+            }
+        });
+    }
+
+    public Future<ResponseList<TestUser>> getTestUsers(final String appId, final Integer limit) {
+        return submit(new FacebookCall<ResponseList<TestUser>>() {
+            public ResponseList<TestUser> call() throws FacebookException {
+                return facebook.getTestUsers(appId, limit);
+            }
+        });
+    }
+
+    public Future<Boolean> deleteTestUser(final String testUserId) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.deleteTestUser(testUserId);
+            }
+        });
+    }
+
+    public Future<Boolean> makeFriendTestUser(final TestUser testUser1, final TestUser testUser2) {
+        return submit(new FacebookCall<Boolean>() {
+            public Boolean call() throws FacebookException {
+                return facebook.makeFriendTestUser(testUser1, testUser2);
+            }
+        });
+    }
+
+    /* FQL Methods */
+
+    public Future<JSONArray> executeFQL(final String query) {
+        return submit(new FacebookCall<JSONArray>() {
+            public JSONArray call() throws FacebookException {
+                return facebook.executeFQL(query);
+            }
+        });
+    }
+
+    public Future<JSONArray> executeFQL(final String query, final Locale locale) {
+        return submit(new FacebookCall<JSONArray>() {
+            public JSONArray call() throws FacebookException {
+                return facebook.executeFQL(query, locale);
+            }
+        });
+    }
+
+    public Future<Map<String, JSONArray>> executeMultiFQL(final Map<String, String> queries) {
+        return submit(new FacebookCall<Map<String, JSONArray>>() {
+            public Map<String, JSONArray> call() throws FacebookException {
+                return facebook.executeMultiFQL(queries);
+            }
+        });
+    }
+
+    public Future<Map<String, JSONArray>> executeMultiFQL(final Map<String, String> queries, final Locale locale) {
+        return submit(new FacebookCall<Map<String, JSONArray>>() {
+            public Map<String, JSONArray> call() throws FacebookException {
+                return facebook.executeMultiFQL(queries, locale);
+            }
+        });
+    }
+
+    /* Batch Requests Methods */
+
+    public Future<List<BatchResponse>> executeBatch(final BatchRequests<BatchRequest> requests) {
+        return submit(new FacebookCall<List<BatchResponse>>() {
+            public List<BatchResponse> call() throws FacebookException {
+                return facebook.executeBatch(requests);
+            }
+        });
+    }
+
+    /* Raw API Methods */
+
+    public Future<RawAPIResponse> callGetAPI(final String relativeUrl) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callGetAPI(relativeUrl);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callGetAPI(final String relativeUrl, final Map<String, String> parameters) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callGetAPI(relativeUrl, parameters);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callGetAPI(final String relativeUrl, final HttpParameter... parameters) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callGetAPI(relativeUrl, parameters);
+            }
+        });
+    }
+
+    public <T> Future<ResponseList<T>> callGetAPI(final String relativeUrl, final Class<T> type) {
+        return submit(new FacebookCall<ResponseList<T>>() {
+            public ResponseList<T> call() throws FacebookException {
+                return facebook.callGetAPI(relativeUrl, type);
+            }
+        });
+    }
+
+    public <T> Future<ResponseList<T>> callGetAPI(final String relativeUrl, final Map<String, String> parameters, final Class<T> type) {
+        return submit(new FacebookCall<ResponseList<T>>() {
+            public ResponseList<T> call() throws FacebookException {
+                return facebook.callGetAPI(relativeUrl, parameters, type);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callPostAPI(final String relativeUrl) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callPostAPI(relativeUrl);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callPostAPI(final String relativeUrl, final Map<String, String> parameters) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callPostAPI(relativeUrl, parameters);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callPostAPI(final String relativeUrl, final HttpParameter... parameters) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callPostAPI(relativeUrl, parameters);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callDeleteAPI(final String relativeUrl) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callDeleteAPI(relativeUrl);
+            }
+        });
+    }
+
+    public Future<RawAPIResponse> callDeleteAPI(final String relativeUrl, final Map<String, String> parameters) {
+        return submit(new FacebookCall<RawAPIResponse>() {
+            public RawAPIResponse call() throws FacebookException {
+                return facebook.callDeleteAPI(relativeUrl, parameters);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncFacebookImpl{" +
+                "facebook=" + facebook +
+                ", executor=" + executor +
+                '}';
+    }
+}
@@ -34,5 +34,13 @@ public interface BatchResponse {
     String asString() throws FacebookException;
     JSONObject asJSONObject() throws FacebookException;
     ResponseList<JSONObject> asResponseList() throws FacebookException;
+
+    /**
+     * @param type the type of the list elements, a facebook4j type like Post.class or a type registered with
+     *             {@link facebook4j.json.DataObjectFactory#registerDecoder(Class, facebook4j.json.JSONDecoder)}
+     * @return the list, the paging of which fetches the same type
+     * @throws FacebookException when the response is not a list of the type
+     */
+    <T> ResponseList<T> asResponseList(Class<T> type) throws FacebookException;
     JSONArray asJSONArray() throws FacebookException;
 }
@@ -16,6 +16,7 @@
 
 package facebook4j;
 
+import facebook4j.conf.ConfigurationContext;
 import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.json.z_F4JInternalFactory;
 import facebook4j.internal.json.z_F4JInternalJSONImplFactory;
@@ -23,10 +24,12 @@ import facebook4j.internal.logging.Logger;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +48,12 @@ public class BatchResponseImpl extends HttpResponse implements BatchResponse, ja
     private JSONObject json;
 
     /*package*/BatchResponseImpl(JSONObject json) {
+        this(json, new z_F4JInternalJSONImplFactory(ConfigurationContext.getInstance()));
+    }
+
+    /*package*/BatchResponseImpl(JSONObject json, z_F4JInternalFactory factory) {
         this.json = json;
+        this.factory = factory;
         if (null != json) {
             this.statusCode = getInt("code", json);
         }
@@ -127,12 +135,29 @@ public class BatchResponseImpl extends HttpResponse implements BatchResponse, ja
         return bodyJson;
     }
 
-    private final z_F4JInternalFactory factory = new z_F4JInternalJSONImplFactory(null);
+    private final z_F4JInternalFactory factory;
 
     public ResponseList<JSONObject> asResponseList() throws FacebookException {
         return factory.createJSONObjectList(asJSONObject());
     }
 
+    public <T> ResponseList<T> asResponseList(Class<T> type) throws FacebookException {
+        return factory.createResponseList(this, type);
+    }
+
+    @Override
+    public JSONPullParser asJSONPullParser() throws FacebookException {
+        String body = asString();
+        if (body == null) {
+            throw new FacebookException("No response body");
+        }
+        try {
+            return new JSONPullParser(body.getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException uee) {
+            throw new FacebookException(uee.getMessage(), uee);
+        }
+    }
+
     private JSONArray bodyJsonArray = null;
 
     @Override
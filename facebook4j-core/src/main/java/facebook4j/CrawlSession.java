@@ -0,0 +1,465 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.internal.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.zip.CRC32;
+
+/**
+ * A crawl through the pages of a list which can be resumed after the process has stopped.<br>
+ * After each processed page, the URL of the next page is checkpointed to a local file together with
+ * the number of pages and elements processed so far. The access token is removed from the URL,
+ * the crawl is resumed with the authorization of the Facebook instance:
+ * <pre>
+ * CrawlSession&lt;Post&gt; session = new CrawlSession&lt;Post&gt;(facebook, new File("cocacola-feed.crawl"), Post.class);
+ * ResponseList&lt;Post&gt; page = session.isStarted() ? session.resume() : facebook.getFeed("cocacola");
+ * while (page != null) {
+ *     process(page);
+ *     page = session.next(page);
+ * }
+ * session.close();
+ * </pre>
+ * Checkpoints are appended to the file as checksummed lines, which costs a single small write per page.
+ * A line torn by a crash is ignored on load, so the crawl resumes from the previous checkpoint and the pages
+ * processed since are fetched again. Once the log holds enough checkpoints, it is compacted to the last one
+ * by writing a new file and renaming it over the log, so the file is never seen partially written. Where the log
+ * cannot be replaced in place, it is deleted before the rename; a crash in between leaves the new file behind,
+ * from which the crawl is resumed.<br>
+ * An instance is not thread safe, a file must not be shared by two sessions.
+ */
+public final class CrawlSession<T> {
+    private static final Logger logger = Logger.getLogger(CrawlSession.class);
+
+    private static final String SEPARATOR = "\t";
+    private static final int DEFAULT_COMPACT_THRESHOLD = 1000;
+
+    private final FacebookBase facebook;
+    private final File file;
+    private final Class<T> type;
+    private int compactThreshold = DEFAULT_COMPACT_THRESHOLD;
+
+    private Checkpoint checkpoint;
+    private int records;
+    private OutputStream log;
+
+    /**
+     * Opens the session, loading the last checkpoint of the file if it exists.
+     *
+     * @param facebook the instance fetching the pages
+     * @param file     the checkpoint file
+     * @param type     the type of the elements
+     * @throws FacebookException when the file cannot be read
+     */
+    public CrawlSession(FacebookBase facebook, File file, Class<T> type) throws FacebookException {
+        if (facebook == null) {
+            throw new NullPointerException("facebook is null");
+        }
+        this.facebook = facebook;
+        this.file = file;
+        this.type = type;
+        load();
+    }
+
+    /**
+     * @return whether a page has been checkpointed, {@link #resume()} continues the crawl then
+     */
+    public boolean isStarted() {
+        return checkpoint != null;
+    }
+
+    /**
+     * @return whether the last page has been processed
+     */
+    public boolean isFinished() {
+        return checkpoint != null && checkpoint.getNext() == null;
+    }
+
+    /**
+     * @return the last checkpoint, or null if the crawl has not been started
+     */
+    public Checkpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Fetches the page following the last checkpoint.
+     *
+     * @return the page, or null if the crawl is finished
+     * @throws FacebookException     when Facebook service or network is unavailable
+     * @throws IllegalStateException when the crawl has not been started
+     */
+    public ResponseList<T> resume() throws FacebookException {
+        if (checkpoint == null) {
+            throw new IllegalStateException("No checkpoint in " + file);
+        }
+        if (checkpoint.getNext() == null) {
+            return null;
+        }
+        // checkpoints written by earlier versions may still hold the token
+        return facebook.fetchNext(new CheckpointPaging<T>(type, withoutCredentials(checkpoint.getNext())));
+    }
+
+    /**
+     * Checkpoints a processed page and fetches the next one.
+     *
+     * @param processed the page which has been processed
+     * @return the next page, or null if it was the last one
+     * @throws FacebookException when the checkpoint cannot be written or Facebook service or network is unavailable
+     */
+    public ResponseList<T> next(ResponseList<T> processed) throws FacebookException {
+        Paging<T> paging = processed.getPaging();
+        URL next = processed.isEmpty() || paging == null ? null : withoutCredentials(paging.getNext());
+        String after = paging == null || paging.getCursors() == null ? null : paging.getCursors().getAfter();
+        long pages = checkpoint == null ? 1 : checkpoint.getPages() + 1;
+        long elements = (checkpoint == null ? 0 : checkpoint.getElements()) + processed.size();
+        write(new Checkpoint(pages, elements, after, next));
+        if (next == null) {
+            return null;
+        }
+        return facebook.fetchNext(paging);
+    }
+
+    /**
+     * Removes the access token and the proof of the app secret from a URL, which would otherwise be written
+     * to the checkpoint file in clear. The page is fetched with the authorization of the session on resume.
+     */
+    /*package*/ static URL withoutCredentials(URL url) throws FacebookException {
+        if (url == null || url.getQuery() == null) {
+            return url;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String parameter : url.getQuery().split("&")) {
+            if (parameter.startsWith("access_token=") || parameter.startsWith("appsecret_proof=")) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(parameter);
+        }
+        String spec = url.toString();
+        spec = spec.substring(0, spec.indexOf('?'));
+        if (query.length() > 0) {
+            spec += "?" + query;
+        }
+        if (url.getRef() != null) {
+            spec += "#" + url.getRef();
+        }
+        try {
+            return new URL(spec);
+        } catch (MalformedURLException murle) {
+            throw new FacebookException(murle.getMessage(), murle);
+        }
+    }
+
+    /**
+     * Closes the checkpoint file. The session can still be used, the file is reopened by the next checkpoint.
+     */
+    public void close() {
+        if (log != null) {
+            try {
+                log.close();
+            } catch (IOException ignore) {
+            }
+            log = null;
+        }
+    }
+
+    /**
+     * Sets the number of checkpoints after which the log is compacted, 1000 by default.
+     */
+    /*package*/ void setCompactThreshold(int compactThreshold) {
+        this.compactThreshold = Math.max(compactThreshold, 1);
+    }
+
+    private void load() throws FacebookException {
+        File tmp = compactedFile();
+        Checkpoint compacted = tmp.exists() ? readCompacted(tmp) : null;
+        boolean corrupted = false;
+        if (file.exists()) {
+            corrupted = readLog();
+        }
+        if (compacted != null && (checkpoint == null || compacted.getPages() >= checkpoint.getPages())) {
+            // a crash interrupted the compaction after the compacted file had been written
+            logger.info("Resuming from the compacted checkpoint in ", tmp.getPath());
+            checkpoint = compacted;
+            compact(checkpoint);
+            return;
+        }
+        if (tmp.exists() && !tmp.delete()) {
+            throw new FacebookException("Unable to delete " + tmp);
+        }
+        if (checkpoint != null && (records > 1 || corrupted)) {
+            // drops the history and a torn line, later appends start on a line of their own
+            compact(checkpoint);
+        } else if (checkpoint == null && corrupted && !file.delete()) {
+            throw new FacebookException("Unable to delete the corrupted " + file);
+        }
+    }
+
+    /**
+     * Reads the checkpoints of the log.
+     *
+     * @return whether a corrupted checkpoint has been ignored
+     */
+    private boolean readLog() throws FacebookException {
+        boolean corrupted = false;
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Checkpoint read = Checkpoint.parse(line);
+                if (read == null) {
+                    // torn by a crash while appending, it is the last line
+                    logger.warn("Ignoring a corrupted checkpoint in " + file + ": ", line);
+                    corrupted = true;
+                    continue;
+                }
+                checkpoint = read;
+                records++;
+            }
+        } catch (IOException ioe) {
+            throw new FacebookException("Unable to read " + file, ioe);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+        return corrupted;
+    }
+
+    /**
+     * @return the checkpoint of a file written by {@link #compact(Checkpoint)}, or null if it has been torn
+     */
+    private static Checkpoint readCompacted(File tmp) throws FacebookException {
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(tmp), "UTF-8"));
+            String line = reader.readLine();
+            return line == null ? null : Checkpoint.parse(line);
+        } catch (IOException ioe) {
+            throw new FacebookException("Unable to read " + tmp, ioe);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException ignore) {
+                }
+            }
+        }
+    }
+
+    private File compactedFile() {
+        return new File(file.getPath() + ".tmp");
+    }
+
+    private void write(Checkpoint next) throws FacebookException {
+        try {
+            if (records >= compactThreshold) {
+                compact(next);
+            } else {
+                if (log == null) {
+                    log = new FileOutputStream(file, true);
+                }
+                log.write(next.format().getBytes("UTF-8"));
+                log.flush();
+                records++;
+            }
+        } catch (IOException ioe) {
+            close();
+            throw new FacebookException("Unable to write a checkpoint to " + file, ioe);
+        }
+        checkpoint = next;
+    }
+
+    /**
+     * Replaces the log by a file holding only the given checkpoint.
+     */
+    private void compact(Checkpoint last) throws FacebookException {
+        close();
+        File tmp = compactedFile();
+        try {
+            FileOutputStream out = new FileOutputStream(tmp);
+            try {
+                out.write(last.format().getBytes("UTF-8"));
+                out.getFD().sync();
+            } finally {
+                out.close();
+            }
+            if (!tmp.renameTo(file)) {
+                // the target cannot be replaced on some platforms, load() resumes from tmp if the rename does not happen
+                if (!file.delete() || !tmp.renameTo(file)) {
+                    throw new IOException("Unable to rename " + tmp + " to " + file);
+                }
+            }
+            records = 1;
+        } catch (IOException ioe) {
+            throw new FacebookException("Unable to compact " + file, ioe);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CrawlSession{" +
+                "file=" + file +
+                ", type=" + type +
+                ", checkpoint=" + checkpoint +
+                '}';
+    }
+
+    /**
+     * The progress of a crawl: the next page to fetch and the high-water mark of the pages processed before.
+     */
+    public static final class Checkpoint implements java.io.Serializable {
+        private static final long serialVersionUID = -2094723650273591684L;
+
+        private final long pages;
+        private final long elements;
+        private final String after;
+        private final URL next;
+
+        /*package*/ Checkpoint(long pages, long elements, String after, URL next) {
+            this.pages = pages;
+            this.elements = elements;
+            this.after = after;
+            this.next = next;
+        }
+
+        /**
+         * @return the number of pages processed
+         */
+        public long getPages() {
+            return pages;
+        }
+
+        /**
+         * @return the number of elements processed
+         */
+        public long getElements() {
+            return elements;
+        }
+
+        /**
+         * @return the 'after' cursor of the last processed page, or null if it had none
+         */
+        public String getAfter() {
+            return after;
+        }
+
+        /**
+         * @return the URL of the next page, or null if the last page has been processed
+         */
+        public URL getNext() {
+            return next;
+        }
+
+        /**
+         * @return the checkpoint as a line: CRC32 of the rest, pages, elements, after, next
+         */
+        /*package*/ String format() {
+            String record = pages + SEPARATOR + elements + SEPARATOR + (after == null ? "" : after)
+                    + SEPARATOR + (next == null ? "" : next.toString());
+            return Long.toHexString(crc(record)) + SEPARATOR + record + "\n";
+        }
+
+        /**
+         * @return the checkpoint, or null if the line is not a valid checkpoint
+         */
+        /*package*/ static Checkpoint parse(String line) {
+            String[] fields = line.split(SEPARATOR, -1);
+            if (fields.length != 5) {
+                return null;
+            }
+            try {
+                String record = line.substring(fields[0].length() + 1);
+                if (Long.parseLong(fields[0], 16) != crc(record)) {
+                    return null;
+                }
+                return new Checkpoint(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                        fields[3].length() == 0 ? null : fields[3],
+                        fields[4].length() == 0 ? null : new URL(fields[4]));
+            } catch (NumberFormatException nfe) {
+                return null;
+            } catch (MalformedURLException murle) {
+                return null;
+            }
+        }
+
+        private static long crc(String record) {
+            CRC32 crc = new CRC32();
+            try {
+                crc.update(record.getBytes("UTF-8"));
+            } catch (java.io.UnsupportedEncodingException uee) {
+                throw new AssertionError(uee);
+            }
+            return crc.getValue();
+        }
+
+        @Override
+        public String toString() {
+            return "Checkpoint{" +
+                    "pages=" + pages +
+                    ", elements=" + elements +
+                    ", after='" + after + '\'' +
+                    ", next=" + next +
+                    '}';
+        }
+    }
+
+    /**
+     * Paging restored from a checkpoint, which only knows the next page.
+     */
+    private static final class CheckpointPaging<T> implements Paging<T> {
+        private final Class<?> jsonObjectType;
+        private final URL next;
+
+        CheckpointPaging(Class<?> jsonObjectType, URL next) {
+            this.jsonObjectType = jsonObjectType;
+            this.next = next;
+        }
+
+        public Class<?> getJSONObjectType() {
+            return jsonObjectType;
+        }
+
+        public Cursors getCursors() {
+            return null;
+        }
+
+        public URL getPrevious() {
+            return null;
+        }
+
+        public URL getNext() {
+            return next;
+        }
+    }
+}
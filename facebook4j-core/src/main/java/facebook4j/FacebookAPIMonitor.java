@@ -15,10 +15,14 @@
  */
 package facebook4j;
 
+import facebook4j.internal.http.RateGovernor;
+import facebook4j.internal.http.ResponseBodyInputStream;
 import facebook4j.internal.logging.Logger;
 import facebook4j.management.APIStatistics;
 import facebook4j.management.APIStatisticsMBean;
 import facebook4j.management.APIStatisticsOpenMBean;
+import facebook4j.management.APIUsageMBean;
+import facebook4j.management.TransferStatisticsMBean;
 
 import javax.management.InstanceAlreadyExistsException;
 import javax.management.MBeanRegistrationException;
@@ -57,6 +61,8 @@ public class FacebookAPIMonitor {
             ObjectName oName = new ObjectName("facebook4j.mbean:type=APIStatisticsOpenMBean");
             APIStatisticsOpenMBean openMBean = new APIStatisticsOpenMBean(STATISTICS);
             mbs.registerMBean(openMBean, oName);
+            mbs.registerMBean(RateGovernor.getUsage(), new ObjectName("facebook4j.mbean:type=APIUsage"));
+            mbs.registerMBean(ResponseBodyInputStream.getStatistics(), new ObjectName("facebook4j.mbean:type=TransferStatistics"));
         } catch (InstanceAlreadyExistsException e) {
             e.printStackTrace();
             logger.error(e.getMessage());
@@ -86,6 +92,20 @@ public class FacebookAPIMonitor {
         return STATISTICS;
     }
 
+    /**
+     * @return the Graph API usage reported by Facebook
+     */
+    public APIUsageMBean getUsage() {
+        return RateGovernor.getUsage();
+    }
+
+    /**
+     * @return the response bytes received over the network and after decompression
+     */
+    public TransferStatisticsMBean getTransferStatistics() {
+        return ResponseBodyInputStream.getStatistics();
+    }
+
     void methodCalled(String facebookUrl, long elapsedTime, boolean success) {
         try {
             URL url = new URL(facebookUrl);
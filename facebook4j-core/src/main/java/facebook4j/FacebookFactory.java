@@ -19,6 +19,7 @@ package facebook4j;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
 
 import facebook4j.auth.AccessToken;
 import facebook4j.auth.Authorization;
@@ -152,6 +153,43 @@ public final class FacebookFactory implements java.io.Serializable {
         }
     }
 
+    /**
+     * Returns an asynchronous instance associated with the configuration bound to this factory.<br>
+     * Operations run on virtual threads when the JVM supports them, or on a shared pool of daemon threads otherwise.
+     *
+     * @return an asynchronous instance
+     */
+    public AsyncFacebook getAsyncInstance() {
+        return new AsyncFacebookImpl(getInstance());
+    }
+
+    /**
+     * Returns an OAuth Authenticated asynchronous instance.
+     *
+     * @param accessToken access token
+     * @return an asynchronous instance
+     * @see #getInstance(facebook4j.auth.AccessToken)
+     */
+    public AsyncFacebook getAsyncInstance(AccessToken accessToken) {
+        return new AsyncFacebookImpl(getInstance(accessToken));
+    }
+
+    public AsyncFacebook getAsyncInstance(Authorization auth) {
+        return new AsyncFacebookImpl(getInstance(auth));
+    }
+
+    /**
+     * Returns an asynchronous instance which runs its operations on the given executor.<br>
+     * The executor is owned by the caller and is not shut down by {@link AsyncFacebook#shutdown()}.
+     *
+     * @param auth     authorization
+     * @param executor the executor to run operations on
+     * @return an asynchronous instance
+     */
+    public AsyncFacebook getAsyncInstance(Authorization auth, ExecutorService executor) {
+        return new AsyncFacebookImpl(getInstance(auth), executor);
+    }
+
     /**
      * Returns default singleton Facebook instance.
      *
@@ -60,6 +60,7 @@ import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
 import facebook4j.internal.util.z_F4JInternalStringUtil;
 
+import java.io.File;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -83,6 +84,9 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 class FacebookImpl extends FacebookBaseImpl implements Facebook {
     private static final long serialVersionUID = 6277119018105563020L;
 
+    // concurrent GET requests merged into batch requests, see Configuration#getMicroBatchWindow()
+    private transient MicroBatcher microBatcher;
+
     /*package*/
     FacebookImpl(Configuration conf, Authorization auth) {
         super(conf, auth);
@@ -735,7 +739,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getFeed(String id, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint(id, "feed", reading)));
+        return factory.createPostList(get(buildEndpoint(id, "feed", reading)), reading);
     }
 
     public ResponseList<Post> getHome() throws FacebookException {
@@ -743,7 +747,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getHome(Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint("me", "home", reading)));
+        return factory.createPostList(get(buildEndpoint("me", "home", reading)), reading);
     }
 
     public ResponseList<Post> getPosts() throws FacebookException {
@@ -757,7 +761,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getPosts(String id, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint(id, "posts", reading)));
+        return factory.createPostList(get(buildEndpoint(id, "posts", reading)), reading);
     }
 
     public ResponseList<Post> getStatuses() throws FacebookException {
@@ -771,7 +775,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getStatuses(String id, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint(id, "statuses", reading)));
+        return factory.createPostList(get(buildEndpoint(id, "statuses", reading)), reading);
     }
 
     public Post getPost(String postId) throws FacebookException {
@@ -779,7 +783,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public Post getPost(String postId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPost(get(buildEndpoint(postId, reading)));
+        return factory.createPost(get(buildEndpoint(postId, reading)), reading);
     }
 
     public boolean deletePost(String postId) throws FacebookException {
@@ -870,7 +874,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getTagged(String userId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint(userId, "tagged", reading)));
+        return factory.createPostList(get(buildEndpoint(userId, "tagged", reading)), reading);
     }
 
     /* Friend Methods */
@@ -1107,7 +1111,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getGroupFeed(String groupId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint(groupId, "feed", reading)));
+        return factory.createPostList(get(buildEndpoint(groupId, "feed", reading)), reading);
     }
 
     public ResponseList<GroupMember> getGroupMembers(String groupId) throws FacebookException {
@@ -1559,7 +1563,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
     public ResponseList<Post> getPromotablePosts(String pageId, Reading reading) throws FacebookException {
         ensureAuthorizationEnabled();
-        return factory.createPostList(get(buildEndpoint(pageId, "promotable_posts", reading)));
+        return factory.createPostList(get(buildEndpoint(pageId, "promotable_posts", reading)), reading);
     }
 
     public boolean updatePageBasicAttributes(PageUpdate pageUpdate) throws FacebookException {
@@ -2239,6 +2243,77 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
         JSONObject json = post(buildVideoEndpoint(id, "videos"), videoUpdate.asHttpParameterArray()).asJSONObject();
         return getRawString("id", json);
     }
+    public String postVideo(String id, VideoUpdate videoUpdate, VideoUploadListener listener) throws FacebookException {
+        return resumeVideoUpload(startVideoUpload(id, videoUpdate), listener);
+    }
+
+    public VideoUploadSession startVideoUpload(VideoUpdate videoUpdate) throws FacebookException {
+        return startVideoUpload("me", videoUpdate);
+    }
+    public VideoUploadSession startVideoUpload(String id, VideoUpdate videoUpdate) throws FacebookException {
+        ensureAuthorizationEnabled();
+        File file = videoUpdate.getSource().getMediaFile();
+        if (file == null) {
+            throw new IllegalArgumentException("chunked upload requires a file source");
+        }
+        JSONObject json = post(buildVideoEndpoint(id, "videos"), new HttpParameter[]{
+                new HttpParameter("upload_phase", "start"),
+                new HttpParameter("file_size", file.length())
+        }).asJSONObject();
+        return new VideoUploadSession(id, videoUpdate,
+                getRawString("upload_session_id", json), getRawString("video_id", json),
+                getVideoUploadOffset("start_offset", json), getVideoUploadOffset("end_offset", json));
+    }
+
+    public String resumeVideoUpload(VideoUploadSession session, VideoUploadListener listener) throws FacebookException {
+        ensureAuthorizationEnabled();
+        if (!session.isTransferred()) {
+            transferVideoChunks(session, listener);
+        }
+        if (!session.isFinished()) {
+            HttpParameter[] httpParameters = HttpParameter.merge(new HttpParameter[]{
+                    new HttpParameter("upload_phase", "finish"),
+                    new HttpParameter("upload_session_id", session.getUploadSessionId())
+            }, session.getVideoUpdate().asMetadataHttpParameterArray());
+            JSONObject json = post(buildVideoEndpoint(session.getId(), "videos"), httpParameters).asJSONObject();
+            if ("false".equals(getRawString("success", json))) {
+                throw new FacebookException("Failed to finish the video upload: " + session);
+            }
+            session.finish();
+        }
+        return session.getVideoId();
+    }
+
+    private void transferVideoChunks(VideoUploadSession session, VideoUploadListener listener) throws FacebookException {
+        // Facebook hands out one range at a time, so the chunks cannot be uploaded in parallel
+        File file = session.getVideoUpdate().getSource().getMediaFile();
+        while (!session.isTransferred()) {
+            long start = session.getStartOffset();
+            long end = session.getEndOffset();
+            JSONObject json = post(buildVideoEndpoint(session.getId(), "videos"), new HttpParameter[]{
+                    new HttpParameter("upload_phase", "transfer"),
+                    new HttpParameter("upload_session_id", session.getUploadSessionId()),
+                    new HttpParameter("start_offset", start),
+                    new HttpParameter("video_file_chunk", file, start, end - start)
+            }).asJSONObject();
+            long nextStart = getVideoUploadOffset("start_offset", json);
+            if (nextStart <= start) {
+                throw new FacebookException("Facebook did not accept the chunk " + start + "-" + end + ": " + session);
+            }
+            session.moveTo(nextStart, getVideoUploadOffset("end_offset", json));
+            if (listener != null) {
+                listener.onProgress(session, session.getUploadedBytes(), session.getFileSize());
+            }
+        }
+    }
+
+    private static long getVideoUploadOffset(String name, JSONObject json) throws FacebookException {
+        Long offset = getLong(name, json);
+        if (offset == null) {
+            throw new FacebookException("No " + name + " in the video upload response: " + json);
+        }
+        return offset;
+    }
 
     public Video getVideo(String videoId) throws FacebookException {
         return getVideo(videoId, null);
@@ -2313,7 +2388,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
 
     public ResponseList<Post> searchPosts(String query, Reading reading) throws FacebookException {
-        return factory.createPostList(get(buildSearchEndpoint(query, "post", reading)));
+        return factory.createPostList(get(buildSearchEndpoint(query, "post", reading)), reading);
     }
 
     public ResponseList<User> searchUsers(String query) throws FacebookException {
@@ -2590,7 +2665,13 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
 
     private <T> ResponseList<T> fetchPaging(URL url, Class<T> jsonObjectType) throws FacebookException {
         ensureAuthorizationEnabled();
-        HttpResponse res = getRaw(url.toString());
+        HttpResponse res;
+        if (containsAccessToken(url)) {
+            res = getRaw(url.toString());
+        } else {
+            // e.g. restored from a CrawlSession checkpoint, which does not keep the token
+            res = get(url.toString());
+        }
         return (ResponseList<T>) factory.createResponseList(res, jsonObjectType);
     }
 
@@ -2609,7 +2690,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
                     result.add(null);
                 } else {
                     JSONObject json = jsonArray.getJSONObject(i);
-                    result.add(new BatchResponseImpl(json));
+                    result.add(new BatchResponseImpl(json, factory));
                 }
             } catch (JSONException e) {
                 throw new FacebookException(e);
@@ -2636,6 +2717,20 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
         HttpResponse res = get(buildEndpoint(path, parameters));
         return new RawAPIResponseImpl(res);
     }
+    public <T> ResponseList<T> callGetAPI(String relativeUrl, Class<T> type) throws FacebookException {
+        return callGetAPI(relativeUrl, new HashMap<String, String>(), type);
+    }
+    public <T> ResponseList<T> callGetAPI(String relativeUrl, Map<String, String> parameters, Class<T> type) throws FacebookException {
+        ensureAuthorizationEnabled();
+
+        String path = relativeUrl;
+        if (relativeUrl.startsWith("/")) {
+            path = relativeUrl.substring(1);
+        }
+
+        HttpResponse res = get(buildEndpoint(path, parameters));
+        return factory.createResponseList(res, type);
+    }
     public RawAPIResponse callGetAPI(String relativeUrl, HttpParameter... parameters) throws FacebookException {
         ensureAuthorizationEnabled();
 
@@ -2769,7 +2864,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     }
 
     private ResponseList<Post> _getSharedPosts(String objectId, Reading reading) throws FacebookException {
-        return factory.createPostList(get(buildEndpoint(objectId, "sharedposts", reading)));
+        return factory.createPostList(get(buildEndpoint(objectId, "sharedposts", reading)), reading);
     }
 
     private String _answer(String objectId, String message) throws FacebookException {
@@ -2860,6 +2955,43 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
     /* http methods */
 
     private HttpResponse get(String url) throws FacebookException {
+        if (isMicroBatched(url)) {
+            return getMicroBatcher().get(url, null, url.substring(conf.getRestBaseURL().length()));
+        }
+        return getDirectly(url);
+    }
+
+    private HttpResponse get(String url, HttpParameter[] parameters) throws FacebookException {
+        if (isMicroBatched(url) && !containsAccessToken(parameters)) {
+            String relativeUrl = url.substring(conf.getRestBaseURL().length());
+            if (parameters.length > 0) {
+                relativeUrl += (relativeUrl.indexOf('?') == -1 ? "?" : "&") + HttpParameter.encodeParameters(parameters);
+            }
+            return getMicroBatcher().get(url, parameters, relativeUrl);
+        }
+        return getDirectly(url, parameters);
+    }
+
+    private boolean isMicroBatched(String url) {
+        return conf.getMicroBatchWindow() > 0 && url.startsWith(conf.getRestBaseURL());
+    }
+
+    private synchronized MicroBatcher getMicroBatcher() {
+        if (microBatcher == null) {
+            microBatcher = new MicroBatcher(new MicroBatcher.Sender() {
+                public HttpResponse get(String url, HttpParameter[] parameters) throws FacebookException {
+                    return parameters == null ? getDirectly(url) : getDirectly(url, parameters);
+                }
+
+                public List<BatchResponse> executeBatch(BatchRequests<BatchRequest> requests) throws FacebookException {
+                    return FacebookImpl.this.executeBatch(requests);
+                }
+            }, conf.getMicroBatchWindow(), MicroBatcher.MAX_BATCH_SIZE);
+        }
+        return microBatcher;
+    }
+
+    private HttpResponse getDirectly(String url) throws FacebookException {
         if (!conf.isMBeanEnabled()) {
             return http.get(url, auth);
         } else {
@@ -2876,7 +3008,7 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
         }
     }
 
-    private HttpResponse get(String url, HttpParameter[] parameters) throws FacebookException {
+    private HttpResponse getDirectly(String url, HttpParameter[] parameters) throws FacebookException {
         if (!conf.isMBeanEnabled()) {
             return http.get(url, parameters, (containsAccessToken(parameters) ? null : auth));
         } else {
@@ -2983,6 +3115,11 @@ class FacebookImpl extends FacebookBaseImpl implements Facebook {
         return response != null && response.getStatusCode() < 300;
     }
 
+    private static boolean containsAccessToken(URL url) {
+        String query = url.getQuery();
+        return query != null && (query.startsWith("access_token=") || query.contains("&access_token="));
+    }
+
     private boolean containsAccessToken(HttpParameter[] parameters) throws FacebookException {
         for (int i = 0; i < parameters.length; i++) {
             if (parameters[i].getName().equals("access_token")) {
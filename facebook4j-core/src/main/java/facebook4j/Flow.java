@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+/**
+ * Interfaces of demand-driven publishers, mirroring java.util.concurrent.Flow which is only available since Java 9.<br>
+ * The contracts are the ones of Flow (and of Reactive Streams), so an instance can be bridged
+ * to the Java 9 interfaces by delegating each method.
+ *
+ * @see PagingPublisher
+ */
+public final class Flow {
+    private Flow() {
+        throw new AssertionError();
+    }
+
+    /**
+     * A producer of elements received by subscribers on demand.
+     */
+    public interface Publisher<T> {
+        /**
+         * Adds a subscriber, which receives {@link Subscriber#onSubscribe(Subscription)} first.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of elements. The methods are called by one thread at a time, in order.
+     */
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * The link between a publisher and a subscriber, through which the subscriber signals its demand.
+     */
+    public interface Subscription {
+        /**
+         * Adds n elements to the demand. A non-positive n is reported by {@link Subscriber#onError(Throwable)}
+         * with an IllegalArgumentException.
+         *
+         * @param n the number of elements
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of elements. Elements may still be received until the cancellation is noticed.
+         */
+        void cancel();
+    }
+}
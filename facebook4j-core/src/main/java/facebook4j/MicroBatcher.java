@@ -0,0 +1,260 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.internal.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Merges GET requests issued concurrently into batch requests.<br>
+ * The first request of a batch waits for the window to elapse, or until the batch is full, then sends the batch;
+ * the requests joining meanwhile wait for it. Each caller receives the response of its own request,
+ * which is decoded like the response of a direct call. A batch of a single request is sent as a plain GET.
+ *
+ * @see <a href="https://developers.facebook.com/docs/graph-api/making-multiple-requests">Making Batch Requests - Facebook Developers</a>
+ */
+/*package*/ final class MicroBatcher {
+    private static final Logger logger = Logger.getLogger(MicroBatcher.class);
+
+    /**
+     * Maximum number of requests of a batch accepted by Facebook.
+     */
+    /*package*/ static final int MAX_BATCH_SIZE = 50;
+
+    /*package*/ interface Sender {
+        HttpResponse get(String url, HttpParameter[] parameters) throws FacebookException;
+
+        List<BatchResponse> executeBatch(BatchRequests<BatchRequest> requests) throws FacebookException;
+    }
+
+    private final Sender sender;
+    private final long windowMillis;
+    private final int maxSize;
+
+    private final Object lock = new Object();
+    // the batch requests are joining, null when none is open
+    private List<Call> open;
+
+    /*package*/ MicroBatcher(Sender sender, long windowMillis, int maxSize) {
+        this.sender = sender;
+        this.windowMillis = windowMillis;
+        this.maxSize = Math.min(Math.max(maxSize, 1), MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Sends a GET request as part of a batch.
+     *
+     * @param url         the URL, for a direct call
+     * @param parameters  the parameters, for a direct call
+     * @param relativeUrl the URL with its parameters relative to the batch endpoint
+     * @return the response
+     * @throws FacebookException when the request failed, or when interrupted while waiting for the batch
+     */
+    /*package*/ HttpResponse get(String url, HttpParameter[] parameters, String relativeUrl) throws FacebookException {
+        Call call = new Call(url, parameters, relativeUrl);
+        List<Call> batch;
+        boolean leader = false;
+        boolean full = false;
+        synchronized (lock) {
+            if (open == null) {
+                open = new ArrayList<Call>(maxSize);
+                leader = true;
+            }
+            batch = open;
+            batch.add(call);
+            if (batch.size() >= maxSize) {
+                open = null;
+                full = true;
+                // wakes the leader up, the batch is sent by this thread
+                lock.notifyAll();
+            }
+        }
+        if (full) {
+            send(batch);
+        } else if (leader) {
+            if (awaitWindow(batch)) {
+                send(batch);
+            }
+        }
+        return call.await();
+    }
+
+    /**
+     * Waits for the window to elapse.
+     *
+     * @return whether the batch has to be sent by the caller, i.e. it has not been filled meanwhile
+     */
+    private boolean awaitWindow(List<Call> batch) {
+        boolean interrupted = false;
+        synchronized (lock) {
+            long deadline = System.currentTimeMillis() + windowMillis;
+            long remaining = windowMillis;
+            while (open == batch && remaining > 0) {
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException ie) {
+                    // sends the batch right away, the other callers must not be left waiting
+                    interrupted = true;
+                    break;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+            if (open != batch) {
+                restoreInterrupt(interrupted);
+                return false;
+            }
+            open = null;
+        }
+        restoreInterrupt(interrupted);
+        return true;
+    }
+
+    private static void restoreInterrupt(boolean interrupted) {
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(List<Call> batch) {
+        try {
+            if (batch.size() == 1) {
+                batch.get(0).sendDirectly();
+                return;
+            }
+            logger.debug("Sending " + batch.size() + " requests as a batch");
+            BatchRequests<BatchRequest> requests = new BatchRequests<BatchRequest>();
+            for (Call call : batch) {
+                requests.add(new BatchRequest(RequestMethod.GET, call.relativeUrl));
+            }
+            List<BatchResponse> responses;
+            try {
+                responses = sender.executeBatch(requests);
+            } catch (FacebookException fe) {
+                failRemaining(batch, fe);
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                Call call = batch.get(i);
+                BatchResponse response = i < responses.size() ? responses.get(i) : null;
+                if (response == null) {
+                    // Facebook gives up on requests of a batch which take too long
+                    call.sendDirectly();
+                } else if (response.getStatusCode() >= 400) {
+                    HttpResponse res = (HttpResponse) response;
+                    call.fail(new FacebookException(res.asString(), res));
+                } else {
+                    call.complete((HttpResponse) response);
+                }
+            }
+        } catch (FacebookException fe) {
+            failRemaining(batch, fe);
+        } finally {
+            abortRemaining(batch);
+        }
+    }
+
+    private static void failRemaining(List<Call> batch, FacebookException fe) {
+        for (Call call : batch) {
+            call.fail(fe);
+        }
+    }
+
+    /**
+     * Releases the callers left waiting when sending the batch has thrown.
+     */
+    private static void abortRemaining(List<Call> batch) {
+        FacebookException aborted = null;
+        for (Call call : batch) {
+            if (!call.isDone()) {
+                if (aborted == null) {
+                    aborted = new FacebookException("The batch request has been aborted");
+                }
+                call.fail(aborted);
+            }
+        }
+    }
+
+    private final class Call {
+        private final String url;
+        private final HttpParameter[] parameters;
+        private final String relativeUrl;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private HttpResponse response;
+        private FacebookException error;
+
+        Call(String url, HttpParameter[] parameters, String relativeUrl) {
+            this.url = url;
+            this.parameters = parameters;
+            this.relativeUrl = relativeUrl;
+        }
+
+        void sendDirectly() {
+            try {
+                complete(sender.get(url, parameters));
+            } catch (FacebookException fe) {
+                fail(fe);
+            }
+        }
+
+        boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        synchronized void complete(HttpResponse response) {
+            if (done.getCount() > 0) {
+                this.response = response;
+                done.countDown();
+            }
+        }
+
+        synchronized void fail(FacebookException error) {
+            if (done.getCount() > 0) {
+                this.error = error;
+                done.countDown();
+            }
+        }
+
+        HttpResponse await() throws FacebookException {
+            try {
+                done.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new FacebookException("Interrupted while waiting for the batch request", ie);
+            }
+            synchronized (this) {
+                if (error != null) {
+                    throw error;
+                }
+                return response;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MicroBatcher{" +
+                "windowMillis=" + windowMillis +
+                ", maxSize=" + maxSize +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Iterates over the elements of a list and of all the pages following it, fetching them through {@link Paging#getNext()}.<br>
+ * Pages are prefetched on a background executor while the caller works through the current one:
+ * <pre>
+ * PagingIterator&lt;Post&gt; it = new PagingIterable&lt;Post&gt;(facebook, facebook.getFeed("cocacola")).prefetch(2).iterator();
+ * try {
+ *     while (it.hasNext()) {
+ *         Post post = it.next();
+ *         ...
+ *     }
+ * } finally {
+ *     it.close();
+ * }
+ * </pre>
+ * Each call to {@link #iterator()} starts over from the first page.
+ *
+ * @see PagingIterator
+ */
+public final class PagingIterable<T> implements Iterable<T> {
+    private final FacebookBase facebook;
+    private final ResponseList<T> firstPage;
+    private int prefetch = 1;
+    private ExecutorService executor;
+
+    /**
+     * @param facebook  the instance fetching the following pages
+     * @param firstPage the first page
+     */
+    public PagingIterable(FacebookBase facebook, ResponseList<T> firstPage) {
+        if (facebook == null) {
+            throw new NullPointerException("facebook is null");
+        }
+        this.facebook = facebook;
+        this.firstPage = firstPage;
+    }
+
+    /**
+     * Sets how many pages may be fetched ahead of the page being iterated, 1 by default.
+     *
+     * @param pages number of pages, 0 fetches each page when the previous one has been iterated
+     * @return this instance
+     */
+    public PagingIterable<T> prefetch(int pages) {
+        if (pages < 0) {
+            throw new IllegalArgumentException("pages must not be negative: " + pages);
+        }
+        this.prefetch = pages;
+        return this;
+    }
+
+    /**
+     * Sets the executor prefetching the pages. By default, the executor shared by {@link AsyncFacebook} instances is used.
+     *
+     * @param executor the executor
+     * @return this instance
+     */
+    public PagingIterable<T> executor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return a new iterator, which should be closed when it is abandoned before the last page
+     */
+    public PagingIterator<T> iterator() {
+        ExecutorService executor = this.executor;
+        if (executor == null && prefetch > 0) {
+            executor = AsyncFacebookImpl.getDefaultExecutor();
+        }
+        return new PagingIterator<T>(facebook, firstPage, prefetch, executor);
+    }
+
+    @Override
+    public String toString() {
+        return "PagingIterable{" +
+                "firstPage=" + (firstPage == null ? null : firstPage.getPaging()) +
+                ", prefetch=" + prefetch +
+                '}';
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Iterator over the elements of a list and of all the pages following it, created by {@link PagingIterable#iterator()}.<br>
+ * With prefetching, a background task fetches the following pages into a queue holding up to the prefetch depth,
+ * so that the network latency of a page overlaps the processing of the previous ones.
+ * The iteration ends at the first page without elements or without a next page.<br>
+ * An iterator abandoned before the last page should be {@link #close() closed} to stop the background task.
+ * Failures of the background task are reported by {@link #hasNext()} once the pages fetched before have been iterated.
+ */
+public final class PagingIterator<T> implements Iterator<T> {
+    // marks the end of the pages in the queue
+    private static final Object END = new Object();
+
+    private final FacebookBase facebook;
+    private final BlockingQueue<Object> pages;
+    private final Future<?> prefetcher;
+
+    private Iterator<T> current;
+    // next page to fetch when not prefetching
+    private Paging<T> paging;
+    private volatile boolean closed = false;
+
+    /*package*/ PagingIterator(FacebookBase facebook, ResponseList<T> firstPage, int prefetch, ExecutorService executor) {
+        this.facebook = facebook;
+        if (firstPage == null) {
+            this.closed = true;
+            this.pages = null;
+            this.prefetcher = null;
+            return;
+        }
+        this.current = firstPage.iterator();
+        if (prefetch == 0 || firstPage.getPaging() == null) {
+            this.paging = firstPage.getPaging();
+            this.pages = null;
+            this.prefetcher = null;
+        } else {
+            this.pages = new ArrayBlockingQueue<Object>(prefetch);
+            this.prefetcher = executor.submit(new Prefetcher(firstPage.getPaging()));
+        }
+    }
+
+    /**
+     * @return whether an element remains
+     * @throws FetchException when a page could not be fetched, the iterator is closed then
+     */
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        while (current == null || !current.hasNext()) {
+            ResponseList<T> page = nextPage();
+            if (page == null) {
+                close();
+                return false;
+            }
+            current = page.iterator();
+        }
+        return true;
+    }
+
+    /**
+     * @return the next element, fetching the next page if needed
+     * @throws FetchException when a page could not be fetched, the iterator is closed then
+     */
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Stops the iteration and cancels the pages being prefetched. Closing a closed iterator has no effect.
+     */
+    public void close() {
+        closed = true;
+        current = null;
+        paging = null;
+        if (prefetcher != null) {
+            prefetcher.cancel(true);
+            pages.clear();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResponseList<T> nextPage() {
+        if (pages == null) {
+            if (paging == null) {
+                return null;
+            }
+            try {
+                ResponseList<T> page = fetchNext(facebook, paging);
+                paging = page == null ? null : page.getPaging();
+                return page;
+            } catch (FacebookException fe) {
+                close();
+                throw new FetchException(fe);
+            }
+        }
+        Object page;
+        try {
+            page = pages.take();
+        } catch (InterruptedException ie) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new FetchException(new FacebookException("Interrupted while waiting for the next page", ie));
+        }
+        if (page == END) {
+            return null;
+        }
+        if (page instanceof FacebookException) {
+            close();
+            throw new FetchException((FacebookException) page);
+        }
+        if (page instanceof RuntimeException) {
+            close();
+            throw (RuntimeException) page;
+        }
+        return (ResponseList<T>) page;
+    }
+
+    /**
+     * @return the next page, or null if there is none or it has no elements
+     */
+    private static <T> ResponseList<T> fetchNext(FacebookBase facebook, Paging<T> paging) throws FacebookException {
+        ResponseList<T> page = facebook.fetchNext(paging);
+        if (page == null || page.isEmpty()) {
+            return null;
+        }
+        return page;
+    }
+
+    private final class Prefetcher implements Runnable {
+        private Paging<T> paging;
+
+        Prefetcher(Paging<T> paging) {
+            this.paging = paging;
+        }
+
+        public void run() {
+            Object last;
+            try {
+                while (!closed && paging != null) {
+                    ResponseList<T> page = fetchNext(facebook, paging);
+                    if (page == null) {
+                        break;
+                    }
+                    pages.put(page);
+                    paging = page.getPaging();
+                }
+                last = END;
+            } catch (InterruptedException ie) {
+                // closed
+                return;
+            } catch (FacebookException fe) {
+                last = fe;
+            } catch (RuntimeException re) {
+                last = re;
+            }
+            try {
+                pages.put(last);
+            } catch (InterruptedException ignore) {
+                // closed
+            }
+        }
+    }
+
+    /**
+     * Thrown by {@link PagingIterator#hasNext()} and {@link PagingIterator#next()} when a page could not be fetched.
+     */
+    public static final class FetchException extends RuntimeException {
+        private static final long serialVersionUID = -3541930046478204235L;
+
+        /*package*/ FetchException(FacebookException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public FacebookException getCause() {
+            return (FacebookException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the elements of a list and of all the pages following it.<br>
+ * A page is only requested from Facebook when the subscriber has demand the current page cannot satisfy,
+ * so at most one page is held per subscription and a slow subscriber slows down the fetching:
+ * <pre>
+ * PagingPublisher.feed(facebook, "cocacola", new Reading().limit(100)).subscribe(new Flow.Subscriber&lt;Post&gt;() {
+ *     public void onSubscribe(Flow.Subscription subscription) {
+ *         this.subscription = subscription;
+ *         subscription.request(100);
+ *     }
+ *     ...
+ * });
+ * </pre>
+ * Each subscription crawls the pages from the first one. Pages are fetched and elements delivered on the executor,
+ * by default the executor shared by {@link AsyncFacebook} instances. The elements end at the first page without elements
+ * or without a next page.
+ */
+public final class PagingPublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * Reads the first page when a subscriber first has demand.
+     */
+    public interface FirstPage<T> {
+        ResponseList<T> fetch() throws FacebookException;
+    }
+
+    private final FacebookBase facebook;
+    private final FirstPage<T> firstPage;
+    private Executor executor;
+
+    /**
+     * @param facebook  the instance fetching the following pages
+     * @param firstPage reads the first page
+     */
+    public PagingPublisher(FacebookBase facebook, FirstPage<T> firstPage) {
+        if (facebook == null) {
+            throw new NullPointerException("facebook is null");
+        }
+        if (firstPage == null) {
+            throw new NullPointerException("firstPage is null");
+        }
+        this.facebook = facebook;
+        this.firstPage = firstPage;
+    }
+
+    /**
+     * @param facebook  the instance fetching the following pages
+     * @param firstPage the first page, which has been fetched already
+     */
+    public PagingPublisher(FacebookBase facebook, final ResponseList<T> firstPage) {
+        this(facebook, new FirstPage<T>() {
+            public ResponseList<T> fetch() {
+                return firstPage;
+            }
+        });
+    }
+
+    /**
+     * @see facebook4j.api.PostMethods#getFeed(String, Reading)
+     */
+    public static PagingPublisher<Post> feed(final Facebook facebook, final String id, final Reading reading) {
+        return new PagingPublisher<Post>(facebook, new FirstPage<Post>() {
+            public ResponseList<Post> fetch() throws FacebookException {
+                return facebook.getFeed(id, reading);
+            }
+        });
+    }
+
+    /**
+     * @see facebook4j.api.PostMethods#getPosts(String, Reading)
+     */
+    public static PagingPublisher<Post> posts(final Facebook facebook, final String id, final Reading reading) {
+        return new PagingPublisher<Post>(facebook, new FirstPage<Post>() {
+            public ResponseList<Post> fetch() throws FacebookException {
+                return facebook.getPosts(id, reading);
+            }
+        });
+    }
+
+    /**
+     * @see facebook4j.api.PostMethods#getPostComments(String, Reading)
+     */
+    public static PagingPublisher<Comment> comments(final Facebook facebook, final String postId, final Reading reading) {
+        return new PagingPublisher<Comment>(facebook, new FirstPage<Comment>() {
+            public ResponseList<Comment> fetch() throws FacebookException {
+                return facebook.getPostComments(postId, reading);
+            }
+        });
+    }
+
+    /**
+     * @see facebook4j.api.InsightMethods#getInsights(String, String, Reading)
+     */
+    public static PagingPublisher<Insight> insights(final Facebook facebook, final String objectId, final String metric, final Reading reading) {
+        return new PagingPublisher<Insight>(facebook, new FirstPage<Insight>() {
+            public ResponseList<Insight> fetch() throws FacebookException {
+                return facebook.getInsights(objectId, metric, reading);
+            }
+        });
+    }
+
+    /**
+     * Sets the executor fetching the pages and delivering the elements.
+     *
+     * @param executor the executor
+     * @return this instance
+     */
+    public PagingPublisher<T> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber is null");
+        }
+        Executor executor = this.executor;
+        if (executor == null) {
+            executor = AsyncFacebookImpl.getDefaultExecutor();
+        }
+        PagingSubscription<T> subscription = new PagingSubscription<T>(facebook, firstPage, subscriber, executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @Override
+    public String toString() {
+        return "PagingPublisher{" +
+                "firstPage=" + firstPage +
+                ", executor=" + executor +
+                '}';
+    }
+
+    private static final class PagingSubscription<T> implements Flow.Subscription, Runnable {
+        private final FacebookBase facebook;
+        private final FirstPage<T> firstPage;
+        private final Executor executor;
+        // dropped on cancel and once the stream has ended, so that the subscriber is not kept reachable
+        private volatile Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong demand = new AtomicLong();
+        // number of signals the drain loop has to handle, the loop runs while it is positive
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        // error reported by request(), delivered by the drain loop
+        private volatile Throwable error;
+
+        // accessed by the drain loop only
+        private boolean started = false;
+        private boolean done = false;
+        private Paging<T> paging;
+        private Iterator<T> current;
+
+        PagingSubscription(FacebookBase facebook, FirstPage<T> firstPage, Flow.Subscriber<? super T> subscriber, Executor executor) {
+            this.facebook = facebook;
+            this.firstPage = firstPage;
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("non-positive request: " + n);
+            } else {
+                while (true) {
+                    long current = demand.get();
+                    long updated = current + n;
+                    if (updated < 0) {
+                        updated = Long.MAX_VALUE;
+                    }
+                    if (demand.compareAndSet(current, updated)) {
+                        break;
+                    }
+                }
+            }
+            schedule();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            subscriber = null;
+            // lets the drain loop drop the page it holds
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException e) {
+                    Flow.Subscriber<? super T> s = subscriber;
+                    cancelled = true;
+                    subscriber = null;
+                    if (s != null) {
+                        s.onError(e);
+                    }
+                }
+            }
+        }
+
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!cancelled && !done) {
+                if (error != null) {
+                    finish(error);
+                    return;
+                }
+                boolean exhausted = current == null || !current.hasNext();
+                if (started && exhausted && (paging == null || paging.getNext() == null)) {
+                    // completes without waiting for a demand which may never come
+                    finish(null);
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+                if (exhausted) {
+                    ResponseList<T> page;
+                    try {
+                        page = nextPage();
+                    } catch (Throwable t) {
+                        finish(t);
+                        return;
+                    }
+                    if (page == null || page.isEmpty()) {
+                        finish(null);
+                        return;
+                    }
+                    paging = page.getPaging();
+                    current = page.iterator();
+                    continue;
+                }
+                T item = current.next();
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                Flow.Subscriber<? super T> s = subscriber;
+                if (s != null) {
+                    s.onNext(item);
+                }
+            }
+            if (cancelled) {
+                current = null;
+                paging = null;
+            }
+        }
+
+        private ResponseList<T> nextPage() throws FacebookException {
+            if (!started) {
+                started = true;
+                return firstPage.fetch();
+            }
+            if (paging == null) {
+                return null;
+            }
+            return facebook.fetchNext(paging);
+        }
+
+        private void finish(Throwable t) {
+            done = true;
+            current = null;
+            paging = null;
+            Flow.Subscriber<? super T> s = subscriber;
+            subscriber = null;
+            if (s == null) {
+                return;
+            }
+            if (t == null) {
+                s.onComplete();
+            } else {
+                s.onError(t);
+            }
+        }
+    }
+}
@@ -21,8 +21,10 @@ import facebook4j.internal.util.z_F4JInternalStringUtil;
 
 import java.util.Date;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A builder that can construct a Graph API's reading options (selection, paging, dates, introspection).
@@ -59,6 +61,46 @@ public class Reading implements java.io.Serializable {
         return this;
     }
 
+    /**
+     * Returns the names of the fields selected with {@link #fields(String...)}, without their modifiers and nested fields:
+     * "comments.limit(5){from,message}" is returned as "comments".
+     *
+     * @return the names of the selected fields, or null if no field has been selected
+     */
+    public Set<String> getFieldNames() {
+        String value = parameterMap.get("fields");
+        if (value == null) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<String>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            char c = i < value.length() ? value.charAt(i) : ',';
+            if (c == '{' || c == '(') {
+                depth++;
+            } else if (c == '}' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                String field = value.substring(start, i);
+                int end = field.length();
+                for (int j = 0; j < field.length(); j++) {
+                    char d = field.charAt(j);
+                    if (d == '.' || d == '{' || d == '(') {
+                        end = j;
+                        break;
+                    }
+                }
+                field = field.substring(0, end).trim();
+                if (field.length() > 0) {
+                    names.add(field);
+                }
+                start = i + 1;
+            }
+        }
+        return names;
+    }
+
     public Reading limit(int limit) {
         if (parameterMap.containsKey("limit")) {
             throw new IllegalStateException("'limit' already sets");
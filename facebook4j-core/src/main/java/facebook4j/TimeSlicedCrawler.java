@@ -0,0 +1,357 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads an edge over a time range by splitting the range into slices which are paged concurrently.<br>
+ * Cursor paging through {@link Paging#getNext()} is sequential, but edges like feed, posts or insights accept
+ * since/until, so each slice can be walked on its own:
+ * <pre>
+ * List&lt;Post&gt; posts = new TimeSlicedCrawler&lt;Post&gt;(facebook, new TimeSlicedCrawler.Edge&lt;Post&gt;() {
+ *     public ResponseList&lt;Post&gt; fetch(Date since, Date until) throws FacebookException {
+ *         return facebook.getPosts("cocacola", new Reading().since(since).until(until).limit(100));
+ *     }
+ * }, TimeSlicedCrawler.POSTS).slices(24).crawl(since, until);
+ * </pre>
+ * Large ranges are better handed over slice by slice, newest first, as Facebook returns them,
+ * so that only the slices being paged are held in memory:
+ * <pre>
+ * crawler.crawl(since, until, new TimeSlicedCrawler.SliceListener&lt;Post&gt;() {
+ *     public void onSlice(Date since, Date until, List&lt;Post&gt; posts) {
+ *         store(posts);
+ *     }
+ * });
+ * </pre>
+ * The slices share their boundaries, elements are de-duplicated by id within a slice and against the boundary
+ * of the slice handed over before. Elements outside of their slice are dropped.
+ */
+public final class TimeSlicedCrawler<T> {
+
+    /**
+     * Reads the first page of a slice.
+     */
+    public interface Edge<T> {
+        /**
+         * @param since start of the slice
+         * @param until end of the slice
+         * @return the first page of the elements created in the slice
+         * @throws FacebookException when Facebook service or network is unavailable
+         */
+        ResponseList<T> fetch(Date since, Date until) throws FacebookException;
+    }
+
+    /**
+     * Tells the id and the time of the elements, which the slices are ordered and de-duplicated by.
+     */
+    public interface Timeline<T> {
+        /**
+         * @return the id of the element, or null if it has none
+         */
+        String getId(T element);
+
+        /**
+         * @return the time the element is ordered by, or null if unknown
+         */
+        Date getTime(T element);
+    }
+
+    /**
+     * Receives the elements of the slices, newest slice first.
+     */
+    public interface SliceListener<T> {
+        /**
+         * Called once per slice, in order, from the thread calling crawl.
+         *
+         * @param since    start of the slice
+         * @param until    end of the slice
+         * @param elements the elements of the slice, newest first
+         * @throws FacebookException to stop crawling, the pending slices are cancelled then
+         */
+        void onSlice(Date since, Date until, List<T> elements) throws FacebookException;
+    }
+
+    public static final Timeline<Post> POSTS = new Timeline<Post>() {
+        public String getId(Post post) {
+            return post.getId();
+        }
+
+        public Date getTime(Post post) {
+            return post.getCreatedTime();
+        }
+    };
+
+    private final FacebookBase facebook;
+    private final Edge<T> edge;
+    private final Timeline<? super T> timeline;
+    private int slices = 8;
+    private int parallelism = 4;
+    private ExecutorService executor;
+
+    /**
+     * @param facebook the instance fetching the following pages of each slice
+     * @param edge     reads the first page of a slice
+     * @param timeline tells the id and the time of the elements
+     */
+    public TimeSlicedCrawler(FacebookBase facebook, Edge<T> edge, Timeline<? super T> timeline) {
+        if (facebook == null) {
+            throw new NullPointerException("facebook is null");
+        }
+        if (edge == null) {
+            throw new NullPointerException("edge is null");
+        }
+        if (timeline == null) {
+            throw new NullPointerException("timeline is null");
+        }
+        this.facebook = facebook;
+        this.edge = edge;
+        this.timeline = timeline;
+    }
+
+    /**
+     * Sets the number of slices the time range is split into, 8 by default.
+     *
+     * @param slices number of slices
+     * @return this instance
+     */
+    public TimeSlicedCrawler<T> slices(int slices) {
+        if (slices < 1) {
+            throw new IllegalArgumentException("slices must be positive: " + slices);
+        }
+        this.slices = slices;
+        return this;
+    }
+
+    /**
+     * Sets how many slices are paged at the same time, 4 by default. Ignored when an executor is set.
+     *
+     * @param parallelism number of threads
+     * @return this instance
+     */
+    public TimeSlicedCrawler<T> parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the executor paging the slices. It is not shut down by the crawler.
+     *
+     * @param executor the executor
+     * @return this instance
+     */
+    public TimeSlicedCrawler<T> executor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Reads the elements of the time range.
+     *
+     * @param since start of the time range
+     * @param until end of the time range
+     * @return the elements, newest first
+     * @throws FacebookException when a page could not be fetched, the pending slices are cancelled then
+     * @see #crawl(Date, Date, SliceListener)
+     */
+    public List<T> crawl(Date since, Date until) throws FacebookException {
+        final List<T> elements = new ArrayList<T>();
+        crawl(since, until, new SliceListener<T>() {
+            public void onSlice(Date since, Date until, List<T> slice) {
+                elements.addAll(slice);
+            }
+        });
+        return elements;
+    }
+
+    /**
+     * Reads the elements of the time range, handing them over slice by slice, newest first.<br>
+     * At most as many slices as the parallelism are paged ahead of the slice handed over next.
+     *
+     * @param since    start of the time range
+     * @param until    end of the time range
+     * @param listener receives the elements of each slice
+     * @throws FacebookException when a page could not be fetched, the pending slices are cancelled then
+     */
+    public void crawl(Date since, Date until, SliceListener<T> listener) throws FacebookException {
+        List<Date[]> ranges = split(since, until, slices);
+        // newest slice first
+        Collections.reverse(ranges);
+        int window = Math.min(parallelism, ranges.size());
+        ExecutorService executor = this.executor;
+        boolean owned = executor == null;
+        if (owned) {
+            executor = Executors.newFixedThreadPool(window);
+        }
+        LinkedList<Future<List<T>>> pending = new LinkedList<Future<List<T>>>();
+        try {
+            int submitted = 0;
+            while (submitted < window) {
+                pending.add(submit(executor, ranges.get(submitted++)));
+            }
+            // ids of the elements which may show up in the next slice again
+            Set<String> boundaryIds = new HashSet<String>();
+            Set<String> untimedIds = new HashSet<String>();
+            for (Date[] range : ranges) {
+                List<T> elements = pending.removeFirst().get();
+                if (submitted < ranges.size()) {
+                    pending.add(submit(executor, ranges.get(submitted++)));
+                }
+                boundaryIds = order(elements, range[0], boundaryIds, untimedIds);
+                listener.onSlice(range[0], range[1], elements);
+            }
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof FacebookException) {
+                throw (FacebookException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new FacebookException(cause);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new FacebookException(ie);
+        } finally {
+            // drops the pending slices once one has failed
+            for (Future<List<T>> future : pending) {
+                future.cancel(true);
+            }
+            if (owned) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private Future<List<T>> submit(ExecutorService executor, final Date[] range) {
+        return executor.submit(new Callable<List<T>>() {
+            public List<T> call() throws FacebookException {
+                return crawlSlice(range[0], range[1]);
+            }
+        });
+    }
+
+    private List<T> crawlSlice(Date since, Date until) throws FacebookException {
+        List<T> elements = new ArrayList<T>();
+        ResponseList<T> page = edge.fetch(since, until);
+        while (page != null && !page.isEmpty()) {
+            boolean older = false;
+            for (T element : page) {
+                Date time = timeline.getTime(element);
+                if (time != null && time.before(since)) {
+                    older = true;
+                } else if (time == null || !time.after(until)) {
+                    elements.add(element);
+                }
+            }
+            if (older || page.getPaging() == null || Thread.currentThread().isInterrupted()) {
+                // the slice has been read through
+                break;
+            }
+            page = facebook.fetchNext(page.getPaging());
+        }
+        return elements;
+    }
+
+    /**
+     * Sorts the elements of a slice newest first and drops the duplicates, within the slice and of the slice before.
+     *
+     * @param elements    the elements of the slice, sorted and de-duplicated in place
+     * @param since       start of the slice
+     * @param boundaryIds ids of the elements at the start of the slice before, which the slice ends at
+     * @param untimedIds  ids of the elements without time handed over so far, which every slice may return
+     * @return ids of the elements at the start of the slice
+     */
+    /*package*/ Set<String> order(List<T> elements, Date since, Set<String> boundaryIds, Set<String> untimedIds) {
+        // Facebook returns the elements newest first, this only fixes up elements returned out of order
+        Collections.sort(elements, new Comparator<T>() {
+            public int compare(T o1, T o2) {
+                Date t1 = timeline.getTime(o1);
+                Date t2 = timeline.getTime(o2);
+                if (t1 == null || t2 == null) {
+                    return t1 == null ? (t2 == null ? 0 : 1) : -1;
+                }
+                return t2.compareTo(t1);
+            }
+        });
+        Set<String> seen = new HashSet<String>();
+        Set<String> nextBoundaryIds = new HashSet<String>();
+        for (Iterator<T> it = elements.iterator(); it.hasNext(); ) {
+            T element = it.next();
+            String id = timeline.getId(element);
+            if (id == null) {
+                continue;
+            }
+            if (boundaryIds.contains(id) || untimedIds.contains(id) || !seen.add(id)) {
+                it.remove();
+                continue;
+            }
+            Date time = timeline.getTime(element);
+            if (time == null) {
+                untimedIds.add(id);
+            } else if (!time.after(since)) {
+                nextBoundaryIds.add(id);
+            }
+        }
+        return nextBoundaryIds;
+    }
+
+    /**
+     * Splits [since, until] into ranges of the same length, oldest first, at the precision of a second
+     * which since/until support.
+     */
+    /*package*/ static List<Date[]> split(Date since, Date until, int slices) {
+        long start = since.getTime() / 1000;
+        long end = until.getTime() / 1000;
+        if (end < start) {
+            throw new IllegalArgumentException("until is before since: " + since + " - " + until);
+        }
+        int count = (int) Math.max(Math.min(slices, end - start), 1);
+        List<Date[]> ranges = new ArrayList<Date[]>(count);
+        long from = start;
+        for (int i = 1; i <= count; i++) {
+            long to = i == count ? end : start + (end - start) * i / count;
+            ranges.add(new Date[]{new Date(from * 1000), new Date(to * 1000)});
+            from = to;
+        }
+        return ranges;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSlicedCrawler{" +
+                "slices=" + slices +
+                ", parallelism=" + parallelism +
+                '}';
+    }
+}
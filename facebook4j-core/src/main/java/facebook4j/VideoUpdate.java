@@ -108,6 +108,17 @@ public class VideoUpdate implements java.io.Serializable {
     /*package*/ HttpParameter[] asHttpParameterArray() {
         List<HttpParameter> params = new ArrayList<HttpParameter>();
         params.add(source.asHttpParameter("source"));
+        addMetadata(params);
+        return params.toArray(new HttpParameter[params.size()]);
+    }
+
+    /*package*/ HttpParameter[] asMetadataHttpParameterArray() {
+        List<HttpParameter> params = new ArrayList<HttpParameter>();
+        addMetadata(params);
+        return params.toArray(new HttpParameter[params.size()]);
+    }
+
+    private void addMetadata(List<HttpParameter> params) {
         if (title != null) {
             params.add(new HttpParameter("title", title));
         }
@@ -120,7 +131,6 @@ public class VideoUpdate implements java.io.Serializable {
         if (scheduledPublishTime != null) {
             params.add(new HttpParameter("scheduled_publish_time", scheduledPublishTime));
         }
-        return params.toArray(new HttpParameter[params.size()]);
     }
 
     @Override
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import java.io.File;
+
+/**
+ * A chunked video upload in progress.<br>
+ * The session remembers the byte range Facebook asks for next, so that an interrupted upload
+ * can be resumed by passing the session to {@link facebook4j.api.VideoMethods#resumeVideoUpload(VideoUploadSession, VideoUploadListener)} again.
+ * The session is serializable and can be persisted to resume the upload from another process.
+ *
+ * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+ */
+public final class VideoUploadSession implements java.io.Serializable {
+    private static final long serialVersionUID = 4407785787389616735L;
+
+    private final String id;
+    private final VideoUpdate videoUpdate;
+    private final String uploadSessionId;
+    private final String videoId;
+    private final long fileSize;
+
+    // the range Facebook asks for next, as returned by the start and transfer phases
+    private long startOffset;
+    private long endOffset;
+    private boolean finished = false;
+
+    /*package*/ VideoUploadSession(String id, VideoUpdate videoUpdate, String uploadSessionId, String videoId,
+                                   long startOffset, long endOffset) {
+        File file = videoUpdate.getSource().getMediaFile();
+        if (file == null) {
+            throw new IllegalArgumentException("chunked upload requires a file source");
+        }
+        this.id = id;
+        this.videoUpdate = videoUpdate;
+        this.uploadSessionId = uploadSessionId;
+        this.videoId = videoId;
+        this.fileSize = file.length();
+        moveTo(startOffset, endOffset);
+    }
+
+    /**
+     * @return the ID of the user/page the video is posted to
+     */
+    public String getId() {
+        return id;
+    }
+
+    public VideoUpdate getVideoUpdate() {
+        return videoUpdate;
+    }
+
+    public String getUploadSessionId() {
+        return uploadSessionId;
+    }
+
+    /**
+     * @return the ID the video will have once the upload has been finished
+     */
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @return the offset of the next chunk Facebook asks for, every byte before it has been received
+     */
+    public synchronized long getStartOffset() {
+        return startOffset;
+    }
+
+    /**
+     * @return the offset the next chunk Facebook asks for ends at, exclusive
+     */
+    public synchronized long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * @return the number of bytes received by Facebook
+     */
+    public synchronized long getUploadedBytes() {
+        return startOffset;
+    }
+
+    /*package*/ synchronized void moveTo(long startOffset, long endOffset) {
+        if (startOffset < 0 || endOffset < startOffset) {
+            throw new IllegalArgumentException("invalid range: " + startOffset + "-" + endOffset);
+        }
+        this.startOffset = Math.min(startOffset, fileSize);
+        this.endOffset = Math.min(endOffset, fileSize);
+    }
+
+    public synchronized boolean isTransferred() {
+        return startOffset >= endOffset;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /*package*/ synchronized void finish() {
+        this.finished = true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VideoUploadSession)) return false;
+
+        VideoUploadSession that = (VideoUploadSession) o;
+
+        if (uploadSessionId != null ? !uploadSessionId.equals(that.uploadSessionId) : that.uploadSessionId != null)
+            return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return uploadSessionId != null ? uploadSessionId.hashCode() : 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "VideoUploadSession{" +
+                "id='" + id + '\'' +
+                ", uploadSessionId='" + uploadSessionId + '\'' +
+                ", videoId='" + videoId + '\'' +
+                ", fileSize=" + fileSize +
+                ", startOffset=" + startOffset +
+                ", endOffset=" + endOffset +
+                ", finished=" + finished +
+                '}';
+    }
+}
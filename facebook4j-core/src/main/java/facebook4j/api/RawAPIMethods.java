@@ -18,6 +18,7 @@ package facebook4j.api;
 
 import facebook4j.FacebookException;
 import facebook4j.RawAPIResponse;
+import facebook4j.ResponseList;
 import facebook4j.internal.http.HttpParameter;
 
 import java.util.Map;
@@ -56,6 +57,27 @@ public interface RawAPIMethods {
      */
     RawAPIResponse callGetAPI(String relativeUrl, HttpParameter... parameters) throws FacebookException;
 
+    /**
+     * Calls raw Facebook GET API returning a list, decoded into the given type.<br>
+     * The type is one facebook4j models, or one registered by {@link facebook4j.json.DataObjectFactory#registerDecoder(Class, facebook4j.json.JSONDecoder)}.
+     * @param relativeUrl relativeUrl
+     * @param type the type of the list elements
+     * @return the first page of the list
+     * @throws FacebookException when Facebook service or network is unavailable, or the type is unrecognized
+     */
+    <T> ResponseList<T> callGetAPI(String relativeUrl, Class<T> type) throws FacebookException;
+
+    /**
+     * Calls raw Facebook GET API returning a list, decoded into the given type.<br>
+     * The type is one facebook4j models, or one registered by {@link facebook4j.json.DataObjectFactory#registerDecoder(Class, facebook4j.json.JSONDecoder)}.
+     * @param relativeUrl relativeUrl
+     * @param parameters GET parameters
+     * @param type the type of the list elements
+     * @return the first page of the list
+     * @throws FacebookException when Facebook service or network is unavailable, or the type is unrecognized
+     */
+    <T> ResponseList<T> callGetAPI(String relativeUrl, Map<String, String> parameters, Class<T> type) throws FacebookException;
+
     /**
      * Calls raw Facebook POST API simply.
      * This method not supports "JSONStore" option because this method returns the json object itself.
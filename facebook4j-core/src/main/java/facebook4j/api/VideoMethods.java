@@ -26,6 +26,8 @@ import facebook4j.Reading;
 import facebook4j.ResponseList;
 import facebook4j.Video;
 import facebook4j.VideoUpdate;
+import facebook4j.VideoUploadListener;
+import facebook4j.VideoUploadSession;
 
 import java.net.URL;
 
@@ -93,6 +95,50 @@ public interface VideoMethods {
      */
     String postVideo(String id, VideoUpdate videoUpdate) throws FacebookException;
 
+    /**
+     * Posts the video to a user's/page's wall in chunks, reporting the progress to the listener.<br>
+     * The chunks are uploaded one after another, in the ranges Facebook asks for.
+     * @param id the ID of a user/page
+     * @param videoUpdate video content, the source has to be a file
+     * @param listener receives the upload progress, or null
+     * @return The new video ID
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see #startVideoUpload(String, VideoUpdate)
+     * @see #resumeVideoUpload(VideoUploadSession, VideoUploadListener)
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    String postVideo(String id, VideoUpdate videoUpdate, VideoUploadListener listener) throws FacebookException;
+
+    /**
+     * Starts a chunked upload of the video to the current user's/page's wall.
+     * @param videoUpdate video content, the source has to be a file
+     * @return the upload session
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    VideoUploadSession startVideoUpload(VideoUpdate videoUpdate) throws FacebookException;
+
+    /**
+     * Starts a chunked upload of the video to a user's/page's wall.
+     * @param id the ID of a user/page
+     * @param videoUpdate video content, the source has to be a file
+     * @return the upload session
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    VideoUploadSession startVideoUpload(String id, VideoUpdate videoUpdate) throws FacebookException;
+
+    /**
+     * Uploads the rest of the video from the offset Facebook asked for last, and finishes the upload.<br>
+     * If a chunk fails, the session keeps the range Facebook asks for and this method can be called again to resume.
+     * @param session the upload session
+     * @param listener receives the upload progress, or null
+     * @return The new video ID
+     * @throws FacebookException when Facebook service or network is unavailable
+     * @see <a href="https://developers.facebook.com/docs/graph-api/video-uploads">Video Uploads - Facebook Developers</a>
+     */
+    String resumeVideoUpload(VideoUploadSession session, VideoUploadListener listener) throws FacebookException;
+
 
     /**
      * Returns a single video.
@@ -58,6 +58,20 @@ public interface Configuration extends HttpClientConfiguration
 
     boolean isJSONStoreEnabled();
 
+    /**
+     * @return maximum number of bytes of raw JSON kept per thread by the JSON store, 0 for no limit
+     */
+    int getJSONStoreMaxBytes();
+
     boolean isMBeanEnabled();
 
+    boolean isLazyEntitiesEnabled();
+
+    boolean isFieldProjectionEnabled();
+
+    /**
+     * @return milliseconds concurrent GET requests are collected for to be sent as one batch request, 0 to disable
+     */
+    int getMicroBatchWindow();
+
 }
@@ -52,6 +52,7 @@ public class ConfigurationBase implements Configuration, Serializable {
     private int httpStreamingReadTimeout;
     private int httpRetryCount;
     private int httpRetryIntervalSeconds;
+    private int httpRetryMaxIntervalSeconds;
     private int maxTotalConnections;
     private int defaultMaxPerRoute;
 
@@ -76,6 +77,28 @@ public class ConfigurationBase implements Configuration, Serializable {
 
     private boolean mbeanEnabled;
 
+    private boolean rateLimitEnabled;
+
+    private int rateLimitThreshold;
+
+    private int rateLimitMaxDelay;
+
+    private boolean coalescingEnabled;
+
+    private boolean cacheEnabled;
+
+    private int cacheMaxBytes;
+
+    private boolean jsonStreamingEnabled;
+
+    private boolean lazyEntitiesEnabled;
+
+    private boolean fieldProjectionEnabled;
+
+    private int jsonStoreMaxBytes;
+
+    private int microBatchWindow;
+
     // hidden portion
     private String clientVersion;
     private String clientURL;
@@ -131,6 +154,7 @@ public class ConfigurationBase implements Configuration, Serializable {
         setHttpStreamingReadTimeout(40 * 1000);
         setHttpRetryCount(0);
         setHttpRetryIntervalSeconds(5);
+        setHttpRetryMaxIntervalSeconds(60);
         setHttpMaxTotalConnections(20);
         setHttpDefaultMaxPerRoute(2);
         setOAuthAppId(null);
@@ -147,6 +171,28 @@ public class ConfigurationBase implements Configuration, Serializable {
 
         setMBeanEnabled(false);
 
+        setRateLimitEnabled(false);
+
+        setRateLimitThreshold(75);
+
+        setRateLimitMaxDelay(30000);
+
+        setCoalescingEnabled(false);
+
+        setCacheEnabled(false);
+
+        setCacheMaxBytes(10 * 1024 * 1024);
+
+        setJSONStreamingEnabled(true);
+
+        setLazyEntitiesEnabled(false);
+
+        setFieldProjectionEnabled(false);
+
+        setJSONStoreMaxBytes(0);
+
+        setMicroBatchWindow(0);
+
         setOAuthAuthorizationURL(DEFAULT_OAUTH_AUTHORIZATION_URL);
         setOAuthAccessTokenURL(DEFAULT_OAUTH_ACCESS_TOKEN_URL);
         setOAuthAccessTokenInfoURL(DEFAULT_OAUTH_ACCESS_TOKEN_INFO_URL);
@@ -316,6 +362,14 @@ public class ConfigurationBase implements Configuration, Serializable {
         this.httpRetryIntervalSeconds = retryIntervalSeconds;
     }
 
+    public final int getHttpRetryMaxIntervalSeconds() {
+        return httpRetryMaxIntervalSeconds;
+    }
+
+    protected final void setHttpRetryMaxIntervalSeconds(int retryMaxIntervalSeconds) {
+        this.httpRetryMaxIntervalSeconds = retryMaxIntervalSeconds;
+    }
+
     public final int getHttpMaxTotalConnections() {
         return maxTotalConnections;
     }
@@ -472,6 +526,94 @@ public class ConfigurationBase implements Configuration, Serializable {
         this.mbeanEnabled = enabled;
     }
 
+    public boolean isRateLimitEnabled() {
+        return rateLimitEnabled;
+    }
+
+    protected final void setRateLimitEnabled(boolean rateLimitEnabled) {
+        this.rateLimitEnabled = rateLimitEnabled;
+    }
+
+    public int getRateLimitThreshold() {
+        return rateLimitThreshold;
+    }
+
+    protected final void setRateLimitThreshold(int rateLimitThreshold) {
+        this.rateLimitThreshold = rateLimitThreshold;
+    }
+
+    public int getRateLimitMaxDelay() {
+        return rateLimitMaxDelay;
+    }
+
+    protected final void setRateLimitMaxDelay(int rateLimitMaxDelay) {
+        this.rateLimitMaxDelay = rateLimitMaxDelay;
+    }
+
+    public boolean isCoalescingEnabled() {
+        return coalescingEnabled;
+    }
+
+    protected final void setCoalescingEnabled(boolean coalescingEnabled) {
+        this.coalescingEnabled = coalescingEnabled;
+    }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    protected final void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public int getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    protected final void setCacheMaxBytes(int cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    public boolean isJSONStreamingEnabled() {
+        return jsonStreamingEnabled;
+    }
+
+    protected final void setJSONStreamingEnabled(boolean jsonStreamingEnabled) {
+        this.jsonStreamingEnabled = jsonStreamingEnabled;
+    }
+
+    public boolean isLazyEntitiesEnabled() {
+        return lazyEntitiesEnabled;
+    }
+
+    protected final void setLazyEntitiesEnabled(boolean lazyEntitiesEnabled) {
+        this.lazyEntitiesEnabled = lazyEntitiesEnabled;
+    }
+
+    public boolean isFieldProjectionEnabled() {
+        return fieldProjectionEnabled;
+    }
+
+    protected final void setFieldProjectionEnabled(boolean fieldProjectionEnabled) {
+        this.fieldProjectionEnabled = fieldProjectionEnabled;
+    }
+
+    public int getJSONStoreMaxBytes() {
+        return jsonStoreMaxBytes;
+    }
+
+    protected final void setJSONStoreMaxBytes(int jsonStoreMaxBytes) {
+        this.jsonStoreMaxBytes = jsonStoreMaxBytes;
+    }
+
+    public int getMicroBatchWindow() {
+        return microBatchWindow;
+    }
+
+    protected final void setMicroBatchWindow(int microBatchWindow) {
+        this.microBatchWindow = microBatchWindow;
+    }
+
     public String getOAuthPermissions() {
         return oAuthPermissions;
     }
@@ -536,6 +678,7 @@ public class ConfigurationBase implements Configuration, Serializable {
         result = 31 * result + httpStreamingReadTimeout;
         result = 31 * result + httpRetryCount;
         result = 31 * result + httpRetryIntervalSeconds;
+        result = 31 * result + httpRetryMaxIntervalSeconds;
         result = 31 * result + maxTotalConnections;
         result = 31 * result + defaultMaxPerRoute;
         result = 31 * result + (oAuthAppId != null ? oAuthAppId.hashCode() : 0);
@@ -553,6 +696,17 @@ public class ConfigurationBase implements Configuration, Serializable {
         result = 31 * result + (videoBaseURL != null ? videoBaseURL.hashCode() : 0);
         result = 31 * result + (jsonStoreEnabled ? 1 : 0);
         result = 31 * result + (mbeanEnabled ? 1 : 0);
+        result = 31 * result + (rateLimitEnabled ? 1 : 0);
+        result = 31 * result + rateLimitThreshold;
+        result = 31 * result + rateLimitMaxDelay;
+        result = 31 * result + (coalescingEnabled ? 1 : 0);
+        result = 31 * result + (cacheEnabled ? 1 : 0);
+        result = 31 * result + cacheMaxBytes;
+        result = 31 * result + (jsonStreamingEnabled ? 1 : 0);
+        result = 31 * result + (lazyEntitiesEnabled ? 1 : 0);
+        result = 31 * result + (fieldProjectionEnabled ? 1 : 0);
+        result = 31 * result + jsonStoreMaxBytes;
+        result = 31 * result + microBatchWindow;
         result = 31 * result + (clientVersion != null ? clientVersion.hashCode() : 0);
         result = 31 * result + (clientURL != null ? clientURL.hashCode() : 0);
         result = 31 * result + (IS_DALVIK ? 1 : 0);
@@ -578,12 +732,24 @@ public class ConfigurationBase implements Configuration, Serializable {
         if (httpReadTimeout != that.httpReadTimeout) return false;
         if (httpRetryCount != that.httpRetryCount) return false;
         if (httpRetryIntervalSeconds != that.httpRetryIntervalSeconds) return false;
+        if (httpRetryMaxIntervalSeconds != that.httpRetryMaxIntervalSeconds) return false;
         if (httpStreamingReadTimeout != that.httpStreamingReadTimeout) return false;
         if (jsonStoreEnabled != that.jsonStoreEnabled) return false;
         if (maxTotalConnections != that.maxTotalConnections) return false;
         if (mbeanEnabled != that.mbeanEnabled) return false;
         if (prettyDebug != that.prettyDebug) return false;
         if (useSSL != that.useSSL) return false;
+        if (rateLimitEnabled != that.rateLimitEnabled) return false;
+        if (rateLimitThreshold != that.rateLimitThreshold) return false;
+        if (rateLimitMaxDelay != that.rateLimitMaxDelay) return false;
+        if (coalescingEnabled != that.coalescingEnabled) return false;
+        if (cacheEnabled != that.cacheEnabled) return false;
+        if (cacheMaxBytes != that.cacheMaxBytes) return false;
+        if (jsonStreamingEnabled != that.jsonStreamingEnabled) return false;
+        if (lazyEntitiesEnabled != that.lazyEntitiesEnabled) return false;
+        if (fieldProjectionEnabled != that.fieldProjectionEnabled) return false;
+        if (jsonStoreMaxBytes != that.jsonStoreMaxBytes) return false;
+        if (microBatchWindow != that.microBatchWindow) return false;
         if (clientURL != null ? !clientURL.equals(that.clientURL) : that.clientURL != null) return false;
         if (clientVersion != null ? !clientVersion.equals(that.clientVersion) : that.clientVersion != null)
             return false;
@@ -639,6 +805,7 @@ public class ConfigurationBase implements Configuration, Serializable {
                 ", httpStreamingReadTimeout=" + httpStreamingReadTimeout +
                 ", httpRetryCount=" + httpRetryCount +
                 ", httpRetryIntervalSeconds=" + httpRetryIntervalSeconds +
+                ", httpRetryMaxIntervalSeconds=" + httpRetryMaxIntervalSeconds +
                 ", maxTotalConnections=" + maxTotalConnections +
                 ", defaultMaxPerRoute=" + defaultMaxPerRoute +
                 ", oAuthAppId='" + oAuthAppId + '\'' +
@@ -656,6 +823,17 @@ public class ConfigurationBase implements Configuration, Serializable {
                 ", videoBaseURL='" + videoBaseURL + '\'' +
                 ", jsonStoreEnabled=" + jsonStoreEnabled +
                 ", mbeanEnabled=" + mbeanEnabled +
+                ", rateLimitEnabled=" + rateLimitEnabled +
+                ", rateLimitThreshold=" + rateLimitThreshold +
+                ", rateLimitMaxDelay=" + rateLimitMaxDelay +
+                ", coalescingEnabled=" + coalescingEnabled +
+                ", cacheEnabled=" + cacheEnabled +
+                ", cacheMaxBytes=" + cacheMaxBytes +
+                ", jsonStreamingEnabled=" + jsonStreamingEnabled +
+                ", lazyEntitiesEnabled=" + lazyEntitiesEnabled +
+                ", fieldProjectionEnabled=" + fieldProjectionEnabled +
+                ", jsonStoreMaxBytes=" + jsonStoreMaxBytes +
+                ", microBatchWindow=" + microBatchWindow +
                 ", clientVersion='" + clientVersion + '\'' +
                 ", clientURL='" + clientURL + '\'' +
                 ", IS_DALVIK=" + IS_DALVIK +
@@ -125,6 +125,12 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setHttpRetryMaxIntervalSeconds(int httpRetryMaxIntervalSeconds) {
+        checkNotBuilt();
+        configurationBean.setHttpRetryMaxIntervalSeconds(httpRetryMaxIntervalSeconds);
+        return this;
+    }
+
     public ConfigurationBuilder setOAuthAppId(String oAuthAppId) {
         checkNotBuilt();
         configurationBean.setOAuthAppId(oAuthAppId);
@@ -221,6 +227,72 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setRateLimitEnabled(boolean rateLimitEnabled) {
+        checkNotBuilt();
+        configurationBean.setRateLimitEnabled(rateLimitEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitThreshold(int rateLimitThreshold) {
+        checkNotBuilt();
+        configurationBean.setRateLimitThreshold(rateLimitThreshold);
+        return this;
+    }
+
+    public ConfigurationBuilder setRateLimitMaxDelay(int rateLimitMaxDelay) {
+        checkNotBuilt();
+        configurationBean.setRateLimitMaxDelay(rateLimitMaxDelay);
+        return this;
+    }
+
+    public ConfigurationBuilder setCoalescingEnabled(boolean coalescingEnabled) {
+        checkNotBuilt();
+        configurationBean.setCoalescingEnabled(coalescingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setCacheEnabled(boolean cacheEnabled) {
+        checkNotBuilt();
+        configurationBean.setCacheEnabled(cacheEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setCacheMaxBytes(int cacheMaxBytes) {
+        checkNotBuilt();
+        configurationBean.setCacheMaxBytes(cacheMaxBytes);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStreamingEnabled(boolean jsonStreamingEnabled) {
+        checkNotBuilt();
+        configurationBean.setJSONStreamingEnabled(jsonStreamingEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setLazyEntitiesEnabled(boolean lazyEntitiesEnabled) {
+        checkNotBuilt();
+        configurationBean.setLazyEntitiesEnabled(lazyEntitiesEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setFieldProjectionEnabled(boolean fieldProjectionEnabled) {
+        checkNotBuilt();
+        configurationBean.setFieldProjectionEnabled(fieldProjectionEnabled);
+        return this;
+    }
+
+    public ConfigurationBuilder setJSONStoreMaxBytes(int jsonStoreMaxBytes) {
+        checkNotBuilt();
+        configurationBean.setJSONStoreMaxBytes(jsonStoreMaxBytes);
+        return this;
+    }
+
+    public ConfigurationBuilder setMicroBatchWindow(int microBatchWindow) {
+        checkNotBuilt();
+        configurationBean.setMicroBatchWindow(microBatchWindow);
+        return this;
+    }
+
     public Configuration build() {
         checkNotBuilt();
         configurationBean.cacheInstance();
@@ -56,6 +56,7 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
 
     public static final String HTTP_RETRY_COUNT = "http.retryCount";
     public static final String HTTP_RETRY_INTERVAL_SECS = "http.retryIntervalSecs";
+    public static final String HTTP_RETRY_MAX_INTERVAL_SECS = "http.retryMaxIntervalSecs";
 
     public static final String HTTP_MAX_TOTAL_CONNECTIONS = "http.maxTotalConnections";
     public static final String HTTP_DEFAULT_MAX_PER_ROUTE = "http.defaultMaxPerRoute";
@@ -79,6 +80,17 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
 
     public static final String JSON_STORE_ENABLED = "jsonStoreEnabled";
     public static final String MBEAN_ENABLED = "mbeanEnabled";
+    public static final String HTTP_RATE_LIMIT_ENABLED = "http.rateLimitEnabled";
+    public static final String HTTP_RATE_LIMIT_THRESHOLD = "http.rateLimitThreshold";
+    public static final String HTTP_RATE_LIMIT_MAX_DELAY = "http.rateLimitMaxDelay";
+    public static final String HTTP_COALESCING_ENABLED = "http.coalescingEnabled";
+    public static final String HTTP_CACHE_ENABLED = "http.cacheEnabled";
+    public static final String HTTP_CACHE_MAX_BYTES = "http.cacheMaxBytes";
+    public static final String JSON_STREAMING_ENABLED = "jsonStreamingEnabled";
+    public static final String LAZY_ENTITIES_ENABLED = "lazyEntitiesEnabled";
+    public static final String FIELD_PROJECTION_ENABLED = "fieldProjectionEnabled";
+    public static final String JSON_STORE_MAX_BYTES = "jsonStoreMaxBytes";
+    public static final String MICRO_BATCH_WINDOW = "microBatchWindow";
 
     // hidden portion
     public static final String CLIENT_VERSION = "clientVersion";
@@ -262,6 +274,9 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
         if (notNull(props, prefix, HTTP_RETRY_INTERVAL_SECS)) {
             setHttpRetryIntervalSeconds(getIntProperty(props, prefix, HTTP_RETRY_INTERVAL_SECS));
         }
+        if (notNull(props, prefix, HTTP_RETRY_MAX_INTERVAL_SECS)) {
+            setHttpRetryMaxIntervalSeconds(getIntProperty(props, prefix, HTTP_RETRY_MAX_INTERVAL_SECS));
+        }
         if (notNull(props, prefix, HTTP_MAX_TOTAL_CONNECTIONS)) {
             setHttpMaxTotalConnections(getIntProperty(props, prefix, HTTP_MAX_TOTAL_CONNECTIONS));
         }
@@ -329,6 +344,39 @@ public final class PropertyConfiguration extends ConfigurationBase implements Se
         if (notNull(props, prefix, MBEAN_ENABLED)) {
             setMBeanEnabled(getBoolean(props, prefix, MBEAN_ENABLED));
         }
+        if (notNull(props, prefix, HTTP_RATE_LIMIT_ENABLED)) {
+            setRateLimitEnabled(getBoolean(props, prefix, HTTP_RATE_LIMIT_ENABLED));
+        }
+        if (notNull(props, prefix, HTTP_RATE_LIMIT_THRESHOLD)) {
+            setRateLimitThreshold(getIntProperty(props, prefix, HTTP_RATE_LIMIT_THRESHOLD));
+        }
+        if (notNull(props, prefix, HTTP_RATE_LIMIT_MAX_DELAY)) {
+            setRateLimitMaxDelay(getIntProperty(props, prefix, HTTP_RATE_LIMIT_MAX_DELAY));
+        }
+        if (notNull(props, prefix, HTTP_COALESCING_ENABLED)) {
+            setCoalescingEnabled(getBoolean(props, prefix, HTTP_COALESCING_ENABLED));
+        }
+        if (notNull(props, prefix, HTTP_CACHE_ENABLED)) {
+            setCacheEnabled(getBoolean(props, prefix, HTTP_CACHE_ENABLED));
+        }
+        if (notNull(props, prefix, HTTP_CACHE_MAX_BYTES)) {
+            setCacheMaxBytes(getIntProperty(props, prefix, HTTP_CACHE_MAX_BYTES));
+        }
+        if (notNull(props, prefix, JSON_STREAMING_ENABLED)) {
+            setJSONStreamingEnabled(getBoolean(props, prefix, JSON_STREAMING_ENABLED));
+        }
+        if (notNull(props, prefix, LAZY_ENTITIES_ENABLED)) {
+            setLazyEntitiesEnabled(getBoolean(props, prefix, LAZY_ENTITIES_ENABLED));
+        }
+        if (notNull(props, prefix, FIELD_PROJECTION_ENABLED)) {
+            setFieldProjectionEnabled(getBoolean(props, prefix, FIELD_PROJECTION_ENABLED));
+        }
+        if (notNull(props, prefix, JSON_STORE_MAX_BYTES)) {
+            setJSONStoreMaxBytes(getIntProperty(props, prefix, JSON_STORE_MAX_BYTES));
+        }
+        if (notNull(props, prefix, MICRO_BATCH_WINDOW)) {
+            setMicroBatchWindow(getIntProperty(props, prefix, MICRO_BATCH_WINDOW));
+        }
         cacheInstance();
     }
 
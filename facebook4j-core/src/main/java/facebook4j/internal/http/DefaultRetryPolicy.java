@@ -0,0 +1,168 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.logging.Logger;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Retries I/O errors, server errors and the transient or throttling errors of the Graph API
+ * with exponential backoff and full jitter.<br>
+ * The n-th retry waits a random time between zero and min(max interval, retry interval * 2^n),
+ * or longer if the response asks for it with a Retry-After header.
+ * All instances draw from one global {@link RetryBudget}, so that a failing API is not flooded with retries.
+ *
+ * @see <a href="https://developers.facebook.com/docs/graph-api/using-graph-api/error-handling">Handling Errors - Facebook Developers</a>
+ */
+public class DefaultRetryPolicy implements RetryPolicy, HttpResponseCode {
+    private static final Logger logger = Logger.getLogger(DefaultRetryPolicy.class);
+
+    private static final RetryBudget GLOBAL_BUDGET = new RetryBudget(100, 10);
+    private static final Random RANDOM = new Random();
+
+    /** Unknown error, may be resolved by retrying. */
+    public static final int API_UNKNOWN = 1;
+    /** Temporary issue due to downtime. */
+    public static final int API_SERVICE = 2;
+    /** Application request limit reached. */
+    public static final int API_TOO_MANY_CALLS = 4;
+    /** User request limit reached. */
+    public static final int API_USER_TOO_MANY_CALLS = 17;
+    /** Page request limit reached. */
+    public static final int API_PAGE_TOO_MANY_CALLS = 32;
+    /** Custom rate limit reached. */
+    public static final int API_CUSTOM_TOO_MANY_CALLS = 613;
+
+    private final long intervalMillis;
+    private final long maxIntervalMillis;
+    private final RetryBudget budget;
+
+    public DefaultRetryPolicy(HttpClientConfiguration conf) {
+        this(conf.getHttpRetryIntervalSeconds() * 1000L, conf.getHttpRetryMaxIntervalSeconds() * 1000L, GLOBAL_BUDGET);
+    }
+
+    /**
+     * @param intervalMillis    the upper bound of the first retry delay
+     * @param maxIntervalMillis the upper bound of any retry delay, unless Facebook asks for a longer one
+     * @param budget            the retry budget, or null for unlimited retries
+     */
+    public DefaultRetryPolicy(long intervalMillis, long maxIntervalMillis, RetryBudget budget) {
+        this.intervalMillis = Math.max(intervalMillis, 0);
+        this.maxIntervalMillis = Math.max(maxIntervalMillis, this.intervalMillis);
+        this.budget = budget;
+    }
+
+    public long getRetryDelay(HttpRequest req, int retriedCount, HttpResponse res, IOException ioe) {
+        long retryAfter = 0;
+        if (res != null) {
+            if (!isRetryable(res)) {
+                return -1;
+            }
+            retryAfter = getRetryAfter(res);
+        }
+        if (budget != null && !budget.tryAcquire()) {
+            logger.warn("Retry budget exhausted, not retrying: ", req.getURL());
+            return -1;
+        }
+        return Math.max(backoff(retriedCount), retryAfter);
+    }
+
+    /**
+     * @param res the error response
+     * @return true if the request may succeed when retried
+     */
+    protected boolean isRetryable(HttpResponse res) {
+        int statusCode = res.getStatusCode();
+        if (statusCode == TOO_MANY_REQUESTS || statusCode >= INTERNAL_SERVER_ERROR) {
+            return true;
+        }
+        JSONObject error = getError(res);
+        if (error == null) {
+            return false;
+        }
+        if (error.optBoolean("is_transient")) {
+            return true;
+        }
+        switch (error.optInt("code", -1)) {
+            case API_UNKNOWN:
+            case API_SERVICE:
+            case API_TOO_MANY_CALLS:
+            case API_USER_TOO_MANY_CALLS:
+            case API_PAGE_TOO_MANY_CALLS:
+            case API_CUSTOM_TOO_MANY_CALLS:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @param retriedCount the number of retries made so far
+     * @return a random delay between zero and the exponentially growing upper bound
+     */
+    protected long backoff(int retriedCount) {
+        long bound = intervalMillis << Math.min(retriedCount, 30);
+        if (bound <= 0 || bound > maxIntervalMillis) {
+            bound = maxIntervalMillis;
+        }
+        double random;
+        synchronized (RANDOM) {
+            random = RANDOM.nextDouble();
+        }
+        return (long) (random * bound);
+    }
+
+    private static JSONObject getError(HttpResponse res) {
+        try {
+            String body = res.asString();
+            if (body == null || !body.startsWith("{")) {
+                return null;
+            }
+            return new JSONObject(body).optJSONObject("error");
+        } catch (FacebookException e) {
+            return null;
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private static long getRetryAfter(HttpResponse res) {
+        String retryAfter = res.getResponseHeader("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ignore) {
+                // HTTP-date, not sent by the Graph API
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultRetryPolicy{" +
+                "intervalMillis=" + intervalMillis +
+                ", maxIntervalMillis=" + maxIntervalMillis +
+                ", budget=" + budget +
+                '}';
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.internal.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static facebook4j.internal.http.RequestMethod.*;
+
+/**
+ * HttpClient implementation which sends requests with the java.net.http client of Java 11 or later.<br>
+ * Requests are sent over HTTP/2 where the server supports it, so that concurrent requests to the same host
+ * are multiplexed over a single connection instead of occupying one socket each.
+ * The underlying client is shared by all instances with the same configuration.<br>
+ * Response bodies are streamed, not buffered. Multipart uploads and runtimes without java.net.http
+ * (Java 10 or earlier, Android) fall back to {@link HttpClientImpl}.
+ * <p/>
+ * To enable it:
+ * <pre>
+ * -Dfacebook4j.http.httpClient=facebook4j.internal.http.Http2ClientImpl
+ * </pre>
+ */
+public class Http2ClientImpl extends HttpClientImpl {
+    private static final long serialVersionUID = 2930436398722095374L;
+
+    private static final Logger logger = Logger.getLogger(Http2ClientImpl.class);
+
+    // headers java.net.http does not let callers set
+    private static final Set<String> RESTRICTED_HEADERS = new HashSet<String>(
+            Arrays.asList("connection", "content-length", "expect", "host", "upgrade"));
+
+    private static final Map<HttpClientConfiguration, Object> clientMap = new HashMap<HttpClientConfiguration, Object>(1);
+
+    private static final boolean AVAILABLE;
+    private static Method newClientBuilder;
+    private static Method clientVersion;
+    private static Method clientConnectTimeout;
+    private static Method clientProxy;
+    private static Method clientAuthenticator;
+    private static Method clientBuild;
+    private static Object http2;
+    private static Method newRequestBuilder;
+    private static Method requestHeader;
+    private static Method requestTimeout;
+    private static Method requestMethod;
+    private static Method requestBuild;
+    private static Method noBody;
+    private static Method ofByteArray;
+    private static Object ofInputStream;
+    private static Method send;
+    private static Method statusCode;
+    private static Method headers;
+    private static Method headersMap;
+    private static Method body;
+    private static Method durationOfMillis;
+    private static Method proxySelectorOf;
+
+    static {
+        boolean available;
+        try {
+            Class<?> clientClass = Class.forName("java.net.http.HttpClient");
+            Class<?> clientBuilderClass = Class.forName("java.net.http.HttpClient$Builder");
+            Class<?> versionClass = Class.forName("java.net.http.HttpClient$Version");
+            Class<?> requestClass = Class.forName("java.net.http.HttpRequest");
+            Class<?> requestBuilderClass = Class.forName("java.net.http.HttpRequest$Builder");
+            Class<?> bodyPublisherClass = Class.forName("java.net.http.HttpRequest$BodyPublisher");
+            Class<?> bodyPublishersClass = Class.forName("java.net.http.HttpRequest$BodyPublishers");
+            Class<?> responseClass = Class.forName("java.net.http.HttpResponse");
+            Class<?> bodyHandlerClass = Class.forName("java.net.http.HttpResponse$BodyHandler");
+            Class<?> bodyHandlersClass = Class.forName("java.net.http.HttpResponse$BodyHandlers");
+            Class<?> headersClass = Class.forName("java.net.http.HttpHeaders");
+            Class<?> durationClass = Class.forName("java.time.Duration");
+
+            newClientBuilder = clientClass.getMethod("newBuilder");
+            clientVersion = clientBuilderClass.getMethod("version", versionClass);
+            clientConnectTimeout = clientBuilderClass.getMethod("connectTimeout", durationClass);
+            clientProxy = clientBuilderClass.getMethod("proxy", ProxySelector.class);
+            clientAuthenticator = clientBuilderClass.getMethod("authenticator", Authenticator.class);
+            clientBuild = clientBuilderClass.getMethod("build");
+            http2 = versionClass.getField("HTTP_2").get(null);
+
+            newRequestBuilder = requestClass.getMethod("newBuilder", URI.class);
+            requestHeader = requestBuilderClass.getMethod("header", String.class, String.class);
+            requestTimeout = requestBuilderClass.getMethod("timeout", durationClass);
+            requestMethod = requestBuilderClass.getMethod("method", String.class, bodyPublisherClass);
+            requestBuild = requestBuilderClass.getMethod("build");
+            noBody = bodyPublishersClass.getMethod("noBody");
+            ofByteArray = bodyPublishersClass.getMethod("ofByteArray", byte[].class);
+            ofInputStream = bodyHandlersClass.getMethod("ofInputStream").invoke(null);
+
+            send = clientClass.getMethod("send", requestClass, bodyHandlerClass);
+            statusCode = responseClass.getMethod("statusCode");
+            headers = responseClass.getMethod("headers");
+            headersMap = headersClass.getMethod("map");
+            body = responseClass.getMethod("body");
+
+            durationOfMillis = durationClass.getMethod("ofMillis", long.class);
+            proxySelectorOf = ProxySelector.class.getMethod("of", InetSocketAddress.class);
+            available = true;
+        } catch (Exception e) {
+            available = false;
+        }
+        AVAILABLE = available;
+    }
+
+    private final boolean available;
+
+    public Http2ClientImpl(HttpClientConfiguration conf) {
+        this(conf, AVAILABLE);
+    }
+
+    /*package*/ Http2ClientImpl(HttpClientConfiguration conf, boolean available) {
+        super(conf);
+        this.available = available;
+        if (!available) {
+            logger.warn("java.net.http is not available, falling back to HttpURLConnection.");
+        }
+    }
+
+    /**
+     * @return true if java.net.http is available on this runtime
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @Override
+    protected HttpResponse execute(HttpRequest req) throws IOException {
+        if (!available || HttpParameter.containsFile(req.getParameters())) {
+            return super.execute(req);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request: ");
+            logger.debug(req.getMethod().name() + " ", req.getURL());
+        }
+        try {
+            Object response = send.invoke(getClient(), buildRequest(req), ofInputStream);
+            return toResponse(response);
+        } catch (InvocationTargetException ite) {
+            throw unwrap(ite);
+        } catch (IllegalAccessException iae) {
+            throw new AssertionError(iae);
+        }
+    }
+
+    /**
+     * @return the java.net.http.HttpRequest of the request
+     */
+    /*package*/ Object buildRequest(HttpRequest req) throws IOException {
+        try {
+            Object builder = newRequestBuilder.invoke(null, URI.create(req.getURL()));
+            if (CONF.getHttpReadTimeout() > 0) {
+                requestTimeout.invoke(builder, durationOfMillis.invoke(null, (long) CONF.getHttpReadTimeout()));
+            }
+            if (req.getRequestHeaders() != null) {
+                for (String key : req.getRequestHeaders().keySet()) {
+                    if (RESTRICTED_HEADERS.contains(key.toLowerCase())) {
+                        continue;
+                    }
+                    requestHeader.invoke(builder, key, req.getRequestHeaders().get(key));
+                    logger.debug(key + ": " + req.getRequestHeaders().get(key));
+                }
+            }
+            if (CONF.isGZIPEnabled() && !containsHeader(req, "Accept-Encoding")) {
+                requestHeader.invoke(builder, "Accept-Encoding", "gzip");
+            }
+            Object publisher;
+            if (req.getMethod() == POST) {
+                if (!containsHeader(req, "Content-Type")) {
+                    requestHeader.invoke(builder, "Content-Type", "application/x-www-form-urlencoded");
+                }
+                String postParam = HttpParameter.encodeParameters(req.getParameters());
+                logger.debug("Post Params: ", postParam);
+                publisher = ofByteArray.invoke(null, (Object) postParam.getBytes("UTF-8"));
+            } else {
+                publisher = noBody.invoke(null);
+            }
+            requestMethod.invoke(builder, req.getMethod().name(), publisher);
+            return requestBuild.invoke(builder);
+        } catch (InvocationTargetException ite) {
+            throw unwrap(ite);
+        } catch (IllegalAccessException iae) {
+            throw new AssertionError(iae);
+        }
+    }
+
+    /**
+     * @param response a java.net.http.HttpResponse with an InputStream body
+     */
+    /*package*/ HttpResponse toResponse(Object response) throws IOException {
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, List<String>> responseHeaders = (Map<String, List<String>>) headersMap.invoke(headers.invoke(response));
+            return new Http2ResponseImpl((Integer) statusCode.invoke(response), responseHeaders,
+                    (InputStream) body.invoke(response), CONF);
+        } catch (InvocationTargetException ite) {
+            throw unwrap(ite);
+        } catch (IllegalAccessException iae) {
+            throw new AssertionError(iae);
+        }
+    }
+
+    private static IOException unwrap(InvocationTargetException ite) {
+        Throwable cause = ite.getCause();
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return new InterruptedIOException(cause.getMessage());
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new AssertionError(cause);
+    }
+
+    private static boolean containsHeader(HttpRequest req, String name) {
+        if (req.getRequestHeaders() != null) {
+            for (String key : req.getRequestHeaders().keySet()) {
+                if (key.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Object getClient() throws IllegalAccessException, InvocationTargetException {
+        synchronized (clientMap) {
+            Object client = clientMap.get(CONF);
+            if (null == client) {
+                client = buildClient();
+                clientMap.put(CONF, client);
+            }
+            return client;
+        }
+    }
+
+    private Object buildClient() throws IllegalAccessException, InvocationTargetException {
+        Object builder = newClientBuilder.invoke(null);
+        clientVersion.invoke(builder, http2);
+        if (CONF.getHttpConnectionTimeout() > 0) {
+            clientConnectTimeout.invoke(builder, durationOfMillis.invoke(null, (long) CONF.getHttpConnectionTimeout()));
+        }
+        if (isProxyConfigured()) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Opening proxied connection(" + CONF.getHttpProxyHost() + ":" + CONF.getHttpProxyPort() + ")");
+            }
+            clientProxy.invoke(builder, proxySelectorOf.invoke(null,
+                    InetSocketAddress.createUnresolved(CONF.getHttpProxyHost(), CONF.getHttpProxyPort())));
+            if (CONF.getHttpProxyUser() != null && !CONF.getHttpProxyUser().equals("")) {
+                logger.debug("Proxy AuthUser: " + CONF.getHttpProxyUser());
+                clientAuthenticator.invoke(builder, new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        //respond only to proxy auth requests
+                        if (getRequestorType().equals(RequestorType.PROXY)) {
+                            return new PasswordAuthentication(CONF.getHttpProxyUser(),
+                                    CONF.getHttpProxyPassword().toCharArray());
+                        } else {
+                            return null;
+                        }
+                    }
+                });
+            }
+        }
+        return clientBuild.invoke(builder);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of {@link Http2ClientImpl}.<br>
+ * Disconnecting closes the body stream only, the connection stays open for other requests.
+ */
+/*package*/ class Http2ResponseImpl extends HttpResponse {
+    private final Map<String, List<String>> headerFields;
+
+    Http2ResponseImpl(int statusCode, Map<String, List<String>> headerFields, InputStream body,
+                      HttpClientConfiguration conf) throws IOException {
+        super(conf);
+        this.statusCode = statusCode;
+        // java.net.http looks headers up case-insensitively
+        this.headerFields = headerFields;
+        this.is = body;
+        if (is != null) {
+            is = new ResponseBodyInputStream(is, getResponseHeader("Content-Encoding"));
+        }
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        List<String> values = headerFields.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaderFields() {
+        return headerFields;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disconnect() {
+        if (is != null) {
+            try {
+                is.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+}
@@ -37,6 +37,8 @@ public interface HttpClientConfiguration {
 
     int getHttpRetryIntervalSeconds();
 
+    int getHttpRetryMaxIntervalSeconds();
+
     int getHttpMaxTotalConnections();
 
     int getHttpDefaultMaxPerRoute();
@@ -44,4 +46,9 @@ public interface HttpClientConfiguration {
     boolean isPrettyDebugEnabled();
 
     boolean isGZIPEnabled();
+
+    /**
+     * @return true if JSON responses are decoded from bytes with {@link facebook4j.internal.org.json.JSONPullParser}
+     */
+    boolean isJSONStreamingEnabled();
 }
@@ -21,9 +21,6 @@ import facebook4j.conf.ConfigurationContext;
 import facebook4j.internal.logging.Logger;
 import facebook4j.internal.util.z_F4JInternalStringUtil;
 
-import java.io.BufferedInputStream;
-import java.io.DataOutputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.Authenticator;
@@ -52,6 +49,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
 
     private static final Logger logger = Logger.getLogger(HttpClientImpl.class);
 
+    private transient RetryPolicy retryPolicy;
+
     static {
         // disable keepAlive (Android 2.1 or earlier)
         // quick and dirty workaround for TFJ-296
@@ -93,118 +92,129 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
     }
 
     public HttpResponse request(HttpRequest req) throws FacebookException {
-        int retriedCount;
-        int retry = CONF.getHttpRetryCount() + 1;
         HttpResponse res = null;
-        for (retriedCount = 0; retriedCount < retry; retriedCount++) {
+        for (int retriedCount = 0; ; retriedCount++) {
             int responseCode = -1;
+            IOException ioe = null;
             try {
-                HttpURLConnection con;
-                OutputStream os = null;
-                try {
-                    con = getConnection(req.getURL());
-                    con.setDoInput(true);
-                    setHeaders(req, con);
-                    con.setRequestMethod(req.getMethod().name());
-                    if (req.getMethod() == POST) {
-                        if (HttpParameter.containsFile(req.getParameters())) {
-                            String boundary = "----Facebook4J-upload" + System.currentTimeMillis();
-                            con.setRequestProperty("Content-Type", "multipart/form-data; boundary=" + boundary);
-                            boundary = "--" + boundary;
-                            con.setDoOutput(true);
-                            os = con.getOutputStream();
-                            DataOutputStream out = new DataOutputStream(os);
-                            for (HttpParameter param : req.getParameters()) {
-                                if (param.isFile()) {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"; filename=\"" + param.getFile().getName() + "\"\r\n");
-                                    write(out, "Content-Type: " + param.getContentType() + "\r\n\r\n");
-                                    BufferedInputStream in = new BufferedInputStream(
-                                            param.hasFileBody() ? param.getFileBody() : new FileInputStream(param.getFile())
-                                    );
-                                    int buff;
-                                    while ((buff = in.read()) != -1) {
-                                        out.write(buff);
-                                    }
-                                    write(out, "\r\n");
-                                    in.close();
-                                } else {
-                                    write(out, boundary + "\r\n");
-                                    write(out, "Content-Disposition: form-data; name=\"" + param.getName() + "\"\r\n");
-                                    write(out, "Content-Type: text/plain; charset=UTF-8\r\n\r\n");
-                                    logger.debug(param.getValue());
-                                    out.write(param.getValue().getBytes("UTF-8"));
-                                    write(out, "\r\n");
-                                }
-                            }
-                            write(out, boundary + "--\r\n");
-                            write(out, "\r\n");
-
-                        } else {
-                            con.setRequestProperty("Content-Type",
-                                    "application/x-www-form-urlencoded");
-                            String postParam = HttpParameter.encodeParameters(req.getParameters());
-                            logger.debug("Post Params: ", postParam);
-                            byte[] bytes = postParam.getBytes("UTF-8");
-                            con.setRequestProperty("Content-Length",
-                                    Integer.toString(bytes.length));
-                            con.setDoOutput(true);
-                            os = con.getOutputStream();
-                            os.write(bytes);
-                        }
-                        os.flush();
-                        os.close();
-                    }
-                    res = new HttpResponseImpl(con, CONF);
-                    responseCode = con.getResponseCode();
-                    if (logger.isDebugEnabled()) {
-                        logger.debug("Response: ");
-                        Map<String, List<String>> responseHeaders = con.getHeaderFields();
-                        for (String key : responseHeaders.keySet()) {
-                            List<String> values = responseHeaders.get(key);
-                            for (String value : values) {
-                                if (key != null) {
-                                    logger.debug(key + ": " + value);
-                                } else {
-                                    logger.debug(value);
-                                }
+                res = execute(req);
+                responseCode = res.getStatusCode();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Response: ");
+                    Map<String, List<String>> responseHeaders = res.getResponseHeaderFields();
+                    for (String key : responseHeaders.keySet()) {
+                        List<String> values = responseHeaders.get(key);
+                        for (String value : values) {
+                            if (key != null) {
+                                logger.debug(key + ": " + value);
+                            } else {
+                                logger.debug(value);
                             }
                         }
                     }
-                    if (responseCode < OK || (responseCode != FOUND && MULTIPLE_CHOICES <= responseCode)) {
-                        if (responseCode == ENHANCE_YOUR_CLAIM ||
-                                responseCode == BAD_REQUEST ||
-                                responseCode < INTERNAL_SERVER_ERROR ||
-                                retriedCount == CONF.getHttpRetryCount()) {
-                            throw new FacebookException(res.asString(), res);
-                        }
-                        // will retry if the status code is INTERNAL_SERVER_ERROR
-                    } else {
-                        break;
-                    }
-                } finally {
-                    try {
-                        os.close();
-                    } catch (Exception ignore) {
-                    }
                 }
-            } catch (IOException ioe) {
+                if (OK <= responseCode && (responseCode == FOUND || responseCode == NOT_MODIFIED || responseCode < MULTIPLE_CHOICES)) {
+                    return res;
+                }
+            } catch (IOException e) {
                 // connection timeout or read timeout
-                if (retriedCount == CONF.getHttpRetryCount()) {
+                ioe = e;
+                res = null;
+            }
+            long delay = -1;
+            if (retriedCount < CONF.getHttpRetryCount()) {
+                delay = getRetryPolicy().getRetryDelay(req, retriedCount, res, ioe);
+            }
+            if (delay < 0) {
+                if (ioe != null) {
                     throw new FacebookException(ioe.getMessage(), ioe, responseCode);
                 }
+                throw new FacebookException(res.asString(), res);
             }
-            try {
-                if (logger.isDebugEnabled() && res != null) {
+            if (res != null) {
+                // release the connection of the failed attempt before retrying
+                if (logger.isDebugEnabled()) {
                     res.asString();
+                } else {
+                    try {
+                        res.disconnect();
+                    } catch (IOException ignore) {
+                    }
+                }
+            }
+            logger.debug("Sleeping " + delay + " ms until the next retry.");
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new FacebookException("Interrupted while waiting to retry", ie);
+            }
+        }
+    }
+
+    private RetryPolicy getRetryPolicy() {
+        if (retryPolicy == null) {
+            retryPolicy = RetryPolicyFactory.getInstance(CONF);
+        }
+        return retryPolicy;
+    }
+
+    /**
+     * Sends the request once and returns the response, whatever its status code is.<br>
+     * Retrying is up to {@link #request(HttpRequest)}; subclasses can override this to send the request over another transport.
+     *
+     * @param req the request
+     * @return the response
+     * @throws IOException when the request could not be sent or the response could not be read
+     */
+    protected HttpResponse execute(HttpRequest req) throws IOException {
+        HttpURLConnection con = null;
+        OutputStream os = null;
+        try {
+            con = getConnection(req.getURL());
+            con.setDoInput(true);
+            setHeaders(req, con);
+            con.setRequestMethod(req.getMethod().name());
+            if (req.getMethod() == POST) {
+                if (HttpParameter.containsFile(req.getParameters())) {
+                    MultipartEntity entity = new MultipartEntity("----Facebook4J-upload" + System.currentTimeMillis(),
+                            req.getParameters());
+                    con.setRequestProperty("Content-Type", entity.getContentType());
+                    // stream the body instead of letting HttpURLConnection buffer it in memory
+                    long length = entity.getContentLength();
+                    if (0 <= length && length <= Integer.MAX_VALUE) {
+                        con.setFixedLengthStreamingMode((int) length);
+                    } else {
+                        con.setChunkedStreamingMode(0);
+                    }
+                    con.setDoOutput(true);
+                    os = con.getOutputStream();
+                    entity.writeTo(os);
+                } else {
+                    con.setRequestProperty("Content-Type",
+                            "application/x-www-form-urlencoded");
+                    String postParam = HttpParameter.encodeParameters(req.getParameters());
+                    logger.debug("Post Params: ", postParam);
+                    byte[] bytes = postParam.getBytes("UTF-8");
+                    con.setRequestProperty("Content-Length",
+                            Integer.toString(bytes.length));
+                    con.setDoOutput(true);
+                    os = con.getOutputStream();
+                    os.write(bytes);
                 }
-                logger.debug("Sleeping " + CONF.getHttpRetryIntervalSeconds() + " seconds until the next retry.");
-                Thread.sleep(CONF.getHttpRetryIntervalSeconds() * 1000);
-            } catch (InterruptedException ignore) {
-                //nothing to do
+                os.flush();
+                os.close();
+            }
+            return createResponse(con);
+        } catch (IOException ioe) {
+            abortConnection(con);
+            throw ioe;
+        } finally {
+            try {
+                os.close();
+            } catch (Exception ignore) {
             }
         }
-        return res;
     }
 
     public static String encode(String str) {
@@ -233,6 +243,29 @@ public class HttpClientImpl extends HttpClientBase implements HttpClient, HttpRe
                 logger.debug(key + ": " + req.getRequestHeaders().get(key));
             }
         }
+        if (CONF.isGZIPEnabled() && connection.getRequestProperty("Accept-Encoding") == null) {
+            connection.setRequestProperty("Accept-Encoding", "gzip");
+        }
+    }
+
+    /**
+     * Creates the response for the given connection.<br>
+     * Subclasses can override this to control how the underlying connection is released.
+     *
+     * @param con the connection the request has been written to
+     * @return the response
+     * @throws IOException when the response status cannot be read
+     */
+    protected HttpResponse createResponse(HttpURLConnection con) throws IOException {
+        return new HttpResponseImpl(con, CONF);
+    }
+
+    /**
+     * Called when the request failed with an I/O error before a response could be returned.
+     *
+     * @param con the connection, or null if it could not be opened
+     */
+    protected void abortConnection(HttpURLConnection con) {
     }
 
     protected HttpURLConnection getConnection(String url) throws IOException {
@@ -56,14 +56,38 @@ public class HttpClientWrapper implements java.io.Serializable {
     }
 
     protected HttpResponse request(HttpRequest req) throws FacebookException {
+        if (req.getMethod() == GET && wrapperConf.isCoalescingEnabled()) {
+            return RequestCoalescer.getInstance(wrapperConf).request(req, this);
+        }
+        return send(req);
+    }
+
+    /*package*/ HttpResponse send(HttpRequest req) throws FacebookException {
         HttpResponse res;
+        RateGovernor governor = wrapperConf.isRateLimitEnabled() ? RateGovernor.getInstance(wrapperConf) : null;
+        ResponseCache cache = req.getMethod() == GET && wrapperConf.isCacheEnabled() ? ResponseCache.getInstance(wrapperConf) : null;
+        ResponseCache.Entry cached = cache != null ? cache.get(req) : null;
+        if (governor != null) {
+            governor.acquire(req);
+        }
         try {
-            res = http.request(req);
+            res = http.request(cached != null ? cached.conditional(req) : req);
+            if (governor != null) {
+                governor.update(req, res);
+            }
+            if (cached != null) {
+                res = cache.revalidated(req, cached, res);
+            } else if (cache != null) {
+                res = cache.store(req, res);
+            }
             //fire HttpResponseEvent
             if (httpResponseListener != null) {
                 httpResponseListener.httpResponseReceived(new HttpResponseEvent(req, res, null));
             }
         } catch (FacebookException fe) {
+            if (governor != null) {
+                governor.update(req, fe);
+            }
             if (httpResponseListener != null) {
                 httpResponseListener.httpResponseReceived(new HttpResponseEvent(req, null, fe));
             }
@@ -23,4 +23,34 @@ public interface HttpClientWrapperConfiguration extends HttpClientConfiguration
      * @return request headers
      */
     Map<String, String> getRequestHeaders();
+
+    /**
+     * @return true if requests are slowed down as the usage reported by Facebook approaches the limit
+     */
+    boolean isRateLimitEnabled();
+
+    /**
+     * @return usage in percent from which requests are slowed down
+     */
+    int getRateLimitThreshold();
+
+    /**
+     * @return the longest interval in milliseconds between two requests, applied when the usage reaches the limit
+     */
+    int getRateLimitMaxDelay();
+
+    /**
+     * @return true if concurrent identical GET requests share one network call
+     */
+    boolean isCoalescingEnabled();
+
+    /**
+     * @return true if GET responses carrying an ETag are cached and revalidated with conditional requests
+     */
+    boolean isCacheEnabled();
+
+    /**
+     * @return the total size in bytes of the response bodies the cache may hold
+     */
+    int getCacheMaxBytes();
 }
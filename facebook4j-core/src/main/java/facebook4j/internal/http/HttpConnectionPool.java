@@ -0,0 +1,257 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.internal.logging.Logger;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounds the number of connections in use, per route and in total.<br>
+ * A connection is leased before the request is sent and handed back once the response body has been consumed or closed.
+ * A lease is never taken back while it is in use, however long the request takes.
+ * Leases dropped by their holder without being released are detected once garbage collected; their connections are closed and the slots are reclaimed.
+ */
+public final class HttpConnectionPool {
+    private static final Logger logger = Logger.getLogger(HttpConnectionPool.class);
+
+    // how often a waiting thread looks for leaked leases, as the garbage collector does not notify
+    private static final long REAP_INTERVAL_MILLIS = 500;
+    // default of the "http.maxConnections" system property
+    private static final int DEFAULT_KEEP_ALIVE_CONNECTIONS = 5;
+
+    private final int maxTotal;
+    private final int maxPerRoute;
+
+    private final Map<String, List<Slot>> leased = new HashMap<String, List<Slot>>();
+    private final ReferenceQueue<Lease> leaked = new ReferenceQueue<Lease>();
+    private int totalLeased = 0;
+
+    /**
+     * @param maxTotal    maximum number of connections in use at the same time, no limit if zero or less
+     * @param maxPerRoute maximum number of connections in use at the same time for one route, no limit if zero or less
+     */
+    public HttpConnectionPool(int maxTotal, int maxPerRoute) {
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    /**
+     * Leases a connection slot for the route, waiting until one becomes available.
+     *
+     * @param route         the route
+     * @param timeoutMillis how long to wait for a free slot, forever if zero or less
+     * @return the lease
+     * @throws IOException when no slot became available within the timeout
+     */
+    public synchronized Lease lease(String route, long timeoutMillis) throws IOException {
+        long deadline = timeoutMillis > 0 ? System.currentTimeMillis() + timeoutMillis : 0;
+        reapLeaked();
+        List<Slot> routeSlots = leased.get(route);
+        if (routeSlots == null) {
+            routeSlots = new ArrayList<Slot>(Math.max(maxPerRoute, 1));
+            leased.put(route, routeSlots);
+        }
+        while (isFull(routeSlots)) {
+            long waitMillis = REAP_INTERVAL_MILLIS;
+            if (deadline != 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IOException("Timeout waiting for connection: " + route);
+                }
+                waitMillis = Math.min(waitMillis, remaining);
+            }
+            try {
+                wait(waitMillis);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for connection: " + route);
+            }
+            reapLeaked();
+        }
+        Lease lease = new Lease(route);
+        routeSlots.add(lease.slot);
+        totalLeased++;
+        return lease;
+    }
+
+    /**
+     * @return the number of idle sockets the JVM's keep-alive cache keeps per route, the "http.maxConnections" system property
+     */
+    public static int getKeepAliveConnections() {
+        int keepAlive = Integer.getInteger("http.maxConnections", DEFAULT_KEEP_ALIVE_CONNECTIONS);
+        return keepAlive > 0 ? keepAlive : DEFAULT_KEEP_ALIVE_CONNECTIONS;
+    }
+
+    public synchronized int getLeasedCount() {
+        return totalLeased;
+    }
+
+    public synchronized int getLeasedCount(String route) {
+        List<Slot> routeSlots = leased.get(route);
+        return routeSlots == null ? 0 : routeSlots.size();
+    }
+
+    private boolean isFull(List<Slot> routeSlots) {
+        return (maxTotal > 0 && totalLeased >= maxTotal)
+                || (maxPerRoute > 0 && routeSlots.size() >= maxPerRoute);
+    }
+
+    private void reapLeaked() {
+        Reference<? extends Lease> ref;
+        while ((ref = leaked.poll()) != null) {
+            Slot slot = (Slot) ref;
+            if (remove(slot)) {
+                logger.warn("Reclaiming a connection which was never released: ", slot.route);
+                slot.close();
+            }
+        }
+    }
+
+    private boolean remove(Slot slot) {
+        List<Slot> routeSlots = leased.get(slot.route);
+        if (routeSlots != null && routeSlots.remove(slot)) {
+            totalLeased--;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void release(Slot slot) {
+        if (remove(slot)) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns the route (scheme, host and port) of the url.
+     *
+     * @param url the url
+     * @return the route
+     */
+    public static String routeOf(String url) {
+        try {
+            URL u = new URL(url);
+            int port = u.getPort() != -1 ? u.getPort() : u.getDefaultPort();
+            return u.getProtocol() + "://" + u.getHost() + ":" + port;
+        } catch (MalformedURLException e) {
+            return url;
+        }
+    }
+
+    /**
+     * The pool's handle on a lease, which does not keep the lease reachable.
+     */
+    private final class Slot extends WeakReference<Lease> {
+        private final String route;
+        private HttpURLConnection connection;
+
+        private Slot(Lease lease, String route) {
+            super(lease, leaked);
+            this.route = route;
+        }
+
+        private synchronized void attach(HttpURLConnection connection) {
+            this.connection = connection;
+        }
+
+        private synchronized HttpURLConnection detach() {
+            HttpURLConnection detached = connection;
+            connection = null;
+            return detached;
+        }
+
+        private void close() {
+            HttpURLConnection toClose = detach();
+            if (toClose != null) {
+                toClose.disconnect();
+            }
+        }
+    }
+
+    /**
+     * A connection slot handed out by the pool.
+     */
+    public final class Lease {
+        private final String route;
+        private final long leasedAt;
+        private final Slot slot;
+        private boolean released = false;
+
+        private Lease(String route) {
+            this.route = route;
+            this.leasedAt = System.currentTimeMillis();
+            this.slot = new Slot(this, route);
+        }
+
+        public String getRoute() {
+            return route;
+        }
+
+        /*package*/ void attach(HttpURLConnection connection) {
+            slot.attach(connection);
+        }
+
+        /**
+         * Hands the slot back to the pool. Calling this more than once has no effect.
+         *
+         * @param reusable false to close the underlying connection instead of keeping it alive
+         */
+        public void release(boolean reusable) {
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+            }
+            if (reusable) {
+                slot.detach();
+            } else {
+                slot.close();
+            }
+            HttpConnectionPool.this.release(slot);
+        }
+
+        @Override
+        public String toString() {
+            return "Lease{" +
+                    "route='" + route + '\'' +
+                    ", leasedAt=" + leasedAt +
+                    ", released=" + released +
+                    '}';
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HttpConnectionPool{" +
+                "maxTotal=" + maxTotal +
+                ", maxPerRoute=" + maxPerRoute +
+                ", totalLeased=" + totalLeased +
+                '}';
+    }
+}
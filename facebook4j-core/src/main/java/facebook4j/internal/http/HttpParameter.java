@@ -37,6 +37,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
     private String value = null;
     private File file = null;
     private InputStream fileBody = null;
+    private long fileOffset = 0;
+    private long fileLength = -1;
     private static final long serialVersionUID = -8708108746980739212L;
 
     public HttpParameter(String name, String value) {
@@ -49,6 +51,24 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         this.file = file;
     }
 
+    /**
+     * Creates a parameter which sends a region of the file.
+     *
+     * @param name   the name
+     * @param file   the file
+     * @param offset offset of the first byte to send
+     * @param length number of bytes to send
+     */
+    public HttpParameter(String name, File file, long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("offset and length must not be negative");
+        }
+        this.name = name;
+        this.file = file;
+        this.fileOffset = offset;
+        this.fileLength = length;
+    }
+
     public HttpParameter(String name, String fileName, InputStream fileBody) {
         this.name = name;
         this.file = new File(fileName);
@@ -91,6 +111,17 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         return fileBody;
     }
 
+    public long getFileOffset() {
+        return fileOffset;
+    }
+
+    /**
+     * @return number of bytes of the file to send
+     */
+    public long getFileLength() {
+        return fileLength >= 0 ? fileLength : file.length() - fileOffset;
+    }
+
     public boolean isFile() {
         return file != null;
     }
@@ -153,6 +184,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
             return false;
         if (fileBody != null ? !fileBody.equals(that.fileBody) : that.fileBody != null)
             return false;
+        if (fileOffset != that.fileOffset) return false;
+        if (fileLength != that.fileLength) return false;
         if (!name.equals(that.name)) return false;
         if (value != null ? !value.equals(that.value) : that.value != null)
             return false;
@@ -211,6 +244,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
         result = 31 * result + (value != null ? value.hashCode() : 0);
         result = 31 * result + (file != null ? file.hashCode() : 0);
         result = 31 * result + (fileBody != null ? fileBody.hashCode() : 0);
+        result = 31 * result + (int) (fileOffset ^ (fileOffset >>> 32));
+        result = 31 * result + (int) (fileLength ^ (fileLength >>> 32));
         return result;
     }
 
@@ -221,6 +256,8 @@ public final class HttpParameter implements Comparable, java.io.Serializable {
                 ", value='" + value + '\'' +
                 ", file=" + file +
                 ", fileBody=" + fileBody +
+                ", fileOffset=" + fileOffset +
+                ", fileLength=" + fileLength +
                 '}';
     }
 
@@ -21,6 +21,7 @@ import facebook4j.auth.Authorization;
 import facebook4j.auth.OAuthAuthorization;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -87,6 +88,28 @@ public final class HttpRequest implements java.io.Serializable {
         this.requestHeaders = requestHeaders;
     }
 
+    private HttpRequest(HttpRequest req, Map<String, String> requestHeaders) {
+        this.method = req.method;
+        this.url = req.url;
+        this.parameters = req.parameters;
+        this.authorization = req.authorization;
+        this.requestHeaders = requestHeaders;
+    }
+
+    /**
+     * @param name  header name
+     * @param value header value
+     * @return a copy of this request with the header added
+     */
+    /*package*/ HttpRequest withRequestHeader(String name, String value) {
+        Map<String, String> headers = new HashMap<String, String>();
+        if (requestHeaders != null) {
+            headers.putAll(requestHeaders);
+        }
+        headers.put(name, value);
+        return new HttpRequest(this, headers);
+    }
+
     // Added method by Facebook4J
     private HttpParameter[] setAccessTokenParameter(HttpParameter[] parameters, Authorization authorization) {
         if (authorization == null) return parameters;
@@ -22,6 +22,7 @@ import facebook4j.internal.logging.Logger;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 import facebook4j.internal.org.json.JSONTokener;
 
 import java.io.BufferedReader;
@@ -89,20 +90,18 @@ public abstract class HttpResponse {
      */
     public String asString() throws FacebookException {
         if (null == responseAsString) {
-            BufferedReader br = null;
             InputStream stream = null;
             try {
                 stream = asStream();
                 if (null == stream) {
                     return null;
                 }
-                br = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
-                StringBuilder buf = new StringBuilder();
-                String line;
-                while ((line = br.readLine()) != null) {
-                    buf.append(line).append("\n");
+                ResponseBodyBuffer body = readBody(stream);
+                try {
+                    this.responseAsString = body.decode();
+                } finally {
+                    body.release();
                 }
-                this.responseAsString = buf.toString();
                 logger.debug(responseAsString);
                 stream.close();
                 streamConsumed = true;
@@ -115,12 +114,6 @@ public abstract class HttpResponse {
                     } catch (IOException ignore) {
                     }
                 }
-                if (br != null) {
-                    try {
-                        br.close();
-                    } catch (IOException ignore) {
-                    }
-                }
                 disconnectForcibly();
             }
         }
@@ -139,18 +132,32 @@ public abstract class HttpResponse {
     public JSONObject asJSONObject() throws FacebookException {
         if (json == null) {
             Reader reader = null;
+            InputStream stream = null;
             try {
-                if (responseAsString == null) {
+                if (responseAsString == null && CONF.isJSONStreamingEnabled()) {
+                    stream = asStream();
+                    if (stream == null) {
+                        throw new JSONException("No response body");
+                    }
+                    ResponseBodyBuffer body = readBody(stream);
+                    try {
+                        json = new JSONPullParser(body.array(), body.length()).nextObject();
+                    } finally {
+                        body.release();
+                    }
+                } else if (responseAsString == null) {
                     reader = asReader();
                     json = new JSONObject(new JSONTokener(reader));
                 } else {
                     json = new JSONObject(responseAsString);
                 }
-                if (CONF.isPrettyDebugEnabled()) {
-                    logger.debug(json.toString(1));
-                } else {
-                    logger.debug(responseAsString != null ? responseAsString :
-                            json.toString());
+                if (logger.isDebugEnabled()) {
+                    if (CONF.isPrettyDebugEnabled()) {
+                        logger.debug(json.toString(1));
+                    } else {
+                        logger.debug(responseAsString != null ? responseAsString :
+                                json.toString());
+                    }
                 }
             } catch (JSONException jsone) {
                 if (responseAsString == null) {
@@ -165,12 +172,46 @@ public abstract class HttpResponse {
                     } catch (IOException ignore) {
                     }
                 }
+                if (stream != null) {
+                    try {
+                        stream.close();
+                    } catch (IOException ignore) {
+                    }
+                }
                 disconnectForcibly();
             }
         }
         return json;
     }
 
+    private ResponseBodyBuffer readBody(InputStream stream) throws FacebookException {
+        try {
+            return ResponseBodyBuffer.read(stream, getExpectedBodyLength());
+        } catch (IOException ioe) {
+            throw new FacebookException(ioe.getMessage(), ioe);
+        }
+    }
+
+    /**
+     * @return the length of the body from the Content-Length header, -1 if it is not known
+     */
+    /*package*/ int getExpectedBodyLength() {
+        String encoding = getResponseHeader("Content-Encoding");
+        if (encoding != null && !"identity".equalsIgnoreCase(encoding.trim())) {
+            // the length on the wire, not the one of the decoded body
+            return -1;
+        }
+        String length = getResponseHeader("Content-Length");
+        if (length == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(length.trim());
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
     private JSONArray jsonArray = null;
 
     /**
@@ -183,18 +224,32 @@ public abstract class HttpResponse {
     public JSONArray asJSONArray() throws FacebookException {
         if (jsonArray == null) {
             Reader reader = null;
+            InputStream stream = null;
             try {
-                if (responseAsString == null) {
+                if (responseAsString == null && CONF.isJSONStreamingEnabled()) {
+                    stream = asStream();
+                    if (stream == null) {
+                        throw new JSONException("No response body");
+                    }
+                    ResponseBodyBuffer body = readBody(stream);
+                    try {
+                        jsonArray = new JSONPullParser(body.array(), body.length()).nextArray();
+                    } finally {
+                        body.release();
+                    }
+                } else if (responseAsString == null) {
                     reader = asReader();
                     jsonArray = new JSONArray(new JSONTokener(reader));
                 } else {
                     jsonArray = new JSONArray(responseAsString);
                 }
-                if (CONF.isPrettyDebugEnabled()) {
-                    logger.debug(jsonArray.toString(1));
-                } else {
-                    logger.debug(responseAsString != null ? responseAsString :
-                            jsonArray.toString());
+                if (logger.isDebugEnabled()) {
+                    if (CONF.isPrettyDebugEnabled()) {
+                        logger.debug(jsonArray.toString(1));
+                    } else {
+                        logger.debug(responseAsString != null ? responseAsString :
+                                jsonArray.toString());
+                    }
                 }
             } catch (JSONException jsone) {
                 if (logger.isDebugEnabled()) {
@@ -209,12 +264,44 @@ public abstract class HttpResponse {
                     } catch (IOException ignore) {
                     }
                 }
+                if (stream != null) {
+                    try {
+                        stream.close();
+                    } catch (IOException ignore) {
+                    }
+                }
                 disconnectForcibly();
             }
         }
         return jsonArray;
     }
 
+    /**
+     * Returns a pull parser over the response body, to decode it without building a JSONObject tree.<br>
+     * The parser should be closed and the response disconnected once the body has been read.
+     *
+     * @return pull parser over the response body
+     * @throws FacebookException when the response has no body
+     */
+    public JSONPullParser asJSONPullParser() throws FacebookException {
+        try {
+            if (responseAsString != null) {
+                return new JSONPullParser(responseAsString.getBytes("UTF-8"));
+            }
+            if (json != null) {
+                // already decoded by asJSONObject()
+                return new JSONPullParser(json.toString().getBytes("UTF-8"));
+            }
+        } catch (java.io.UnsupportedEncodingException uee) {
+            throw new FacebookException(uee.getMessage(), uee);
+        }
+        InputStream stream = asStream();
+        if (stream == null) {
+            throw new FacebookException("No response body");
+        }
+        return new JSONPullParser(stream);
+    }
+
     public Reader asReader() {
         try {
             return new BufferedReader(new InputStreamReader(is, "UTF-8"));
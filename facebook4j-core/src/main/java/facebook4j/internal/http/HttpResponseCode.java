@@ -22,6 +22,7 @@ package facebook4j.internal.http;
  */
 public interface HttpResponseCode {
     int OK = 200;// OK: Success!
+    int NO_CONTENT = 204;// No Content: Success, the response has no body.
     int MULTIPLE_CHOICES = 300;//
     int FOUND = 302;//
     int NOT_MODIFIED = 304;// Not Modified: There was no new data to return.
@@ -35,6 +36,7 @@ public interface HttpResponseCode {
      * @see <a href="http://groups.google.com/group/twitter-api-announce/browse_thread/thread/3f3b0fd38deb9b0f?hl=en">Search API: new HTTP response code 420 for rate limiting starting 1/18/2010</a>
      */
     int ENHANCE_YOUR_CLAIM = 420;// Enhance Your Calm: Returned by the Search and Trends API  when you are being rate limited. Not registered in RFC.
+    int TOO_MANY_REQUESTS = 429;// Too Many Requests: The client is being rate limited, the Retry-After header tells when to try again.
     int INTERNAL_SERVER_ERROR = 500;// Internal Server Error: Something is broken. Please post to the group so the Twitter team can investigate.
     int BAD_GATEWAY = 502;// Bad Gateway: Twitter is down or being upgraded.
     int SERVICE_UNAVAILABLE = 503;// Service Unavailable: The Twitter servers are up, but overloaded with requests. Try again later. The search and trend methods use this to indicate when you are being rate limited.
@@ -20,7 +20,6 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
 
 /**
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -36,9 +35,8 @@ public class HttpResponseImpl extends HttpResponse {
         if (null == (is = con.getErrorStream())) {
             is = con.getInputStream();
         }
-        if (is != null && "gzip".equals(con.getContentEncoding())) {
-            // the response is gzipped
-            is = new GZIPInputStream(is);
+        if (is != null) {
+            is = new ResponseBodyInputStream(is, con.getContentEncoding());
         }
     }
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.internal.logging.Logger;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A multipart/form-data request body which is streamed to the connection part by part.<br>
+ * Files are transferred through their {@link FileChannel}, other bodies are copied in blocks,
+ * so the content is never held in memory as a whole.
+ */
+/*package*/ final class MultipartEntity {
+    private static final Logger logger = Logger.getLogger(MultipartEntity.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final String boundary;
+    private final HttpParameter[] params;
+
+    MultipartEntity(String boundary, HttpParameter[] params) {
+        this.boundary = boundary;
+        this.params = params;
+    }
+
+    String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * @return length of the body in bytes, or -1 if it is not known in advance (a part is backed by a stream)
+     * @throws IOException when a part cannot be encoded
+     */
+    long getContentLength() throws IOException {
+        long length = 0;
+        for (HttpParameter param : params) {
+            length += partHeader(param).length + CRLF.length;
+            if (param.isFile()) {
+                if (param.hasFileBody()) {
+                    return -1;
+                }
+                length += param.getFileLength();
+            } else {
+                length += param.getValue().getBytes("UTF-8").length;
+            }
+        }
+        return length + closeDelimiter().length;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        byte[] buffer = null;
+        for (HttpParameter param : params) {
+            out.write(partHeader(param));
+            if (param.isFile()) {
+                if (param.hasFileBody()) {
+                    if (buffer == null) {
+                        buffer = new byte[BUFFER_SIZE];
+                    }
+                    copy(param.getFileBody(), out, buffer);
+                } else {
+                    transfer(param, out);
+                }
+            } else {
+                logger.debug(param.getValue());
+                out.write(param.getValue().getBytes("UTF-8"));
+            }
+            out.write(CRLF);
+        }
+        out.write(closeDelimiter());
+        out.flush();
+    }
+
+    private byte[] partHeader(HttpParameter param) throws IOException {
+        StringBuilder header = new StringBuilder();
+        header.append("--").append(boundary).append("\r\n");
+        if (param.isFile()) {
+            header.append("Content-Disposition: form-data; name=\"").append(param.getName())
+                    .append("\"; filename=\"").append(param.getFile().getName()).append("\"\r\n");
+            header.append("Content-Type: ").append(param.getContentType()).append("\r\n\r\n");
+        } else {
+            header.append("Content-Disposition: form-data; name=\"").append(param.getName()).append("\"\r\n");
+            header.append("Content-Type: text/plain; charset=UTF-8\r\n\r\n");
+        }
+        logger.debug(header.toString());
+        return header.toString().getBytes("UTF-8");
+    }
+
+    private byte[] closeDelimiter() throws IOException {
+        return ("--" + boundary + "--\r\n\r\n").getBytes("UTF-8");
+    }
+
+    private static void copy(InputStream in, OutputStream out, byte[] buffer) throws IOException {
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void transfer(HttpParameter param, OutputStream out) throws IOException {
+        FileInputStream in = new FileInputStream(param.getFile());
+        try {
+            FileChannel channel = in.getChannel();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = param.getFileOffset();
+            long end = position + param.getFileLength();
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    // the file has been truncated meanwhile
+                    throw new IOException("Unexpected end of file: " + param.getFile());
+                }
+                position += transferred;
+            }
+        } finally {
+            in.close();
+        }
+    }
+}
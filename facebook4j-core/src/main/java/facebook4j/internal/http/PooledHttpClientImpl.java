@@ -0,0 +1,123 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.internal.logging.Logger;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * HttpClient implementation which keeps connections alive and bounds them with a connection pool.<br>
+ * The pool is sized by {@link HttpClientConfiguration#getHttpMaxTotalConnections()} and
+ * {@link HttpClientConfiguration#getHttpDefaultMaxPerRoute()} and is shared by all clients with the same configuration.<br>
+ * Unlike {@link HttpClientImpl}, a consumed response does not disconnect its connection, so the socket is
+ * handed back to the JVM's keep-alive cache and reused by the next request to the same route.
+ * Idle sockets are closed by the keep-alive cache, which keeps at most "http.maxConnections" of them per route, 5 by default.
+ * Set the system property to at least the per-route maximum so that every pooled connection can be kept alive,
+ * a warning is logged when the pool is created otherwise.
+ * <p/>
+ * To enable it:
+ * <pre>
+ * -Dfacebook4j.http.httpClient=facebook4j.internal.http.PooledHttpClientImpl
+ * </pre>
+ */
+public class PooledHttpClientImpl extends HttpClientImpl {
+    private static final long serialVersionUID = -2302929536263549843L;
+
+    private static final Logger logger = Logger.getLogger(PooledHttpClientImpl.class);
+
+    private static final Map<HttpClientConfiguration, HttpConnectionPool> poolMap = new HashMap<HttpClientConfiguration, HttpConnectionPool>(1);
+
+    private final transient HttpConnectionPool pool;
+    private final transient Map<HttpURLConnection, HttpConnectionPool.Lease> leases
+            = Collections.synchronizedMap(new IdentityHashMap<HttpURLConnection, HttpConnectionPool.Lease>());
+
+    public PooledHttpClientImpl(HttpClientConfiguration conf) {
+        super(conf);
+        this.pool = getPool(conf);
+    }
+
+    private static HttpConnectionPool getPool(HttpClientConfiguration conf) {
+        synchronized (poolMap) {
+            HttpConnectionPool pool = poolMap.get(conf);
+            if (null == pool) {
+                pool = new HttpConnectionPool(conf.getHttpMaxTotalConnections(),
+                        conf.getHttpDefaultMaxPerRoute());
+                poolMap.put(conf, pool);
+                int keepAlive = HttpConnectionPool.getKeepAliveConnections();
+                if (keepAlive < conf.getHttpDefaultMaxPerRoute()) {
+                    logger.warn("Only " + keepAlive + " of the " + conf.getHttpDefaultMaxPerRoute()
+                            + " connections per route can be kept alive, set the system property http.maxConnections to ",
+                            String.valueOf(conf.getHttpDefaultMaxPerRoute()));
+                }
+            }
+            return pool;
+        }
+    }
+
+    /*package*/ HttpConnectionPool getPool() {
+        return pool;
+    }
+
+    @Override
+    protected HttpURLConnection getConnection(String url) throws IOException {
+        HttpConnectionPool.Lease lease = pool.lease(HttpConnectionPool.routeOf(url), CONF.getHttpConnectionTimeout());
+        try {
+            HttpURLConnection con = super.getConnection(url);
+            lease.attach(con);
+            leases.put(con, lease);
+            return con;
+        } catch (IOException ioe) {
+            lease.release(false);
+            throw ioe;
+        } catch (RuntimeException re) {
+            lease.release(false);
+            throw re;
+        }
+    }
+
+    @Override
+    protected HttpResponse createResponse(HttpURLConnection con) throws IOException {
+        HttpConnectionPool.Lease lease = leases.remove(con);
+        try {
+            return new PooledHttpResponseImpl(con, CONF, lease);
+        } catch (IOException ioe) {
+            if (lease != null) {
+                lease.release(false);
+            }
+            throw ioe;
+        }
+    }
+
+    @Override
+    protected void abortConnection(HttpURLConnection con) {
+        if (con == null) {
+            return;
+        }
+        HttpConnectionPool.Lease lease = leases.remove(con);
+        if (lease != null) {
+            lease.release(false);
+        } else {
+            con.disconnect();
+        }
+    }
+}
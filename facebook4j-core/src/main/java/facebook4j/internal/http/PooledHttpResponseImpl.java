@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+/**
+ * Response of {@link PooledHttpClientImpl}.<br>
+ * Disconnecting closes the body stream rather than the socket, and hands the connection back to the pool.
+ */
+/*package*/ class PooledHttpResponseImpl extends HttpResponseImpl implements HttpResponseCode {
+    private final HttpConnectionPool.Lease lease;
+
+    PooledHttpResponseImpl(HttpURLConnection con, HttpClientConfiguration conf, HttpConnectionPool.Lease lease) throws IOException {
+        super(con, conf);
+        this.lease = lease;
+        if (!hasBody(con)) {
+            // nobody is going to read a body here (e.g. a redirect to a picture), release the connection right away
+            disconnect();
+        }
+    }
+
+    private boolean hasBody(HttpURLConnection con) {
+        if (is == null || "HEAD".equals(con.getRequestMethod())) {
+            return false;
+        }
+        return statusCode != NO_CONTENT && statusCode != FOUND;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disconnect() {
+        boolean reusable = true;
+        if (is != null) {
+            try {
+                // closing the stream lets the JVM keep-alive cache take the socket over
+                is.close();
+            } catch (IOException ioe) {
+                reusable = false;
+            }
+        }
+        if (lease != null) {
+            lease.release(reusable);
+        } else if (!reusable) {
+            super.disconnect();
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+import facebook4j.auth.AccessToken;
+import facebook4j.auth.OAuthAuthorization;
+import facebook4j.internal.logging.Logger;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+import facebook4j.management.APIUsage;
+import facebook4j.management.APIUsageMBean;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Paces requests according to the usage Facebook reports in the response headers.<br>
+ * The usage of each scope is tracked as a budget:
+ * <ul>
+ * <li>"app" from X-App-Usage, applies to every request</li>
+ * <li>"page:&lt;token digest&gt;" from X-Page-Usage, applies to the requests made with the page access token</li>
+ * <li>"business:&lt;id&gt;/&lt;type&gt;" from X-Business-Use-Case-Usage, applies to the requests made with the access tokens it has been reported for</li>
+ * </ul>
+ * Below the threshold, requests are not delayed. Above it, requests of a scope are spaced out by an interval
+ * growing linearly up to the maximum delay at 100%, which queues concurrent requests in arrival order.
+ * When Facebook reports an estimated time to regain access, requests of the scope wait until then.
+ * Reported usage is discarded after an hour, the length of Facebook's rolling window, together with its scope,
+ * so that the page tokens and businesses seen by a long-running process do not accumulate.
+ */
+public final class RateGovernor {
+    private static final Logger logger = Logger.getLogger(RateGovernor.class);
+
+    public static final String APP_USAGE = "X-App-Usage";
+    public static final String PAGE_USAGE = "X-Page-Usage";
+    public static final String BUSINESS_USE_CASE_USAGE = "X-Business-Use-Case-Usage";
+
+    private static final String APP_SCOPE = "app";
+    private static final long WINDOW_MILLIS = 60 * 60 * 1000L;
+    private static final long PURGE_INTERVAL_MILLIS = 60 * 1000L;
+    private static final String[] USAGE_FIELDS = {"call_count", "total_time", "total_cputime", "acc_id_util_pct"};
+
+    private static final APIUsage USAGE = new APIUsage();
+
+    private static volatile String[] lastDigest;
+
+    private static final Map<HttpClientWrapperConfiguration, RateGovernor> instanceMap = new HashMap<HttpClientWrapperConfiguration, RateGovernor>(1);
+
+    private final int threshold;
+    private final long maxDelayMillis;
+
+    private final Map<String, Budget> budgets = new HashMap<String, Budget>();
+    // scopes reported for each access token, besides "app"
+    private final Map<String, Set<String>> tokenScopes = new HashMap<String, Set<String>>();
+    private long nextPurge = 0;
+
+    /**
+     * @param threshold      usage in percent from which requests are slowed down
+     * @param maxDelayMillis interval between two requests of a scope at 100% usage
+     */
+    public RateGovernor(int threshold, long maxDelayMillis) {
+        this.threshold = Math.min(Math.max(threshold, 0), 99);
+        this.maxDelayMillis = Math.max(maxDelayMillis, 0);
+    }
+
+    public static RateGovernor getInstance(HttpClientWrapperConfiguration conf) {
+        synchronized (instanceMap) {
+            RateGovernor governor = instanceMap.get(conf);
+            if (null == governor) {
+                governor = new RateGovernor(conf.getRateLimitThreshold(), conf.getRateLimitMaxDelay());
+                instanceMap.put(conf, governor);
+            }
+            return governor;
+        }
+    }
+
+    /**
+     * @return the usage reported by Facebook, shared by all governors
+     */
+    public static APIUsageMBean getUsage() {
+        return USAGE;
+    }
+
+    /**
+     * Waits until the request may be sent.
+     *
+     * @param req the request
+     * @throws FacebookException when interrupted while waiting
+     */
+    public void acquire(HttpRequest req) throws FacebookException {
+        long delay = reserve(req, System.currentTimeMillis());
+        if (delay <= 0) {
+            return;
+        }
+        logger.debug("Usage is approaching the limit, delaying the request for " + delay + " ms: ", req.getURL());
+        USAGE.throttled(delay);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new FacebookException("Interrupted while waiting for the rate limit", ie);
+        }
+    }
+
+    /**
+     * Reserves the next slot of every budget applying to the request.
+     *
+     * @return how long the request has to wait for its slot
+     */
+    /*package*/ synchronized long reserve(HttpRequest req, long now) {
+        List<Budget> applicable = getBudgets(tokenOf(req), now);
+        long start = now;
+        for (Budget budget : applicable) {
+            start = Math.max(start, Math.max(budget.nextSlot, budget.regainAt));
+        }
+        for (Budget budget : applicable) {
+            budget.nextSlot = start + intervalOf(budget.percent);
+        }
+        return start - now;
+    }
+
+    /**
+     * Updates the budgets with the usage headers of a response.
+     *
+     * @param req the request
+     * @param res the response
+     */
+    public void update(HttpRequest req, HttpResponse res) {
+        update(req, res.getResponseHeader(APP_USAGE), res.getResponseHeader(PAGE_USAGE),
+                res.getResponseHeader(BUSINESS_USE_CASE_USAGE), System.currentTimeMillis());
+    }
+
+    /**
+     * Updates the budgets with the usage headers of an error response.
+     *
+     * @param req the request
+     * @param fe  the error
+     */
+    public void update(HttpRequest req, FacebookException fe) {
+        update(req, fe.getResponseHeader(APP_USAGE), fe.getResponseHeader(PAGE_USAGE),
+                fe.getResponseHeader(BUSINESS_USE_CASE_USAGE), System.currentTimeMillis());
+    }
+
+    /*package*/ synchronized void update(HttpRequest req, String appUsage, String pageUsage, String businessUsage, long now) {
+        String token = tokenOf(req);
+        if (appUsage != null) {
+            report(APP_SCOPE, null, parseUsage(appUsage), 0, now);
+        }
+        if (pageUsage != null && token != null) {
+            report("page:" + token, token, parseUsage(pageUsage), 0, now);
+        }
+        if (businessUsage != null) {
+            try {
+                JSONObject json = new JSONObject(businessUsage);
+                for (Iterator<?> ids = json.keys(); ids.hasNext(); ) {
+                    String id = (String) ids.next();
+                    JSONArray useCases = json.getJSONArray(id);
+                    for (int i = 0; i < useCases.length(); i++) {
+                        JSONObject useCase = useCases.getJSONObject(i);
+                        long regainAt = 0;
+                        int minutes = useCase.optInt("estimated_time_to_regain_access", 0);
+                        if (minutes > 0) {
+                            regainAt = now + minutes * 60 * 1000L;
+                        }
+                        report("business:" + id + "/" + useCase.optString("type", ""), token,
+                                usageOf(useCase), regainAt, now);
+                    }
+                }
+            } catch (JSONException e) {
+                logger.debug("Unable to parse " + BUSINESS_USE_CASE_USAGE + ": ", businessUsage);
+            }
+        }
+    }
+
+    private void report(String scope, String token, int percent, long regainAt, long now) {
+        Budget budget = budgets.get(scope);
+        if (budget == null) {
+            budget = new Budget();
+            budgets.put(scope, budget);
+        }
+        budget.percent = percent;
+        budget.regainAt = regainAt;
+        budget.updatedAt = now;
+        if (token != null && !scope.equals(APP_SCOPE)) {
+            Set<String> scopes = tokenScopes.get(token);
+            if (scopes == null) {
+                scopes = new HashSet<String>();
+                tokenScopes.put(token, scopes);
+            }
+            scopes.add(scope);
+        }
+        USAGE.usageReported(scope, percent);
+    }
+
+    private List<Budget> getBudgets(String token, long now) {
+        if (now >= nextPurge) {
+            purgeExpired(now);
+            nextPurge = now + PURGE_INTERVAL_MILLIS;
+        }
+        List<Budget> applicable = new ArrayList<Budget>(2);
+        addBudget(applicable, APP_SCOPE, now);
+        if (token != null) {
+            Set<String> scopes = tokenScopes.get(token);
+            if (scopes != null) {
+                for (Iterator<String> it = scopes.iterator(); it.hasNext(); ) {
+                    if (!addBudget(applicable, it.next(), now)) {
+                        it.remove();
+                    }
+                }
+                if (scopes.isEmpty()) {
+                    tokenScopes.remove(token);
+                }
+            }
+        }
+        return applicable;
+    }
+
+    /**
+     * @return false if the scope has no budget (any longer)
+     */
+    private boolean addBudget(List<Budget> applicable, String scope, long now) {
+        Budget budget = budgets.get(scope);
+        if (budget == null) {
+            return false;
+        }
+        if (isExpired(budget, now)) {
+            expire(scope);
+            return false;
+        }
+        applicable.add(budget);
+        return true;
+    }
+
+    private static boolean isExpired(Budget budget, long now) {
+        // the usage has been reported before the current window, it tells nothing any longer
+        return now - budget.updatedAt > WINDOW_MILLIS && budget.regainAt <= now && budget.nextSlot <= now;
+    }
+
+    private void expire(String scope) {
+        budgets.remove(scope);
+        USAGE.usageExpired(scope);
+    }
+
+    /**
+     * Drops the expired budgets, including the ones of tokens which are not used any longer.
+     */
+    private void purgeExpired(long now) {
+        for (Iterator<Map.Entry<String, Budget>> it = budgets.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Budget> entry = it.next();
+            if (isExpired(entry.getValue(), now)) {
+                it.remove();
+                USAGE.usageExpired(entry.getKey());
+            }
+        }
+        for (Iterator<Set<String>> it = tokenScopes.values().iterator(); it.hasNext(); ) {
+            Set<String> scopes = it.next();
+            scopes.retainAll(budgets.keySet());
+            if (scopes.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    /*package*/ synchronized int getScopeCount() {
+        return budgets.size();
+    }
+
+    /*package*/ long intervalOf(int percent) {
+        if (percent < threshold) {
+            return 0;
+        }
+        if (percent >= 100) {
+            return maxDelayMillis;
+        }
+        return maxDelayMillis * (percent - threshold) / (100 - threshold);
+    }
+
+    /**
+     * Returns the highest usage of a X-App-Usage or X-Page-Usage header.
+     *
+     * @param header the header value, like {"call_count":28,"total_time":25,"total_cputime":25}
+     * @return usage in percent
+     */
+    /*package*/ static int parseUsage(String header) {
+        try {
+            return usageOf(new JSONObject(header));
+        } catch (JSONException e) {
+            logger.debug("Unable to parse the usage: ", header);
+            return 0;
+        }
+    }
+
+    private static int usageOf(JSONObject json) {
+        double max = 0;
+        for (String field : USAGE_FIELDS) {
+            max = Math.max(max, json.optDouble(field, 0));
+        }
+        return (int) Math.ceil(max);
+    }
+
+    private static String tokenOf(HttpRequest req) {
+        if (!(req.getAuthorization() instanceof OAuthAuthorization)) {
+            return null;
+        }
+        AccessToken accessToken = ((OAuthAuthorization) req.getAuthorization()).getOAuthAccessToken();
+        if (accessToken == null || accessToken.getToken() == null) {
+            return null;
+        }
+        return digestOf(accessToken.getToken());
+    }
+
+    /**
+     * Names the scopes of a token by its SHA-256 digest, so that the token does not show up in the MBean.
+     * The digest of the last token is cached, as most processes use a single one.
+     */
+    private static String digestOf(String token) {
+        String[] last = lastDigest;
+        if (last != null && last[0].equals(token)) {
+            return last[1];
+        }
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes("UTF-8"));
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new AssertionError(nsae);
+        } catch (UnsupportedEncodingException uee) {
+            throw new AssertionError(uee);
+        }
+        StringBuilder hex = new StringBuilder(32);
+        // 128 bits, wide enough for distinct tokens never to share a budget
+        for (int i = 0; i < 16; i++) {
+            hex.append(Character.forDigit((digest[i] >> 4) & 0xf, 16)).append(Character.forDigit(digest[i] & 0xf, 16));
+        }
+        lastDigest = new String[]{token, hex.toString()};
+        return lastDigest[1];
+    }
+
+    private static final class Budget {
+        int percent;
+        long regainAt;
+        long updatedAt;
+        long nextSlot;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RateGovernor{" +
+                "threshold=" + threshold +
+                ", maxDelayMillis=" + maxDelayMillis +
+                ", scopes=" + budgets.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.logging.Logger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets concurrent identical GET requests share one network call.<br>
+ * Requests are identical when they are equal as {@link HttpRequest}s, i.e. same method, URL, parameters,
+ * authorization (access token) and headers. The first caller sends the request, later callers wait for its
+ * response, which is read into memory and handed to all of them; the decoded JSON is shared as well.
+ * Errors are shared the same way. Nothing is cached once the call has completed.
+ */
+public final class RequestCoalescer {
+    private static final Logger logger = Logger.getLogger(RequestCoalescer.class);
+
+    private static final Map<HttpClientWrapperConfiguration, RequestCoalescer> instanceMap = new HashMap<HttpClientWrapperConfiguration, RequestCoalescer>(1);
+
+    private final ConcurrentMap<HttpRequest, Call> inFlight = new ConcurrentHashMap<HttpRequest, Call>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public static RequestCoalescer getInstance(HttpClientWrapperConfiguration conf) {
+        synchronized (instanceMap) {
+            RequestCoalescer coalescer = instanceMap.get(conf);
+            if (null == coalescer) {
+                coalescer = new RequestCoalescer();
+                instanceMap.put(conf, coalescer);
+            }
+            return coalescer;
+        }
+    }
+
+    /**
+     * Sends the request through the wrapper, unless an identical request is already in flight.
+     *
+     * @param req     the request
+     * @param wrapper the wrapper sending the request
+     * @return the response, shared with the concurrent identical requests
+     * @throws FacebookException when the request failed, or when interrupted while waiting for the response
+     */
+    public HttpResponse request(HttpRequest req, HttpClientWrapper wrapper) throws FacebookException {
+        Call call = new Call();
+        Call running = inFlight.putIfAbsent(req, call);
+        if (running != null) {
+            coalescedCount.incrementAndGet();
+            logger.debug("Waiting for the identical request in flight: ", req.getURL());
+            return running.await();
+        }
+        try {
+            HttpResponse res = wrapper.send(req);
+            if (res instanceof SharedHttpResponse) {
+                // served by the response cache, already in memory
+                call.response = res;
+            } else {
+                try {
+                    call.response = new SharedHttpResponse(res);
+                } catch (IOException ioe) {
+                    call.error = new FacebookException(ioe.getMessage(), ioe);
+                }
+            }
+        } catch (FacebookException fe) {
+            call.error = fe;
+        } catch (RuntimeException re) {
+            call.error = new FacebookException(re.getMessage(), re);
+            throw re;
+        } finally {
+            inFlight.remove(req, call);
+            call.done.countDown();
+        }
+        return call.await();
+    }
+
+    /**
+     * @return the number of requests which have been served by another request in flight
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private static final class Call {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile HttpResponse response;
+        private volatile FacebookException error;
+
+        HttpResponse await() throws FacebookException {
+            try {
+                done.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new FacebookException("Interrupted while waiting for the identical request in flight", ie);
+            }
+            if (error != null) {
+                throw error;
+            }
+            return response;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RequestCoalescer{" +
+                "inFlight=" + inFlight.size() +
+                ", coalescedCount=" + coalescedCount +
+                '}';
+    }
+}
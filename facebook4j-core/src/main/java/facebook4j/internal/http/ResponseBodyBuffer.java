@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A response body read into a pooled byte array.<br>
+ * The array is sized by the expected length of the body when it is known, so the body is read without copy;
+ * otherwise it grows by doubling. Once the body has been decoded, {@link #release()} hands the array back to the pool
+ * so that the next response is read without allocating.
+ */
+/*package*/ final class ResponseBodyBuffer {
+    private static final int BLOCK_SIZE = 16 * 1024;
+    // a larger Content-Length is not trusted for the first allocation
+    private static final int MAX_INITIAL_SIZE = 8 * 1024 * 1024;
+    // larger arrays are left to the garbage collector rather than kept in the pool
+    private static final int MAX_POOLED_SIZE = 1024 * 1024;
+    private static final int POOL_SIZE = 8;
+    private static final Queue<byte[]> BUFFERS = new ConcurrentLinkedQueue<byte[]>();
+    // approximate number of pooled arrays, bounds the pool
+    private static final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    private byte[] buffer;
+    private int length = 0;
+
+    private ResponseBodyBuffer(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Reads the stream until its end. The stream is left open.
+     *
+     * @param in             the body
+     * @param expectedLength the length of the body, or -1 if it is not known
+     * @return the body
+     * @throws IOException when the stream cannot be read
+     */
+    static ResponseBodyBuffer read(InputStream in, int expectedLength) throws IOException {
+        // one more byte, so that the end of the stream is read without growing the array
+        int size = expectedLength < 0 ? BLOCK_SIZE : Math.min(expectedLength, MAX_INITIAL_SIZE) + 1;
+        ResponseBodyBuffer body = new ResponseBodyBuffer(takeBuffer(size));
+        try {
+            while (true) {
+                if (body.length == body.buffer.length) {
+                    body.grow();
+                }
+                int read = in.read(body.buffer, body.length, body.buffer.length - body.length);
+                if (read == -1) {
+                    return body;
+                }
+                body.length += read;
+            }
+        } catch (IOException ioe) {
+            body.release();
+            throw ioe;
+        }
+    }
+
+    /**
+     * @return the array holding the body from its start, valid until {@link #release()}
+     */
+    byte[] array() {
+        return buffer;
+    }
+
+    int length() {
+        return length;
+    }
+
+    String decode() throws IOException {
+        return new String(buffer, 0, length, "UTF-8");
+    }
+
+    byte[] toByteArray() {
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, 0, bytes, 0, length);
+        return bytes;
+    }
+
+    void release() {
+        if (buffer != null) {
+            recycle(buffer);
+            buffer = null;
+        }
+    }
+
+    private void grow() {
+        byte[] newBuffer = new byte[buffer.length * 2];
+        System.arraycopy(buffer, 0, newBuffer, 0, length);
+        recycle(buffer);
+        buffer = newBuffer;
+    }
+
+    private static byte[] takeBuffer(int size) {
+        byte[] buffer = BUFFERS.poll();
+        if (buffer != null) {
+            pooledBuffers.decrementAndGet();
+            if (buffer.length >= size) {
+                return buffer;
+            }
+            recycle(buffer);
+        }
+        return new byte[Math.max(size, BLOCK_SIZE)];
+    }
+
+    private static void recycle(byte[] buffer) {
+        if (buffer.length > MAX_POOLED_SIZE) {
+            return;
+        }
+        if (pooledBuffers.incrementAndGet() <= POOL_SIZE) {
+            BUFFERS.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+}
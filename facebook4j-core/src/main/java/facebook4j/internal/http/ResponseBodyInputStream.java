@@ -0,0 +1,303 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.management.TransferStatistics;
+import facebook4j.management.TransferStatisticsMBean;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Response body stream which decompresses gzip encoded bodies and counts the bytes transferred.<br>
+ * Unlike {@link java.util.zip.GZIPInputStream}, the {@link Inflater} and the input buffer are taken from a pool and
+ * handed back when the body has been read or the stream is closed, so that reading a response allocates neither.
+ * The bytes received and the bytes after decompression are added to {@link #getStatistics()} once per body.
+ */
+public final class ResponseBodyInputStream extends InputStream {
+    private static final TransferStatistics STATISTICS = new TransferStatistics();
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int POOL_SIZE = 16;
+    private static final Queue<Inflater> INFLATERS = new ConcurrentLinkedQueue<Inflater>();
+    private static final Queue<byte[]> BUFFERS = new ConcurrentLinkedQueue<byte[]>();
+    // approximate number of pooled objects, bounds the pools
+    private static final AtomicInteger pooledInflaters = new AtomicInteger();
+    private static final AtomicInteger pooledBuffers = new AtomicInteger();
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final InputStream in;
+    private final boolean gzip;
+    private Inflater inflater;
+    private byte[] buffer;
+    private boolean headerRead = false;
+    // number of bytes last passed to the inflater from the buffer
+    private int bufferLength = 0;
+    private final CRC32 crc;
+
+    private long wireBytes = 0;
+    private long decodedBytes = 0;
+    private boolean eof = false;
+    private boolean closed = false;
+
+    /**
+     * The gzip header is read on the first read, so that an empty body labelled as gzip encoded, as sent with
+     * 204 and 304 responses and in response to HEAD requests, reads as empty.
+     *
+     * @param in              the body as received
+     * @param contentEncoding the Content-Encoding of the response, may be null
+     */
+    /*package*/ ResponseBodyInputStream(InputStream in, String contentEncoding) {
+        this.in = in;
+        this.gzip = contentEncoding != null && "gzip".equalsIgnoreCase(contentEncoding.trim());
+        crc = gzip ? new CRC32() : null;
+    }
+
+    /**
+     * @return bytes received and bytes after decompression of all the responses read
+     */
+    public static TransferStatisticsMBean getStatistics() {
+        return STATISTICS;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (eof) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!gzip) {
+            int read = in.read(b, off, len);
+            if (read == -1) {
+                finish();
+                return -1;
+            }
+            wireBytes += read;
+            decodedBytes += read;
+            return read;
+        }
+        if (!headerRead) {
+            int first = in.read();
+            if (first == -1) {
+                // no body at all
+                finish();
+                return -1;
+            }
+            wireBytes++;
+            readHeader(first);
+            headerRead = true;
+            inflater = takeInflater();
+            buffer = takeBuffer();
+        }
+        try {
+            while (true) {
+                int inflated = inflater.inflate(b, off, len);
+                if (inflated > 0) {
+                    crc.update(b, off, inflated);
+                    decodedBytes += inflated;
+                    return inflated;
+                }
+                if (inflater.finished()) {
+                    readTrailer();
+                    finish();
+                    return -1;
+                }
+                if (inflater.needsDictionary()) {
+                    throw new ZipException("Unexpected preset dictionary");
+                }
+                if (inflater.needsInput()) {
+                    int read = in.read(buffer, 0, buffer.length);
+                    if (read == -1) {
+                        throw new EOFException("Unexpected end of ZLIB input stream");
+                    }
+                    wireBytes += read;
+                    bufferLength = read;
+                    inflater.setInput(buffer, 0, read);
+                }
+            }
+        } catch (DataFormatException dfe) {
+            String message = dfe.getMessage();
+            throw new ZipException(message != null ? message : "Invalid ZLIB data format");
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (closed || eof) {
+            return 0;
+        }
+        if (!gzip) {
+            return in.available();
+        }
+        if (!headerRead) {
+            return in.available() > 0 ? 1 : 0;
+        }
+        return inflater.finished() ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!eof) {
+            // the body has not been read to the end, count what has been read
+            STATISTICS.responseRead(wireBytes, decodedBytes, gzip);
+        }
+        release();
+        in.close();
+    }
+
+    private void finish() {
+        eof = true;
+        STATISTICS.responseRead(wireBytes, decodedBytes, gzip);
+        release();
+    }
+
+    private void readHeader(int first) throws IOException {
+        if ((first | (readUByte() << 8)) != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUByte() != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUByte();
+        // modification time, extra flags and operating system
+        skipBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skipBytes(readUShort());
+        }
+        if ((flags & FNAME) == FNAME) {
+            while (readUByte() != 0) {
+            }
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            while (readUByte() != 0) {
+            }
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            skipBytes(2);
+        }
+    }
+
+    private void readTrailer() throws IOException {
+        // the trailer may have been read into the buffer with the end of the compressed data
+        int remaining = inflater.getRemaining();
+        int offset = bufferLength - remaining;
+        long crc32 = 0;
+        long size = 0;
+        for (int i = 0; i < 8; i++) {
+            int b;
+            if (i < remaining) {
+                b = buffer[offset + i] & 0xff;
+            } else {
+                b = readUByte();
+            }
+            if (i < 4) {
+                crc32 |= ((long) b) << (8 * i);
+            } else {
+                size |= ((long) b) << (8 * (i - 4));
+            }
+        }
+        if (crc32 != crc.getValue() || size != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private int readUByte() throws IOException {
+        int b = in.read();
+        if (b == -1) {
+            throw new EOFException();
+        }
+        wireBytes++;
+        return b;
+    }
+
+    private int readUShort() throws IOException {
+        return readUByte() | (readUByte() << 8);
+    }
+
+    private void skipBytes(int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readUByte();
+        }
+    }
+
+    private void release() {
+        if (inflater != null) {
+            inflater.reset();
+            if (pooledInflaters.incrementAndGet() <= POOL_SIZE) {
+                INFLATERS.offer(inflater);
+            } else {
+                pooledInflaters.decrementAndGet();
+                inflater.end();
+            }
+            inflater = null;
+        }
+        if (buffer != null) {
+            if (pooledBuffers.incrementAndGet() <= POOL_SIZE) {
+                BUFFERS.offer(buffer);
+            } else {
+                pooledBuffers.decrementAndGet();
+            }
+            buffer = null;
+        }
+    }
+
+    private static Inflater takeInflater() {
+        Inflater inflater = INFLATERS.poll();
+        if (inflater == null) {
+            return new Inflater(true);
+        }
+        pooledInflaters.decrementAndGet();
+        return inflater;
+    }
+
+    private static byte[] takeBuffer() {
+        byte[] buffer = BUFFERS.poll();
+        if (buffer == null) {
+            return new byte[BUFFER_SIZE];
+        }
+        pooledBuffers.decrementAndGet();
+        return buffer;
+    }
+}
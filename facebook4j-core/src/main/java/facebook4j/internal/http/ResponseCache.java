@@ -0,0 +1,200 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.logging.Logger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches GET responses carrying an ETag and revalidates them with conditional requests.<br>
+ * {@link HttpClientWrapper} looks up the cached response before sending a GET request and, when there is one, sends
+ * the request with If-None-Match; a 304 Not Modified is answered with the cached
+ * response, whose body and decoded JSON are reused. The cache holds up to a number of body bytes and evicts the
+ * least recently used responses beyond it. Responses are keyed on the {@link HttpRequest}, so they are never shared
+ * between access tokens.
+ *
+ * @see <a href="https://developers.facebook.com/docs/marketing-api/best-practices/#etags">ETags - Facebook Developers</a>
+ */
+public final class ResponseCache {
+    private static final Logger logger = Logger.getLogger(ResponseCache.class);
+
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+
+    private static final Map<HttpClientWrapperConfiguration, ResponseCache> instanceMap = new HashMap<HttpClientWrapperConfiguration, ResponseCache>(1);
+
+    private final long maxBytes;
+    private long bytes = 0;
+    // in access order, the eldest entry is the least recently used
+    private final LinkedHashMap<HttpRequest, Entry> entries = new LinkedHashMap<HttpRequest, Entry>(16, 0.75f, true);
+
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * @param maxBytes the total size of the response bodies the cache may hold
+     */
+    public ResponseCache(long maxBytes) {
+        this.maxBytes = Math.max(maxBytes, 0);
+    }
+
+    public static ResponseCache getInstance(HttpClientWrapperConfiguration conf) {
+        synchronized (instanceMap) {
+            ResponseCache cache = instanceMap.get(conf);
+            if (null == cache) {
+                cache = new ResponseCache(conf.getCacheMaxBytes());
+                instanceMap.put(conf, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * @return the cached entry, or null
+     */
+    /*package*/ synchronized Entry get(HttpRequest req) {
+        return entries.get(req);
+    }
+
+    /**
+     * Handles the response to a conditional request.
+     */
+    /*package*/ HttpResponse revalidated(HttpRequest req, Entry entry, HttpResponse res) throws FacebookException {
+        if (res.getStatusCode() != HttpResponseCode.NOT_MODIFIED) {
+            return store(req, res);
+        }
+        try {
+            res.disconnect();
+        } catch (IOException ignore) {
+        }
+        synchronized (this) {
+            hitCount++;
+            if (!entries.containsKey(req)) {
+                // evicted while revalidating
+                put(req, entry);
+            }
+        }
+        logger.debug("Not modified, using the cached response: ", req.getURL());
+        return entry.response;
+    }
+
+    /**
+     * Caches the response if it carries an ETag.
+     */
+    /*package*/ HttpResponse store(HttpRequest req, HttpResponse res) throws FacebookException {
+        synchronized (this) {
+            missCount++;
+        }
+        String etag = res.getResponseHeader(ETAG);
+        if (res.getStatusCode() != HttpResponseCode.OK || etag == null) {
+            remove(req);
+            return res;
+        }
+        SharedHttpResponse shared;
+        try {
+            shared = new SharedHttpResponse(res);
+        } catch (IOException ioe) {
+            throw new FacebookException(ioe.getMessage(), ioe);
+        }
+        put(req, new Entry(etag, shared));
+        return shared;
+    }
+
+    private synchronized void put(HttpRequest req, Entry entry) {
+        remove(req);
+        if (entry.size() > maxBytes) {
+            return;
+        }
+        entries.put(req, entry);
+        bytes += entry.size();
+        for (Iterator<Entry> it = entries.values().iterator(); bytes > maxBytes && it.hasNext(); ) {
+            bytes -= it.next().size();
+            it.remove();
+        }
+    }
+
+    private synchronized void remove(HttpRequest req) {
+        Entry removed = entries.remove(req);
+        if (removed != null) {
+            bytes -= removed.size();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * @return the number of responses which have been served from the cache after revalidation
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of responses which have been downloaded
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the total size of the cached response bodies
+     */
+    public synchronized long getSize() {
+        return bytes;
+    }
+
+    /*package*/ static final class Entry {
+        final String etag;
+        final SharedHttpResponse response;
+
+        Entry(String etag, SharedHttpResponse response) {
+            this.etag = etag;
+            this.response = response;
+        }
+
+        long size() {
+            return response.getBodyLength();
+        }
+
+        /**
+         * @return the request revalidating this entry
+         */
+        HttpRequest conditional(HttpRequest req) {
+            return req.withRequestHeader(IF_NONE_MATCH, etag);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ResponseCache{" +
+                "maxBytes=" + maxBytes +
+                ", size=" + bytes +
+                ", entries=" + entries.size() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+/**
+ * Limits the rate of retries with a token bucket.<br>
+ * Sharing one budget between clients stops a failing API from being flooded with retries by all of them at once.
+ */
+public final class RetryBudget {
+    private final double capacity;
+    private final double tokensPerMilli;
+
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param capacity        the number of retries which can be made in a burst
+     * @param retriesPerSecond the sustained number of retries per second
+     */
+    public RetryBudget(int capacity, double retriesPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerMilli = retriesPerSecond / 1000;
+        this.tokens = capacity;
+        this.refilledAt = System.currentTimeMillis();
+    }
+
+    /**
+     * @return true if a retry may be made, false if the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.currentTimeMillis());
+    }
+
+    /*package*/ synchronized boolean tryAcquire(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerMilli);
+            refilledAt = now;
+        }
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "RetryBudget{" +
+                "capacity=" + capacity +
+                ", tokens=" + tokens +
+                '}';
+    }
+}
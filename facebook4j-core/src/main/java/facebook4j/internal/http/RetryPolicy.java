@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.io.IOException;
+
+/**
+ * Decides whether and when a failed request is retried.<br>
+ * The policy is asked after every failed attempt, at most {@link HttpClientConfiguration#getHttpRetryCount()} times per request.
+ * Implementations are shared by concurrent requests and have to be thread-safe.
+ *
+ * @see RetryPolicyFactory
+ */
+public interface RetryPolicy {
+    /**
+     * Returns how long to wait before retrying the request.
+     *
+     * @param req          the request
+     * @param retriedCount the number of retries made so far
+     * @param res          the error response, or null if the request failed with an I/O error
+     * @param ioe          the I/O error, or null if a response has been received
+     * @return the delay in milliseconds, or a negative value not to retry
+     */
+    long getRetryDelay(HttpRequest req, int retriedCount, HttpResponse res, IOException ioe);
+}
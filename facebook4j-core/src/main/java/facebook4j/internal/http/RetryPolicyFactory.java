@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates the retry policy of the HTTP clients.<br>
+ * A custom policy can be plugged in with a system property, the class has to have a constructor taking an {@link HttpClientConfiguration}:
+ * <pre>
+ * -Dfacebook4j.http.retryPolicy=com.example.MyRetryPolicy
+ * </pre>
+ */
+public final class RetryPolicyFactory {
+    private static final Constructor RETRY_POLICY_CONSTRUCTOR;
+    private static final String RETRY_POLICY_IMPLEMENTATION = "facebook4j.http.retryPolicy";
+
+    static {
+        Class clazz = null;
+        String retryPolicyImpl = System.getProperty(RETRY_POLICY_IMPLEMENTATION);
+        if (retryPolicyImpl != null) {
+            try {
+                clazz = Class.forName(retryPolicyImpl);
+            } catch (ClassNotFoundException ignore) {
+            }
+        }
+        if (null == clazz) {
+            clazz = DefaultRetryPolicy.class;
+        }
+        try {
+            RETRY_POLICY_CONSTRUCTOR = clazz.getConstructor(HttpClientConfiguration.class);
+        } catch (NoSuchMethodException nsme) {
+            throw new AssertionError(nsme);
+        }
+    }
+
+    public static RetryPolicy getInstance(HttpClientConfiguration conf) {
+        try {
+            return (RetryPolicy) RETRY_POLICY_CONSTRUCTOR.newInstance(conf);
+        } catch (InstantiationException e) {
+            throw new AssertionError(e);
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        } catch (InvocationTargetException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A response whose body has been read into memory, so that it can be handed to several callers at once.<br>
+ * The body is decoded once and the decoded JSON is shared by every caller.
+ */
+/*package*/ final class SharedHttpResponse extends HttpResponse {
+    private final byte[] body;
+    private final Map<String, List<String>> headerFields;
+    private final Map<String, List<String>> headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+
+    SharedHttpResponse(HttpResponse res) throws IOException {
+        super(res.CONF);
+        this.statusCode = res.getStatusCode();
+        Map<String, List<String>> fields = res.getResponseHeaderFields();
+        this.headerFields = fields != null ? fields : Collections.<String, List<String>>emptyMap();
+        for (Map.Entry<String, List<String>> entry : headerFields.entrySet()) {
+            if (entry.getKey() != null) {
+                headers.put(entry.getKey(), entry.getValue());
+            }
+        }
+        this.body = read(res);
+    }
+
+    private static byte[] read(HttpResponse res) throws IOException {
+        InputStream in = res.asStream();
+        if (in == null) {
+            return null;
+        }
+        try {
+            ResponseBodyBuffer body = ResponseBodyBuffer.read(in, res.getExpectedBodyLength());
+            try {
+                return body.toByteArray();
+            } finally {
+                body.release();
+            }
+        } finally {
+            try {
+                in.close();
+            } finally {
+                res.disconnect();
+            }
+        }
+    }
+
+    /**
+     * @return the size of the body in bytes
+     */
+    int getBodyLength() {
+        return body != null ? body.length : 0;
+    }
+
+    @Override
+    public String getResponseHeader(String name) {
+        List<String> values = headers.get(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.get(values.size() - 1);
+    }
+
+    @Override
+    public Map<String, List<String>> getResponseHeaderFields() {
+        return headerFields;
+    }
+
+    @Override
+    public InputStream asStream() {
+        return body != null ? new ByteArrayInputStream(body) : null;
+    }
+
+    @Override
+    public Reader asReader() {
+        InputStream stream = asStream();
+        try {
+            return new InputStreamReader(stream, "UTF-8");
+        } catch (UnsupportedEncodingException uee) {
+            return new InputStreamReader(stream);
+        }
+    }
+
+    @Override
+    public synchronized String asString() throws FacebookException {
+        return super.asString();
+    }
+
+    @Override
+    public synchronized JSONObject asJSONObject() throws FacebookException {
+        return super.asJSONObject();
+    }
+
+    @Override
+    public synchronized JSONArray asJSONArray() throws FacebookException {
+        return super.asJSONArray();
+    }
+
+    @Override
+    public void disconnect() {
+        // the connection has been released when the body was read
+    }
+}
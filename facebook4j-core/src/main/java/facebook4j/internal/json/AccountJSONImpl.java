@@ -48,7 +48,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -105,7 +105,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     static ResponseList<Account> createAccountList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
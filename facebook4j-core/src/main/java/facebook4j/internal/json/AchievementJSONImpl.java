@@ -57,7 +57,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -168,7 +168,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     static ResponseList<Achievement> createAchievementList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
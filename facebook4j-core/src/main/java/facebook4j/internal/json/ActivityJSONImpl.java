@@ -43,7 +43,7 @@ import facebook4j.internal.org.json.JSONObject;
     static ResponseList<Activity> createActivityList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -58,7 +58,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -219,7 +219,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     static ResponseList<Album> createAlbumList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -88,7 +88,7 @@ import facebook4j.internal.org.json.JSONObject;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
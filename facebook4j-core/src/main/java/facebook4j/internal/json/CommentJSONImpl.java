@@ -28,12 +28,15 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -64,7 +67,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -74,16 +77,36 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         init(json);
     }
 
+    private CommentJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
+        id = getRawString("id", json);
+        message = getRawString("message", json);
+        canComment = getBoolean("can_comment", json);
+        canRemove = getBoolean("can_remove", json);
+        canHide = getBoolean("can_hide", json);
+        canLike = getBoolean("can_like", json);
+        createdTime = getISO8601Datetime("created_time", json);
+        likeCount = getInt("like_count", json);
+        commentCount = getInt("comment_count", json);
+        isUserLikes = getBoolean("user_likes", json);
+        isHidden = getBoolean("is_hidden", json);
+        initEntities(json);
+    }
+
+    /**
+     * Initializes the nested entities and lists, from the whole comment or from the subtrees collected by {@link #bind(JSONPullParser)}.
+     */
+    private void initEntities(JSONObject json) throws FacebookException {
         try {
-            id = getRawString("id", json);
             if (!json.isNull("from")) {
                 JSONObject fromJSONObject = json.getJSONObject("from");
                 from = new CategoryJSONImpl(fromJSONObject);
             } else {
                 from = null;
             }
-            message = getRawString("message", json);
             if (!json.isNull("message_tags")) {
                 JSONArray tagsJSONArray = json.getJSONArray("message_tags");
                 final int size = tagsJSONArray.length();
@@ -94,15 +117,6 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
             } else {
                 messageTags = Collections.emptyList();
             }
-            canComment = getBoolean("can_comment", json);
-            canRemove = getBoolean("can_remove", json);
-            canHide = getBoolean("can_hide", json);
-            canLike = getBoolean("can_like", json);
-            createdTime = getISO8601Datetime("created_time", json);
-            likeCount = getInt("like_count", json);
-            commentCount = getInt("comment_count", json);
-            isUserLikes = getBoolean("user_likes", json);
-            isHidden = getBoolean("is_hidden", json);
             if (!json.isNull("attachment")) {
                 attachment = new AttachmentJSONImpl(json.getJSONObject("attachment"));
             }
@@ -194,11 +208,99 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         return comments;
     }
 
+    /*package*/ static final Binder<Comment> BINDER = new Binder<Comment>() {
+        public Comment bind(JSONPullParser parser) throws FacebookException, JSONException {
+            return CommentJSONImpl.bind(parser);
+        }
+    };
+
+    /**
+     * Binds the comment starting with the current token of the parser.<br>
+     * Scalars, the parent and the replies are read straight from the parser, other nested entities from their own subtree.
+     */
+    /*package*/ static CommentJSONImpl bind(JSONPullParser parser) throws FacebookException, JSONException {
+        expectObject(parser);
+        CommentJSONImpl comment = new CommentJSONImpl();
+        JSONObject entities = new JSONObject();
+        Comment parent = null;
+        PagableList<Comment> comments = null;
+        String createdTime = null;
+        TimeZone timezone = null;
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("id".equals(key)) {
+                comment.id = readRawString(parser);
+            } else if ("message".equals(key)) {
+                comment.message = readRawString(parser);
+            } else if ("can_comment".equals(key)) {
+                comment.canComment = readBoolean(parser);
+            } else if ("can_remove".equals(key)) {
+                comment.canRemove = readBoolean(parser);
+            } else if ("can_hide".equals(key)) {
+                comment.canHide = readBoolean(parser);
+            } else if ("can_like".equals(key)) {
+                comment.canLike = readBoolean(parser);
+            } else if ("created_time".equals(key)) {
+                createdTime = readRawString(parser);
+            } else if ("timezone".equals(key)) {
+                String id = readRawString(parser);
+                timezone = id == null ? null : lookupTimeZone(id);
+            } else if ("like_count".equals(key)) {
+                comment.likeCount = readInt(parser);
+            } else if ("comment_count".equals(key)) {
+                comment.commentCount = readInt(parser);
+            } else if ("user_likes".equals(key)) {
+                comment.isUserLikes = readBoolean(parser);
+            } else if ("is_hidden".equals(key)) {
+                comment.isHidden = readBoolean(parser);
+            } else if ("parent".equals(key) && !isNull(parser)) {
+                parent = bind(parser);
+            } else if ("comments".equals(key) && !isNull(parser)) {
+                List<Comment> list = new ArrayList<Comment>();
+                JSONObject json = readList(parser, BINDER, list);
+                comments = new PagableListImpl<Comment>(list.size(), json);
+                comments.addAll(list);
+            } else if ("metadata".equals(key) && !isNull(parser)) {
+                comment.setMetadata(new MetadataJSONImpl(readObject(parser)));
+            } else if ("from".equals(key) || "message_tags".equals(key) || "attachment".equals(key)) {
+                entities.put(key, parser.currentValue());
+            } else {
+                parser.skipValue();
+            }
+        }
+        comment.createdTime = getISO8601Datetime(createdTime, timezone);
+        comment.initEntities(entities);
+        comment.parent = parent;
+        if (comments != null) {
+            comment.comments = comments;
+        }
+        return comment;
+    }
+
+    /*package*/
+    static Comment bindComment(HttpResponse res) throws FacebookException {
+        return JSONBindingUtil.bind(res, BINDER);
+    }
+
+    /*package*/
+    static ResponseList<Comment> bindCommentList(HttpResponse res) throws FacebookException {
+        return JSONBindingUtil.bind(res, new Binder<ResponseList<Comment>>() {
+            public ResponseList<Comment> bind(JSONPullParser parser) throws FacebookException, JSONException {
+                List<Comment> list = new ArrayList<Comment>();
+                JSONObject json = readList(parser, BINDER, list);
+                ResponseList<Comment> comments = new ResponseListImpl<Comment>(list.size(), json);
+                comments.addAll(list);
+                return comments;
+            }
+        });
+    }
+
     /*package*/
     static ResponseList<Comment> createCommentList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
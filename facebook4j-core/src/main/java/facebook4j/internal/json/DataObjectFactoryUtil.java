@@ -16,13 +16,10 @@
 
 package facebook4j.internal.json;
 
-import facebook4j.json.DataObjectFactory;
-
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import facebook4j.conf.Configuration;
 
 /**
- * provides public access to package private methods of facebook4j.json.DataObjectFactory class.<br>
+ * provides access to the JSON store of facebook4j.json.DataObjectFactory.<br>
  * This class is not intended to be used by Twitter4J client.
  *
  * @author Yusuke Yamamoto - yusuke at mac.com
@@ -32,52 +29,28 @@ public class DataObjectFactoryUtil {
         throw new AssertionError("not intended to be instantiated.");
     }
 
-    private static final Method CLEAR_THREAD_LOCAL_MAP;
-    private static final Method REGISTER_JSON_OBJECT;
-
-    static {
-        Method[] methods = DataObjectFactory.class.getDeclaredMethods();
-        Method clearThreadLocalMap = null;
-        Method registerJSONObject = null;
-        for (Method method : methods) {
-            if (method.getName().equals("clearThreadLocalMap")) {
-                clearThreadLocalMap = method;
-                clearThreadLocalMap.setAccessible(true);
-            } else if (method.getName().equals("registerJSONObject")) {
-                registerJSONObject = method;
-                registerJSONObject.setAccessible(true);
-            }
-        }
-        if (null == clearThreadLocalMap || null == registerJSONObject) {
-            throw new AssertionError();
-        }
-        CLEAR_THREAD_LOCAL_MAP = clearThreadLocalMap;
-        REGISTER_JSON_OBJECT = registerJSONObject;
+    /**
+     * clears the raw JSON forms associated with the current thread, keeping the current byte budget
+     */
+    public static void clearThreadLocalMap() {
+        JSONStore store = JSONStore.getInstance();
+        store.clear(store.getMaxBytes());
     }
 
     /**
-     * provides a public access to {DAOFactory#clearThreadLocalMap}
+     * clears the raw JSON forms associated with the current thread
+     *
+     * @param conf the configuration of the call, providing the byte budget of the store
      */
-    public static void clearThreadLocalMap() {
-        try {
-            CLEAR_THREAD_LOCAL_MAP.invoke(null);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+    public static void clearThreadLocalMap(Configuration conf) {
+        JSONStore.getInstance().clear(conf.getJSONStoreMaxBytes());
     }
 
     /**
-     * provides a public access to {DAOFactory#registerJSONObject}
+     * associates a raw JSON form with a decoded object on the current thread
      */
     public static <T> T registerJSONObject(T key, Object json) {
-        try {
-            return (T) REGISTER_JSON_OBJECT.invoke(null, key, json);
-        } catch (IllegalAccessException e) {
-            throw new AssertionError(e);
-        } catch (InvocationTargetException e) {
-            throw new AssertionError(e);
-        }
+        JSONStore.getInstance().put(key, json);
+        return key;
     }
 }
@@ -44,7 +44,7 @@ import facebook4j.internal.org.json.JSONObject;
     static List<Domain> createDomainArray(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             List<Domain> domains = new ArrayList<Domain>();
@@ -50,4 +50,8 @@ import facebook4j.internal.org.json.JSONObject;
         return metadata;
     }
 
+    /*package*/ void setMetadata(Metadata metadata) {
+        this.metadata = metadata;
+    }
+
 }
@@ -24,7 +24,9 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -40,7 +42,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -67,11 +69,37 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         return name;
     }
 
+    /*package*/ static final Binder<IdNameEntity> BINDER = new Binder<IdNameEntity>() {
+        public IdNameEntity bind(JSONPullParser parser) throws FacebookException, JSONException {
+            return IdNameEntityJSONImpl.bind(parser);
+        }
+    };
+
+    /**
+     * Binds the entity starting with the current token of the parser.
+     */
+    /*package*/ static IdNameEntityJSONImpl bind(JSONPullParser parser) throws JSONException {
+        expectObject(parser);
+        IdNameEntityJSONImpl entity = new IdNameEntityJSONImpl((String) null);
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("id".equals(key)) {
+                entity.id = readRawString(parser);
+            } else if ("name".equals(key)) {
+                entity.name = readRawString(parser);
+            } else {
+                parser.skipValue();
+            }
+        }
+        return entity;
+    }
+
     /*package*/
     static ResponseList<IdNameEntity> createIdNameEntityList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
+import facebook4j.internal.org.json.JSONPullParser.Token;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+
+import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
+
+/**
+ * Binds response bodies to entities straight from a {@link JSONPullParser}, without building the tree of the whole response.<br>
+ * The readers return what {@link facebook4j.internal.util.z_F4JInternalParseUtil} returns for the same value of a JSONObject.
+ */
+/*package*/ final class JSONBindingUtil {
+
+    /**
+     * Binds the value starting with the current token of the parser.
+     */
+    /*package*/ interface Binder<T> {
+        T bind(JSONPullParser parser) throws FacebookException, JSONException;
+    }
+
+    private JSONBindingUtil() {
+        // should never be instantiated
+        throw new AssertionError();
+    }
+
+    /*package*/ static <T> T bind(HttpResponse res, Binder<T> binder) throws FacebookException {
+        JSONPullParser parser = res.asJSONPullParser();
+        try {
+            parser.next();
+            return binder.bind(parser);
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone.getMessage(), jsone);
+        } finally {
+            parser.close();
+            try {
+                res.disconnect();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    /*package*/ static void expectObject(JSONPullParser parser) throws JSONException {
+        if (parser.getToken() != Token.START_OBJECT) {
+            throw new JSONException("A JSONObject text must begin with '{' at " + parser.getToken());
+        }
+    }
+
+    /*package*/ static boolean isNull(JSONPullParser parser) {
+        return parser.getToken() == Token.NULL;
+    }
+
+    /*package*/ static String readRawString(JSONPullParser parser) throws JSONException {
+        switch (parser.getToken()) {
+            case NULL:
+                return null;
+            case START_OBJECT:
+            case START_ARRAY:
+                return parser.currentValue().toString();
+            default:
+                return parser.getValue().toString();
+        }
+    }
+
+    /*package*/ static Integer readInt(JSONPullParser parser) throws JSONException {
+        if (parser.getToken() == Token.NUMBER) {
+            Object value = parser.getValue();
+            if (value instanceof Integer) {
+                return (Integer) value;
+            }
+        }
+        return getInt(readRawString(parser));
+    }
+
+    /*package*/ static Boolean readBoolean(JSONPullParser parser) throws JSONException {
+        if (parser.getToken() == Token.TRUE) {
+            return Boolean.TRUE;
+        }
+        if (parser.getToken() == Token.FALSE) {
+            return Boolean.FALSE;
+        }
+        String str = readRawString(parser);
+        if (null == str || "null".equals(str)) {
+            return null;
+        }
+        return Boolean.valueOf(str);
+    }
+
+    /*package*/ static Double readDouble(JSONPullParser parser) throws JSONException {
+        if (parser.getToken() == Token.NUMBER) {
+            Object value = parser.getValue();
+            if (value instanceof Double) {
+                return (Double) value;
+            }
+            if (value instanceof Integer || value instanceof Long) {
+                return ((Number) value).doubleValue();
+            }
+        }
+        String str = readRawString(parser);
+        if (null == str || "".equals(str) || "null".equals(str)) {
+            return null;
+        }
+        return Double.valueOf(str);
+    }
+
+    /*package*/ static URL readURL(JSONPullParser parser) throws JSONException {
+        String str = readRawString(parser);
+        if (str == null) {
+            return null;
+        }
+        try {
+            return new URL(str);
+        } catch (MalformedURLException urle) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the object starting with the current token, as a tree
+     * @throws JSONException if the value is not an object
+     */
+    /*package*/ static JSONObject readObject(JSONPullParser parser) throws JSONException {
+        expectObject(parser);
+        return (JSONObject) parser.currentValue();
+    }
+
+    /**
+     * Reads a list like {"data": [...], "paging": {...}, "summary": {...}}, binding each element of "data".
+     *
+     * @param parser   the parser, on the start of the list
+     * @param binder   binds an element
+     * @param elements receives the bound elements
+     * @return the other values of the list, to initialize its count, paging and summary
+     */
+    /*package*/ static <T> JSONObject readList(JSONPullParser parser, Binder<? extends T> binder, List<T> elements)
+            throws FacebookException, JSONException {
+        expectObject(parser);
+        JSONObject list = new JSONObject();
+        while (parser.next() == Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("data".equals(key) && parser.getToken() == Token.START_ARRAY) {
+                while (parser.next() != Token.END_ARRAY) {
+                    elements.add(binder.bind(parser));
+                }
+            } else {
+                list.put(key, parser.currentValue());
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Reads an array, binding each element.
+     *
+     * @param parser   the parser, on the start of the array
+     * @param binder   binds an element
+     * @param elements receives the bound elements
+     * @throws JSONException if the value is not an array
+     */
+    /*package*/ static <T> void readArray(JSONPullParser parser, Binder<? extends T> binder, List<T> elements)
+            throws FacebookException, JSONException {
+        if (parser.getToken() != Token.START_ARRAY) {
+            throw new JSONException("A JSONArray text must start with '[' at " + parser.getToken());
+        }
+        while (parser.next() != Token.END_ARRAY) {
+            elements.add(binder.bind(parser));
+        }
+    }
+
+    /**
+     * @return an object holding only the given fields of the object, to keep them without the rest of its tree
+     */
+    /*package*/ static JSONObject retain(JSONObject json, Set<String> fields) throws JSONException {
+        JSONObject retained = new JSONObject();
+        for (String field : fields) {
+            Object value = json.opt(field);
+            if (value != null) {
+                retained.put(field, value);
+            }
+        }
+        return retained;
+    }
+}
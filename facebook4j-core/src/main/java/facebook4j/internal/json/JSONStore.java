@@ -0,0 +1,360 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+
+import java.io.UnsupportedEncodingException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the raw JSON of the objects decoded on a thread, for {@link facebook4j.json.DataObjectFactory#getRawJSON(Object)}.<br>
+ * Objects are referenced weakly and compared by identity, so the store never keeps a decoded object reachable,
+ * and the raw JSON is kept as UTF-8 bytes instead of the JSONObject tree it has been decoded from.
+ * The elements of a list are registered before the list; once the list is registered, their entries refer to
+ * their slices of the bytes of the list, so that the raw JSON of an element is not kept twice.
+ * With a byte budget, the oldest entries are dropped once the raw JSON kept for the thread exceeds it.
+ * The store of a thread is cleared at the start of each API call, like the ThreadLocal map it replaces.
+ */
+public final class JSONStore {
+    private static final ThreadLocal<JSONStore> stores = new ThreadLocal<JSONStore>() {
+        @Override
+        protected JSONStore initialValue() {
+            return new JSONStore();
+        }
+    };
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<Object>();
+    private Entry[] table = new Entry[INITIAL_CAPACITY];
+    private int size = 0;
+    // size of the byte arrays referenced by the entries, each counted once
+    private long bytes = 0;
+    private int maxBytes = 0;
+    // insertion order, oldest first
+    private Entry head;
+    private Entry tail;
+
+    /*package*/ JSONStore() {
+    }
+
+    /**
+     * @return the store of the current thread
+     */
+    public static JSONStore getInstance() {
+        return stores.get();
+    }
+
+    /**
+     * Drops every entry.
+     *
+     * @param maxBytes maximum number of bytes of raw JSON to keep from now on, 0 for no limit
+     */
+    public void clear(int maxBytes) {
+        while (queue.poll() != null) {
+            // the entries are dropped with the table
+        }
+        table = new Entry[INITIAL_CAPACITY];
+        size = 0;
+        bytes = 0;
+        head = null;
+        tail = null;
+        this.maxBytes = Math.max(maxBytes, 0);
+    }
+
+    /**
+     * Associates the raw JSON an object has been decoded from with the object.
+     *
+     * @param key  the decoded object
+     * @param json the JSONObject, JSONArray or String it has been decoded from
+     */
+    public void put(Object key, Object json) {
+        if (key == null || json == null) {
+            return;
+        }
+        expunge();
+        remove(find(key));
+        Entry[] elements = null;
+        int[] offsets = null;
+        Buffer buffer;
+        if (json instanceof JSONArray) {
+            int length = ((JSONArray) json).length();
+            elements = new Entry[length];
+            offsets = new int[length];
+            buffer = serialize((JSONArray) json, elements, offsets);
+        } else {
+            buffer = new Buffer(utf8(json instanceof String ? (String) json : json.toString()));
+        }
+        if (buffer == null || (maxBytes > 0 && buffer.bytes.length > maxBytes)) {
+            return;
+        }
+        int hash = System.identityHashCode(key);
+        Entry entry = new Entry(key, queue, hash, json instanceof JSONObject ? json : null);
+        entry.refer(buffer, 0, buffer.bytes.length);
+        int i = indexFor(hash, table.length);
+        entry.next = table[i];
+        table[i] = entry;
+        entry.before = tail;
+        if (tail == null) {
+            head = entry;
+        } else {
+            tail.after = entry;
+        }
+        tail = entry;
+        size++;
+        if (elements != null) {
+            for (int j = 0; j < elements.length; j++) {
+                if (elements[j] != null) {
+                    elements[j].refer(buffer, offsets[j], elements[j].length);
+                    elements[j].source = null;
+                }
+            }
+        }
+        while (maxBytes > 0 && bytes > maxBytes) {
+            remove(head);
+        }
+        if (size > table.length * 3 / 4) {
+            resize();
+        }
+    }
+
+    /**
+     * Serializes a list like {@link JSONArray#toString()}, taking the bytes of the elements registered just before it
+     * instead of serializing them again.
+     *
+     * @param elements receives the entries of the elements which have been registered
+     * @param offsets  receives the offsets of those elements in the bytes of the list
+     * @return the bytes of the list, or null if it cannot be serialized
+     */
+    private Buffer serialize(JSONArray array, Entry[] elements, int[] offsets) {
+        int n = array.length();
+        Map<Object, Entry> registered = new IdentityHashMap<Object, Entry>();
+        Entry e = tail;
+        for (int i = 0; i < n && e != null; i++, e = e.before) {
+            Object source = e.source == null ? null : e.source.get();
+            if (source != null && !registered.containsKey(source)) {
+                registered.put(source, e);
+            }
+        }
+        byte[][] serialized = new byte[n][];
+        int length = n == 0 ? 2 : n + 1;
+        try {
+            for (int i = 0; i < n; i++) {
+                Object value = array.opt(i);
+                elements[i] = registered.remove(value);
+                if (elements[i] == null) {
+                    serialized[i] = utf8(JSONObject.valueToString(value));
+                    length += serialized[i].length;
+                } else {
+                    length += elements[i].length;
+                }
+            }
+        } catch (JSONException jsone) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        bytes[offset++] = '[';
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                bytes[offset++] = ',';
+            }
+            offsets[i] = offset;
+            if (elements[i] == null) {
+                System.arraycopy(serialized[i], 0, bytes, offset, serialized[i].length);
+                offset += serialized[i].length;
+            } else {
+                System.arraycopy(elements[i].buffer.bytes, elements[i].offset, bytes, offset, elements[i].length);
+                offset += elements[i].length;
+            }
+        }
+        bytes[offset] = ']';
+        return new Buffer(bytes);
+    }
+
+    /**
+     * @param key a decoded object
+     * @return the raw JSON of the object, or null if it is not known
+     */
+    public String get(Object key) {
+        expunge();
+        Entry entry = find(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return new String(entry.buffer.bytes, entry.offset, entry.length, "UTF-8");
+        } catch (UnsupportedEncodingException uee) {
+            throw new AssertionError(uee);
+        }
+    }
+
+    /**
+     * @return maximum number of bytes of raw JSON kept, 0 for no limit
+     */
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /*package*/ int size() {
+        expunge();
+        return size;
+    }
+
+    /*package*/ long bytes() {
+        expunge();
+        return bytes;
+    }
+
+    private Entry find(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = System.identityHashCode(key);
+        for (Entry e = table[indexFor(hash, table.length)]; e != null; e = e.next) {
+            if (e.hash == hash && e.get() == key) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    private void remove(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        int i = indexFor(entry.hash, table.length);
+        Entry prev = null;
+        for (Entry e = table[i]; e != null; prev = e, e = e.next) {
+            if (e == entry) {
+                if (prev == null) {
+                    table[i] = e.next;
+                } else {
+                    prev.next = e.next;
+                }
+                if (entry.before == null) {
+                    head = entry.after;
+                } else {
+                    entry.before.after = entry.after;
+                }
+                if (entry.after == null) {
+                    tail = entry.before;
+                } else {
+                    entry.after.before = entry.before;
+                }
+                size--;
+                entry.refer(null, 0, 0);
+                return;
+            }
+        }
+    }
+
+    // drops the entries of the objects which have been collected
+    private void expunge() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            remove((Entry) ref);
+        }
+    }
+
+    private void resize() {
+        Entry[] newTable = new Entry[table.length * 2];
+        for (Entry bucket : table) {
+            Entry e = bucket;
+            while (e != null) {
+                Entry next = e.next;
+                int i = indexFor(e.hash, newTable.length);
+                e.next = newTable[i];
+                newTable[i] = e;
+                e = next;
+            }
+        }
+        table = newTable;
+    }
+
+    private static byte[] utf8(String json) {
+        try {
+            return json.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException uee) {
+            throw new AssertionError(uee);
+        }
+    }
+
+    private static int indexFor(int hash, int length) {
+        return (hash ^ (hash >>> 16)) & (length - 1);
+    }
+
+    /**
+     * The raw JSON of an entry and of the elements referring to their slices of it.
+     */
+    private static final class Buffer {
+        final byte[] bytes;
+        int references = 0;
+
+        Buffer(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private final class Entry extends WeakReference<Object> {
+        final int hash;
+        // the JSONObject the key has been decoded from, until a list takes the bytes over
+        WeakReference<Object> source;
+        Buffer buffer;
+        int offset;
+        int length;
+        Entry next;
+        Entry before;
+        Entry after;
+
+        Entry(Object key, ReferenceQueue<Object> queue, int hash, Object source) {
+            super(key, queue);
+            this.hash = hash;
+            this.source = source == null ? null : new WeakReference<Object>(source);
+        }
+
+        /**
+         * Points the entry at a slice of a buffer, counting the buffer the first time it is referred to.
+         */
+        void refer(Buffer to, int offset, int length) {
+            if (to != null && to.references++ == 0) {
+                bytes += to.bytes.length;
+            }
+            if (buffer != null && --buffer.references == 0) {
+                bytes -= buffer.bytes.length;
+            }
+            buffer = to;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JSONStore{" +
+                "size=" + size +
+                ", bytes=" + bytes +
+                ", maxBytes=" + maxBytes +
+                '}';
+    }
+}
@@ -22,10 +22,15 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -64,7 +69,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -74,6 +79,10 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         init(json);
     }
 
+    private PageJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
         id = getRawString("id", json);
         name = getRawString("name", json);
@@ -205,11 +214,104 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         return username;
     }
 
+    /*package*/ static final Binder<Page> BINDER = new Binder<Page>() {
+        public Page bind(JSONPullParser parser) throws FacebookException, JSONException {
+            return PageJSONImpl.bind(parser);
+        }
+    };
+
+    /**
+     * Binds the page starting with the current token of the parser.<br>
+     * Scalars and the location are read straight from the parser, the picture and the cover from their own subtree.
+     */
+    /*package*/ static PageJSONImpl bind(JSONPullParser parser) throws FacebookException, JSONException {
+        expectObject(parser);
+        PageJSONImpl page = new PageJSONImpl();
+        String createdTime = null;
+        TimeZone timezone = null;
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("id".equals(key)) {
+                page.id = readRawString(parser);
+            } else if ("name".equals(key)) {
+                page.name = readRawString(parser);
+            } else if ("category".equals(key)) {
+                page.category = readRawString(parser);
+            } else if ("created_time".equals(key)) {
+                createdTime = readRawString(parser);
+            } else if ("timezone".equals(key)) {
+                String id = readRawString(parser);
+                timezone = id == null ? null : lookupTimeZone(id);
+            } else if ("link".equals(key)) {
+                page.link = readURL(parser);
+            } else if ("is_published".equals(key)) {
+                page.isPublished = readBoolean(parser);
+            } else if ("can_post".equals(key)) {
+                page.canPost = readBoolean(parser);
+            } else if ("likes".equals(key)) {
+                page.likes = readInt(parser);
+            } else if ("location".equals(key) && !isNull(parser)) {
+                page.location = PlaceJSONImpl.LocationJSONImpl.bind(parser);
+            } else if ("phone".equals(key)) {
+                page.phone = readRawString(parser);
+            } else if ("checkins".equals(key)) {
+                page.checkins = readInt(parser);
+            } else if ("picture".equals(key) && !isNull(parser)) {
+                page.picture = new PictureJSONImpl(readObject(parser));
+            } else if ("cover".equals(key) && !isNull(parser)) {
+                page.cover = new CoverJSONImpl(readObject(parser));
+            } else if ("website".equals(key)) {
+                page.website = readRawString(parser);
+            } else if ("company_overview".equals(key)) {
+                page.companyOverview = readRawString(parser);
+            } else if ("talking_about_count".equals(key)) {
+                page.talkingAboutCount = readInt(parser);
+            } else if ("access_token".equals(key)) {
+                page.accessToken = readRawString(parser);
+            } else if ("is_community_page".equals(key)) {
+                page.isCommunityPage = readBoolean(parser);
+            } else if ("were_here_count".equals(key)) {
+                page.wereHereCount = readInt(parser);
+            } else if ("fan_count".equals(key)) {
+                page.fanCount = readInt(parser);
+            } else if ("about".equals(key)) {
+                page.about = readRawString(parser);
+            } else if ("username".equals(key)) {
+                page.username = readRawString(parser);
+            } else if ("metadata".equals(key) && !isNull(parser)) {
+                page.setMetadata(new MetadataJSONImpl(readObject(parser)));
+            } else {
+                parser.skipValue();
+            }
+        }
+        page.createdTime = getISO8601Datetime(createdTime, timezone);
+        return page;
+    }
+
+    /*package*/
+    static Page bindPage(HttpResponse res) throws FacebookException {
+        return JSONBindingUtil.bind(res, BINDER);
+    }
+
+    /*package*/
+    static ResponseList<Page> bindPageList(HttpResponse res) throws FacebookException {
+        return JSONBindingUtil.bind(res, new Binder<ResponseList<Page>>() {
+            public ResponseList<Page> bind(JSONPullParser parser) throws FacebookException, JSONException {
+                List<Page> list = new ArrayList<Page>();
+                JSONObject json = readList(parser, BINDER, list);
+                ResponseList<Page> pages = new ResponseListImpl<Page>(list.size(), json);
+                pages.addAll(list);
+                return pages;
+            }
+        });
+    }
+
     /*package*/
     static ResponseList<Page> createPageList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -53,7 +53,7 @@ import java.util.List;
     /*package*/
     static List<Permission> createPermissionArray(HttpResponse res, Configuration conf) throws FacebookException {
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
         }
         List<Permission> permissions = new ArrayList<Permission>();
         JSONObject json = res.asJSONObject();
@@ -25,10 +25,12 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -47,7 +49,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         JSONObject json = res.asJSONObject();
         init(json);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
@@ -57,6 +59,10 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         init(json);
     }
 
+    private PlaceJSONImpl() {
+        super();
+    }
+
     private void init(JSONObject json) throws FacebookException {
         try {
             id = getRawString("id", json);
@@ -97,11 +103,64 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         return location;
     }
 
+    /*package*/ static final Binder<Place> BINDER = new Binder<Place>() {
+        public Place bind(JSONPullParser parser) throws FacebookException, JSONException {
+            return PlaceJSONImpl.bind(parser);
+        }
+    };
+
+    /**
+     * Binds the place starting with the current token of the parser.
+     */
+    /*package*/ static PlaceJSONImpl bind(JSONPullParser parser) throws FacebookException, JSONException {
+        expectObject(parser);
+        PlaceJSONImpl place = new PlaceJSONImpl();
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("id".equals(key)) {
+                place.id = readRawString(parser);
+            } else if ("name".equals(key)) {
+                place.name = readRawString(parser);
+            } else if ("category_list".equals(key) && parser.getToken() == JSONPullParser.Token.START_ARRAY) {
+                place.categories = new ArrayList<Category>();
+                while (parser.next() != JSONPullParser.Token.END_ARRAY) {
+                    place.categories.add(new CategoryJSONImpl(readObject(parser)));
+                }
+            } else if ("location".equals(key)) {
+                if (parser.getToken() == JSONPullParser.Token.START_OBJECT) {
+                    place.location = LocationJSONImpl.bind(parser);
+                } else {
+                    place.location = new LocationJSONImpl(readRawString(parser));
+                }
+            } else {
+                parser.skipValue();
+            }
+        }
+        if (place.location == null) {
+            place.location = new LocationJSONImpl((String) null);
+        }
+        return place;
+    }
+
+    /*package*/
+    static ResponseList<Place> bindPlaceList(HttpResponse res) throws FacebookException {
+        return JSONBindingUtil.bind(res, new Binder<ResponseList<Place>>() {
+            public ResponseList<Place> bind(JSONPullParser parser) throws FacebookException, JSONException {
+                List<Place> list = new ArrayList<Place>();
+                JSONObject json = readList(parser, BINDER, list);
+                ResponseList<Place> places = new ResponseListImpl<Place>(list.size(), json);
+                places.addAll(list);
+                return places;
+            }
+        });
+    }
+
     /*package*/
     static ResponseList<Place> createPlaceList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -184,6 +243,39 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
             this.text = text;
         }
 
+        private LocationJSONImpl() {
+        }
+
+        /**
+         * Binds the location starting with the current token of the parser.
+         */
+        /*package*/ static LocationJSONImpl bind(JSONPullParser parser) throws JSONException {
+            expectObject(parser);
+            LocationJSONImpl location = new LocationJSONImpl();
+            while (parser.next() == JSONPullParser.Token.NAME) {
+                String key = parser.getText();
+                parser.next();
+                if ("street".equals(key)) {
+                    location.street = readRawString(parser);
+                } else if ("city".equals(key)) {
+                    location.city = readRawString(parser);
+                } else if ("state".equals(key)) {
+                    location.state = readRawString(parser);
+                } else if ("country".equals(key)) {
+                    location.country = readRawString(parser);
+                } else if ("zip".equals(key)) {
+                    location.zip = readRawString(parser);
+                } else if ("latitude".equals(key)) {
+                    location.latitude = readDouble(parser);
+                } else if ("longitude".equals(key)) {
+                    location.longitude = readDouble(parser);
+                } else {
+                    parser.skipValue();
+                }
+            }
+            return location;
+        }
+
         public String getStreet() {
             return street;
         }
@@ -35,16 +35,22 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -89,25 +95,93 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     private Targeting targeting;
     private PagableList<Reaction> reactions;
     private String parentId;
+    // nested entities kept undecoded until one of their getters is called, in lazy mode
+    private transient volatile JSONObject undecodedEntities;
+    // fields selected by the request, null if all of them have been returned
+    private transient Set<String> projection;
 
     /*package*/PostJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
+        this(res, conf, null);
+    }
+
+    /*package*/PostJSONImpl(HttpResponse res, Configuration conf, Set<String> projection) throws FacebookException {
         super(res);
         JSONObject json = res.asJSONObject();
-        init(json);
+        this.projection = projection;
+        init(json, conf.isLazyEntitiesEnabled());
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
 
     /*package*/PostJSONImpl(JSONObject json) throws FacebookException {
+        this(json, false, null);
+    }
+
+    /*package*/PostJSONImpl(JSONObject json, boolean lazy, Set<String> projection) throws FacebookException {
+        super();
+        this.projection = projection;
+        init(json, lazy);
+    }
+
+    private PostJSONImpl() {
         super();
-        init(json);
     }
 
-    private void init(JSONObject json) throws FacebookException {
+    private void init(JSONObject json, boolean lazy) throws FacebookException {
+        id = getRawString("id", json);
+        if (projection != null) {
+            // the other fields are ignored, like bind() does
+            try {
+                json = retain(json, projection);
+            } catch (JSONException jsone) {
+                throw new FacebookException(jsone.getMessage(), jsone);
+            }
+        }
+        message = getRawString("message", json);
+        picture = getURL("picture", json);
+        fullPicture = getURL("full_picture", json);
+        link = getURL("link", json);
+        name = getRawString("name", json);
+        caption = getRawString("caption", json);
+        description = getRawString("description", json);
+        source = getURL("source", json);
+        icon = getURL("icon", json);
+        type = getRawString("type", json);
+        statusType = getRawString("status_type", json);
+        story = getRawString("story", json);
+        if (!json.isNull("object_id")) {
+            objectId = getRawString("object_id", json);
+        }
+        if(!json.isNull("parent_id")) {
+            parentId = getRawString("parent_id", json);
+        }
+        createdTime = getISO8601Datetime("created_time", json);
+        updatedTime = getISO8601Datetime("updated_time", json);
+        if (!json.isNull("is_published")) {
+            isPublished = getBoolean("is_published", json);
+        }
+        if (!json.isNull("is_hidden")) {
+            isHidden = getBoolean("is_hidden", json);
+        }
+        scheduledPublishTime = getInt("scheduled_publish_time", json);
+        if (lazy) {
+            try {
+                undecodedEntities = retain(json, ENTITY_FIELDS);
+            } catch (JSONException jsone) {
+                throw new FacebookException(jsone.getMessage(), jsone);
+            }
+        } else {
+            initEntities(json);
+        }
+    }
+
+    /**
+     * Initializes the nested entities and lists, from the whole post or from the subtrees collected by {@link #bind(JSONPullParser, boolean)}.
+     */
+    private void initEntities(JSONObject json) throws FacebookException {
         try {
-            id = getRawString("id", json);
             if (!json.isNull("from")) {
                 JSONObject fromJSONObject = json.getJSONObject("from");
                 from = new CategoryJSONImpl(fromJSONObject);
@@ -119,10 +193,9 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                     JSONObject toJSONObject = toJSONArray.getJSONObject(i);
                     to.add(new IdNameEntityJSONImpl(toJSONObject));
                 }
-            } else {
+            } else if (isRequested("to")) {
                 to = Collections.emptyList();
             }
-            message = getRawString("message", json);
             if (!json.isNull("message_tags")) {
                 String raw = json.get("message_tags").toString();
                 if (raw.startsWith("[")) {
@@ -145,16 +218,9 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                         }
                     }
                 }
-            } else {
+            } else if (isRequested("message_tags")) {
                 messageTags = Collections.emptyList();
             }
-            picture = getURL("picture", json);
-            fullPicture = getURL("full_picture", json);
-            link = getURL("link", json);
-            name = getRawString("name", json);
-            caption = getRawString("caption", json);
-            description = getRawString("description", json);
-            source = getURL("source", json);
             if (!json.isNull("properties")) {
                 JSONArray propertyJSONArray = json.getJSONArray("properties");
                 properties = new ArrayList<Post.Property>();
@@ -162,10 +228,9 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                     JSONObject propertyJSONObject = propertyJSONArray.getJSONObject(i);
                     properties.add(new PropertyJSONImpl(propertyJSONObject));
                 }
-            } else {
+            } else if (isRequested("properties")) {
                 properties = Collections.emptyList();
             }
-            icon = getURL("icon", json);
             if (!json.isNull("actions")) {
                 JSONArray actionJSONArray = json.getJSONArray("actions");
                 actions = new ArrayList<Post.Action>();
@@ -173,14 +238,13 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                     JSONObject actionJSONObject = actionJSONArray.getJSONObject(i);
                     actions.add(new ActionJSONImpl(actionJSONObject));
                 }
-            } else {
+            } else if (isRequested("actions")) {
                 actions = Collections.emptyList();
             }
             if (!json.isNull("privacy")) {
                 JSONObject privacyJSONObject = json.getJSONObject("privacy");
                 privacy = new PrivacyJSONImpl(privacyJSONObject);
             }
-            type = getRawString("type", json);
             if (!json.isNull("shares")){
                 JSONObject sharesJSONObject = json.getJSONObject("shares");
                 if (!sharesJSONObject.isNull("count")){
@@ -200,15 +264,13 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                 } else {
                     likes = new PagableListImpl<Like>(1, likesJSONObject);
                 }
-            } else {
+            } else if (isRequested("likes")) {
                 likes = new PagableListImpl<Like>(0);
             }
             if (!json.isNull("place")) {
                 JSONObject placeJSONObject = json.getJSONObject("place");
                 place = new PlaceJSONImpl(placeJSONObject);
             }
-            statusType = getRawString("status_type", json);
-            story = getRawString("story", json);
             if (!json.isNull("story_tags")) {
                 JSONObject storyTagsJSONObject = json.getJSONObject("story_tags");
                 storyTags = new HashMap<String, Tag[]>();
@@ -224,7 +286,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                     }
                     storyTags.put(key, tags);
                 }
-            } else {
+            } else if (isRequested("story_tags")) {
                 storyTags = Collections.emptyMap();
             }
             if (!json.isNull("with_tags")) {
@@ -234,7 +296,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                     JSONObject withTagJSONObject = withTagsJSONArray.getJSONObject(i);
                     withTags.add(new IdNameEntityJSONImpl(withTagJSONObject));
                 }
-            } else {
+            } else if (isRequested("with_tags")) {
                 withTags = Collections.emptyList();
             }
             if (!json.isNull("comments")) {
@@ -250,7 +312,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                 } else {
                     comments = new PagableListImpl<Comment>(1, commentsJSONObject);
                 }
-            } else {
+            } else if (isRequested("comments")) {
                 comments = new PagableListImpl<Comment>(0);
             }
             if (!json.isNull("attachments")) {
@@ -261,28 +323,13 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                     JSONObject attachmentJsonObject = attachmentsJSONArray.getJSONObject(i);
                        attachments.add(new AttachmentJSONImpl(attachmentJsonObject));
                 }
-            } else {
+            } else if (isRequested("attachments")) {
                 attachments = Collections.emptyList();
             }
-            if (!json.isNull("object_id")) {
-                objectId = getRawString("object_id", json);
-            }
-            if(!json.isNull("parent_id")) {
-                parentId = getRawString("parent_id", json);
-            }
             if (!json.isNull("application")) {
                 JSONObject applicationJSONObject = json.getJSONObject("application");
                 application = new ApplicationJSONImpl(applicationJSONObject);
             }
-            createdTime = getISO8601Datetime("created_time", json);
-            updatedTime = getISO8601Datetime("updated_time", json);
-            if (!json.isNull("is_published")) {
-                isPublished = getBoolean("is_published", json);
-            }
-            if (!json.isNull("is_hidden")) {
-                isHidden = getBoolean("is_hidden", json);
-            }
-            scheduledPublishTime = getInt("scheduled_publish_time", json);
             if (!json.isNull("targeting")) {
                 targeting = new TargetingJSONImpl(json.getJSONObject("targeting"));
             }
@@ -299,7 +346,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
                 } else {
                     reactions = new PagableListImpl<Reaction>(1, reactionsJSONObject);
                 }
-            } else {
+            } else if (isRequested("reactions")) {
                 reactions = new PagableListImpl<Reaction>(0);
             }
         } catch (JSONException jsone) {
@@ -307,15 +354,45 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
         }
     }
 
+    /**
+     * Fields not selected by the request are left null instead of being initialized with an empty value.
+     */
+    private boolean isRequested(String field) {
+        return projection == null || projection.contains(field);
+    }
+
+    private void decodeEntities() {
+        if (undecodedEntities == null) {
+            return;
+        }
+        synchronized (this) {
+            if (undecodedEntities != null) {
+                try {
+                    initEntities(undecodedEntities);
+                } catch (FacebookException fe) {
+                    throw new IllegalStateException(fe.getMessage(), fe);
+                }
+                undecodedEntities = null;
+            }
+        }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+        decodeEntities();
+        out.defaultWriteObject();
+    }
+
     public String getId() {
         return id;
     }
 
     public Category getFrom() {
+        decodeEntities();
         return from;
     }
 
     public List<IdNameEntity> getTo() {
+        decodeEntities();
         return to;
     }
 
@@ -324,6 +401,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public List<Tag> getMessageTags() {
+        decodeEntities();
         return messageTags;
     }
 
@@ -356,6 +434,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public List<Post.Property> getProperties() {
+        decodeEntities();
         return properties;
     }
 
@@ -364,10 +443,12 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public List<Post.Action> getActions() {
+        decodeEntities();
         return actions;
     }
 
     public Privacy getPrivacy() {
+        decodeEntities();
         return privacy;
     }
 
@@ -376,14 +457,17 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public Integer getSharesCount() {
+        decodeEntities();
         return sharesCount;
     }
 
     public PagableList<Like> getLikes() {
+        decodeEntities();
         return likes;
     }
 
     public Place getPlace() {
+        decodeEntities();
         return place;
     }
 
@@ -396,18 +480,22 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public Map<String, Tag[]> getStoryTags() {
+        decodeEntities();
         return storyTags;
     }
 
     public List<IdNameEntity> getWithTags() {
+        decodeEntities();
         return withTags;
     }
 
     public PagableList<Comment> getComments() {
+        decodeEntities();
         return comments;
     }
 
     public List<Attachment> getAttachments() {
+        decodeEntities();
         return attachments;
     }
 
@@ -420,6 +508,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public Application getApplication() {
+        decodeEntities();
         return application;
     }
 
@@ -447,14 +536,178 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public Targeting getTargeting() {
+        decodeEntities();
         return targeting;
     }
 
+    // fields initialized by initEntities()
+    private static final Set<String> ENTITY_FIELDS = new HashSet<String>(Arrays.asList(
+            "from", "to", "message_tags", "properties", "actions", "privacy", "shares", "likes", "place",
+            "story_tags", "with_tags", "comments", "attachments", "application", "targeting", "reactions"));
+
+    private static Binder<Post> binder(final boolean lazy, final Set<String> projection) {
+        return new Binder<Post>() {
+            public Post bind(JSONPullParser parser) throws FacebookException, JSONException {
+                return PostJSONImpl.bind(parser, lazy, projection);
+            }
+        };
+    }
+
+    /**
+     * Binds the post starting with the current token of the parser.<br>
+     * Scalars and comments are read straight from the parser, other nested entities from their own subtree.
+     * In lazy mode, the comments are kept as a subtree as well and no nested entity is decoded.
+     * With a projection, the values of other fields are skipped without being looked at.
+     */
+    /*package*/ static PostJSONImpl bind(JSONPullParser parser, boolean lazy, Set<String> projection) throws FacebookException, JSONException {
+        expectObject(parser);
+        PostJSONImpl post = new PostJSONImpl();
+        post.projection = projection;
+        JSONObject entities = new JSONObject();
+        PagableList<Comment> comments = null;
+        List<IdNameEntity> to = null;
+        List<IdNameEntity> withTags = null;
+        Privacy privacy = null;
+        Place place = null;
+        String createdTime = null;
+        String updatedTime = null;
+        TimeZone timezone = null;
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if (projection != null && !projection.contains(key) && !"id".equals(key) && !"metadata".equals(key)) {
+                // not selected, the id is kept as it identifies the post
+                parser.skipValue();
+            } else if ("id".equals(key)) {
+                post.id = readRawString(parser);
+            } else if ("message".equals(key)) {
+                post.message = readRawString(parser);
+            } else if ("picture".equals(key)) {
+                post.picture = readURL(parser);
+            } else if ("full_picture".equals(key)) {
+                post.fullPicture = readURL(parser);
+            } else if ("link".equals(key)) {
+                post.link = readURL(parser);
+            } else if ("name".equals(key)) {
+                post.name = readRawString(parser);
+            } else if ("caption".equals(key)) {
+                post.caption = readRawString(parser);
+            } else if ("description".equals(key)) {
+                post.description = readRawString(parser);
+            } else if ("source".equals(key)) {
+                post.source = readURL(parser);
+            } else if ("icon".equals(key)) {
+                post.icon = readURL(parser);
+            } else if ("type".equals(key)) {
+                post.type = readRawString(parser);
+            } else if ("status_type".equals(key)) {
+                post.statusType = readRawString(parser);
+            } else if ("story".equals(key)) {
+                post.story = readRawString(parser);
+            } else if ("object_id".equals(key)) {
+                post.objectId = readRawString(parser);
+            } else if ("parent_id".equals(key)) {
+                post.parentId = readRawString(parser);
+            } else if ("created_time".equals(key)) {
+                createdTime = readRawString(parser);
+            } else if ("updated_time".equals(key)) {
+                updatedTime = readRawString(parser);
+            } else if ("timezone".equals(key)) {
+                String id = readRawString(parser);
+                timezone = id == null ? null : lookupTimeZone(id);
+            } else if ("is_published".equals(key)) {
+                post.isPublished = readBoolean(parser);
+            } else if ("is_hidden".equals(key)) {
+                post.isHidden = readBoolean(parser);
+            } else if ("scheduled_publish_time".equals(key)) {
+                post.scheduledPublishTime = readInt(parser);
+            } else if ("comments".equals(key) && !lazy && !isNull(parser)) {
+                List<Comment> list = new ArrayList<Comment>();
+                JSONObject json = readList(parser, CommentJSONImpl.BINDER, list);
+                comments = new PagableListImpl<Comment>(list.size(), json);
+                comments.addAll(list);
+            } else if ("to".equals(key) && !lazy && !isNull(parser)) {
+                to = new ArrayList<IdNameEntity>();
+                readList(parser, IdNameEntityJSONImpl.BINDER, to);
+            } else if ("with_tags".equals(key) && !lazy && !isNull(parser)) {
+                withTags = new ArrayList<IdNameEntity>();
+                readList(parser, IdNameEntityJSONImpl.BINDER, withTags);
+            } else if ("privacy".equals(key) && !lazy && !isNull(parser)) {
+                privacy = PrivacyJSONImpl.bind(parser);
+            } else if ("place".equals(key) && !lazy && !isNull(parser)) {
+                place = PlaceJSONImpl.bind(parser);
+            } else if ("metadata".equals(key) && !isNull(parser)) {
+                post.setMetadata(new MetadataJSONImpl(readObject(parser)));
+            } else if (ENTITY_FIELDS.contains(key)) {
+                entities.put(key, parser.currentValue());
+            } else {
+                parser.skipValue();
+            }
+        }
+        post.createdTime = getISO8601Datetime(createdTime, timezone);
+        post.updatedTime = getISO8601Datetime(updatedTime, timezone);
+        if (lazy) {
+            post.undecodedEntities = entities;
+        } else {
+            post.initEntities(entities);
+            if (comments != null) {
+                post.comments = comments;
+            }
+            if (to != null) {
+                post.to = to;
+            }
+            if (withTags != null) {
+                post.withTags = withTags;
+            }
+            if (privacy != null) {
+                post.privacy = privacy;
+            }
+            if (place != null) {
+                post.place = place;
+            }
+        }
+        return post;
+    }
+
+    /*package*/
+    static Post bindPost(HttpResponse res, Configuration conf) throws FacebookException {
+        return bindPost(res, conf, null);
+    }
+
+    /*package*/
+    static Post bindPost(HttpResponse res, Configuration conf, Set<String> projection) throws FacebookException {
+        return JSONBindingUtil.bind(res, binder(conf.isLazyEntitiesEnabled(), projection));
+    }
+
+    /*package*/
+    static ResponseList<Post> bindPostList(HttpResponse res, Configuration conf) throws FacebookException {
+        return bindPostList(res, conf, null);
+    }
+
+    /*package*/
+    static ResponseList<Post> bindPostList(HttpResponse res, Configuration conf, Set<String> projection) throws FacebookException {
+        final Binder<Post> binder = binder(conf.isLazyEntitiesEnabled(), projection);
+        return JSONBindingUtil.bind(res, new Binder<ResponseList<Post>>() {
+            public ResponseList<Post> bind(JSONPullParser parser) throws FacebookException, JSONException {
+                List<Post> list = new ArrayList<Post>();
+                JSONObject json = readList(parser, binder, list);
+                ResponseList<Post> posts = new ResponseListImpl<Post>(list.size(), json);
+                posts.addAll(list);
+                return posts;
+            }
+        });
+    }
+
     /*package*/
     static ResponseList<Post> createPostList(HttpResponse res, Configuration conf) throws FacebookException {
+        return createPostList(res, conf, null);
+    }
+
+    /*package*/
+    static ResponseList<Post> createPostList(HttpResponse res, Configuration conf, Set<String> projection) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -462,7 +715,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
             ResponseList<Post> posts = new ResponseListImpl<Post>(size, json);
             for (int i = 0; i < size; i++) {
                 JSONObject postJSONObject = list.getJSONObject(i);
-                Post post = new PostJSONImpl(postJSONObject);
+                Post post = new PostJSONImpl(postJSONObject, conf.isLazyEntitiesEnabled(), projection);
                 if (conf.isJSONStoreEnabled()) {
                     DataObjectFactoryUtil.registerJSONObject(post, postJSONObject);
                 }
@@ -504,6 +757,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
 
     @Override
     public String toString() {
+        decodeEntities();
         return "PostJSONImpl{" +
                 "id='" + id + '\'' +
                 ", from=" + from +
@@ -699,6 +953,7 @@ final class PostJSONImpl extends FacebookResponseImpl implements Post, java.io.S
     }
 
     public PagableList<Reaction> getReactions() {
+        decodeEntities();
         return reactions;
     }
 
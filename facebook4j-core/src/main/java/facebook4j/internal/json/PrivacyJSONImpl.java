@@ -19,11 +19,14 @@ package facebook4j.internal.json;
 import facebook4j.FacebookException;
 import facebook4j.Privacy;
 import facebook4j.PrivacyType;
+import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -42,46 +45,60 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     /*package*/public PrivacyJSONImpl(JSONObject json) throws FacebookException {
         value = PrivacyType.getInstance(getRawString("value", json));
         friends = PrivacyType.getInstance(getRawString("friends", json));
-        networks = new ArrayList<String>();
-        if (!json.isNull("networks")) {
-            String networksString = getRawString("networks", json);
-            if (!networksString.equals("")) {
-                String[] networksArray = networksString.split(",");
-                for (String network : networksArray) {
-                    networks.add(network.trim());
-                }
-            }
-        }
-        allow = new ArrayList<String>();
-        if (!json.isNull("allow")) {
-            String allowString = getRawString("allow", json);
-            if (!allowString.equals("")) {
-                String[] allowArray = allowString.split(",");
-                for (String _allow : allowArray) {
-                    allow.add(_allow.trim());
-                }
-            }
-        }
-        deny = new ArrayList<String>();
-        if (!json.isNull("deny")) {
-            String denyString = getRawString("deny", json);
-            if (!denyString.equals("")) {
-                String[] denyArray = denyString.split(",");
-                for (String _deny : denyArray) {
-                    deny.add(_deny.trim());
-                }
+        networks = split(getRawString("networks", json));
+        allow = split(getRawString("allow", json));
+        deny = split(getRawString("deny", json));
+        description = split(getRawString("description", json));
+    }
+
+    private PrivacyJSONImpl() {
+    }
+
+    /**
+     * Binds the privacy starting with the current token of the parser.
+     */
+    /*package*/ static PrivacyJSONImpl bind(JSONPullParser parser) throws JSONException {
+        expectObject(parser);
+        PrivacyJSONImpl privacy = new PrivacyJSONImpl();
+        String networks = null;
+        String allow = null;
+        String deny = null;
+        String description = null;
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("value".equals(key)) {
+                privacy.value = PrivacyType.getInstance(readRawString(parser));
+            } else if ("friends".equals(key)) {
+                privacy.friends = PrivacyType.getInstance(readRawString(parser));
+            } else if ("networks".equals(key)) {
+                networks = readRawString(parser);
+            } else if ("allow".equals(key)) {
+                allow = readRawString(parser);
+            } else if ("deny".equals(key)) {
+                deny = readRawString(parser);
+            } else if ("description".equals(key)) {
+                description = readRawString(parser);
+            } else {
+                parser.skipValue();
             }
         }
-        description = new ArrayList<String>();
-        if (!json.isNull("description")) {
-            String descriptionString = getRawString("description", json);
-            if (!descriptionString.equals("")) {
-                String[] descriptionArray = descriptionString.split(",");
-                for (String _description : descriptionArray) {
-                    description.add(_description.trim());
-                }
+        privacy.networks = split(networks);
+        privacy.allow = split(allow);
+        privacy.deny = split(deny);
+        privacy.description = split(description);
+        return privacy;
+    }
+
+    // the values of a comma separated list
+    private static List<String> split(String list) {
+        List<String> values = new ArrayList<String>();
+        if (list != null && !list.equals("")) {
+            for (String value : list.split(",")) {
+                values.add(value.trim());
             }
         }
+        return values;
     }
 
     public PrivacyType getValue() {
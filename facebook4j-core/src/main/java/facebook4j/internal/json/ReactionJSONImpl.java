@@ -37,7 +37,7 @@ public class ReactionJSONImpl extends CategoryJSONImpl implements Reaction, Seri
     public static ResponseList<Reaction> createReactionsList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             
@@ -23,6 +23,9 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.json.JSONDecoder;
+
+import java.lang.reflect.Array;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
@@ -43,6 +46,34 @@ import facebook4j.internal.org.json.JSONObject;
     }
 
     /*package*/
+    @SuppressWarnings("unchecked")
+    static <T> ResponseList<T> createList(HttpResponse res, Configuration conf, Class<T> type, JSONDecoder<? extends T> decoder) throws FacebookException {
+        try {
+            if (conf.isJSONStoreEnabled()) {
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
+            }
+            JSONObject json = res.asJSONObject();
+            JSONArray jsonArray = json.getJSONArray("data");
+            final int size = jsonArray.length();
+            // the component type of the array tells the paging which type to fetch
+            ResponseList<T> results = new ResponseListImpl<T>(size, json, (T[]) Array.newInstance(type, 0));
+            for (int i = 0; i < size; i++) {
+                JSONObject jsonObject = jsonArray.getJSONObject(i);
+                T element = decoder.decode(jsonObject);
+                if (conf.isJSONStoreEnabled()) {
+                    DataObjectFactoryUtil.registerJSONObject(element, jsonObject);
+                }
+                results.add(element);
+            }
+            if (conf.isJSONStoreEnabled()) {
+                DataObjectFactoryUtil.registerJSONObject(results, jsonArray);
+            }
+            return results;
+        } catch (JSONException jsone) {
+            throw new FacebookException(jsone);
+        }
+    }
+
     static ResponseList<JSONObject> createJSONObjectList(HttpResponse res, Configuration conf) throws FacebookException {
         return createJSONObjectList(res.asJSONObject(), conf);
     }
@@ -55,7 +86,7 @@ import facebook4j.internal.org.json.JSONObject;
     private static ResponseList<JSONObject> createJSONObjectList(JSONObject json, Configuration conf) throws FacebookException {
         try {
             if (null != conf && conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONArray jsonArray = json.getJSONArray("data");
             final int size = jsonArray.length();
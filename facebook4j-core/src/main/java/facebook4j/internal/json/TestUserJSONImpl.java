@@ -54,7 +54,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     static ResponseList<TestUser> createTestUserList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
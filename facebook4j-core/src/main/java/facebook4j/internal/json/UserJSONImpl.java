@@ -27,15 +27,20 @@ import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
+import facebook4j.internal.org.json.JSONPullParser;
 
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
+import static facebook4j.internal.json.JSONBindingUtil.*;
 import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
 /**
@@ -82,39 +87,88 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     private URL website;
     private List<User.Work> work;
     private User.AgeRange ageRange;
+    // nested entities kept undecoded until one of their getters is called, in lazy mode
+    private transient volatile JSONObject undecodedEntities;
+
+    // fields initialized by initEntities()
+    private static final Set<String> ENTITY_FIELDS = new HashSet<String>(Arrays.asList(
+            "languages", "cover", "education", "hometown", "interestedIn", "interested_in", "location",
+            "favorite_athletes", "favorite_teams", "picture", "significant_other", "video_upload_limits", "work",
+            "age_range"));
 
     /*package*/UserJSONImpl(HttpResponse res, Configuration conf) throws FacebookException {
         super(res);
         if (conf.isJSONStoreEnabled()) {
-            DataObjectFactoryUtil.clearThreadLocalMap();
+            DataObjectFactoryUtil.clearThreadLocalMap(conf);
         }
         JSONObject json = res.asJSONObject();
-        init(json);
+        init(json, conf.isLazyEntitiesEnabled());
         if (conf.isJSONStoreEnabled()) {
             DataObjectFactoryUtil.registerJSONObject(this, json);
         }
     }
 
     /*package*/UserJSONImpl(JSONObject json) throws FacebookException {
+        this(json, false);
+    }
+
+    /*package*/UserJSONImpl(JSONObject json, boolean lazy) throws FacebookException {
         super();
-        init(json);
+        init(json, lazy);
     }
 
-    private void init(JSONObject json) throws FacebookException {
-        try {
-            id = getRawString("id", json);
-            name = getRawString("name", json);
-            tokenForBusiness = getRawString("token_for_business", json);
-            firstName = getRawString("first_name", json);
-            middleName = getRawString("middle_name", json);
-            lastName = getRawString("last_name", json);
-            gender = getRawString("gender", json);
-            if (!json.isNull("locale")) {
-                String[] _locale = getRawString("locale", json).split("_");
-                String language = _locale[0];
-                String country = _locale[1];
-                locale = new Locale(language, country);
+    private UserJSONImpl() {
+        super();
+    }
+
+    private void init(JSONObject json, boolean lazy) throws FacebookException {
+        id = getRawString("id", json);
+        name = getRawString("name", json);
+        tokenForBusiness = getRawString("token_for_business", json);
+        firstName = getRawString("first_name", json);
+        middleName = getRawString("middle_name", json);
+        lastName = getRawString("last_name", json);
+        gender = getRawString("gender", json);
+        if (!json.isNull("locale")) {
+            String[] _locale = getRawString("locale", json).split("_");
+            String language = _locale[0];
+            String country = _locale[1];
+            locale = new Locale(language, country);
+        }
+        link = getURL("link", json);
+        username = getRawString("username", json);
+        thirdPartyId = getRawString("third_party_id", json);
+        installed = getBoolean("installed", json);
+        // Using the current time to compute the timezone offset is technically wrong, because 
+        // the timezone value corresponds to the user's last login, but it's the best we can do
+        long currentTime = System.currentTimeMillis(); 
+        timezone = getTimeZoneOffset("timezone", json, currentTime);
+        updatedTime = getISO8601Datetime("updated_time", json);
+        verified = getBoolean("verified", json);
+        bio = getRawString("bio", json);
+        birthday = getRawString("birthday", json);
+        email = getRawString("email", json);
+        political = getRawString("political", json);
+        quotes = getRawString("quotes", json);
+        relationshipStatus = getRawString("relationship_status", json);
+        religion = getRawString("religion", json);
+        website = getURL("website", json);
+        if (lazy) {
+            try {
+                undecodedEntities = retain(json, ENTITY_FIELDS);
+            } catch (JSONException jsone) {
+                throw new FacebookException(jsone.getMessage(), jsone);
             }
+        } else {
+            initEntities(json);
+        }
+    }
+
+    /**
+     * Initializes the nested entities and lists.
+     */
+    private void initEntities(JSONObject json) throws FacebookException {
+        try {
             if (!json.isNull("languages")) {
                 JSONArray languagesJSONArray = json.getJSONArray("languages");
                 final int size = languagesJSONArray.length();
@@ -125,18 +179,6 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
             } else {
                 languages = Collections.emptyList();
             }
-            link = getURL("link", json);
-            username = getRawString("username", json);
-            thirdPartyId = getRawString("third_party_id", json);
-            installed = getBoolean("installed", json);
-            // Using the current time to compute the timezone offset is technically wrong, because 
-            // the timezone value corresponds to the user's last login, but it's the best we can do
-            long currentTime = System.currentTimeMillis(); 
-            timezone = getTimeZoneOffset("timezone", json, currentTime);
-            updatedTime = getISO8601Datetime("updated_time", json);
-            verified = getBoolean("verified", json);
-            bio = getRawString("bio", json);
-            birthday = getRawString("birthday", json);
             if (!json.isNull("cover")) {
                 JSONObject coverJSON = json.getJSONObject("cover");
                 cover = new CoverJSONImpl(coverJSON);
@@ -151,7 +193,6 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
             } else {
                 education = Collections.emptyList();
             }
-            email = getRawString("email", json);
             if (!json.isNull("hometown")) {
                 String hometownRawString = getRawString("hometown", json);
                 if (hometownRawString.startsWith("{")) {
@@ -175,7 +216,6 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
                 JSONObject locationJSON = json.getJSONObject("location");
                 location = new IdNameEntityJSONImpl(locationJSON);
             }
-            political = getRawString("political", json);
             if (!json.isNull("favorite_athletes")) {
                 JSONArray favoriteAthletesJSONArray = json.getJSONArray("favorite_athletes");
                 final int size = favoriteAthletesJSONArray.length();
@@ -205,9 +245,6 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
                     picture = new PictureJSONImpl(getURL("picture", json));
                 }
             }
-            quotes = getRawString("quotes", json);
-            relationshipStatus = getRawString("relationship_status", json);
-            religion = getRawString("religion", json);
             if (!json.isNull("significant_other")) {
                 JSONObject significantOtherJSONObject = json.getJSONObject("significant_other");
                 significantOther = new IdNameEntityJSONImpl(significantOtherJSONObject);
@@ -216,7 +253,6 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
                 JSONObject videoUploadLimitsJSONObject = json.getJSONObject("video_upload_limits");
                 videoUploadLimits = new VideoUploadLimitsJSONImpl(videoUploadLimitsJSONObject);
             }
-            website = getURL("website", json);
             if (!json.isNull("work")) {
                 JSONArray workJSONArray = json.getJSONArray("work");
                 final int size = workJSONArray.length();
@@ -236,6 +272,27 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
         }
     }
 
+    private void decodeEntities() {
+        if (undecodedEntities == null) {
+            return;
+        }
+        synchronized (this) {
+            if (undecodedEntities != null) {
+                try {
+                    initEntities(undecodedEntities);
+                } catch (FacebookException fe) {
+                    throw new IllegalStateException(fe.getMessage(), fe);
+                }
+                undecodedEntities = null;
+            }
+        }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+        decodeEntities();
+        out.defaultWriteObject();
+    }
+
     public String getId() {
         return id;
     }
@@ -265,6 +322,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     }
 
     public List<IdNameEntity> getLanguages() {
+        decodeEntities();
         return languages;
     }
 
@@ -305,10 +363,12 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     }
 
     public Cover getCover() {
+        decodeEntities();
         return cover;
     }
 
     public List<Education> getEducation() {
+        decodeEntities();
         return education;
     }
 
@@ -317,14 +377,17 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     }
 
     public IdNameEntity getHometown() {
+        decodeEntities();
         return hometown;
     }
 
     public List<String> getInterestedIn() {
+        decodeEntities();
         return interestedIn;
     }
 
     public IdNameEntity getLocation() {
+        decodeEntities();
         return location;
     }
 
@@ -333,14 +396,17 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     }
 
     public List<IdNameEntity> getFavoriteAthletes() {
+        decodeEntities();
         return favoriteAthletes;
     }
 
     public List<IdNameEntity> getFavoriteTeams() {
+        decodeEntities();
         return favoriteTeams;
     }
 
     public Picture getPicture() {
+        decodeEntities();
         return picture;
     }
 
@@ -361,10 +427,12 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     }
 
     public IdNameEntity getSignificantOther() {
+        decodeEntities();
         return significantOther;
     }
 
     public User.VideoUploadLimits getVideoUploadLimits() {
+        decodeEntities();
         return videoUploadLimits;
     }
 
@@ -373,18 +441,170 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     }
 
     public List<Work> getWork() {
+        decodeEntities();
         return work;
     }
 
     public User.AgeRange getAgeRange() {
+        decodeEntities();
        return ageRange;
    }
 
+    private static Binder<User> binder(final boolean lazy) {
+        return new Binder<User>() {
+            public User bind(JSONPullParser parser) throws FacebookException, JSONException {
+                return UserJSONImpl.bind(parser, lazy);
+            }
+        };
+    }
+
+    /**
+     * Binds the user starting with the current token of the parser.<br>
+     * Scalars and the entities with an id and a name are read straight from the parser, other nested entities
+     * from their own subtree. In lazy mode, no nested entity is decoded.
+     */
+    /*package*/ static UserJSONImpl bind(JSONPullParser parser, boolean lazy) throws FacebookException, JSONException {
+        expectObject(parser);
+        UserJSONImpl user = new UserJSONImpl();
+        JSONObject entities = new JSONObject();
+        List<IdNameEntity> languages = null;
+        IdNameEntity hometown = null;
+        IdNameEntity location = null;
+        List<IdNameEntity> favoriteAthletes = null;
+        List<IdNameEntity> favoriteTeams = null;
+        IdNameEntity significantOther = null;
+        String updatedTime = null;
+        String timezone = null;
+        while (parser.next() == JSONPullParser.Token.NAME) {
+            String key = parser.getText();
+            parser.next();
+            if ("id".equals(key)) {
+                user.id = readRawString(parser);
+            } else if ("name".equals(key)) {
+                user.name = readRawString(parser);
+            } else if ("token_for_business".equals(key)) {
+                user.tokenForBusiness = readRawString(parser);
+            } else if ("first_name".equals(key)) {
+                user.firstName = readRawString(parser);
+            } else if ("middle_name".equals(key)) {
+                user.middleName = readRawString(parser);
+            } else if ("last_name".equals(key)) {
+                user.lastName = readRawString(parser);
+            } else if ("gender".equals(key)) {
+                user.gender = readRawString(parser);
+            } else if ("locale".equals(key) && !isNull(parser)) {
+                String[] _locale = readRawString(parser).split("_");
+                user.locale = new Locale(_locale[0], _locale[1]);
+            } else if ("link".equals(key)) {
+                user.link = readURL(parser);
+            } else if ("username".equals(key)) {
+                user.username = readRawString(parser);
+            } else if ("third_party_id".equals(key)) {
+                user.thirdPartyId = readRawString(parser);
+            } else if ("installed".equals(key)) {
+                user.installed = readBoolean(parser);
+            } else if ("timezone".equals(key)) {
+                timezone = readRawString(parser);
+            } else if ("updated_time".equals(key)) {
+                updatedTime = readRawString(parser);
+            } else if ("verified".equals(key)) {
+                user.verified = readBoolean(parser);
+            } else if ("bio".equals(key)) {
+                user.bio = readRawString(parser);
+            } else if ("birthday".equals(key)) {
+                user.birthday = readRawString(parser);
+            } else if ("email".equals(key)) {
+                user.email = readRawString(parser);
+            } else if ("political".equals(key)) {
+                user.political = readRawString(parser);
+            } else if ("quotes".equals(key)) {
+                user.quotes = readRawString(parser);
+            } else if ("relationship_status".equals(key)) {
+                user.relationshipStatus = readRawString(parser);
+            } else if ("religion".equals(key)) {
+                user.religion = readRawString(parser);
+            } else if ("website".equals(key)) {
+                user.website = readURL(parser);
+            } else if ("metadata".equals(key) && !isNull(parser)) {
+                user.setMetadata(new MetadataJSONImpl(readObject(parser)));
+            } else if (lazy || isNull(parser)) {
+                if (ENTITY_FIELDS.contains(key)) {
+                    entities.put(key, parser.currentValue());
+                } else {
+                    parser.skipValue();
+                }
+            } else if ("languages".equals(key)) {
+                languages = new ArrayList<IdNameEntity>();
+                readArray(parser, IdNameEntityJSONImpl.BINDER, languages);
+            } else if ("hometown".equals(key)) {
+                if (parser.getToken() == JSONPullParser.Token.START_OBJECT) {
+                    hometown = IdNameEntityJSONImpl.bind(parser);
+                } else {
+                    hometown = new IdNameEntityJSONImpl(readRawString(parser));
+                }
+            } else if ("location".equals(key)) {
+                location = IdNameEntityJSONImpl.bind(parser);
+            } else if ("favorite_athletes".equals(key)) {
+                favoriteAthletes = new ArrayList<IdNameEntity>();
+                readArray(parser, IdNameEntityJSONImpl.BINDER, favoriteAthletes);
+            } else if ("favorite_teams".equals(key)) {
+                favoriteTeams = new ArrayList<IdNameEntity>();
+                readArray(parser, IdNameEntityJSONImpl.BINDER, favoriteTeams);
+            } else if ("significant_other".equals(key)) {
+                significantOther = IdNameEntityJSONImpl.bind(parser);
+            } else if (ENTITY_FIELDS.contains(key)) {
+                entities.put(key, parser.currentValue());
+            } else {
+                parser.skipValue();
+            }
+        }
+        // Using the current time to compute the timezone offset is technically wrong, like in init()
+        user.timezone = getTimeZoneOffset(timezone, System.currentTimeMillis());
+        user.updatedTime = getISO8601Datetime(updatedTime, timezone == null ? null : lookupTimeZone(timezone));
+        if (lazy) {
+            user.undecodedEntities = entities;
+        } else {
+            user.initEntities(entities);
+            if (languages != null) {
+                user.languages = languages;
+            }
+            user.hometown = hometown;
+            user.location = location;
+            if (favoriteAthletes != null) {
+                user.favoriteAthletes = favoriteAthletes;
+            }
+            if (favoriteTeams != null) {
+                user.favoriteTeams = favoriteTeams;
+            }
+            user.significantOther = significantOther;
+        }
+        return user;
+    }
+
+    /*package*/
+    static User bindUser(HttpResponse res, Configuration conf) throws FacebookException {
+        return JSONBindingUtil.bind(res, binder(conf.isLazyEntitiesEnabled()));
+    }
+
+    /*package*/
+    static ResponseList<User> bindUserList(HttpResponse res, Configuration conf) throws FacebookException {
+        final Binder<User> binder = binder(conf.isLazyEntitiesEnabled());
+        return JSONBindingUtil.bind(res, new Binder<ResponseList<User>>() {
+            public ResponseList<User> bind(JSONPullParser parser) throws FacebookException, JSONException {
+                List<User> list = new ArrayList<User>();
+                JSONObject json = readList(parser, binder, list);
+                ResponseList<User> users = new ResponseListImpl<User>(list.size(), json);
+                users.addAll(list);
+                return users;
+            }
+        });
+    }
+
     /*package*/
     static ResponseList<User> createUserList(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             JSONArray list = json.getJSONArray("data");
@@ -392,7 +612,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
             ResponseList<User> users = new ResponseListImpl<User>(size, json);
             for (int i = 0; i < size; i++) {
                 JSONObject userJSONObject = list.getJSONObject(i);
-                User user = new UserJSONImpl(userJSONObject);
+                User user = new UserJSONImpl(userJSONObject, conf.isLazyEntitiesEnabled());
                 if (conf.isJSONStoreEnabled()) {
                     DataObjectFactoryUtil.registerJSONObject(user, userJSONObject);
                 }
@@ -411,14 +631,14 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
     static List<User> createUserArray(HttpResponse res, Configuration conf) throws FacebookException {
         try {
             if (conf.isJSONStoreEnabled()) {
-                DataObjectFactoryUtil.clearThreadLocalMap();
+                DataObjectFactoryUtil.clearThreadLocalMap(conf);
             }
             JSONObject json = res.asJSONObject();
             List<User> users = new ArrayList<User>();
             Iterator ids = json.keys();
             while (ids.hasNext()) {
                 String id = (String) ids.next();
-                User user = new UserJSONImpl((JSONObject) json.get(id));
+                User user = new UserJSONImpl((JSONObject) json.get(id), conf.isLazyEntitiesEnabled());
                 users.add(user);
             }
             if (conf.isJSONStoreEnabled()) {
@@ -455,6 +675,7 @@ import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
 
     @Override
     public String toString() {
+        decodeEntities();
         return "UserJSONImpl [id=" + id + ", name=" + name + ", firstName="
                 + firstName + ", middleName=" + middleName + ", lastName="
                 + lastName + ", gender=" + gender + ", locale=" + locale
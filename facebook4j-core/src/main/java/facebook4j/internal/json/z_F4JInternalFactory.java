@@ -63,6 +63,7 @@ import facebook4j.Question;
 import facebook4j.QuestionVotes;
 import facebook4j.RSVPStatus;
 import facebook4j.Reaction;
+import facebook4j.Reading;
 import facebook4j.ResponseList;
 import facebook4j.Score;
 import facebook4j.Subscribedto;
@@ -120,7 +121,9 @@ public interface z_F4JInternalFactory extends java.io.Serializable {
     ResponseList<Family> createFamilyList(HttpResponse res) throws FacebookException;
 
     ResponseList<Post> createPostList(HttpResponse res) throws FacebookException;
+    ResponseList<Post> createPostList(HttpResponse res, Reading reading) throws FacebookException;
     Post createPost(HttpResponse res) throws FacebookException;
+    Post createPost(HttpResponse res, Reading reading) throws FacebookException;
 
     Friendlist createFriendlist(HttpResponse res) throws FacebookException;
     ResponseList<Friendlist> createFriendlistList(HttpResponse res) throws FacebookException;
@@ -63,6 +63,7 @@ import facebook4j.Question;
 import facebook4j.QuestionVotes;
 import facebook4j.RSVPStatus;
 import facebook4j.Reaction;
+import facebook4j.Reading;
 import facebook4j.ResponseList;
 import facebook4j.Score;
 import facebook4j.Subscribedto;
@@ -76,10 +77,16 @@ import facebook4j.TestUser;
 import facebook4j.User;
 import facebook4j.Video;
 import facebook4j.conf.Configuration;
+import facebook4j.json.JSONDecoder;
 import facebook4j.internal.http.HttpResponse;
 import facebook4j.internal.org.json.JSONObject;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
@@ -94,6 +101,9 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public User createUser(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return UserJSONImpl.bindUser(res, conf);
+        }
         return new UserJSONImpl(res, conf);
     }
 
@@ -102,6 +112,9 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public ResponseList<User> createUserList(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return UserJSONImpl.bindUserList(res, conf);
+        }
         return UserJSONImpl.createUserList(res, conf);
     }
 
@@ -110,6 +123,9 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public IdNameEntity createIdNameEntity(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return JSONBindingUtil.bind(res, IdNameEntityJSONImpl.BINDER);
+        }
         return new IdNameEntityJSONImpl(res, conf);
     }
 
@@ -149,10 +165,16 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public Comment createComment(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return CommentJSONImpl.bindComment(res);
+        }
         return new CommentJSONImpl(res, conf);
     }
 
     public ResponseList<Comment> createCommentList(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return CommentJSONImpl.bindCommentList(res);
+        }
         return CommentJSONImpl.createCommentList(res, conf);
     }
 
@@ -180,12 +202,35 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
         return FamilyJSONImpl.createFamilyList(res, conf);
     }
 
+    private Set<String> projectionOf(Reading reading) {
+        if (reading == null || !conf.isFieldProjectionEnabled()) {
+            return null;
+        }
+        return reading.getFieldNames();
+    }
+
     public Post createPost(HttpResponse res) throws FacebookException {
-        return new PostJSONImpl(res, conf);
+        return createPost(res, null);
+    }
+
+    public Post createPost(HttpResponse res, Reading reading) throws FacebookException {
+        Set<String> projection = projectionOf(reading);
+        if (!conf.isJSONStoreEnabled()) {
+            return PostJSONImpl.bindPost(res, conf, projection);
+        }
+        return new PostJSONImpl(res, conf, projection);
     }
 
     public ResponseList<Post> createPostList(HttpResponse res) throws FacebookException {
-        return PostJSONImpl.createPostList(res, conf);
+        return createPostList(res, null);
+    }
+
+    public ResponseList<Post> createPostList(HttpResponse res, Reading reading) throws FacebookException {
+        Set<String> projection = projectionOf(reading);
+        if (!conf.isJSONStoreEnabled()) {
+            return PostJSONImpl.bindPostList(res, conf, projection);
+        }
+        return PostJSONImpl.createPostList(res, conf, projection);
     }
 
     public Friendlist createFriendlist(HttpResponse res) throws FacebookException {
@@ -288,10 +333,16 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public Page createPage(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return PageJSONImpl.bindPage(res);
+        }
         return new PageJSONImpl(res, conf);
     }
 
     public ResponseList<Page> createPageList(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return PageJSONImpl.bindPageList(res);
+        }
         return PageJSONImpl.createPageList(res, conf);
     }
 
@@ -304,6 +355,9 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
     }
 
     public ResponseList<Place> createPlaceList(HttpResponse res) throws FacebookException {
+        if (!conf.isJSONStoreEnabled()) {
+            return PlaceJSONImpl.bindPlaceList(res);
+        }
         return PlaceJSONImpl.createPlaceList(res, conf);
     }
 
@@ -451,168 +505,346 @@ public class z_F4JInternalJSONImplFactory implements z_F4JInternalFactory {
                 '}';
     }
 
+    /**
+     * Creates the lists of a type for {@link #createResponseList(HttpResponse, Class)}.
+     */
+    private interface ListCreator {
+        ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException;
+    }
+
+    private static final Map<Class<?>, ListCreator> LIST_CREATORS = new HashMap<Class<?>, ListCreator>();
+    // registered by applications, see DataObjectFactory.registerDecoder()
+    private static final ConcurrentMap<Class<?>, JSONDecoder<?>> DECODERS = new ConcurrentHashMap<Class<?>, JSONDecoder<?>>();
+
+    static {
+        LIST_CREATORS.put(Account.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createAccountList(res);
+            }
+        });
+        LIST_CREATORS.put(Activity.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createActivityList(res);
+            }
+        });
+        LIST_CREATORS.put(Album.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createAlbumList(res);
+            }
+        });
+        LIST_CREATORS.put(Photo.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createPhotoList(res);
+            }
+        });
+        LIST_CREATORS.put(Comment.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createCommentList(res);
+            }
+        });
+        LIST_CREATORS.put(Like.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createLikeList(res);
+            }
+        });
+        LIST_CREATORS.put(Checkin.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createCheckinList(res);
+            }
+        });
+        LIST_CREATORS.put(Event.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createEventList(res);
+            }
+        });
+        LIST_CREATORS.put(Post.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createPostList(res);
+            }
+        });
+        LIST_CREATORS.put(RSVPStatus.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createRSVPStatusList(res);
+            }
+        });
+        LIST_CREATORS.put(Video.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createVideoList(res);
+            }
+        });
+        LIST_CREATORS.put(Family.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createFamilyList(res);
+            }
+        });
+        LIST_CREATORS.put(Book.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createBookList(res);
+            }
+        });
+        LIST_CREATORS.put(Game.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createGameList(res);
+            }
+        });
+        LIST_CREATORS.put(Movie.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createMovieList(res);
+            }
+        });
+        LIST_CREATORS.put(Music.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createMusicList(res);
+            }
+        });
+        LIST_CREATORS.put(Television.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createTelevisionList(res);
+            }
+        });
+        LIST_CREATORS.put(Interest.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createInterestList(res);
+            }
+        });
+        LIST_CREATORS.put(Friend.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createFriendList(res);
+            }
+        });
+        LIST_CREATORS.put(Friendlist.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createFriendlistList(res);
+            }
+        });
+        LIST_CREATORS.put(FriendRequest.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createFriendRequestList(res);
+            }
+        });
+        LIST_CREATORS.put(Achievement.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createAchievementList(res);
+            }
+        });
+        LIST_CREATORS.put(Score.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createScoreList(res);
+            }
+        });
+        LIST_CREATORS.put(Group.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createGroupList(res);
+            }
+        });
+        LIST_CREATORS.put(GroupMember.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createGroupMemberList(res);
+            }
+        });
+        LIST_CREATORS.put(GroupDoc.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createGroupDocList(res);
+            }
+        });
+        LIST_CREATORS.put(Insight.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createInsightList(res);
+            }
+        });
+        LIST_CREATORS.put(Location.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createLocationList(res);
+            }
+        });
+        LIST_CREATORS.put(Conversation.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createConversationList(res);
+            }
+        });
+        LIST_CREATORS.put(Message.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createMessageList(res);
+            }
+        });
+        LIST_CREATORS.put(Note.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createNoteList(res);
+            }
+        });
+        LIST_CREATORS.put(Notification.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createNotificationList(res);
+            }
+        });
+        LIST_CREATORS.put(Tag.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createTagList(res);
+            }
+        });
+        LIST_CREATORS.put(Poke.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createPokeList(res);
+            }
+        });
+        LIST_CREATORS.put(Link.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createLinkList(res);
+            }
+        });
+        LIST_CREATORS.put(Question.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createQuestionList(res);
+            }
+        });
+        LIST_CREATORS.put(Question.Option.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createQuestionOptionList(res);
+            }
+        });
+        LIST_CREATORS.put(QuestionVotes.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createQuestionVotesList(res);
+            }
+        });
+        LIST_CREATORS.put(User.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createUserList(res);
+            }
+        });
+        LIST_CREATORS.put(Place.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createPlaceList(res);
+            }
+        });
+        LIST_CREATORS.put(Subscribedto.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createSubscribedtoList(res);
+            }
+        });
+        LIST_CREATORS.put(Subscriber.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createSubscriberList(res);
+            }
+        });
+        LIST_CREATORS.put(Page.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createPageList(res);
+            }
+        });
+        LIST_CREATORS.put(PageSetting.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createPageSettingList(res);
+            }
+        });
+        LIST_CREATORS.put(Tagged.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createTaggedList(res);
+            }
+        });
+        LIST_CREATORS.put(Milestone.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createMilestoneList(res);
+            }
+        });
+        LIST_CREATORS.put(Admin.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createAdminList(res);
+            }
+        });
+        LIST_CREATORS.put(Tab.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createTabList(res);
+            }
+        });
+        LIST_CREATORS.put(Offer.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createOfferList(res);
+            }
+        });
+        LIST_CREATORS.put(TaggableFriend.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createTaggableFriendList(res);
+            }
+        });
+        LIST_CREATORS.put(Reaction.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createReactionList(res);
+            }
+        });
+        LIST_CREATORS.put(TestUser.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createTestUserList(res);
+            }
+        });
+        LIST_CREATORS.put(JSONObject.class, new ListCreator() {
+            public ResponseList<?> create(z_F4JInternalJSONImplFactory factory, HttpResponse res) throws FacebookException {
+                return factory.createJSONObjectList(res);
+            }
+        });
+    }
+
     @SuppressWarnings("unchecked")
     public <T> ResponseList<T> createResponseList(HttpResponse res, Class<T> jsonObjectType) throws FacebookException {
-        if (jsonObjectType == Account.class) {
-            return (ResponseList<T>) createAccountList(res);
-        }
-        if (jsonObjectType == Activity.class) {
-            return (ResponseList<T>) createActivityList(res);
-        }
-        if (jsonObjectType == Album.class) {
-            return (ResponseList<T>) createAlbumList(res);
-        }
-        if (jsonObjectType == Photo.class) {
-            return (ResponseList<T>) createPhotoList(res);
-        }
-        if (jsonObjectType == Comment.class) {
-            return (ResponseList<T>) createCommentList(res);
-        }
-        if (jsonObjectType == Like.class) {
-            return (ResponseList<T>) createLikeList(res);
-        }
-        if (jsonObjectType == Checkin.class) {
-            return (ResponseList<T>) createCheckinList(res);
-        }
-        if (jsonObjectType == Event.class) {
-            return (ResponseList<T>) createEventList(res);
-        }
-        if (jsonObjectType == Post.class) {
-            return (ResponseList<T>) createPostList(res);
-        }
-        if (jsonObjectType == RSVPStatus.class) {
-            return (ResponseList<T>) createRSVPStatusList(res);
-        }
-        if (jsonObjectType == Video.class) {
-            return (ResponseList<T>) createVideoList(res);
-        }
-        if (jsonObjectType == Family.class) {
-            return (ResponseList<T>) createFamilyList(res);
-        }
-        if (jsonObjectType == Book.class) {
-            return (ResponseList<T>) createBookList(res);
-        }
-        if (jsonObjectType == Game.class) {
-            return (ResponseList<T>) createGameList(res);
-        }
-        if (jsonObjectType == Movie.class) {
-            return (ResponseList<T>) createMovieList(res);
-        }
-        if (jsonObjectType == Music.class) {
-            return (ResponseList<T>) createMusicList(res);
-        }
-        if (jsonObjectType == Television.class) {
-            return (ResponseList<T>) createTelevisionList(res);
-        }
-        if (jsonObjectType == Interest.class) {
-            return (ResponseList<T>) createInterestList(res);
-        }
-        if (jsonObjectType == Friend.class) {
-            return (ResponseList<T>) createFriendList(res);
-        }
-        if (jsonObjectType == Friendlist.class) {
-            return (ResponseList<T>) createFriendlistList(res);
+        ListCreator creator = LIST_CREATORS.get(jsonObjectType);
+        if (creator != null) {
+            return (ResponseList<T>) creator.create(this, res);
         }
-        if (jsonObjectType == FriendRequest.class) {
-            return (ResponseList<T>) createFriendRequestList(res);
+        JSONDecoder<? extends T> decoder = (JSONDecoder<? extends T>) DECODERS.get(jsonObjectType);
+        if (decoder != null) {
+            return ResponseListImpl.createList(res, conf, jsonObjectType, decoder);
         }
-        if (jsonObjectType == Achievement.class) {
-            return (ResponseList<T>) createAchievementList(res);
-        }
-        if (jsonObjectType == Score.class) {
-            return (ResponseList<T>) createScoreList(res);
-        }
-        if (jsonObjectType == Group.class) {
-            return (ResponseList<T>) createGroupList(res);
-        }
-        if (jsonObjectType == GroupMember.class) {
-            return (ResponseList<T>) createGroupMemberList(res);
-        }
-        if (jsonObjectType == GroupDoc.class) {
-            return (ResponseList<T>) createGroupDocList(res);
-        }
-        if (jsonObjectType == Insight.class) {
-            return (ResponseList<T>) createInsightList(res);
-        }
-        if (jsonObjectType == Location.class) {
-            return (ResponseList<T>) createLocationList(res);
-        }
-        if (jsonObjectType == Conversation.class) {
-            return (ResponseList<T>) createConversationList(res);
-        }
-        if (jsonObjectType == Message.class) {
-            return (ResponseList<T>) createMessageList(res);
-        }
-        if (jsonObjectType == Note.class) {
-            return (ResponseList<T>) createNoteList(res);
-        }
-        if (jsonObjectType == Notification.class) {
-            return (ResponseList<T>) createNotificationList(res);
-        }
-        if (jsonObjectType == Tag.class) {
-            return (ResponseList<T>) createTagList(res);
-        }
-        if (jsonObjectType == Poke.class) {
-            return (ResponseList<T>) createPokeList(res);
-        }
-        if (jsonObjectType == Link.class) {
-            return (ResponseList<T>) createLinkList(res);
-        }
-        if (jsonObjectType == Question.class) {
-            return (ResponseList<T>) createQuestionList(res);
-        }
-        if (jsonObjectType == Question.Option.class) {
-            return (ResponseList<T>) createQuestionOptionList(res);
-        }
-        if (jsonObjectType == QuestionVotes.class) {
-            return (ResponseList<T>) createQuestionVotesList(res);
-        }
-        if (jsonObjectType == User.class) {
-            return (ResponseList<T>) createUserList(res);
-        }
-        if (jsonObjectType == Place.class) {
-            return (ResponseList<T>) createPlaceList(res);
-        }
-        if (jsonObjectType == Subscribedto.class) {
-            return (ResponseList<T>) createSubscribedtoList(res);
-        }
-        if (jsonObjectType == Subscriber.class) {
-            return (ResponseList<T>) createSubscriberList(res);
-        }
-        if (jsonObjectType == Page.class) {
-            return (ResponseList<T>) createPageList(res);
-        }
-        if (jsonObjectType == PageSetting.class) {
-            return (ResponseList<T>) createPageSettingList(res);
-        }
-        if (jsonObjectType == Tagged.class) {
-            return (ResponseList<T>) createTaggedList(res);
-        }
-        if (jsonObjectType == Milestone.class) {
-            return (ResponseList<T>) createMilestoneList(res);
-        }
-        if (jsonObjectType == Admin.class) {
-            return (ResponseList<T>) createAdminList(res);
-        }
-        if (jsonObjectType == Tab.class) {
-            return (ResponseList<T>) createTabList(res);
+        throw new FacebookException("The json object type: '" + jsonObjectType + "' is unrecognized.");
+    }
+
+    /**
+     * Decodes a list from its raw JSON, see {@link facebook4j.json.DataObjectFactory#createResponseList(String, Class)}.
+     */
+    public <T> ResponseList<T> createResponseList(String rawJSON, Class<T> jsonObjectType) throws FacebookException {
+        return createResponseList(new RawJSONResponse(conf, rawJSON), jsonObjectType);
+    }
+
+    /**
+     * A response made of a raw JSON string, for the list creators.
+     */
+    private static final class RawJSONResponse extends HttpResponse {
+        RawJSONResponse(Configuration conf, String rawJSON) {
+            super(conf);
+            this.statusCode = 200;
+            this.responseAsString = rawJSON;
         }
-        if (jsonObjectType == Offer.class) {
-            return (ResponseList<T>) createOfferList(res);
+
+        @Override
+        public String getResponseHeader(String name) {
+            return null;
         }
-        if (jsonObjectType == TaggableFriend.class) {
-            return (ResponseList<T>) createTaggableFriendList(res);
+
+        @Override
+        public Map<String, List<String>> getResponseHeaderFields() {
+            return java.util.Collections.emptyMap();
         }
-        if (jsonObjectType == Reaction.class) {
-            return (ResponseList<T>) createReactionList(res);
+
+        @Override
+        public void disconnect() {
         }
-        if (jsonObjectType == TestUser.class) {
-            return (ResponseList<T>) createTestUserList(res);
+    }
+
+    /**
+     * Registers the decoder of a type facebook4j does not model, see {@link facebook4j.json.DataObjectFactory#registerDecoder(Class, JSONDecoder)}.
+     *
+     * @param type    the type of the list elements
+     * @param decoder the decoder, or null to unregister the type
+     * @throws IllegalArgumentException if facebook4j already decodes the type
+     */
+    public static <T> void registerDecoder(Class<T> type, JSONDecoder<? extends T> decoder) {
+        if (LIST_CREATORS.containsKey(type)) {
+            throw new IllegalArgumentException("The json object type: '" + type + "' is decoded by facebook4j.");
         }
-        if (jsonObjectType == JSONObject.class) {
-            return (ResponseList<T>) createJSONObjectList(res);
+        if (decoder == null) {
+            DECODERS.remove(type);
+        } else {
+            DECODERS.put(type, decoder);
         }
-        throw new FacebookException("The json object type: '" + jsonObjectType + "' is unrecognized.");
     }
 
 }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The storage of {@link JSONObject}.<br>
+ * Keys and values are kept in insertion order in a single flat array. Small objects, which are most of the objects
+ * of a Graph API response, are searched linearly; from {@link #LINEAR_LIMIT} entries on, an open addressing table
+ * of positions is built on top of the array. Compared to a HashMap, no node is allocated per entry.
+ */
+/*package*/ final class CompactMap extends AbstractMap<String, Object> {
+    /*package*/ static final int LINEAR_LIMIT = 8;
+
+    // key0, value0, key1, value1...
+    private Object[] entries;
+    private int size = 0;
+    // positions + 1 of the entries by hash, null while the map is small
+    private int[] index;
+    private int modCount = 0;
+
+    CompactMap() {
+        this(4);
+    }
+
+    /**
+     * @param capacity expected number of entries
+     */
+    CompactMap(int capacity) {
+        entries = new Object[Math.max(capacity, 1) * 2];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : entries[i * 2 + 1];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (key == null) {
+            throw new NullPointerException("key");
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            Object old = entries[i * 2 + 1];
+            entries[i * 2 + 1] = value;
+            return old;
+        }
+        if (size * 2 == entries.length) {
+            Object[] newEntries = new Object[entries.length * 2];
+            System.arraycopy(entries, 0, newEntries, 0, size * 2);
+            entries = newEntries;
+        }
+        entries[size * 2] = key;
+        entries[size * 2 + 1] = value;
+        size++;
+        modCount++;
+        if (index != null && size * 2 > index.length) {
+            rehash(index.length * 2);
+        } else if (index != null) {
+            insert(index, key, size);
+        } else if (size > LINEAR_LIMIT) {
+            rehash(Integer.highestOneBit(size) * 4);
+        }
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        Object old = entries[i * 2 + 1];
+        removeAt(i);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size * 2; i++) {
+            entries[i] = null;
+        }
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new EntryIterator<String>() {
+                    @Override
+                    String current(int i) {
+                        return (String) entries[i * 2];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new EntryIterator<Map.Entry<String, Object>>() {
+                    @Override
+                    Map.Entry<String, Object> current(int i) {
+                        return new Entry(i);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                Object k = entries[i * 2];
+                if (k == key) {
+                    return i;
+                }
+            }
+            // keys are mostly interned, compare the contents only when the references differ
+            for (int i = 0; i < size; i++) {
+                if (key.equals(entries[i * 2])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int position = index[slot];
+            if (position == 0) {
+                return -1;
+            }
+            Object k = entries[(position - 1) * 2];
+            if (k == key || key.equals(k)) {
+                return position - 1;
+            }
+        }
+    }
+
+    private void removeAt(int i) {
+        System.arraycopy(entries, (i + 1) * 2, entries, i * 2, (size - i - 1) * 2);
+        size--;
+        entries[size * 2] = null;
+        entries[size * 2 + 1] = null;
+        modCount++;
+        if (index != null) {
+            if (size > LINEAR_LIMIT) {
+                // positions after i have moved
+                rehash(index.length);
+            } else {
+                index = null;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] newIndex = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            insert(newIndex, entries[i * 2], i + 1);
+        }
+        index = newIndex;
+    }
+
+    private static void insert(int[] index, Object key, int position) {
+        int mask = index.length - 1;
+        int slot = hash(key) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private abstract class EntryIterator<E> implements Iterator<E> {
+        private int next = 0;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        abstract E current(int i);
+
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return current(last);
+        }
+
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+        private final String key;
+        private Object value;
+
+        Entry(int i) {
+            this.key = (String) entries[i * 2];
+            this.value = entries[i * 2 + 1];
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Object setValue(Object value) {
+            Object old = this.value;
+            this.value = value;
+            put(key, value);
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry that = (Map.Entry) o;
+            return key.equals(that.getKey())
+                    && (value == null ? that.getValue() == null : value.equals(that.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
@@ -540,6 +540,46 @@ public class JSONArray {
     }
 
 
+    /**
+     * Get the int value of a number associated with an index, without going through its string form.
+     * Unlike optInt, the value is not coerced: a long beyond the int range, a decimal number
+     * or a string which is not an integer yields the defaultValue.
+     *
+     * @param index        The index must be between 0 and length() - 1.
+     * @param defaultValue The default value.
+     * @return The value.
+     */
+    public int optIntValue(int index, int defaultValue) {
+        return JSONObject.intValue(opt(index), defaultValue);
+    }
+
+
+    /**
+     * Get the long value of a number associated with an index, without going through its string form.
+     * Unlike optLong, the value is not coerced: a decimal number or a string which is not an integer
+     * yields the defaultValue.
+     *
+     * @param index        The index must be between 0 and length() - 1.
+     * @param defaultValue The default value.
+     * @return The value.
+     */
+    public long optLongValue(int index, long defaultValue) {
+        return JSONObject.longValue(opt(index), defaultValue);
+    }
+
+
+    /**
+     * Get the double value of a number associated with an index, without going through its string form.
+     *
+     * @param index        The index must be between 0 and length() - 1.
+     * @param defaultValue The default value.
+     * @return The value.
+     */
+    public double optDoubleValue(int index, double defaultValue) {
+        return JSONObject.doubleValue(opt(index), defaultValue);
+    }
+
+
     /**
      * Get the optional string value associated with an index. It returns an
      * empty string if there is no value at that index. If the value
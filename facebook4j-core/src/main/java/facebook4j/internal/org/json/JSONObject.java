@@ -157,6 +157,17 @@ public class JSONObject {
     }
 
 
+    /**
+     * Construct an empty JSONObject in compact storage mode, used by {@link JSONPullParser}.
+     * The properties are kept in a {@link CompactMap}, in the order of the text, instead of a HashMap.
+     *
+     * @param compact whether to use the compact storage
+     */
+    /*package*/ JSONObject(boolean compact) {
+        this.map = compact ? new CompactMap() : new HashMap();
+    }
+
+
     /**
      * Construct a JSONObject from a subset of another JSONObject.
      * An array of strings is used to identify the keys that should be copied.
@@ -202,7 +213,7 @@ public class JSONObject {
                     return;
                 default:
                     x.back();
-                    key = x.nextValue().toString();
+                    key = SymbolTable.intern(x.nextValue().toString());
             }
 
 // The key is followed by ':'. We will also tolerate '=' or '=>'.
@@ -935,6 +946,95 @@ public class JSONObject {
     }
 
 
+    /**
+     * Get the int value of a number associated with a key, without going through its string form.
+     * Unlike optInt, the value is not coerced: a long beyond the int range, a decimal number
+     * or a string which is not an integer yields the defaultValue.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The value.
+     */
+    public int optIntValue(String key, int defaultValue) {
+        return intValue(opt(key), defaultValue);
+    }
+
+
+    /**
+     * Get the long value of a number associated with a key, without going through its string form.
+     * Unlike optLong, the value is not coerced: a decimal number or a string which is not an integer
+     * yields the defaultValue.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The value.
+     */
+    public long optLongValue(String key, long defaultValue) {
+        return longValue(opt(key), defaultValue);
+    }
+
+
+    /**
+     * Get the double value of a number associated with a key, without going through its string form.
+     *
+     * @param key          A key string.
+     * @param defaultValue The default.
+     * @return The value.
+     */
+    public double optDoubleValue(String key, double defaultValue) {
+        return doubleValue(opt(key), defaultValue);
+    }
+
+
+    /*package*/ static int intValue(Object value, int defaultValue) {
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        if (value instanceof Long) {
+            long l = (Long) value;
+            return l == (int) l ? (int) l : defaultValue;
+        }
+        if (value == null || value == NULL || value instanceof Double) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+
+    /*package*/ static long longValue(Object value, long defaultValue) {
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value == null || value == NULL || value instanceof Double) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+
+    /*package*/ static double doubleValue(Object value, double defaultValue) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Double) {
+            return ((Number) value).doubleValue();
+        }
+        if (value == null || value == NULL) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+
     /**
      * Get an optional string associated with a key.
      * It returns an empty string if there is no such key. If the value is not
@@ -0,0 +1,576 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A pull parser reading JSON text directly from UTF-8 bytes.<br>
+ * Unlike {@link JSONTokener}, which reads one character at a time from a {@link java.io.Reader}, the parser scans
+ * a byte buffer and decodes strings and numbers in place. It can be used token by token with {@link #next()},
+ * or to build the usual {@link JSONObject} / {@link JSONArray} trees with {@link #nextValue()}:
+ * <pre>
+ * JSONObject json = new JSONPullParser(in).nextObject();
+ * </pre>
+ * The trees hold the same values JSONTokener would produce: strings, Integer/Long/Double numbers, Boolean and
+ * {@link JSONObject#NULL}. Apart from a trailing comma in objects and arrays, which JSONTokener tolerates as well,
+ * only strict JSON is accepted.
+ */
+public final class JSONPullParser {
+
+    /**
+     * The tokens returned by {@link JSONPullParser#next()}.
+     */
+    public enum Token {
+        START_OBJECT, END_OBJECT, START_ARRAY, END_ARRAY, NAME, STRING, NUMBER, TRUE, FALSE, NULL, END_DOCUMENT
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // nesting states
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT = 2;
+    private static final byte DANGLING_NAME = 3;
+    private static final byte NONEMPTY_OBJECT = 4;
+    private static final byte EMPTY_ARRAY = 5;
+    private static final byte NONEMPTY_ARRAY = 6;
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int pos = 0;
+    private int limit;
+    // number of bytes before the buffer
+    private long consumed = 0;
+
+    private byte[] stack = new byte[32];
+    private int depth = 1;
+
+    private char[] chars = new char[256];
+    private Token token;
+    private String text;
+
+    /**
+     * @param in UTF-8 encoded JSON text, read until the end of the document
+     */
+    public JSONPullParser(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.limit = 0;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * @param bytes UTF-8 encoded JSON text
+     */
+    public JSONPullParser(byte[] bytes) {
+        this(bytes, bytes.length);
+    }
+
+    /**
+     * @param bytes  UTF-8 encoded JSON text
+     * @param length number of bytes of the text, from the start of the array
+     */
+    public JSONPullParser(byte[] bytes, int length) {
+        this.in = null;
+        this.buffer = bytes;
+        this.limit = length;
+        stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return the token
+     * @throws JSONException on malformed JSON or when the input cannot be read
+     */
+    public Token next() throws JSONException {
+        text = null;
+        byte state = stack[depth - 1];
+        int c = nextClean();
+        switch (state) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                if (c != -1) {
+                    throw syntaxError("Unexpected text after the end of the document");
+                }
+                return token = Token.END_DOCUMENT;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                if (c == '}') {
+                    depth--;
+                    return token = Token.END_OBJECT;
+                }
+                if (state == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected a ',' or '}'");
+                    }
+                    c = nextClean();
+                    if (c == '}') {
+                        // tolerated by JSONTokener as well
+                        depth--;
+                        return token = Token.END_OBJECT;
+                    }
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                stack[depth - 1] = DANGLING_NAME;
+                text = readString(true);
+                return token = Token.NAME;
+            case DANGLING_NAME:
+                if (c != ':') {
+                    throw syntaxError("Expected a ':' after a key");
+                }
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                c = nextClean();
+                break;
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY:
+                if (c == ']') {
+                    depth--;
+                    return token = Token.END_ARRAY;
+                }
+                if (state == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw syntaxError("Expected a ',' or ']'");
+                    }
+                    c = nextClean();
+                    if (c == ']') {
+                        depth--;
+                        return token = Token.END_ARRAY;
+                    }
+                }
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+        }
+        return token = readValueToken(c);
+    }
+
+    private Token readValueToken(int c) throws JSONException {
+        switch (c) {
+            case '{':
+                push(EMPTY_OBJECT);
+                return Token.START_OBJECT;
+            case '[':
+                push(EMPTY_ARRAY);
+                return Token.START_ARRAY;
+            case '"':
+                text = readString(false);
+                return Token.STRING;
+            case 't':
+                readLiteral("rue");
+                return Token.TRUE;
+            case 'f':
+                readLiteral("alse");
+                return Token.FALSE;
+            case 'n':
+                readLiteral("ull");
+                return Token.NULL;
+            case -1:
+                throw syntaxError("Unexpected end of the document");
+            default:
+                if (c == '-' || ('0' <= c && c <= '9')) {
+                    text = readNumber(c);
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) c + "'");
+        }
+    }
+
+    /**
+     * @return the last token read
+     */
+    public Token getToken() {
+        return token;
+    }
+
+    /**
+     * @return the name, the string or the number text of the last token, null for other tokens
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the value of the last scalar token, typed like {@link JSONObject#stringToValue(String)} does
+     */
+    public Object getValue() {
+        switch (token) {
+            case STRING:
+            case NAME:
+                return text;
+            case NUMBER:
+                return numberValue(text);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case NULL:
+                return JSONObject.NULL;
+            default:
+                throw new IllegalStateException("Not a scalar: " + token);
+        }
+    }
+
+    /**
+     * Skips the value starting with the last token, including the nested values of an object or an array.
+     *
+     * @throws JSONException on malformed JSON
+     */
+    public void skipValue() throws JSONException {
+        if (token != Token.START_OBJECT && token != Token.START_ARRAY) {
+            return;
+        }
+        int target = depth - 1;
+        while (depth > target) {
+            if (next() == Token.END_DOCUMENT) {
+                throw syntaxError("Unexpected end of the document");
+            }
+        }
+    }
+
+    /**
+     * Reads the next value as a tree.
+     *
+     * @return a JSONObject, JSONArray, String, Number, Boolean or JSONObject.NULL
+     * @throws JSONException on malformed JSON
+     */
+    public Object nextValue() throws JSONException {
+        next();
+        return currentValue();
+    }
+
+    /**
+     * Reads the next value, which has to be an object, as a tree.
+     *
+     * @return the object
+     * @throws JSONException on malformed JSON, or if the value is not an object
+     */
+    public JSONObject nextObject() throws JSONException {
+        if (next() != Token.START_OBJECT) {
+            throw syntaxError("A JSONObject text must begin with '{'");
+        }
+        return readObject();
+    }
+
+    /**
+     * Reads the next value, which has to be an array, as a tree.
+     *
+     * @return the array
+     * @throws JSONException on malformed JSON, or if the value is not an array
+     */
+    public JSONArray nextArray() throws JSONException {
+        if (next() != Token.START_ARRAY) {
+            throw syntaxError("A JSONArray text must start with '['");
+        }
+        return readArray();
+    }
+
+    /**
+     * Builds the value starting with the last token.
+     *
+     * @return a JSONObject, JSONArray, String, Number, Boolean or JSONObject.NULL
+     * @throws JSONException on malformed JSON
+     */
+    public Object currentValue() throws JSONException {
+        switch (token) {
+            case START_OBJECT:
+                return readObject();
+            case START_ARRAY:
+                return readArray();
+            case END_OBJECT:
+            case END_ARRAY:
+            case END_DOCUMENT:
+                throw syntaxError("Missing value");
+            default:
+                return getValue();
+        }
+    }
+
+    private JSONObject readObject() throws JSONException {
+        JSONObject object = new JSONObject(true);
+        while (next() == Token.NAME) {
+            String name = text;
+            object.putOnce(name, nextValue());
+        }
+        return object;
+    }
+
+    private JSONArray readArray() throws JSONException {
+        JSONArray array = new JSONArray();
+        while (next() != Token.END_ARRAY) {
+            array.put(currentValue());
+        }
+        return array;
+    }
+
+    private void push(byte state) {
+        if (depth == stack.length) {
+            byte[] newStack = new byte[depth * 2];
+            System.arraycopy(stack, 0, newStack, 0, depth);
+            stack = newStack;
+        }
+        stack[depth++] = state;
+    }
+
+    private boolean fill() throws JSONException {
+        if (in == null) {
+            return false;
+        }
+        try {
+            consumed += limit;
+            pos = 0;
+            limit = 0;
+            int read;
+            while ((read = in.read(buffer, 0, buffer.length)) == 0) {
+            }
+            if (read == -1) {
+                return false;
+            }
+            limit = read;
+            return true;
+        } catch (IOException ioe) {
+            throw new JSONException(ioe);
+        }
+    }
+
+    private int read() throws JSONException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++] & 0xff;
+    }
+
+    private int nextClean() throws JSONException {
+        while (true) {
+            if (pos == limit && !fill()) {
+                return -1;
+            }
+            int c = buffer[pos++] & 0xff;
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private void readLiteral(String rest) throws JSONException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (read() != rest.charAt(i)) {
+                throw syntaxError("Unexpected literal");
+            }
+        }
+    }
+
+    // names are interned, see SymbolTable
+    private String readString(boolean name) throws JSONException {
+        int length = 0;
+        while (true) {
+            // ASCII fast path over the buffered bytes
+            int p = pos;
+            int l = limit;
+            byte[] b = buffer;
+            while (p < l) {
+                int c = b[p];
+                if (c == '"' || c == '\\' || c < 0x20) {
+                    break;
+                }
+                if (length == chars.length) {
+                    chars = grow(chars);
+                }
+                chars[length++] = (char) c;
+                p++;
+            }
+            pos = p;
+            int c = read();
+            switch (c) {
+                case -1:
+                    throw syntaxError("Unterminated string");
+                case '"':
+                    return name ? SymbolTable.intern(chars, length) : new String(chars, 0, length);
+                case '\\':
+                    if (length + 1 >= chars.length) {
+                        chars = grow(chars);
+                    }
+                    chars[length++] = readEscape();
+                    break;
+                default:
+                    if (c < 0x20) {
+                        throw syntaxError("Unterminated string");
+                    }
+                    if (c < 0x80) {
+                        // the fast path stopped at the end of the buffer
+                        if (length == chars.length) {
+                            chars = grow(chars);
+                        }
+                        chars[length++] = (char) c;
+                        break;
+                    }
+                    // multi byte sequence
+                    int codePoint = readUTF8(c);
+                    if (length + 2 >= chars.length) {
+                        chars = grow(chars);
+                    }
+                    length += Character.toChars(codePoint, chars, length);
+            }
+        }
+    }
+
+    private char readEscape() throws JSONException {
+        int c = read();
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'f':
+                return '\f';
+            case 'r':
+                return '\r';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit == -1) {
+                        throw syntaxError("Illegal escape.");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case '"':
+            case '\'':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("Illegal escape.");
+        }
+    }
+
+    private int readUTF8(int first) throws JSONException {
+        int codePoint;
+        int continuation;
+        if ((first & 0xe0) == 0xc0) {
+            codePoint = first & 0x1f;
+            continuation = 1;
+        } else if ((first & 0xf0) == 0xe0) {
+            codePoint = first & 0x0f;
+            continuation = 2;
+        } else if ((first & 0xf8) == 0xf0) {
+            codePoint = first & 0x07;
+            continuation = 3;
+        } else {
+            return 0xfffd;
+        }
+        for (int i = 0; i < continuation; i++) {
+            int c = read();
+            if ((c & 0xc0) != 0x80) {
+                if (c == -1) {
+                    throw syntaxError("Unterminated string");
+                }
+                // malformed, keep the byte for the next character
+                pos--;
+                return 0xfffd;
+            }
+            codePoint = (codePoint << 6) | (c & 0x3f);
+        }
+        return codePoint <= Character.MAX_CODE_POINT ? codePoint : 0xfffd;
+    }
+
+    private String readNumber(int first) throws JSONException {
+        int length = 0;
+        chars[length++] = (char) first;
+        while (true) {
+            if (pos == limit && !fill()) {
+                break;
+            }
+            int c = buffer[pos];
+            if (('0' <= c && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '-' || c == '+') {
+                if (length == chars.length) {
+                    chars = grow(chars);
+                }
+                chars[length++] = (char) c;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        return new String(chars, 0, length);
+    }
+
+    /*package*/ static Object numberValue(String number) {
+        int length = number.length();
+        boolean negative = number.charAt(0) == '-';
+        int i = negative ? 1 : 0;
+        if (length - i > 0 && length - i <= 18) {
+            long value = 0;
+            for (; i < length; i++) {
+                char c = number.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (i == length) {
+                if (negative) {
+                    value = -value;
+                }
+                if (value == (int) value) {
+                    return Integer.valueOf((int) value);
+                }
+                return Long.valueOf(value);
+            }
+        }
+        // decimals, exponents and long integers
+        return JSONObject.stringToValue(number);
+    }
+
+    private static char[] grow(char[] chars) {
+        char[] newChars = new char[chars.length * 2];
+        System.arraycopy(chars, 0, newChars, 0, chars.length);
+        return newChars;
+    }
+
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at byte " + (consumed + pos));
+    }
+
+    /**
+     * Closes the input stream, if the parser has been created with one.
+     */
+    public void close() {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JSONPullParser{" +
+                "token=" + token +
+                ", position=" + (consumed + pos) +
+                '}';
+    }
+}
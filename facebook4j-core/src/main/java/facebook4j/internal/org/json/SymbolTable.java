@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+/**
+ * Canonical instances of the object keys seen while parsing.<br>
+ * Graph API responses repeat the same few dozen keys ("id", "name", "created_time"...) in every object, so
+ * keys are looked up by their characters and the first String allocated for them is reused afterwards.
+ * The table is a fixed size, lossy cache: a slot holds the last key hashed to it, and keys longer than
+ * {@link #MAX_LENGTH} are not interned at all. Races between threads are benign, they only cost an allocation.
+ */
+/*package*/ final class SymbolTable {
+    /*package*/ static final int MAX_LENGTH = 32;
+    private static final int SIZE = 2048;
+
+    private static final String[] symbols = new String[SIZE];
+
+    private SymbolTable() {
+        throw new AssertionError();
+    }
+
+    /**
+     * @param chars  the characters of the key
+     * @param length number of characters, from the start of the array
+     * @return the canonical String for the characters
+     */
+    static String intern(char[] chars, int length) {
+        if (length > MAX_LENGTH) {
+            return new String(chars, 0, length);
+        }
+        // same hash as String.hashCode()
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = indexOf(hash);
+        String symbol = symbols[slot];
+        if (symbol != null && matches(symbol, chars, length)) {
+            return symbol;
+        }
+        symbol = new String(chars, 0, length);
+        symbols[slot] = symbol;
+        return symbol;
+    }
+
+    /**
+     * @param key a key
+     * @return the canonical instance of the key
+     */
+    static String intern(String key) {
+        if (key.length() > MAX_LENGTH) {
+            return key;
+        }
+        int slot = indexOf(key.hashCode());
+        String symbol = symbols[slot];
+        if (key.equals(symbol)) {
+            return symbol;
+        }
+        symbols[slot] = key;
+        return key;
+    }
+
+    private static int indexOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (SIZE - 1);
+    }
+
+    private static boolean matches(String symbol, char[] chars, int length) {
+        if (symbol.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (symbol.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
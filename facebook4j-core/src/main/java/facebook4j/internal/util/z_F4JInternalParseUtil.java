@@ -35,6 +35,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A tiny parse utility class.
@@ -61,25 +63,29 @@ public final class z_F4JInternalParseUtil {
     private static final String ISO8601_DATE_FORMAT_WITHOUT_TZ = "yyyy-MM-dd'T'HH:mm:ss";
     private static final String ISO8601_DATE_FORMAT_WITHOUT_TIME = "yyyy-MM-dd";
 
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    // IDs come from responses, do not let unexpected ones grow the cache without bounds
+    private static final int MAX_CACHED_TIME_ZONES = 1024;
+    private static final ConcurrentMap<String, TimeZone> TIME_ZONES = new ConcurrentHashMap<String, TimeZone>();
+
     private z_F4JInternalParseUtil() {
         // should never be instantiated
         throw new AssertionError();
     }
 
     public static String getRawString(String name, JSONObject json) {
-        try {
-            if (json.isNull(name)) {
-                return null;
-            } else {
-                return json.getString(name);
-            }
-        } catch (JSONException jsone) {
+        return toRawString(json.opt(name));
+    }
+
+    private static String toRawString(Object value) {
+        if (value == null || value == JSONObject.NULL) {
             return null;
         }
+        return value.toString();
     }
 
     public static int getPrimitiveInt(String name, JSONObject json) {
-        return getPrimitiveInt(getRawString(name, json));
+        return json.optIntValue(name, -1);
     }
     public static int getPrimitiveInt(String str) {
         if (null == str || "".equals(str) || "null".equals(str)) {
@@ -95,7 +101,19 @@ public final class z_F4JInternalParseUtil {
     }
 
     public static Integer getInt(String name, JSONObject json) {
-        return getInt(getRawString(name, json));
+        Object value = json.opt(name);
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        if (value instanceof Long) {
+            long l = (Long) value;
+            return l == (int) l ? Integer.valueOf((int) l) : null;
+        }
+        if (value instanceof Double) {
+            // like "1.0", not an int
+            return null;
+        }
+        return getInt(toRawString(value));
     }
     public static Integer getInt(String str) {
         if (null == str || "".equals(str) || "null".equals(str)) {
@@ -111,7 +129,7 @@ public final class z_F4JInternalParseUtil {
     }
     
     public static long getPrimitiveLong(String name, JSONObject json) {
-        return getPrimitiveLong(getRawString(name, json));
+        return json.optLongValue(name, -1);
     }
     public static long getPrimitiveLong(String str) {
         if (null == str || "".equals(str) || "null".equals(str)) {
@@ -126,7 +144,17 @@ public final class z_F4JInternalParseUtil {
     }
 
     public static Long getLong(String name, JSONObject json) {
-        return getLong(getRawString(name, json));
+        Object value = json.opt(name);
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Integer) {
+            return ((Integer) value).longValue();
+        }
+        if (value instanceof Double) {
+            return null;
+        }
+        return getLong(toRawString(value));
     }
     public static Long getLong(String str) {
         if (null == str || "".equals(str) || "null".equals(str)) {
@@ -141,7 +169,14 @@ public final class z_F4JInternalParseUtil {
     }
 
     public static Double getDouble(String name, JSONObject json) {
-        String str2 = getRawString(name, json);
+        Object value = json.opt(name);
+        if (value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).doubleValue();
+        }
+        String str2 = toRawString(value);
         if (null == str2 || "".equals(str2) || "null".equals(str2)) {
             return null;
         } else {
@@ -163,7 +198,14 @@ public final class z_F4JInternalParseUtil {
      * @return the timezone offset, in hours
      */
     public static Double getTimeZoneOffset(String name, JSONObject json, long datetimeReference) {
-        String rawString = getRawString(name, json);
+        return getTimeZoneOffset(getRawString(name, json), datetimeReference);
+    }
+
+    /**
+     * @param rawString         the timezone, as an offset in hours or a timezone id
+     * @param datetimeReference the date/time the offset of a timezone id is computed for
+     */
+    public static Double getTimeZoneOffset(String rawString, long datetimeReference) {
         if (null == rawString || "".equals(rawString) || "null".equals(rawString)) {
             return null;
         } else {
@@ -188,7 +230,11 @@ public final class z_F4JInternalParseUtil {
     }
     
     public static Boolean getBoolean(String name, JSONObject json) {
-        String str = getRawString(name, json);
+        Object value = json.opt(name);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        String str = toRawString(value);
         if (null == str || "null".equals(str)) {
             return null;
         }
@@ -206,17 +252,150 @@ public final class z_F4JInternalParseUtil {
             return null;
         }
         if (json.isNull("timezone")) {
-            return parseISO8601Date(dateString);
+            return parseISO8601Date(dateString, UTC);
         } else {
-            TimeZone timezone = getTimeZone("timezone", json);
-            return parseISO8601Date(dateString, timezone);
+            return parseISO8601Date(dateString, lookupTimeZone(getRawString("timezone", json)));
         }
     }
 
-    private static Date parseISO8601Date(String dateString) {
-        return parseISO8601Date(dateString, TimeZone.getTimeZone("UTC"));
+    /**
+     * @param dateString the date, like the value of "created_time"
+     * @param timezone   the timezone of dates without offset, UTC if null
+     */
+    public static Date getISO8601Datetime(String dateString, TimeZone timezone) {
+        if (dateString == null) {
+            return null;
+        }
+        return parseISO8601Date(dateString, timezone == null ? UTC : timezone);
     }
+
     private static Date parseISO8601Date(String dateString, TimeZone timezone) {
+        long time = parseISO8601Time(dateString, timezone);
+        if (time != Long.MIN_VALUE) {
+            return new Date(time);
+        }
+        return parseISO8601DateLeniently(dateString, timezone);
+    }
+
+    /**
+     * Parses the shapes Facebook sends without going through SimpleDateFormat:
+     * <ul>
+     * <li>yyyy-MM-dd</li>
+     * <li>yyyy-MM-ddTHH:mm:ss</li>
+     * <li>yyyy-MM-ddTHH:mm:ss followed by fractional seconds and/or an offset (Z, +hh, +hhmm or +hh:mm)</li>
+     * </ul>
+     * Dates without offset are in the given timezone.
+     *
+     * @return milliseconds since the epoch, or Long.MIN_VALUE if the string has another shape
+     */
+    /*package*/ static long parseISO8601Time(String s, TimeZone timezone) {
+        int length = s.length();
+        if (length < 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return Long.MIN_VALUE;
+        }
+        long millis = daysFromCivil(year, month, day) * 86400000L;
+        if (length == 10) {
+            return toUTC(millis, timezone);
+        }
+        if (length < 19 || s.charAt(10) != 'T' || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return Long.MIN_VALUE;
+        }
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        int second = digits(s, 17, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 60) {
+            return Long.MIN_VALUE;
+        }
+        millis += hour * 3600000L + minute * 60000L + second * 1000L;
+        int i = 19;
+        if (i < length && s.charAt(i) == '.') {
+            int scale = 100;
+            int fraction = 0;
+            for (i++; i < length && isDigit(s.charAt(i)); i++) {
+                fraction += (s.charAt(i) - '0') * scale;
+                scale /= 10;
+            }
+            millis += fraction;
+        }
+        if (i == length) {
+            return toUTC(millis, timezone);
+        }
+        char sign = s.charAt(i);
+        if (sign == 'Z' && i + 1 == length) {
+            return millis;
+        }
+        if (sign != '+' && sign != '-') {
+            return Long.MIN_VALUE;
+        }
+        int offsetHours;
+        int offsetMinutes = 0;
+        int rest = length - i - 1;
+        if (rest == 2) {
+            offsetHours = digits(s, i + 1, 2);
+        } else if (rest == 4) {
+            offsetHours = digits(s, i + 1, 2);
+            offsetMinutes = digits(s, i + 3, 2);
+        } else if (rest == 5 && s.charAt(i + 3) == ':') {
+            offsetHours = digits(s, i + 1, 2);
+            offsetMinutes = digits(s, i + 4, 2);
+        } else {
+            return Long.MIN_VALUE;
+        }
+        if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59) {
+            return Long.MIN_VALUE;
+        }
+        long offset = offsetHours * 3600000L + offsetMinutes * 60000L;
+        return sign == '+' ? millis - offset : millis + offset;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // -1 unless s has count digits at offset
+    private static int digits(String s, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // days since 1970-01-01 in the proleptic Gregorian calendar
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    // converts a local time of the timezone to UTC, resolving DST transitions like Calendar does
+    private static long toUTC(long localMillis, TimeZone timezone) {
+        if (timezone == UTC) {
+            return localMillis;
+        }
+        int offset = timezone.getOffset(localMillis - timezone.getRawOffset());
+        long time = localMillis - offset;
+        int actualOffset = timezone.getOffset(time);
+        if (actualOffset != offset) {
+            time = localMillis - actualOffset;
+        }
+        return time;
+    }
+
+    private static Date parseISO8601DateLeniently(String dateString, TimeZone timezone) {
         try {
             return new SimpleDateFormat(ISO8601_DATE_FORMAT).parse(dateString);
         } catch (ParseException e1) {
@@ -262,7 +441,26 @@ public final class z_F4JInternalParseUtil {
         if (json.isNull(name)) {
             return null;
         }
-        return TimeZone.getTimeZone(getRawString(name, json));
+        // a copy, the caller may modify it
+        return (TimeZone) lookupTimeZone(getRawString(name, json)).clone();
+    }
+
+    /**
+     * Looks up a timezone like {@link TimeZone#getTimeZone(String)} does, but only once per ID.<br>
+     * The instance is shared and must not be modified.
+     *
+     * @param id the timezone ID, like "America/Los_Angeles"
+     * @return the timezone, GMT if the ID is not understood
+     */
+    public static TimeZone lookupTimeZone(String id) {
+        TimeZone timezone = TIME_ZONES.get(id);
+        if (timezone == null) {
+            timezone = TimeZone.getTimeZone(id);
+            if (TIME_ZONES.size() < MAX_CACHED_TIME_ZONES) {
+                TIME_ZONES.putIfAbsent(id, timezone);
+            }
+        }
+        return timezone;
     }
 
     public static Map<String, String> getStringMap(String name, JSONObject json) throws FacebookException {
@@ -57,6 +57,7 @@ import facebook4j.Post;
 import facebook4j.Question;
 import facebook4j.QuestionVotes;
 import facebook4j.RSVPStatus;
+import facebook4j.ResponseList;
 import facebook4j.Score;
 import facebook4j.Subscribedto;
 import facebook4j.Subscriber;
@@ -66,13 +67,14 @@ import facebook4j.Tagged;
 import facebook4j.Television;
 import facebook4j.User;
 import facebook4j.Video;
+import facebook4j.conf.ConfigurationContext;
+import facebook4j.internal.json.JSONStore;
+import facebook4j.internal.json.z_F4JInternalJSONImplFactory;
 import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * @author Ryuji Yamashita - roundrop at gmail.com
@@ -288,30 +290,16 @@ public final class DataObjectFactory {
         }
     }
 
-    private static final ThreadLocal<Map> rawJsonMap = new ThreadLocal<Map>() {
-        @Override
-        protected Map initialValue() {
-            return new HashMap();
-        }
-    };
-
     /**
      * Returns a raw JSON form of the provided object.<br>
-     * Note that raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call
+     * Note that raw JSON forms can be retrieved only from the same thread invoked the last method call and will become inaccessible once another method call<br>
+     * The store does not keep the objects reachable, and keeps at most jsonStoreMaxBytes of raw JSON per thread when configured.
      *
      * @param obj
      * @return raw JSON
      */
     public static String getRawJSON(Object obj) {
-        Object json = rawJsonMap.get().get(obj);
-        if (json instanceof String) {
-            return (String) json;
-        } else if (json != null) {
-            // object must be instance of JSONObject
-            return json.toString();
-        } else {
-            return null;
-        }
+        return JSONStore.getInstance().get(obj);
     }
 
     /**
@@ -1393,19 +1381,27 @@ public final class DataObjectFactory {
     }
     
     /**
-     * clear raw JSON forms associated with the current thread.<br>
-     * Currently this method is called indirectly by facebook4j.internal.util.DataObjectFactoryUtil, and should be called directly once *JSONImpl classes are migrated to facebook4j.json.* package.
+     * Constructs a list from rawJSON string, like the response of a Graph API edge.
+     *
+     * @param rawJSON raw JSON form as String, holding the elements in "data"
+     * @param type    the type of the list elements, one facebook4j models or one registered by {@link #registerDecoder(Class, JSONDecoder)}
+     * @return the list, with its paging
+     * @throws FacebookException when provided string is not a valid JSON string, or the type is unrecognized
      */
-    static void clearThreadLocalMap() {
-        rawJsonMap.get().clear();
+    public static <T> ResponseList<T> createResponseList(String rawJSON, Class<T> type) throws FacebookException {
+        return new z_F4JInternalJSONImplFactory(ConfigurationContext.getInstance()).createResponseList(rawJSON, type);
     }
 
     /**
-     * associate a raw JSON form to the current thread<br>
-     * Currently this method is called indirectly by facebook4j.internal.util.DataObjectFactoryUtil, and should be called directly once *JSONImpl classes are migrated to facebook4j.json.* package.
+     * Registers the decoder of a Graph API edge facebook4j does not model.<br>
+     * Lists of the type are then decoded by {@link #createResponseList(String, Class)}, {@link facebook4j.api.RawAPIMethods#callGetAPI(String, Class)},
+     * fetchNext() / fetchPrevious() and {@link facebook4j.BatchResponse#asResponseList(Class)}.
+     *
+     * @param type    the type of the list elements
+     * @param decoder the decoder, or null to unregister the type
+     * @throws IllegalArgumentException if facebook4j already decodes the type
      */
-    static <T> T registerJSONObject(T key, Object json) {
-        rawJsonMap.get().put(key, json);
-        return key;
+    public static <T> void registerDecoder(Class<T> type, JSONDecoder<? extends T> decoder) {
+        z_F4JInternalJSONImplFactory.registerDecoder(type, decoder);
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.json;
+
+import facebook4j.FacebookException;
+import facebook4j.internal.org.json.JSONObject;
+
+/**
+ * Decodes the elements of a Graph API edge facebook4j does not model.<br>
+ * Once registered with {@link DataObjectFactory#registerDecoder(Class, JSONDecoder)}, the type can be passed wherever
+ * facebook4j dispatches on the type of list elements: the lists fetched with
+ * {@link facebook4j.Facebook#fetchNext(facebook4j.Paging)} / {@link facebook4j.Facebook#fetchPrevious(facebook4j.Paging)}
+ * and {@link facebook4j.BatchResponse#asResponseList(Class)}.
+ *
+ * @param <T> the type of the elements
+ */
+public interface JSONDecoder<T> {
+    /**
+     * @param json an element of the "data" array
+     * @return the element
+     * @throws FacebookException when the element cannot be decoded
+     */
+    T decode(JSONObject json) throws FacebookException;
+}
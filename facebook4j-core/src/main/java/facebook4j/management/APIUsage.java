@@ -0,0 +1,86 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.management;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the latest Graph API usage per scope.
+ */
+public class APIUsage implements APIUsageMBean {
+    private final Map<String, Integer> usage = new TreeMap<String, Integer>();
+    private long throttledCount = 0;
+    private long throttledTime = 0;
+
+    /**
+     * @param scope   the scope the usage applies to
+     * @param percent usage in percent of the limit
+     */
+    public synchronized void usageReported(String scope, int percent) {
+        usage.put(scope, percent);
+    }
+
+    /**
+     * @param scope the scope whose usage is no longer reported
+     */
+    public synchronized void usageExpired(String scope) {
+        usage.remove(scope);
+    }
+
+    /**
+     * @param delay the time in milliseconds a request has been delayed
+     */
+    public synchronized void throttled(long delay) {
+        throttledCount++;
+        throttledTime += delay;
+    }
+
+    public synchronized Map<String, Integer> getUsage() {
+        return new TreeMap<String, Integer>(usage);
+    }
+
+    public synchronized int getMaxUsage() {
+        int max = 0;
+        for (Integer percent : usage.values()) {
+            max = Math.max(max, percent);
+        }
+        return max;
+    }
+
+    public synchronized long getThrottledCount() {
+        return throttledCount;
+    }
+
+    public synchronized long getThrottledTime() {
+        return throttledTime;
+    }
+
+    public synchronized void reset() {
+        usage.clear();
+        throttledCount = 0;
+        throttledTime = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "APIUsage{" +
+                "usage=" + usage +
+                ", throttledCount=" + throttledCount +
+                ", throttledTime=" + throttledTime +
+                '}';
+    }
+}
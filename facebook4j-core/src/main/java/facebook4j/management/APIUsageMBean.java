@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package facebook4j.management;
+
+import java.util.Map;
+
+/**
+ * MBean interface for the Graph API usage reported by Facebook in the X-App-Usage, X-Page-Usage and
+ * X-Business-Use-Case-Usage response headers.
+ */
+public interface APIUsageMBean {
+    /**
+     * @return usage in percent of the limit, keyed by scope ("app", "page:..." or "business:...")
+     */
+    public Map<String, Integer> getUsage();
+
+    /**
+     * @return the highest usage in percent over all scopes
+     */
+    public int getMaxUsage();
+
+    /**
+     * @return the number of requests which have been delayed to stay within the limits
+     */
+    public long getThrottledCount();
+
+    /**
+     * @return the total time in milliseconds requests have been delayed
+     */
+    public long getThrottledTime();
+
+    public void reset();
+}
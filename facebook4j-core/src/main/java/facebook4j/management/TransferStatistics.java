@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.management;
+
+/**
+ * Counts the response bytes transferred over the network and after decompression.
+ */
+public class TransferStatistics implements TransferStatisticsMBean {
+    private long responseCount = 0;
+    private long compressedResponseCount = 0;
+    private long wireBytes = 0;
+    private long decodedBytes = 0;
+
+    /**
+     * @param wireBytes    the number of body bytes received over the network
+     * @param decodedBytes the number of body bytes after decompression
+     * @param compressed   whether the body has been compressed
+     */
+    public synchronized void responseRead(long wireBytes, long decodedBytes, boolean compressed) {
+        responseCount++;
+        if (compressed) {
+            compressedResponseCount++;
+        }
+        this.wireBytes += wireBytes;
+        this.decodedBytes += decodedBytes;
+    }
+
+    public synchronized long getResponseCount() {
+        return responseCount;
+    }
+
+    public synchronized long getCompressedResponseCount() {
+        return compressedResponseCount;
+    }
+
+    public synchronized long getWireBytes() {
+        return wireBytes;
+    }
+
+    public synchronized long getDecodedBytes() {
+        return decodedBytes;
+    }
+
+    public synchronized double getCompressionRatio() {
+        return wireBytes == 0 ? 1.0 : (double) decodedBytes / wireBytes;
+    }
+
+    public synchronized void reset() {
+        responseCount = 0;
+        compressedResponseCount = 0;
+        wireBytes = 0;
+        decodedBytes = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TransferStatistics{" +
+                "responseCount=" + responseCount +
+                ", compressedResponseCount=" + compressedResponseCount +
+                ", wireBytes=" + wireBytes +
+                ", decodedBytes=" + decodedBytes +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.management;
+
+/**
+ * MBean interface for the number of response bytes transferred over the network and after decompression.
+ */
+public interface TransferStatisticsMBean {
+    /**
+     * @return the number of response bodies read
+     */
+    public long getResponseCount();
+
+    /**
+     * @return the number of response bodies which have been compressed with gzip
+     */
+    public long getCompressedResponseCount();
+
+    /**
+     * @return the number of body bytes received over the network
+     */
+    public long getWireBytes();
+
+    /**
+     * @return the number of body bytes after decompression
+     */
+    public long getDecodedBytes();
+
+    /**
+     * @return decoded bytes per wire byte, 1.0 if nothing has been compressed
+     */
+    public double getCompressionRatio();
+
+    public void reset();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.internal.http.RequestMethod;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static facebook4j.junit.URLMatchers.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class AsyncFacebookTest extends MockFacebookTestBase {
+
+    @Test
+    public void getMe() throws Exception {
+        facebook.setMockJSON("mock_json/user/me.json");
+        AsyncFacebook async = new AsyncFacebookImpl(facebook);
+        Future<User> future = async.getMe();
+
+        User me = future.get();
+        assertThat(facebook.getHttpMethod(), is(RequestMethod.GET));
+        assertThat(facebook.getEndpointURL(), is(pathOf("/me")));
+        assertThat(me.getId(), is("6666"));
+        assertThat(async.getFacebook(), is((Facebook) facebook));
+    }
+
+    @Test
+    public void executor() throws Exception {
+        facebook.setMockJSON("mock_json/user/me.json");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncFacebook async = new AsyncFacebookImpl(facebook, executor);
+            assertThat(async.getUser("6666").get().getName(), is("Firstname Lastname"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void failure() throws Exception {
+        AsyncFacebook async = new AsyncFacebookImpl(new FacebookFactory().getInstance());
+        try {
+            async.getMe().get();
+            fail("anonymous instance should not be able to call /me");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+}
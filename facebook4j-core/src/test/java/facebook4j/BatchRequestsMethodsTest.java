@@ -20,6 +20,7 @@ import facebook4j.internal.http.RequestMethod;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONObject;
 import facebook4j.json.DataObjectFactory;
+import facebook4j.json.JSONDecoder;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
@@ -122,6 +123,66 @@ public class BatchRequestsMethodsTest {
             assertThat(friend3.getName(), is("James Hendrix"));
         }
 
+        // an edge facebook4j does not model
+        public static class Named {
+            private final String id;
+            private final String name;
+
+            Named(String id, String name) {
+                this.id = id;
+                this.name = name;
+            }
+        }
+
+        @Test
+        public void typedList() throws Exception {
+            facebook.setMockJSON("mock_json/batch/simple.json");
+            BatchRequests<BatchRequest> batch = new BatchRequests<BatchRequest>();
+            batch.add(new BatchRequest(RequestMethod.GET, "me"));
+            batch.add(new BatchRequest(RequestMethod.GET, "me/friends?limit=50"));
+            BatchResponse actual = facebook.executeBatch(batch).get(1);
+
+            ResponseList<Friend> friends = actual.asResponseList(Friend.class);
+            assertThat(friends.size(), is(3));
+            assertThat(friends.get(2).getName(), is("James Hendrix"));
+            assertThat(friends.getPaging().getJSONObjectType() == Friend.class, is(true));
+
+            DataObjectFactory.registerDecoder(Named.class, new JSONDecoder<Named>() {
+                public Named decode(JSONObject json) throws FacebookException {
+                    return new Named(json.optString("id"), json.optString("name"));
+                }
+            });
+            try {
+                ResponseList<Named> named = actual.asResponseList(Named.class);
+                assertThat(named.size(), is(3));
+                assertThat(named.get(0).id, is("5757575757"));
+                assertThat(named.get(0).name, is("Michael Jackson"));
+
+                // the paging fetches the registered type as well
+                facebook.setMockJSON("mock_json/paging/likes_p2.json");
+                ResponseList<Named> next = facebook.fetchNext(named.getPaging());
+                assertThat(facebook.getEndpointURL().toString(), is("https://graph.facebook.com/1234567890123456/friends?limit=50&access_token=access_token&offset=50&__after_id=100000000000001"));
+                assertThat(next.size(), is(not(0)));
+                assertThat(next.get(0).name, is(notNullValue()));
+            } finally {
+                DataObjectFactory.registerDecoder(Named.class, null);
+            }
+            try {
+                actual.asResponseList(Named.class);
+                fail();
+            } catch (FacebookException expected) {
+            }
+            try {
+                DataObjectFactory.registerDecoder(Friend.class, new JSONDecoder<Friend>() {
+                    public Friend decode(JSONObject json) throws FacebookException {
+                        return null;
+                    }
+                });
+                fail();
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+
         @Test
         public void multipleMethods() throws Exception {
             facebook.setMockJSON("mock_json/batch/multiple_methods.json");
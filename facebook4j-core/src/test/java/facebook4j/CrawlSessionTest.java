@@ -0,0 +1,240 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.auth.AccessToken;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.net.URL;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class CrawlSessionTest extends MockFacebookTestBase {
+    private File file;
+
+    @Before
+    public void createFile() throws Exception {
+        file = File.createTempFile("facebook4j", ".crawl");
+        assertTrue(file.delete());
+    }
+
+    @After
+    public void deleteFile() throws Exception {
+        file.delete();
+    }
+
+    private int lines() throws IOException {
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            int lines = 0;
+            while (reader.readLine() != null) {
+                lines++;
+            }
+            return lines;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private ResponseList<Like> firstPage() throws FacebookException {
+        facebook.setMockJSON("mock_json/paging/likes_p1.json");
+        return facebook.getPostLikes("216311481960_10201168076257947", new Reading().limit(5));
+    }
+
+    @Test
+    public void resume() throws Exception {
+        CrawlSession<Like> session = new CrawlSession<Like>(facebook, file, Like.class);
+        assertThat(session.isStarted(), is(false));
+        ResponseList<Like> page1 = firstPage();
+        facebook.setMockJSON("mock_json/paging/likes_p2.json");
+        ResponseList<Like> page2 = session.next(page1);
+        assertThat(page2.get(0).getName(), is("Jorge Nunes"));
+        // the process stops before page2 is checkpointed
+        session.close();
+
+        session = new CrawlSession<Like>(facebook, file, Like.class);
+        assertThat(session.isStarted(), is(true));
+        assertThat(session.isFinished(), is(false));
+        CrawlSession.Checkpoint checkpoint = session.getCheckpoint();
+        assertThat(checkpoint.getPages(), is(1L));
+        assertThat(checkpoint.getElements(), is(5L));
+        assertThat(checkpoint.getAfter(), is("MTcxMTAxNDE1MA=="));
+        assertThat(checkpoint.getNext().toString(), is("https://graph.facebook.com/216311481960_10201168076257947/likes?limit=5&after=MTcxMTAxNDE1MA%3D%3D"));
+
+        // the token has changed meanwhile
+        facebook.setOAuthAccessToken(new AccessToken("rotated_token"));
+        facebook.setMockJSON("mock_json/paging/likes_p2.json");
+        ResponseList<Like> resumed = session.resume();
+        assertThat(facebook.getEndpointURL().toString(), is("https://graph.facebook.com/216311481960_10201168076257947/likes?limit=5&after=MTcxMTAxNDE1MA%3D%3D&access_token=rotated_token"));
+        assertThat(resumed.size(), is(5));
+        assertThat(resumed.get(0).getName(), is("Jorge Nunes"));
+        assertThat(resumed.getPaging().getNext(), is(page2.getPaging().getNext()));
+
+        facebook.setMockJSON("mock_json/paging/likes_p1.json");
+        session.next(resumed);
+        session.close();
+        assertThat(new CrawlSession<Like>(facebook, file, Like.class).getCheckpoint().getElements(), is(10L));
+    }
+
+    @Test
+    public void noCredentialsInFile() throws Exception {
+        CrawlSession<Like> session = new CrawlSession<Like>(facebook, file, Like.class);
+        ResponseList<Like> page1 = firstPage();
+        assertThat(page1.getPaging().getNext().getQuery(), containsString("access_token=access_token"));
+        facebook.setMockJSON("mock_json/paging/likes_p2.json");
+        session.next(page1);
+        session.close();
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            String line = reader.readLine();
+            assertThat(line, containsString("after=MTcxMTAxNDE1MA%3D%3D"));
+            assertThat(line, not(containsString("access_token")));
+        } finally {
+            reader.close();
+        }
+
+        assertThat(CrawlSession.withoutCredentials(new URL("https://graph.facebook.com/me/feed?access_token=t&limit=5&appsecret_proof=p&until=1")).toString(),
+                is("https://graph.facebook.com/me/feed?limit=5&until=1"));
+        assertThat(CrawlSession.withoutCredentials(new URL("https://graph.facebook.com/me/feed?access_token=t")).toString(),
+                is("https://graph.facebook.com/me/feed"));
+    }
+
+    @Test
+    public void finished() throws Exception {
+        CrawlSession<Like> session = new CrawlSession<Like>(facebook, file, Like.class);
+        facebook.setMockJSON("mock_json/comment/likes.json");
+        ResponseList<Like> last = facebook.getPostLikes("216311481960_10201168076257947");
+        assertThat(last.getPaging().getNext(), is(nullValue()));
+        assertThat(session.next(last), is(nullValue()));
+        session.close();
+
+        session = new CrawlSession<Like>(facebook, file, Like.class);
+        assertThat(session.isFinished(), is(true));
+        assertThat(session.resume(), is(nullValue()));
+    }
+
+    @Test
+    public void compaction() throws Exception {
+        CrawlSession<Like> session = new CrawlSession<Like>(facebook, file, Like.class);
+        session.setCompactThreshold(3);
+        ResponseList<Like> page = firstPage();
+        for (int i = 0; i < 3; i++) {
+            page = session.next(page);
+        }
+        assertThat(lines(), is(3));
+        page = session.next(page);
+        assertThat(lines(), is(1));
+        assertThat(session.getCheckpoint().getPages(), is(4L));
+        session.close();
+        assertThat(new File(file.getPath() + ".tmp").exists(), is(false));
+
+        // the history is dropped on load
+        session = new CrawlSession<Like>(facebook, file, Like.class);
+        session.next(page);
+        session.next(page);
+        session.close();
+        assertThat(lines(), is(3));
+        assertThat(new CrawlSession<Like>(facebook, file, Like.class).getCheckpoint().getPages(), is(6L));
+        assertThat(lines(), is(1));
+    }
+
+    @Test
+    public void tornLine() throws Exception {
+        CrawlSession<Like> session = new CrawlSession<Like>(facebook, file, Like.class);
+        ResponseList<Like> page = firstPage();
+        page = session.next(page);
+        session.close();
+        FileOutputStream out = new FileOutputStream(file, true);
+        out.write("1f2e3d4c\t2\t10\tMTAwMDA2NTk2Nzk1NDgz\thttps://graph.fa".getBytes("UTF-8"));
+        out.close();
+
+        session = new CrawlSession<Like>(facebook, file, Like.class);
+        assertThat(session.getCheckpoint().getPages(), is(1L));
+        session.next(page);
+        session.close();
+        assertThat(lines(), is(2));
+        assertThat(new CrawlSession<Like>(facebook, file, Like.class).getCheckpoint().getPages(), is(2L));
+    }
+
+    @Test
+    public void crashWhileCompacting() throws Exception {
+        File tmp = new File(file.getPath() + ".tmp");
+        try {
+            CrawlSession<Like> session = new CrawlSession<Like>(facebook, file, Like.class);
+            ResponseList<Like> page = firstPage();
+            page = session.next(page);
+            session.close();
+            CrawlSession.Checkpoint compacted = new CrawlSession.Checkpoint(2, 10, null, new URL("https://graph.facebook.com/me/feed?after=abc"));
+            FileOutputStream out = new FileOutputStream(tmp);
+            out.write(compacted.format().getBytes("UTF-8"));
+            out.close();
+
+            // the compacted file has been written, but not renamed over the log yet
+            session = new CrawlSession<Like>(facebook, file, Like.class);
+            assertThat(session.getCheckpoint().getPages(), is(2L));
+            session.close();
+            assertThat(tmp.exists(), is(false));
+            assertThat(lines(), is(1));
+
+            // the log has been deleted to make way for the rename
+            out = new FileOutputStream(tmp);
+            out.write(compacted.format().getBytes("UTF-8"));
+            out.close();
+            assertTrue(file.delete());
+            session = new CrawlSession<Like>(facebook, file, Like.class);
+            assertThat(session.getCheckpoint().getPages(), is(2L));
+            assertThat(session.getCheckpoint().getNext(), is(compacted.getNext()));
+            session.next(page);
+            session.close();
+            assertThat(tmp.exists(), is(false));
+            assertThat(new CrawlSession<Like>(facebook, file, Like.class).getCheckpoint().getPages(), is(3L));
+
+            // the compacted file has been torn while being written, the log is intact
+            out = new FileOutputStream(tmp);
+            out.write(compacted.format().substring(0, 20).getBytes("UTF-8"));
+            out.close();
+            assertThat(new CrawlSession<Like>(facebook, file, Like.class).getCheckpoint().getPages(), is(3L));
+            assertThat(tmp.exists(), is(false));
+        } finally {
+            tmp.delete();
+        }
+    }
+
+    @Test
+    public void checkpointFormat() throws Exception {
+        CrawlSession.Checkpoint checkpoint = new CrawlSession.Checkpoint(3, 15, null, new URL("https://graph.facebook.com/me/feed?after=abc"));
+        String line = checkpoint.format();
+        assertThat(line.endsWith("\n"), is(true));
+        CrawlSession.Checkpoint parsed = CrawlSession.Checkpoint.parse(line.substring(0, line.length() - 1));
+        assertThat(parsed.getPages(), is(3L));
+        assertThat(parsed.getElements(), is(15L));
+        assertThat(parsed.getAfter(), is(nullValue()));
+        assertThat(parsed.getNext(), is(checkpoint.getNext()));
+
+        assertThat(CrawlSession.Checkpoint.parse(line.replace("15", "16").trim()), is(nullValue()));
+        assertThat(CrawlSession.Checkpoint.parse(""), is(nullValue()));
+    }
+}
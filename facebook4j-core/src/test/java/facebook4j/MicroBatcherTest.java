@@ -0,0 +1,213 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.HttpParameter;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.http.RequestMethod;
+import facebook4j.internal.org.json.JSONException;
+import facebook4j.internal.org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class MicroBatcherTest {
+
+    /**
+     * Answers each request of a batch with its relative URL, and direct calls with their URL.
+     */
+    private static class EchoSender implements MicroBatcher.Sender {
+        final List<String> direct = Collections.synchronizedList(new ArrayList<String>());
+        final List<Integer> batches = Collections.synchronizedList(new ArrayList<Integer>());
+
+        public HttpResponse get(String url, HttpParameter[] parameters) throws FacebookException {
+            direct.add(url);
+            return response(200, url);
+        }
+
+        public List<BatchResponse> executeBatch(BatchRequests<BatchRequest> requests) throws FacebookException {
+            batches.add(requests.size());
+            List<BatchResponse> responses = new ArrayList<BatchResponse>();
+            for (BatchRequest request : requests) {
+                assertThat(request.getMethod(), is("GET"));
+                responses.add(answer(request.getRelativeUrl()));
+            }
+            return responses;
+        }
+
+        BatchResponse answer(String relativeUrl) throws FacebookException {
+            return response(200, relativeUrl);
+        }
+    }
+
+    private static BatchResponseImpl response(int code, String body) throws FacebookException {
+        try {
+            return new BatchResponseImpl(new JSONObject().put("code", code).put("body", body));
+        } catch (JSONException e) {
+            throw new FacebookException(e);
+        }
+    }
+
+    private static List<Future<String>> getConcurrently(final MicroBatcher batcher, int count) {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        List<Future<String>> futures = new ArrayList<Future<String>>();
+        for (int i = 0; i < count; i++) {
+            final String path = "me/feed?page=" + i;
+            futures.add(executor.submit(new Callable<String>() {
+                public String call() throws FacebookException {
+                    return batcher.get("https://graph.facebook.com/" + path, null, path).asString();
+                }
+            }));
+        }
+        executor.shutdown();
+        return futures;
+    }
+
+    @Test
+    public void fullBatch() throws Exception {
+        EchoSender sender = new EchoSender();
+        // the window is long, the batches are sent because they are full
+        MicroBatcher batcher = new MicroBatcher(sender, 60000, 5);
+        long start = System.currentTimeMillis();
+        List<Future<String>> futures = getConcurrently(batcher, 10);
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(), is("me/feed?page=" + i));
+        }
+        assertThat(System.currentTimeMillis() - start < 30000, is(true));
+        assertThat(sender.batches, is(Arrays.asList(5, 5)));
+        assertThat(sender.direct.size(), is(0));
+    }
+
+    @Test
+    public void window() throws Exception {
+        EchoSender sender = new EchoSender();
+        MicroBatcher batcher = new MicroBatcher(sender, 200, 50);
+        List<Future<String>> futures = getConcurrently(batcher, 3);
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(), is("me/feed?page=" + i));
+        }
+        int sent = sender.direct.size();
+        for (int size : sender.batches) {
+            sent += size;
+        }
+        assertThat(sent, is(3));
+    }
+
+    @Test
+    public void singleRequestIsSentDirectly() throws Exception {
+        EchoSender sender = new EchoSender();
+        MicroBatcher batcher = new MicroBatcher(sender, 1, 50);
+        HttpResponse res = batcher.get("https://graph.facebook.com/me", null, "me");
+        assertThat(res.asString(), is("https://graph.facebook.com/me"));
+        assertThat(sender.batches.size(), is(0));
+    }
+
+    @Test
+    public void responsesAreRoutedToTheirCaller() throws Exception {
+        EchoSender sender = new EchoSender() {
+            @Override
+            BatchResponse answer(String relativeUrl) throws FacebookException {
+                if (relativeUrl.endsWith("=0")) {
+                    return response(400, "{\"error\":{\"message\":\"Unsupported get request.\",\"type\":\"GraphMethodException\",\"code\":100}}");
+                }
+                if (relativeUrl.endsWith("=1")) {
+                    // timed out within the batch
+                    return null;
+                }
+                return super.answer(relativeUrl);
+            }
+        };
+        MicroBatcher batcher = new MicroBatcher(sender, 60000, 3);
+        List<Future<String>> futures = getConcurrently(batcher, 3);
+        try {
+            futures.get(0).get();
+            fail("the request should have failed");
+        } catch (ExecutionException e) {
+            FacebookException fe = (FacebookException) e.getCause();
+            assertThat(fe.getStatusCode(), is(400));
+            assertThat(fe.getErrorCode(), is(100));
+        }
+        assertThat(futures.get(1).get(), is("https://graph.facebook.com/me/feed?page=1"));
+        assertThat(futures.get(2).get(), is("me/feed?page=2"));
+    }
+
+    @Test
+    public void batchFailureIsSharedByTheCallers() throws Exception {
+        EchoSender sender = new EchoSender() {
+            @Override
+            public List<BatchResponse> executeBatch(BatchRequests<BatchRequest> requests) throws FacebookException {
+                throw new FacebookException("unavailable");
+            }
+        };
+        MicroBatcher batcher = new MicroBatcher(sender, 60000, 2);
+        for (Future<String> future : getConcurrently(batcher, 2)) {
+            try {
+                future.get();
+                fail("the request should have failed");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause().getMessage(), is("unavailable"));
+            }
+        }
+    }
+
+    @Test
+    public void facebook() throws Exception {
+        final MockFacebook facebook = MockFacebookFactory.create(new ConfigurationBuilder().setMicroBatchWindow(2000).build());
+        facebook.setMockJSON("mock_json/batch/simple.json");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<User> me = executor.submit(new Callable<User>() {
+                public User call() throws FacebookException {
+                    return facebook.getMe();
+                }
+            });
+            // lets the first call open the batch
+            Thread.sleep(300);
+            Future<ResponseList<Friend>> friends = executor.submit(new Callable<ResponseList<Friend>>() {
+                public ResponseList<Friend> call() throws FacebookException {
+                    return facebook.getFriends();
+                }
+            });
+            assertThat(me.get().getName(), is("Me Name"));
+            assertThat(friends.get().size(), is(not(0)));
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(facebook.getHttpMethod(), is(RequestMethod.POST));
+        assertThat(facebook.getEndpointURL().toString(), is("https://graph.facebook.com/"));
+        String batch = null;
+        for (HttpParameter param : facebook.getHttpParameters()) {
+            if (param.getName().equals("batch")) {
+                batch = param.getValue();
+            }
+        }
+        assertThat(batch, containsString("\"relative_url\":\"me\""));
+        assertThat(batch, containsString("\"relative_url\":\"me/friends\""));
+    }
+}
@@ -28,6 +28,7 @@ public interface MockFacebook extends Facebook {
     void setOAuthAppId(String appId, String appSecret);
     void setAppSecretProofEnabled(boolean appSecretProofEnabled);
     void setMockJSON(String resourceName);
+    void setMockJSON(String resourceName, String... nextResourceNames);
     RequestMethod getHttpMethod();
     URL getEndpointURL();
     HttpParameter[] getHttpParameters();
@@ -67,6 +67,10 @@ class MockFacebookImpl extends FacebookImpl implements MockFacebook {
         ((MockHttpClientWrapper) http).setMockJSON(resourceName);
     }
 
+    public void setMockJSON(String resourceName, String... nextResourceNames) {
+        ((MockHttpClientWrapper) http).setMockJSON(resourceName, nextResourceNames);
+    }
+
     public RequestMethod getHttpMethod() {
         return ((MockHttpClientWrapper) http).getRequest().getMethod();
     }
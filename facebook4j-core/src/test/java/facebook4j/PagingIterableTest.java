@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class PagingIterableTest extends MockFacebookTestBase {
+
+    private ResponseList<Like> firstPage() throws FacebookException {
+        facebook.setMockJSON("mock_json/paging/likes_p1.json");
+        return facebook.getPostLikes("216311481960_10201168076257947", new Reading().limit(5));
+    }
+
+    private static List<String> names(PagingIterable<Like> likes) {
+        List<String> names = new ArrayList<String>();
+        for (Like like : likes) {
+            names.add(like.getName());
+        }
+        return names;
+    }
+
+    @Test
+    public void synchronous() throws Exception {
+        ResponseList<Like> firstPage = firstPage();
+        ScriptedPaging pages = new ScriptedPaging(facebook, "mock_json/paging/likes_p2.json");
+        List<String> names = names(new PagingIterable<Like>(pages, firstPage).prefetch(0));
+        assertThat(names.size(), is(10));
+        assertThat(names.get(0), is(firstPage.get(0).getName()));
+        assertThat(names.get(5), is("Jorge Nunes"));
+        assertThat(pages.getFetched(), is(1));
+    }
+
+    @Test
+    public void prefetch() throws Exception {
+        ResponseList<Like> firstPage = firstPage();
+        ScriptedPaging pages = new ScriptedPaging(facebook, "mock_json/paging/likes_p2.json", "mock_json/paging/likes_p2.json");
+        List<String> names = names(new PagingIterable<Like>(pages, firstPage).prefetch(2));
+        assertThat(names.size(), is(15));
+        assertThat(names.get(10), is("Jorge Nunes"));
+    }
+
+    @Test
+    public void failure() throws Exception {
+        ResponseList<Like> firstPage = firstPage();
+        ScriptedPaging pages = new ScriptedPaging(facebook, "mock_json/paging/likes_p2.json", null);
+        PagingIterator<Like> it = new PagingIterable<Like>(pages, firstPage).iterator();
+        int count = 0;
+        try {
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+            fail("page 3 should have failed");
+        } catch (PagingIterator.FetchException e) {
+            assertThat(e.getCause().getMessage(), is("unavailable"));
+        }
+        assertThat(count, is(10));
+        assertThat(it.isClosed(), is(true));
+        assertThat(it.hasNext(), is(false));
+    }
+
+    @Test
+    public void close() throws Exception {
+        ResponseList<Like> firstPage = firstPage();
+        ScriptedPaging pages = new ScriptedPaging(facebook, "mock_json/paging/likes_p2.json");
+        PagingIterator<Like> it = new PagingIterable<Like>(pages, firstPage).prefetch(0).iterator();
+        it.next();
+        it.close();
+        assertThat(it.hasNext(), is(false));
+        assertThat(pages.getFetched(), is(0));
+    }
+
+    @Test
+    public void noPage() throws Exception {
+        assertThat(new PagingIterable<Like>(facebook, null).iterator().hasNext(), is(false));
+    }
+}
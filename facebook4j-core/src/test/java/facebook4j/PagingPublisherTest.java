@@ -0,0 +1,175 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class PagingPublisherTest extends MockFacebookTestBase {
+    private static final Executor CALLER_THREAD = new Executor() {
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private static class Recorder<T> implements Flow.Subscriber<T> {
+        Flow.Subscription subscription;
+        final List<T> items = new ArrayList<T>();
+        Throwable error;
+        boolean completed;
+
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private int firstPageFetched;
+
+    private PagingPublisher<Like> publisher(ScriptedPaging pages) {
+        return new PagingPublisher<Like>(pages, new PagingPublisher.FirstPage<Like>() {
+            public ResponseList<Like> fetch() throws FacebookException {
+                firstPageFetched++;
+                facebook.setMockJSON("mock_json/paging/likes_p1.json");
+                return facebook.getPostLikes("216311481960_10201168076257947", new Reading().limit(5));
+            }
+        }).executor(CALLER_THREAD);
+    }
+
+    @Test
+    public void demand() throws Exception {
+        ScriptedPaging pages = ScriptedPaging.repeat(facebook, "mock_json/paging/likes_p2.json", 1);
+        Recorder<Like> recorder = new Recorder<Like>();
+        publisher(pages).subscribe(recorder);
+        assertThat(firstPageFetched, is(0));
+
+        recorder.subscription.request(3);
+        assertThat(recorder.items.size(), is(3));
+        assertThat(firstPageFetched, is(1));
+        assertThat(pages.getFetched(), is(0));
+
+        // the first page satisfies the demand, the second one is fetched for the rest
+        recorder.subscription.request(2);
+        assertThat(recorder.items.size(), is(5));
+        assertThat(pages.getFetched(), is(0));
+        recorder.subscription.request(1);
+        assertThat(recorder.items.size(), is(6));
+        assertThat(recorder.items.get(5).getName(), is("Jorge Nunes"));
+        assertThat(pages.getFetched(), is(1));
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertThat(recorder.items.size(), is(10));
+        assertThat(recorder.completed, is(true));
+        assertThat(recorder.error, is(nullValue()));
+    }
+
+    @Test
+    public void completesWithoutFurtherDemand() throws Exception {
+        ScriptedPaging pages = ScriptedPaging.repeat(facebook, "mock_json/paging/likes_p2.json", 1);
+        Recorder<Like> recorder = new Recorder<Like>();
+        // a single page without a next page
+        new PagingPublisher<Like>(pages, new PagingPublisher.FirstPage<Like>() {
+            public ResponseList<Like> fetch() throws FacebookException {
+                facebook.setMockJSON("mock_json/comment/likes.json");
+                return facebook.getPostLikes("216311481960_10201168076257947");
+            }
+        }).executor(CALLER_THREAD).subscribe(recorder);
+        recorder.subscription.request(2);
+        assertThat(recorder.items.size(), is(2));
+        assertThat(recorder.completed, is(true));
+        assertThat(pages.getFetched(), is(0));
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        ScriptedPaging pages = ScriptedPaging.repeat(facebook, "mock_json/paging/likes_p2.json", 3);
+        Recorder<Like> recorder = new Recorder<Like>() {
+            @Override
+            public void onNext(Like item) {
+                super.onNext(item);
+                if (items.size() == 7) {
+                    subscription.cancel();
+                }
+            }
+        };
+        publisher(pages).subscribe(recorder);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertThat(recorder.items.size(), is(7));
+        assertThat(pages.getFetched(), is(1));
+        assertThat(recorder.completed, is(false));
+    }
+
+    @Test
+    public void failure() throws Exception {
+        Recorder<Like> recorder = new Recorder<Like>();
+        new PagingPublisher<Like>(facebook, new PagingPublisher.FirstPage<Like>() {
+            public ResponseList<Like> fetch() throws FacebookException {
+                throw new FacebookException("unavailable");
+            }
+        }).executor(CALLER_THREAD).subscribe(recorder);
+        recorder.subscription.request(1);
+        assertThat(recorder.error.getMessage(), is("unavailable"));
+        assertThat(recorder.items.size(), is(0));
+    }
+
+    @Test
+    public void nonPositiveRequest() throws Exception {
+        Recorder<Like> recorder = new Recorder<Like>();
+        publisher(ScriptedPaging.repeat(facebook, "mock_json/paging/likes_p2.json", 1)).subscribe(recorder);
+        recorder.subscription.request(0);
+        assertThat(recorder.error, is(instanceOf(IllegalArgumentException.class)));
+        assertThat(firstPageFetched, is(0));
+    }
+
+    @Test
+    public void defaultExecutor() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Recorder<Like> recorder = new Recorder<Like>() {
+            @Override
+            public void onComplete() {
+                super.onComplete();
+                latch.countDown();
+            }
+        };
+        facebook.setMockJSON("mock_json/paging/likes_p1.json");
+        ResponseList<Like> firstPage = facebook.getPostLikes("216311481960_10201168076257947", new Reading().limit(5));
+        new PagingPublisher<Like>(ScriptedPaging.repeat(facebook, "mock_json/paging/likes_p2.json", 0), firstPage).subscribe(recorder);
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(recorder.items.size(), is(5));
+    }
+}
@@ -21,6 +21,7 @@ import facebook4j.internal.http.RequestMethod;
 import facebook4j.internal.org.json.JSONArray;
 import facebook4j.internal.org.json.JSONObject;
 import facebook4j.json.DataObjectFactory;
+import facebook4j.json.JSONDecoder;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
@@ -142,6 +143,50 @@ public class RawAPIMethodsTest {
             assertThat(facebook.getEndpointURL(), hasParameter("fields", "shares"));
             assertThat(facebook.getEndpointURL(), hasParameter("limit", "5"));
         }
+
+        // an edge facebook4j does not model
+        public static class Named {
+            private final String id;
+            private final String name;
+
+            Named(String id, String name) {
+                this.id = id;
+                this.name = name;
+            }
+        }
+
+        @Test
+        public void typedList() throws Exception {
+            DataObjectFactory.registerDecoder(Named.class, new JSONDecoder<Named>() {
+                public Named decode(JSONObject json) throws FacebookException {
+                    return new Named(json.optString("id"), json.optString("name"));
+                }
+            });
+            try {
+                facebook.setMockJSON("mock_json/friend/belongs.json");
+                Map<String, String> params = new HashMap<String, String>();
+                params.put("uid", "100000002");
+                ResponseList<Named> actual = facebook.callGetAPI("/me/friends", params, Named.class);
+                assertThat(facebook.getHttpMethod(), is(RequestMethod.GET));
+                assertThat(facebook.getEndpointURL(), is(pathOf("/me/friends")));
+                assertThat(facebook.getEndpointURL(), hasParameter("uid", "100000002"));
+                assertThat(actual.size(), is(1));
+                assertThat(actual.get(0).id, is("100000002"));
+                assertThat(actual.get(0).name, is("Friend Name2"));
+                assertThat(actual.getPaging().getJSONObjectType() == Named.class, is(true));
+
+                ResponseList<Named> raw = DataObjectFactory.createResponseList("{\"data\":[{\"id\":\"1\",\"name\":\"one\"},{\"id\":\"2\",\"name\":\"two\"}]}", Named.class);
+                assertThat(raw.size(), is(2));
+                assertThat(raw.get(1).name, is("two"));
+            } finally {
+                DataObjectFactory.registerDecoder(Named.class, null);
+            }
+            try {
+                DataObjectFactory.createResponseList("{\"data\":[]}", Named.class);
+                fail();
+            } catch (FacebookException expected) {
+            }
+        }
     }
 
     public static class callPostAPI extends MockFacebookTestBase {
@@ -66,6 +66,14 @@ public class ReadingTest {
             reading = new Reading().fields(array);
             assertThat(reading.getQuery(), is("fields=id%2Cname%2Cemail"));
         }
+
+        @Test
+        public void fieldNames() throws Exception {
+            assertThat(new Reading().limit(10).getFieldNames(), is(nullValue()));
+
+            Reading reading = new Reading().fields("id", " message").fields("comments.limit(5).summary(true){from,message}", "likes{id}");
+            assertThat(reading.getFieldNames().toString(), is("[id, message, comments, likes]"));
+        }
     }
 
     public static class Limit {
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import facebook4j.auth.Authorization;
+import facebook4j.conf.Configuration;
+
+import java.util.Arrays;
+
+/**
+ * Pages through mock JSON files: each fetchNext() serves the next file of the script, then no next page.<br>
+ * A null file makes the fetch fail. Other calls are delegated to the mock.
+ */
+public class ScriptedPaging implements FacebookBase {
+    private final MockFacebook facebook;
+    private final String[] resources;
+    private int fetched = 0;
+
+    /**
+     * @param facebook  the mock serving the files
+     * @param resources the mock JSON files of the following pages, in order
+     */
+    public ScriptedPaging(MockFacebook facebook, String... resources) {
+        this.facebook = facebook;
+        this.resources = resources;
+    }
+
+    /**
+     * @return paging serving the same file a number of times
+     */
+    public static ScriptedPaging repeat(MockFacebook facebook, String resource, int count) {
+        String[] resources = new String[count];
+        Arrays.fill(resources, resource);
+        return new ScriptedPaging(facebook, resources);
+    }
+
+    /**
+     * @return the number of pages fetched so far
+     */
+    public synchronized int getFetched() {
+        return fetched;
+    }
+
+    public synchronized <T> ResponseList<T> fetchNext(Paging<T> paging) throws FacebookException {
+        if (fetched == resources.length) {
+            return null;
+        }
+        String resource = resources[fetched++];
+        if (resource == null) {
+            throw new FacebookException("unavailable");
+        }
+        facebook.setMockJSON(resource);
+        return facebook.fetchNext(paging);
+    }
+
+    public <T> ResponseList<T> fetchPrevious(Paging<T> paging) throws FacebookException {
+        throw new UnsupportedOperationException();
+    }
+
+    public String getId() throws FacebookException {
+        return facebook.getId();
+    }
+
+    public String getName() throws FacebookException {
+        return facebook.getName();
+    }
+
+    public Authorization getAuthorization() {
+        return facebook.getAuthorization();
+    }
+
+    public Configuration getConfiguration() {
+        return facebook.getConfiguration();
+    }
+
+    public void shutdown() {
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static facebook4j.internal.util.z_F4JInternalParseUtil.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class TimeSlicedCrawlerTest extends MockFacebookTestBase {
+
+    /**
+     * Serves the first pages only, the mock would return the same feed forever.
+     */
+    private ScriptedPaging firstPagesOnly;
+
+    @Before
+    public void firstPagesOnly() {
+        firstPagesOnly = new ScriptedPaging(facebook);
+    }
+
+    private static Date date(String iso8601) throws Exception {
+        return getISO8601Datetime(iso8601, (java.util.TimeZone) null);
+    }
+
+    @Test
+    public void split() throws Exception {
+        List<Date[]> ranges = TimeSlicedCrawler.split(new Date(0), new Date(10000), 3);
+        assertThat(ranges.size(), is(3));
+        assertThat(ranges.get(0)[0], is(new Date(0)));
+        assertThat(ranges.get(0)[1], is(new Date(3000)));
+        assertThat(ranges.get(1)[0], is(new Date(3000)));
+        assertThat(ranges.get(1)[1], is(new Date(6000)));
+        assertThat(ranges.get(2)[1], is(new Date(10000)));
+
+        assertThat(TimeSlicedCrawler.split(new Date(0), new Date(2000), 8).size(), is(2));
+        assertThat(TimeSlicedCrawler.split(new Date(0), new Date(0), 8).size(), is(1));
+    }
+
+    @Test
+    public void crawl() throws Exception {
+        facebook.setMockJSON("mock_json/post/feed.json");
+        final List<String> slices = new ArrayList<String>();
+        // every slice gets the whole feed, the crawler keeps what belongs to the slice
+        TimeSlicedCrawler<Post> crawler = new TimeSlicedCrawler<Post>(firstPagesOnly, new TimeSlicedCrawler.Edge<Post>() {
+            public ResponseList<Post> fetch(Date since, Date until) throws FacebookException {
+                synchronized (slices) {
+                    slices.add(since.getTime() + "-" + until.getTime());
+                    return facebook.getFeed();
+                }
+            }
+        }, TimeSlicedCrawler.POSTS).slices(4).parallelism(2);
+
+        List<Post> posts = crawler.crawl(date("2013-07-01T00:00:00+0000"), date("2013-08-10T00:00:00+0000"));
+        assertThat(slices.size(), is(4));
+        List<String> ids = new ArrayList<String>();
+        for (Post post : posts) {
+            ids.add(post.getId());
+        }
+        assertThat(ids, is(Arrays.asList(
+                "1234567890123456_500000000000001",
+                "1234567890123456_500000000000003",
+                "1234567890123456_500000000000004",
+                "1234567890123456_500000000000005",
+                "1234567890123456_500000000000006")));
+        assertThat(posts.get(0).getCreatedTime(), is(date("2013-08-06T10:36:10+0000")));
+    }
+
+    @Test
+    public void outOfRange() throws Exception {
+        facebook.setMockJSON("mock_json/post/feed.json");
+        List<Post> posts = new TimeSlicedCrawler<Post>(firstPagesOnly, new TimeSlicedCrawler.Edge<Post>() {
+            public ResponseList<Post> fetch(Date since, Date until) throws FacebookException {
+                return facebook.getFeed();
+            }
+        }, TimeSlicedCrawler.POSTS).slices(1).crawl(date("2013-07-30T00:00:00+0000"), date("2013-08-03T00:00:00+0000"));
+        assertThat(posts.size(), is(2));
+        assertThat(posts.get(0).getId(), is("1234567890123456_500000000000003"));
+        assertThat(posts.get(1).getId(), is("1234567890123456_500000000000004"));
+    }
+
+    @Test
+    public void sliceBySlice() throws Exception {
+        facebook.setMockJSON("mock_json/post/feed.json");
+        final List<String> delivered = new ArrayList<String>();
+        // the slices meet at the time of ..._500000000000005, which both of them return
+        new TimeSlicedCrawler<Post>(firstPagesOnly, new TimeSlicedCrawler.Edge<Post>() {
+            public ResponseList<Post> fetch(Date since, Date until) throws FacebookException {
+                synchronized (delivered) {
+                    return facebook.getFeed();
+                }
+            }
+        }, TimeSlicedCrawler.POSTS).slices(2).crawl(date("2013-07-21T14:42:29+0000"), date("2013-08-06T14:42:29+0000"),
+                new TimeSlicedCrawler.SliceListener<Post>() {
+                    public void onSlice(Date since, Date until, List<Post> posts) {
+                        StringBuilder slice = new StringBuilder(since.getTime() / 1000 + ":");
+                        for (Post post : posts) {
+                            slice.append(' ').append(post.getId().substring(post.getId().length() - 1));
+                        }
+                        delivered.add(slice.toString());
+                    }
+                });
+        long boundary = date("2013-07-29T14:42:29+0000").getTime() / 1000;
+        long since = date("2013-07-21T14:42:29+0000").getTime() / 1000;
+        assertThat(delivered, is(Arrays.asList(boundary + ": 1 3 4 5", since + ":")));
+    }
+
+    @Test
+    public void failure() throws Exception {
+        try {
+            new TimeSlicedCrawler<Post>(firstPagesOnly, new TimeSlicedCrawler.Edge<Post>() {
+                public ResponseList<Post> fetch(Date since, Date until) throws FacebookException {
+                    throw new FacebookException("unavailable");
+                }
+            }, TimeSlicedCrawler.POSTS).crawl(new Date(0), new Date(100000));
+            fail("should have failed");
+        } catch (FacebookException e) {
+            assertThat(e.getMessage(), is("unavailable"));
+        }
+    }
+}
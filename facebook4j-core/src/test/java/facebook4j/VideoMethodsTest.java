@@ -16,6 +16,7 @@
 
 package facebook4j;
 
+import facebook4j.internal.http.HttpParameter;
 import facebook4j.internal.http.RequestMethod;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -23,6 +24,9 @@ import org.junit.runner.RunWith;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static facebook4j.junit.F4JHttpParameterMatchers.*;
 import static facebook4j.junit.ISO8601DateMatchers.*;
@@ -377,6 +381,115 @@ public class VideoMethodsTest extends MockFacebookTestBase {
         }
     }
 
+    public static class uploadVideo extends MockFacebookTestBase {
+        // records the chunks sent, as start offset and length, and the progress reported after each
+        private static class ChunkRecorder implements VideoUploadListener {
+            private final MockFacebook facebook;
+            private final List<long[]> chunks = new ArrayList<long[]>();
+            private final List<Long> progress = new ArrayList<Long>();
+
+            ChunkRecorder(MockFacebook facebook) {
+                this.facebook = facebook;
+            }
+
+            public void onProgress(VideoUploadSession session, long uploadedBytes, long totalBytes) {
+                for (HttpParameter param : facebook.getHttpParameters()) {
+                    if ("video_file_chunk".equals(param.getName())) {
+                        chunks.add(new long[]{param.getFileOffset(), param.getFileLength()});
+                    }
+                }
+                progress.add(uploadedBytes);
+            }
+        }
+
+        @Test
+        public void chunked() throws Exception {
+            facebook.setMockJSON("mock_json/video/upload_session.json",
+                    "mock_json/video/upload_transfer_3.json", "mock_json/success.json");
+            File videoFile = new File("src/test/resources/test.mov");
+            ChunkRecorder recorder = new ChunkRecorder(facebook);
+            String videoId = facebook.postVideo("137246726435626", new VideoUpdate(new Media(videoFile)).title("title"), recorder);
+            assertThat(facebook.getHttpMethod(), is(RequestMethod.POST));
+            assertThat(facebook.getEndpointURL(), is(pathOf("/137246726435626/videos")));
+            assertThat(facebook.getHttpParameters(), hasPostParameter("upload_phase", "finish"));
+            assertThat(facebook.getHttpParameters(), hasPostParameter("upload_session_id", "1564747013773438"));
+            assertThat(facebook.getHttpParameters(), hasPostParameter("title", "title"));
+
+            assertThat(videoId, is("1564747010440105"));
+            // the end_offset beyond the file is cut at its end
+            assertThat(recorder.chunks.size(), is(1));
+            assertThat(recorder.chunks.get(0)[0], is(0L));
+            assertThat(recorder.chunks.get(0)[1], is(videoFile.length()));
+            assertThat(recorder.progress.size(), is(1));
+            assertThat(recorder.progress.get(0), is(videoFile.length()));
+        }
+
+        @Test
+        public void serverRanges() throws Exception {
+            facebook.setMockJSON("mock_json/video/upload_start.json",
+                    "mock_json/video/upload_transfer_1.json", "mock_json/video/upload_transfer_2.json",
+                    "mock_json/video/upload_transfer_3.json", "mock_json/success.json");
+            File videoFile = new File("src/test/resources/test.mov");
+            ChunkRecorder recorder = new ChunkRecorder(facebook);
+            VideoUploadSession session = facebook.startVideoUpload(new VideoUpdate(new Media(videoFile)));
+            assertThat(facebook.getHttpParameters(), hasPostParameter("upload_phase", "start"));
+            assertThat(facebook.getHttpParameters(), hasPostParameter("file_size", String.valueOf(videoFile.length())));
+            assertThat(session.getStartOffset(), is(0L));
+            assertThat(session.getEndOffset(), is(300000L));
+
+            String videoId = facebook.resumeVideoUpload(session, recorder);
+            assertThat(videoId, is("1564747010440105"));
+            // each chunk is the range the previous response asked for
+            assertThat(recorder.chunks.size(), is(3));
+            assertThat(recorder.chunks.get(0), is(new long[]{0, 300000}));
+            assertThat(recorder.chunks.get(1), is(new long[]{300000, 748576}));
+            assertThat(recorder.chunks.get(2), is(new long[]{1048576, 401606}));
+            assertThat(recorder.progress, is(Arrays.asList(300000L, 1048576L, 1450182L)));
+            assertThat(session.isTransferred(), is(true));
+            assertThat(session.isFinished(), is(true));
+        }
+
+        @Test
+        public void resume() throws Exception {
+            // the second chunk gets a response without offsets
+            facebook.setMockJSON("mock_json/video/upload_start.json",
+                    "mock_json/video/upload_transfer_1.json", "mock_json/success.json");
+            File videoFile = new File("src/test/resources/test.mov");
+            ChunkRecorder recorder = new ChunkRecorder(facebook);
+            VideoUploadSession session = facebook.startVideoUpload(new VideoUpdate(new Media(videoFile)));
+            try {
+                facebook.resumeVideoUpload(session, recorder);
+                fail();
+            } catch (FacebookException expected) {
+            }
+            assertThat(session.getStartOffset(), is(300000L));
+            assertThat(session.getEndOffset(), is(1048576L));
+            assertThat(session.isFinished(), is(false));
+
+            facebook.setMockJSON("mock_json/video/upload_transfer_2.json",
+                    "mock_json/video/upload_transfer_3.json", "mock_json/success.json");
+            recorder.chunks.clear();
+            String videoId = facebook.resumeVideoUpload(session, recorder);
+            assertThat(videoId, is("1564747010440105"));
+            assertThat(recorder.chunks.size(), is(2));
+            assertThat(recorder.chunks.get(0), is(new long[]{300000, 748576}));
+            assertThat(recorder.chunks.get(1), is(new long[]{1048576, 401606}));
+            assertThat(session.isFinished(), is(true));
+        }
+
+        @Test
+        public void noProgress() throws Exception {
+            facebook.setMockJSON("mock_json/video/upload_start.json", "mock_json/video/upload_start.json");
+            VideoUploadSession session = facebook.startVideoUpload(new VideoUpdate(new Media(new File("src/test/resources/test.mov"))));
+            try {
+                facebook.resumeVideoUpload(session, null);
+                fail();
+            } catch (FacebookException expected) {
+            }
+            assertThat(session.getStartOffset(), is(0L));
+        }
+    }
+
     public static class getVideo extends MockFacebookTestBase {
         @Test
         public void id() throws Exception {
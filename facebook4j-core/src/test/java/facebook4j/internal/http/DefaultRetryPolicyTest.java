@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class DefaultRetryPolicyTest {
+
+    private static final HttpRequest REQUEST = new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/me", null, null, null);
+
+    private static HttpResponse response(final int statusCode, String body, final String retryAfter) {
+        HttpResponse res = new HttpResponse() {
+            @Override
+            public String getResponseHeader(String name) {
+                return "Retry-After".equals(name) ? retryAfter : null;
+            }
+
+            @Override
+            public Map<String, List<String>> getResponseHeaderFields() {
+                return Collections.emptyMap();
+            }
+
+            @Override
+            public void disconnect() {
+            }
+        };
+        res.statusCode = statusCode;
+        res.responseAsString = body;
+        return res;
+    }
+
+    private static String error(int code) {
+        return "{\"error\":{\"message\":\"error\",\"type\":\"OAuthException\",\"code\":" + code + "}}";
+    }
+
+    @Test
+    public void retryable() throws Exception {
+        DefaultRetryPolicy policy = new DefaultRetryPolicy(1000, 60000, null);
+        assertThat(policy.getRetryDelay(REQUEST, 0, null, new IOException()), is(not(-1L)));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(500, "", null), null), is(not(-1L)));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(503, "", null), null), is(not(-1L)));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(429, "", null), null), is(not(-1L)));
+        for (int code : new int[]{1, 2, 4, 17, 32, 613}) {
+            assertThat(policy.getRetryDelay(REQUEST, 0, response(400, error(code), null), null), is(not(-1L)));
+        }
+        assertThat(policy.getRetryDelay(REQUEST, 0,
+                response(400, "{\"error\":{\"code\":100,\"is_transient\":true}}", null), null), is(not(-1L)));
+    }
+
+    @Test
+    public void notRetryable() throws Exception {
+        DefaultRetryPolicy policy = new DefaultRetryPolicy(1000, 60000, null);
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(400, error(100), null), null), is(-1L));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(400, error(190), null), null), is(-1L));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(404, "not found", null), null), is(-1L));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(403, "", null), null), is(-1L));
+    }
+
+    @Test
+    public void backoff() throws Exception {
+        DefaultRetryPolicy policy = new DefaultRetryPolicy(1000, 5000, null);
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoff(0) < 1000, is(true));
+            assertThat(policy.backoff(1) < 2000, is(true));
+            assertThat(policy.backoff(2) < 4000, is(true));
+            assertThat(policy.backoff(3) < 5000, is(true));
+            assertThat(policy.backoff(100) < 5000, is(true));
+            assertThat(policy.backoff(100) >= 0, is(true));
+        }
+    }
+
+    @Test
+    public void retryAfter() throws Exception {
+        DefaultRetryPolicy policy = new DefaultRetryPolicy(1000, 5000, null);
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(429, "", "30"), null), is(30000L));
+        assertThat(policy.getRetryDelay(REQUEST, 0, response(429, "", "Wed, 21 Oct 2015 07:28:00 GMT"), null) < 1000, is(true));
+    }
+
+    @Test
+    public void budget() throws Exception {
+        DefaultRetryPolicy policy = new DefaultRetryPolicy(0, 0, new RetryBudget(2, 0));
+        assertThat(policy.getRetryDelay(REQUEST, 0, null, new IOException()), is(0L));
+        assertThat(policy.getRetryDelay(REQUEST, 0, null, new IOException()), is(0L));
+        assertThat(policy.getRetryDelay(REQUEST, 0, null, new IOException()), is(-1L));
+    }
+
+    @Test
+    public void budgetRefills() throws Exception {
+        RetryBudget budget = new RetryBudget(1, 2);
+        long now = System.currentTimeMillis();
+        assertThat(budget.tryAcquire(now), is(true));
+        assertThat(budget.tryAcquire(now), is(false));
+        assertThat(budget.tryAcquire(now + 499), is(false));
+        assertThat(budget.tryAcquire(now + 501), is(true));
+        // the bucket does not fill beyond its capacity
+        assertThat(budget.tryAcquire(now + 60000), is(true));
+        assertThat(budget.tryAcquire(now + 60000), is(false));
+    }
+}
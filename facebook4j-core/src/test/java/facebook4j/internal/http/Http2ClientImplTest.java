@@ -0,0 +1,162 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import facebook4j.conf.ConfigurationBuilder;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class Http2ClientImplTest {
+    private HttpServer server;
+    private String baseURL;
+    // the last request the server received
+    private volatile String receivedMethod;
+    private volatile Map<String, List<String>> receivedHeaders;
+    private volatile String receivedBody;
+
+    @Before
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                receivedMethod = exchange.getRequestMethod();
+                receivedHeaders = new HashMap<String, List<String>>(exchange.getRequestHeaders());
+                receivedBody = read(exchange.getRequestBody());
+                byte[] body = "{\"error\":\"missing\"}".getBytes("UTF-8");
+                exchange.getResponseHeaders().add("X-Custom", "value");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(exchange.getRequestURI().getPath().equals("/missing") ? 404 : 200, body.length);
+                OutputStream os = exchange.getResponseBody();
+                os.write(body);
+                os.close();
+            }
+        });
+        server.start();
+        baseURL = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    private static String read(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[1024];
+        int count;
+        while ((count = is.read(buf)) != -1) {
+            out.write(buf, 0, count);
+        }
+        return out.toString("UTF-8");
+    }
+
+    // reads a property of the built java.net.http.HttpRequest
+    private static Object property(Object request, String name) throws Exception {
+        Method method = Class.forName("java.net.http.HttpRequest").getMethod(name);
+        return method.invoke(request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<String>> headers(Object request) throws Exception {
+        Object headers = property(request, "headers");
+        return (Map<String, List<String>>) Class.forName("java.net.http.HttpHeaders").getMethod("map").invoke(headers);
+    }
+
+    @Test
+    public void fallback() throws Exception {
+        Http2ClientImpl client = new Http2ClientImpl(new ConfigurationBuilder().build(), false);
+        HttpResponse res = client.execute(new HttpRequest(RequestMethod.POST, baseURL + "/feed",
+                new HttpParameter[]{new HttpParameter("message", "hello")}, null, null));
+        assertThat(res instanceof HttpResponseImpl, is(true));
+        assertThat(res.getStatusCode(), is(200));
+        assertThat(receivedMethod, is("POST"));
+        assertThat(receivedBody, is("message=hello"));
+        res.disconnect();
+    }
+
+    @Test
+    public void buildRequest() throws Exception {
+        Assume.assumeTrue(Http2ClientImpl.isAvailable());
+        Http2ClientImpl client = new Http2ClientImpl(new ConfigurationBuilder()
+                .setGZIPEnabled(true).setHttpReadTimeout(5000).build());
+
+        Map<String, String> requestHeaders = new HashMap<String, String>();
+        requestHeaders.put("Content-Type", "application/json");
+        requestHeaders.put("X-Test", "test");
+        requestHeaders.put("Host", "example.com");
+        Object request = client.buildRequest(new HttpRequest(RequestMethod.POST, baseURL + "/feed",
+                new HttpParameter[]{new HttpParameter("message", "hello world")}, null, requestHeaders));
+        assertThat((String) property(request, "method"), is("POST"));
+        assertThat((URI) property(request, "uri"), is(URI.create(baseURL + "/feed")));
+        Map<String, List<String>> headers = headers(request);
+        // the content type of the caller is not overridden
+        assertThat(headers.get("Content-Type").size(), is(1));
+        assertThat(headers.get("Content-Type").get(0), is("application/json"));
+        assertThat(headers.get("X-Test").get(0), is("test"));
+        assertThat(headers.get("Accept-Encoding").get(0), is("gzip"));
+        assertThat(headers.containsKey("Host"), is(false));
+        assertThat(property(request, "timeout").toString(), is("Optional[PT5S]"));
+
+        request = client.buildRequest(new HttpRequest(RequestMethod.POST, baseURL + "/feed",
+                new HttpParameter[]{new HttpParameter("message", "hello")}, null, null));
+        assertThat(headers(request).get("Content-Type").get(0), is("application/x-www-form-urlencoded"));
+
+        request = client.buildRequest(new HttpRequest(RequestMethod.DELETE, baseURL + "/1", null, null, null));
+        assertThat((String) property(request, "method"), is("DELETE"));
+        assertThat(headers(request).containsKey("Content-Type"), is(false));
+    }
+
+    @Test
+    public void response() throws Exception {
+        Assume.assumeTrue(Http2ClientImpl.isAvailable());
+        Http2ClientImpl client = new Http2ClientImpl(new ConfigurationBuilder().build());
+        HttpResponse res = client.execute(new HttpRequest(RequestMethod.GET, baseURL + "/missing", null, null, null));
+        assertThat(res instanceof Http2ResponseImpl, is(true));
+        assertThat(res.getStatusCode(), is(404));
+        assertThat(res.getResponseHeader("X-Custom"), is("value"));
+        assertThat(res.getResponseHeader("x-custom"), is("value"));
+        assertThat(res.getResponseHeaderFields().get("content-type").get(0), is("application/json"));
+        assertThat(res.asJSONObject().getString("error"), is("missing"));
+        assertThat(receivedMethod, is("GET"));
+
+        res = client.execute(new HttpRequest(RequestMethod.POST, baseURL + "/feed",
+                new HttpParameter[]{new HttpParameter("message", "hello")}, null, null));
+        assertThat(res.getStatusCode(), is(200));
+        assertThat(receivedBody, is("message=hello"));
+        assertThat(receivedHeaders.get("Content-type").get(0), is("application/x-www-form-urlencoded"));
+        res.disconnect();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class HttpConnectionPoolTest {
+
+    @Test
+    public void route() throws Exception {
+        assertThat(HttpConnectionPool.routeOf("https://graph.facebook.com/me?fields=id"), is("https://graph.facebook.com:443"));
+        assertThat(HttpConnectionPool.routeOf("http://graph.facebook.com:8080/me"), is("http://graph.facebook.com:8080"));
+    }
+
+    @Test
+    public void keepAliveConnections() throws Exception {
+        String maxConnections = System.getProperty("http.maxConnections");
+        try {
+            System.setProperty("http.maxConnections", "20");
+            assertThat(HttpConnectionPool.getKeepAliveConnections(), is(20));
+            // ignored by the keep-alive cache
+            System.setProperty("http.maxConnections", "0");
+            assertThat(HttpConnectionPool.getKeepAliveConnections(), is(5));
+            System.clearProperty("http.maxConnections");
+            assertThat(HttpConnectionPool.getKeepAliveConnections(), is(5));
+        } finally {
+            if (maxConnections != null) {
+                System.setProperty("http.maxConnections", maxConnections);
+            }
+        }
+    }
+
+    @Test
+    public void maxPerRoute() throws Exception {
+        HttpConnectionPool pool = new HttpConnectionPool(10, 2);
+        HttpConnectionPool.Lease lease1 = pool.lease("https://a:443", 10);
+        pool.lease("https://a:443", 10);
+        try {
+            pool.lease("https://a:443", 10);
+            fail("route should be exhausted");
+        } catch (IOException expected) {
+        }
+        // another route is not affected
+        pool.lease("https://b:443", 10);
+        assertThat(pool.getLeasedCount(), is(3));
+
+        lease1.release(true);
+        lease1.release(true);
+        assertThat(pool.getLeasedCount("https://a:443"), is(1));
+        pool.lease("https://a:443", 10);
+        assertThat(pool.getLeasedCount("https://a:443"), is(2));
+    }
+
+    @Test
+    public void maxTotal() throws Exception {
+        HttpConnectionPool pool = new HttpConnectionPool(2, 2);
+        pool.lease("https://a:443", 10);
+        pool.lease("https://b:443", 10);
+        try {
+            pool.lease("https://c:443", 10);
+            fail("pool should be exhausted");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static class RecordingConnection extends HttpURLConnection {
+        private volatile boolean disconnected = false;
+
+        RecordingConnection() throws IOException {
+            super(new URL("https://a/"));
+        }
+
+        @Override
+        public void disconnect() {
+            disconnected = true;
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+
+        @Override
+        public void connect() {
+        }
+    }
+
+    @Test
+    public void busyLeaseIsKept() throws Exception {
+        final HttpConnectionPool pool = new HttpConnectionPool(1, 1);
+        HttpConnectionPool.Lease busy = pool.lease("https://a:443", 10);
+        RecordingConnection connection = new RecordingConnection();
+        busy.attach(connection);
+
+        // a slow request keeps its lease however long another thread waits for it
+        final IOException[] timedOut = new IOException[1];
+        Thread waiter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    pool.lease("https://a:443", 1500);
+                } catch (IOException expected) {
+                    timedOut[0] = expected;
+                }
+            }
+        };
+        waiter.start();
+        waiter.join();
+        assertThat(timedOut[0], is(notNullValue()));
+        assertThat(connection.disconnected, is(false));
+        assertThat(pool.getLeasedCount(), is(1));
+
+        busy.release(true);
+        assertThat(connection.disconnected, is(false));
+        assertThat(pool.lease("https://a:443", 10), is(notNullValue()));
+    }
+
+    @Test
+    public void leakedLeaseIsReclaimed() throws Exception {
+        HttpConnectionPool pool = new HttpConnectionPool(1, 1);
+        RecordingConnection connection = new RecordingConnection();
+        pool.lease("https://a:443", 10).attach(connection);
+
+        // the lease above is unreachable, collect it while the pool is waiting
+        Thread collector = new Thread() {
+            @Override
+            public void run() {
+                while (!isInterrupted()) {
+                    System.gc();
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        };
+        collector.start();
+        try {
+            HttpConnectionPool.Lease lease = pool.lease("https://a:443", 10000);
+            assertThat(lease, is(notNullValue()));
+        } finally {
+            collector.interrupt();
+            collector.join();
+        }
+        assertThat(connection.disconnected, is(true));
+        assertThat(pool.getLeasedCount(), is(1));
+    }
+
+    @Test
+    public void waiterIsWokenUpByRelease() throws Exception {
+        final HttpConnectionPool pool = new HttpConnectionPool(1, 1);
+        final HttpConnectionPool.Lease lease = pool.lease("https://a:443", 10);
+        Thread releaser = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ignore) {
+                }
+                lease.release(true);
+            }
+        };
+        releaser.start();
+        assertThat(pool.lease("https://a:443", 5000), is(notNullValue()));
+        releaser.join();
+    }
+}
@@ -23,6 +23,8 @@ import facebook4j.internal.org.json.JSONException;
 import facebook4j.internal.org.json.JSONObject;
 
 import java.io.*;
+import java.util.Arrays;
+import java.util.LinkedList;
 
 /**
  * This class mock HTTP request & response, and returns pre-registered JSON response.
@@ -35,6 +37,7 @@ public final class MockHttpClientWrapper extends HttpClientWrapper {
     private static final Logger logger = Logger.getLogger(MockHttpClientWrapper.class);
 
     private String mockJSONResourceName;
+    private final LinkedList<String> nextMockJSONResourceNames = new LinkedList<String>();
     private HttpRequest request;
     private MockHttpResponseImpl response;
 
@@ -51,6 +54,18 @@ public final class MockHttpClientWrapper extends HttpClientWrapper {
      */
     public void setMockJSON(String resourceName) {
         mockJSONResourceName = resourceName;
+        nextMockJSONResourceNames.clear();
+    }
+
+    /**
+     * Sets the resource names of pre-registered JSON responses, one per request.<br>
+     * The last one is returned for the requests which follow.
+     * @param resourceName The resource name of the first response
+     * @param nextResourceNames The resource names of the next responses
+     */
+    public void setMockJSON(String resourceName, String... nextResourceNames) {
+        setMockJSON(resourceName);
+        nextMockJSONResourceNames.addAll(Arrays.asList(nextResourceNames));
     }
 
     public HttpRequest getRequest() {
@@ -77,6 +92,9 @@ public final class MockHttpClientWrapper extends HttpClientWrapper {
         }
 
         String json = mockJSONResourceName != null ? readMockJSON() : null;
+        if (!nextMockJSONResourceNames.isEmpty()) {
+            mockJSONResourceName = nextMockJSONResourceNames.removeFirst();
+        }
         if (json == null) {
             HttpResponse res = super.request(req);
             try {
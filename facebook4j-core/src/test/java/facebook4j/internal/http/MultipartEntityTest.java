@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class MultipartEntityTest {
+
+    @Test
+    public void fileAndText() throws Exception {
+        File file = new File(getClass().getResource("/test_image.png").toURI());
+        MultipartEntity entity = new MultipartEntity("boundary", new HttpParameter[]{
+                new HttpParameter("source", file),
+                new HttpParameter("message", "café")
+        });
+        assertThat(entity.getContentType(), is("multipart/form-data; boundary=boundary"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        assertThat((long) out.size(), is(entity.getContentLength()));
+        assertThat(out.size() > file.length(), is(true));
+
+        String body = out.toString("UTF-8");
+        assertThat(body.startsWith("--boundary\r\nContent-Disposition: form-data; name=\"source\"; filename=\"test_image.png\"\r\nContent-Type: image/png\r\n\r\n"), is(true));
+        assertThat(body.endsWith("\r\n--boundary\r\nContent-Disposition: form-data; name=\"message\"\r\nContent-Type: text/plain; charset=UTF-8\r\n\r\ncafé\r\n--boundary--\r\n\r\n"), is(true));
+    }
+
+    @Test
+    public void stream() throws Exception {
+        byte[] content = new byte[200000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        MultipartEntity entity = new MultipartEntity("b", new HttpParameter[]{
+                new HttpParameter("source", "video.mov", new ByteArrayInputStream(content))
+        });
+        assertThat(entity.getContentLength(), is(-1L));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        String header = "--b\r\nContent-Disposition: form-data; name=\"source\"; filename=\"video.mov\"\r\nContent-Type: application/octet-stream\r\n\r\n";
+        byte[] body = out.toByteArray();
+        assertThat(body.length, is(header.length() + content.length + "\r\n--b--\r\n\r\n".length()));
+        for (int i = 0; i < content.length; i++) {
+            assertThat(body[header.length() + i], is(content[i]));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import facebook4j.conf.ConfigurationBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class PooledHttpClientImplTest {
+    private HttpServer server;
+    private String baseURL;
+    // the client port of each request the server received
+    private final List<Integer> clientPorts = Collections.synchronizedList(new ArrayList<Integer>());
+
+    @Before
+    public void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+                byte[] body = "{\"id\":\"1\"}".getBytes("UTF-8");
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream os = exchange.getResponseBody();
+                os.write(body);
+                os.close();
+            }
+        });
+        server.start();
+        baseURL = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void keepAlive() throws Exception {
+        PooledHttpClientImpl client = new PooledHttpClientImpl(new ConfigurationBuilder().build());
+        String route = HttpConnectionPool.routeOf(baseURL);
+        for (int i = 0; i < 3; i++) {
+            HttpResponse res = client.get(baseURL + "/" + i);
+            assertThat(res.asString(), is("{\"id\":\"1\"}"));
+            assertThat(client.getPool().getLeasedCount(route), is(0));
+        }
+        assertThat(clientPorts.size(), is(3));
+        // the socket of the first request has been reused
+        assertThat(clientPorts.get(1), is(clientPorts.get(0)));
+        assertThat(clientPorts.get(2), is(clientPorts.get(0)));
+    }
+}
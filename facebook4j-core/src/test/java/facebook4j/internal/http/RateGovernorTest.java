@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.auth.AccessToken;
+import facebook4j.auth.OAuthAuthorization;
+import facebook4j.conf.ConfigurationContext;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class RateGovernorTest {
+
+    private static HttpRequest request(String token) {
+        OAuthAuthorization auth = new OAuthAuthorization(ConfigurationContext.getInstance());
+        auth.setOAuthAccessToken(new AccessToken(token));
+        return new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/me", null, auth, null);
+    }
+
+    @Test
+    public void parseUsage() throws Exception {
+        assertThat(RateGovernor.parseUsage("{\"call_count\":28,\"total_time\":25,\"total_cputime\":25}"), is(28));
+        assertThat(RateGovernor.parseUsage("{\"acc_id_util_pct\":9.67}"), is(10));
+        assertThat(RateGovernor.parseUsage("broken"), is(0));
+    }
+
+    @Test
+    public void interval() throws Exception {
+        RateGovernor governor = new RateGovernor(80, 1000);
+        assertThat(governor.intervalOf(79), is(0L));
+        assertThat(governor.intervalOf(80), is(0L));
+        assertThat(governor.intervalOf(90), is(500L));
+        assertThat(governor.intervalOf(100), is(1000L));
+        assertThat(governor.intervalOf(120), is(1000L));
+    }
+
+    @Test
+    public void belowThreshold() throws Exception {
+        RateGovernor governor = new RateGovernor(80, 1000);
+        HttpRequest req = request("token");
+        governor.update(req, "{\"call_count\":50}", null, null, 0);
+        assertThat(governor.reserve(req, 0), is(0L));
+        assertThat(governor.reserve(req, 0), is(0L));
+    }
+
+    @Test
+    public void appUsageQueuesRequests() throws Exception {
+        RateGovernor governor = new RateGovernor(80, 1000);
+        governor.update(request("token1"), "{\"call_count\":90}", null, null, 0);
+        // the app budget applies to every token
+        assertThat(governor.reserve(request("token1"), 0), is(0L));
+        assertThat(governor.reserve(request("token2"), 0), is(500L));
+        assertThat(governor.reserve(request("token1"), 100), is(900L));
+        assertThat(RateGovernor.getUsage().getUsage().get("app"), is(90));
+    }
+
+    @Test
+    public void pageUsageAppliesToItsToken() throws Exception {
+        RateGovernor governor = new RateGovernor(0, 1000);
+        governor.update(request("page"), null, "{\"call_count\":100}", null, 0);
+        assertThat(governor.reserve(request("page"), 0), is(0L));
+        assertThat(governor.reserve(request("page"), 0), is(1000L));
+        assertThat(governor.reserve(request("other"), 0), is(0L));
+    }
+
+    @Test
+    public void tokensWithTheSameHashCode() throws Exception {
+        assertThat("Aa".hashCode(), is("BB".hashCode()));
+        RateGovernor governor = new RateGovernor(0, 1000);
+        governor.update(request("Aa"), null, "{\"call_count\":100}", null, 0);
+        assertThat(governor.reserve(request("Aa"), 0), is(0L));
+        assertThat(governor.reserve(request("Aa"), 0), is(1000L));
+        assertThat(governor.reserve(request("BB"), 0), is(0L));
+        assertThat(governor.reserve(request("BB"), 0), is(0L));
+    }
+
+    @Test
+    public void businessUsageRegainTime() throws Exception {
+        RateGovernor governor = new RateGovernor(80, 1000);
+        governor.update(request("token"), null, null,
+                "{\"112233\":[{\"type\":\"pages\",\"call_count\":100,\"total_cputime\":25,\"total_time\":25,\"estimated_time_to_regain_access\":2}]}", 0);
+        assertThat(governor.reserve(request("token"), 0), is(2 * 60 * 1000L));
+        assertThat(RateGovernor.getUsage().getUsage().get("business:112233/pages"), is(100));
+    }
+
+    @Test
+    public void outdatedUsageIsIgnored() throws Exception {
+        RateGovernor governor = new RateGovernor(80, 1000);
+        governor.update(request("token"), "{\"call_count\":100}", null, null, 0);
+        long later = 2 * 60 * 60 * 1000L;
+        assertThat(governor.reserve(request("token"), later), is(0L));
+        assertThat(governor.reserve(request("token"), later), is(0L));
+    }
+
+    @Test
+    public void expiredScopesAreDropped() throws Exception {
+        RateGovernor governor = new RateGovernor(80, 1000);
+        governor.update(request("page1"), null, "{\"call_count\":10}", null, 0);
+        governor.update(request("page2"), null, "{\"call_count\":10}",
+                "{\"998877\":[{\"type\":\"pages\",\"call_count\":10}]}", 0);
+        assertThat(governor.getScopeCount(), is(3));
+        assertThat(RateGovernor.getUsage().getUsage().containsKey("business:998877/pages"), is(true));
+
+        // neither token is used again, another token triggers the purge
+        long later = 2 * 60 * 60 * 1000L;
+        assertThat(governor.reserve(request("page3"), later), is(0L));
+        assertThat(governor.getScopeCount(), is(0));
+        assertThat(RateGovernor.getUsage().getUsage().containsKey("business:998877/pages"), is(false));
+    }
+}
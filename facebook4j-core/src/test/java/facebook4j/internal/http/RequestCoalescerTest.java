@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import facebook4j.FacebookException;
+import facebook4j.conf.ConfigurationBuilder;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class RequestCoalescerTest {
+
+    private static final HttpRequest REQUEST = new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/page", null, null, null);
+
+    private static class BlockingWrapper extends HttpClientWrapper {
+        private static final long serialVersionUID = 1L;
+        final AtomicInteger sent = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        FacebookException error;
+
+        BlockingWrapper() {
+            super(new ConfigurationBuilder().build());
+        }
+
+        @Override
+        HttpResponse send(HttpRequest req) throws FacebookException {
+            sent.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (error != null) {
+                throw error;
+            }
+            HttpResponse res = new HttpResponse() {
+                @Override
+                public String getResponseHeader(String name) {
+                    return null;
+                }
+
+                @Override
+                public Map<String, List<String>> getResponseHeaderFields() {
+                    return Collections.singletonMap("ETag", Collections.singletonList("\"1\""));
+                }
+
+                @Override
+                public void disconnect() {
+                }
+            };
+            res.statusCode = 200;
+            res.is = new ByteArrayInputStream("{\"id\":\"1\",\"name\":\"page\"}".getBytes());
+            return res;
+        }
+    }
+
+    private static Future<HttpResponse> submit(ExecutorService executor, final RequestCoalescer coalescer,
+                                               final HttpRequest req, final HttpClientWrapper wrapper) {
+        return executor.submit(new Callable<HttpResponse>() {
+            public HttpResponse call() throws Exception {
+                return coalescer.request(req, wrapper);
+            }
+        });
+    }
+
+    private static void awaitCoalesced(RequestCoalescer coalescer, long count) throws InterruptedException {
+        for (int i = 0; i < 500 && coalescer.getCoalescedCount() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void identicalRequestsShareOneCall() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        BlockingWrapper wrapper = new BlockingWrapper();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<HttpResponse> first = submit(executor, coalescer, REQUEST, wrapper);
+            wrapper.entered.await();
+            Future<HttpResponse> second = submit(executor, coalescer, REQUEST, wrapper);
+            Future<HttpResponse> third = submit(executor, coalescer,
+                    new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/page", null, null, null), wrapper);
+            awaitCoalesced(coalescer, 2);
+            wrapper.release.countDown();
+
+            HttpResponse res = first.get();
+            assertThat(wrapper.sent.get(), is(1));
+            assertThat(second.get(), is(sameInstance(res)));
+            assertThat(third.get(), is(sameInstance(res)));
+            assertThat(res.getStatusCode(), is(200));
+            assertThat(res.getResponseHeader("etag"), is("\"1\""));
+            assertThat(res.asJSONObject().getString("name"), is("page"));
+            assertThat(second.get().asJSONObject(), is(sameInstance(res.asJSONObject())));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void completedCallsAreNotCached() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        BlockingWrapper wrapper = new BlockingWrapper();
+        wrapper.release.countDown();
+        HttpResponse first = coalescer.request(REQUEST, wrapper);
+        HttpResponse second = coalescer.request(REQUEST, wrapper);
+        assertThat(wrapper.sent.get(), is(2));
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(coalescer.getCoalescedCount(), is(0L));
+    }
+
+    @Test
+    public void errorsAreShared() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        BlockingWrapper wrapper = new BlockingWrapper();
+        wrapper.error = new FacebookException("error");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<HttpResponse> first = submit(executor, coalescer, REQUEST, wrapper);
+            wrapper.entered.await();
+            Future<HttpResponse> second = submit(executor, coalescer, REQUEST, wrapper);
+            awaitCoalesced(coalescer, 1);
+            wrapper.release.countDown();
+            for (Future<HttpResponse> future : new Future[]{first, second}) {
+                try {
+                    future.get();
+                    fail();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause(), is((Throwable) wrapper.error));
+                }
+            }
+            assertThat(wrapper.sent.get(), is(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
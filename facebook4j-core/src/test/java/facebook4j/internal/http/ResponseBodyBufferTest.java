@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class ResponseBodyBufferTest {
+
+    private static byte[] body(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) ('a' + i % 26);
+        }
+        return bytes;
+    }
+
+    // returns a few bytes at a time, like a socket
+    private static InputStream trickle(byte[] bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1000));
+            }
+        };
+    }
+
+    @Test
+    public void unknownLength() throws Exception {
+        byte[] bytes = body(100000);
+        ResponseBodyBuffer body = ResponseBodyBuffer.read(trickle(bytes), -1);
+        assertThat(body.length(), is(bytes.length));
+        assertThat(body.toByteArray(), is(bytes));
+        body.release();
+    }
+
+    @Test
+    public void expectedLength() throws Exception {
+        byte[] bytes = body(50000);
+        ResponseBodyBuffer body = ResponseBodyBuffer.read(trickle(bytes), bytes.length);
+        assertThat(body.length(), is(bytes.length));
+        assertThat(body.array().length >= bytes.length + 1, is(true));
+        assertThat(new String(body.toByteArray(), "UTF-8"), is(new String(bytes, "UTF-8")));
+        body.release();
+    }
+
+    @Test
+    public void wrongExpectedLength() throws Exception {
+        byte[] bytes = body(30000);
+        ResponseBodyBuffer body = ResponseBodyBuffer.read(trickle(bytes), 10);
+        assertThat(body.toByteArray(), is(bytes));
+        body.release();
+
+        body = ResponseBodyBuffer.read(trickle(bytes), 1000000);
+        assertThat(body.toByteArray(), is(bytes));
+        body.release();
+    }
+
+    @Test
+    public void reused() throws Exception {
+        ResponseBodyBuffer body = ResponseBodyBuffer.read(new ByteArrayInputStream(body(100)), -1);
+        byte[] array = body.array();
+        body.release();
+        assertThat(body.array(), is(nullValue()));
+
+        boolean reused = false;
+        for (int i = 0; i < 16 && !reused; i++) {
+            ResponseBodyBuffer next = ResponseBodyBuffer.read(new ByteArrayInputStream(body(100)), 100);
+            reused = next.array() == array;
+            next.release();
+        }
+        assertThat(reused, is(true));
+    }
+
+    @Test
+    public void decode() throws Exception {
+        String text = "{\"message\":\"こんにちは éè 😀\"}\r\n";
+        ResponseBodyBuffer body = ResponseBodyBuffer.read(new ByteArrayInputStream(text.getBytes("UTF-8")), -1);
+        assertThat(body.decode(), is(text));
+        body.release();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.management.TransferStatisticsMBean;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class ResponseBodyInputStreamTest {
+
+    private static byte[] body() {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < 2000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\":\"").append(i).append("\",\"message\":\"hello\"}");
+        }
+        return json.append("]}").toString().getBytes();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        gzip.write(bytes);
+        gzip.close();
+        return out.toByteArray();
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+    // returns at most one byte per read, as a slow network would
+    private static InputStream trickle(byte[] bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    @Test
+    public void gzip() throws Exception {
+        byte[] body = body();
+        byte[] compressed = gzip(body);
+        TransferStatisticsMBean statistics = ResponseBodyInputStream.getStatistics();
+        long wire = statistics.getWireBytes();
+        long decoded = statistics.getDecodedBytes();
+        long compressedCount = statistics.getCompressedResponseCount();
+
+        assertThat(readFully(new ResponseBodyInputStream(new ByteArrayInputStream(compressed), "gzip")), is(body));
+        assertThat(statistics.getWireBytes() - wire, is((long) compressed.length));
+        assertThat(statistics.getDecodedBytes() - decoded, is((long) body.length));
+        assertThat(statistics.getCompressedResponseCount() - compressedCount, is(1L));
+
+        // the pooled inflater is reused
+        assertThat(readFully(new ResponseBodyInputStream(trickle(compressed), "GZIP")), is(body));
+    }
+
+    @Test
+    public void gzipHeaderFields() throws Exception {
+        byte[] compressed = gzip("{}".getBytes());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(compressed, 0, 3);
+        // FEXTRA | FNAME | FCOMMENT
+        out.write(4 | 8 | 16);
+        out.write(compressed, 4, 6);
+        out.write(new byte[]{2, 0, 'x', 'y'});
+        out.write("name\0comment\0".getBytes());
+        out.write(compressed, 10, compressed.length - 10);
+        assertThat(readFully(new ResponseBodyInputStream(new ByteArrayInputStream(out.toByteArray()), "gzip")),
+                is("{}".getBytes()));
+    }
+
+    @Test
+    public void identity() throws Exception {
+        byte[] body = body();
+        TransferStatisticsMBean statistics = ResponseBodyInputStream.getStatistics();
+        long wire = statistics.getWireBytes();
+        long responses = statistics.getResponseCount();
+        assertThat(readFully(new ResponseBodyInputStream(new ByteArrayInputStream(body), null)), is(body));
+        assertThat(statistics.getWireBytes() - wire, is((long) body.length));
+        assertThat(statistics.getResponseCount() - responses, is(1L));
+    }
+
+    @Test(expected = ZipException.class)
+    public void corruptTrailer() throws Exception {
+        byte[] compressed = gzip(body());
+        compressed[compressed.length - 5]++;
+        readFully(new ResponseBodyInputStream(new ByteArrayInputStream(compressed), "gzip"));
+    }
+
+    @Test(expected = ZipException.class)
+    public void notGzip() throws Exception {
+        readFully(new ResponseBodyInputStream(new ByteArrayInputStream(body()), "gzip"));
+    }
+
+    @Test
+    public void emptyGzip() throws Exception {
+        TransferStatisticsMBean statistics = ResponseBodyInputStream.getStatistics();
+        long responses = statistics.getResponseCount();
+        ResponseBodyInputStream in = new ResponseBodyInputStream(new ByteArrayInputStream(new byte[0]), "gzip");
+        assertThat(in.available(), is(0));
+        assertThat(readFully(in).length, is(0));
+        assertThat(statistics.getResponseCount() - responses, is(1L));
+    }
+
+    @Test
+    public void notModifiedLabelledGzip() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.getResponseHeaders().add("ETag", "\"1\"");
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+            }
+        });
+        server.start();
+        try {
+            HttpURLConnection con = (HttpURLConnection) new URL("http://127.0.0.1:"
+                    + server.getAddress().getPort() + "/me").openConnection();
+            con.setRequestProperty("If-None-Match", "\"1\"");
+            HttpResponse response = new HttpResponseImpl(con, new ConfigurationBuilder().build());
+            assertThat(response.getStatusCode(), is(304));
+            String body = response.asString();
+            assertThat(body == null || body.length() == 0, is(true));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
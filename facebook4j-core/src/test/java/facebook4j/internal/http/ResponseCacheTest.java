@@ -0,0 +1,122 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class ResponseCacheTest {
+
+    private static HttpRequest request(String path) {
+        return new HttpRequest(RequestMethod.GET, "https://graph.facebook.com/" + path, null, null, null);
+    }
+
+    private static HttpResponse response(int statusCode, String etag, String body) {
+        final Map<String, List<String>> headers = etag != null
+                ? Collections.singletonMap("ETag", Collections.singletonList(etag))
+                : Collections.<String, List<String>>emptyMap();
+        HttpResponse res = new HttpResponse() {
+            @Override
+            public String getResponseHeader(String name) {
+                List<String> values = headers.get(name);
+                return values != null ? values.get(0) : null;
+            }
+
+            @Override
+            public Map<String, List<String>> getResponseHeaderFields() {
+                return headers;
+            }
+
+            @Override
+            public void disconnect() {
+            }
+        };
+        res.statusCode = statusCode;
+        if (body != null) {
+            res.is = new ByteArrayInputStream(body.getBytes());
+        }
+        return res;
+    }
+
+    @Test
+    public void notModified() throws Exception {
+        ResponseCache cache = new ResponseCache(1024);
+        HttpRequest req = request("page");
+        assertThat(cache.get(req), is(nullValue()));
+
+        HttpResponse first = cache.store(req, response(200, "\"abc\"", "{\"id\":\"1\"}"));
+        assertThat(first.asJSONObject().getString("id"), is("1"));
+        ResponseCache.Entry entry = cache.get(req);
+        assertThat(entry, is(notNullValue()));
+        assertThat(entry.conditional(req).getRequestHeaders().get("If-None-Match"), is("\"abc\""));
+        assertThat(entry.conditional(req).getURL(), is(req.getURL()));
+
+        HttpResponse second = cache.revalidated(req, entry, response(304, "\"abc\"", null));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.asJSONObject(), is(sameInstance(first.asJSONObject())));
+        assertThat(cache.getHitCount(), is(1L));
+        assertThat(cache.getMissCount(), is(1L));
+    }
+
+    @Test
+    public void modified() throws Exception {
+        ResponseCache cache = new ResponseCache(1024);
+        HttpRequest req = request("page");
+        cache.store(req, response(200, "\"abc\"", "{\"id\":\"1\"}"));
+        HttpResponse res = cache.revalidated(req, cache.get(req), response(200, "\"def\"", "{\"id\":\"2\"}"));
+        assertThat(res.asJSONObject().getString("id"), is("2"));
+        assertThat(cache.get(req).etag, is("\"def\""));
+    }
+
+    @Test
+    public void notCached() throws Exception {
+        ResponseCache cache = new ResponseCache(1024);
+        HttpRequest req = request("page");
+        cache.store(req, response(200, null, "{\"id\":\"1\"}"));
+        assertThat(cache.get(req), is(nullValue()));
+        cache.store(req, response(200, "\"abc\"", "{\"id\":\"1\"}"));
+        cache.store(req, response(404, "\"abc\"", "{}"));
+        assertThat(cache.get(req), is(nullValue()));
+        assertThat(cache.getSize(), is(0L));
+    }
+
+    @Test
+    public void eviction() throws Exception {
+        ResponseCache cache = new ResponseCache(25);
+        cache.store(request("1"), response(200, "\"1\"", "0123456789"));
+        cache.store(request("2"), response(200, "\"2\"", "0123456789"));
+        assertThat(cache.getSize(), is(20L));
+        // 1 becomes the most recently used
+        cache.get(request("1"));
+        cache.store(request("3"), response(200, "\"3\"", "0123456789"));
+        assertThat(cache.getSize(), is(20L));
+        assertThat(cache.get(request("1")), is(notNullValue()));
+        assertThat(cache.get(request("2")), is(nullValue()));
+        assertThat(cache.get(request("3")), is(notNullValue()));
+        // larger than the cache
+        cache.store(request("4"), response(200, "\"4\"", "0123456789012345678901234567890"));
+        assertThat(cache.get(request("4")), is(nullValue()));
+        assertThat(cache.getSize(), is(20L));
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import facebook4j.Comment;
+import facebook4j.Page;
+import facebook4j.Place;
+import facebook4j.Post;
+import facebook4j.Reading;
+import facebook4j.ResponseList;
+import facebook4j.Tag;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.http.HttpResponse;
+import facebook4j.internal.org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class JSONBindingUtilTest {
+    private static final Configuration CONF = new ConfigurationBuilder().build();
+
+    private static final String[] POST_LISTS = {"post/feed.json", "post/home.json", "post/home_last.json",
+            "post/page.json", "post/shares.json", "post/shares_count.json", "post/statuses.json",
+            "post/statuses_message.json", "post/tagged.json", "post/tagged_with.json", "post/with_location.json"};
+    private static final String[] POSTS = {"post/post.json", "post/post_picture.json", "post/post_reactions.json",
+            "post/post_with_parent.json", "post/post_with_summaries.json", "post/with_status_type.json"};
+    private static final String[] COMMENT_LISTS = {"post/comments.json", "post/comments_last3.json",
+            "post/comments_with_summary.json", "post/comments_without_summary.json", "comment/replies.json"};
+    private static final String[] COMMENTS = {"comment/more_fields.json", "comment/reply.json", "comment/simple.json",
+            "comment/simple_with_replies.json", "comment/with_attachment_image.json", "comment/with_attachment_link.json"};
+    private static final String[] USER_LISTS = {"search/users.json", "search/users_limit5.json"};
+    private static final String[] USERS = {"user/age_range_min.json", "user/hometown_string.json", "user/me.json",
+            "user/me_fields.json", "user/me_nonnumerictz.json", "user/metadata.json"};
+    private static final String[] PAGE_LISTS = {"search/pages.json", "search/pages_5.json",
+            "page/global_brand_children.json", "page/kitkatit.json"};
+    private static final String[] PAGES = {"page/company_overview_and_fan_count.json", "page/eclipse.json",
+            "page/f4j.json", "page/f4j_name.json", "page/platform.json"};
+    private static final String[] PLACE_LISTS = {"search/places.json", "search/places_geo.json",
+            "search/places_with_categories.json"};
+
+    /*package*/ static byte[] read(String name) throws IOException {
+        InputStream in = new FileInputStream(new File(JSONBindingUtilTest.class.getResource("/mock_json/" + name).getFile()));
+        try {
+            byte[] bytes = new byte[in.available()];
+            int offset = 0;
+            int read;
+            while (offset < bytes.length && (read = in.read(bytes, offset, bytes.length - offset)) != -1) {
+                offset += read;
+            }
+            return bytes;
+        } finally {
+            in.close();
+        }
+    }
+
+    /*package*/ static HttpResponse response(final byte[] body) {
+        return new HttpResponse() {
+            {
+                statusCode = 200;
+                is = new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public String getResponseHeader(String name) {
+                return null;
+            }
+
+            @Override
+            public Map<String, List<String>> getResponseHeaderFields() {
+                return null;
+            }
+
+            @Override
+            public void disconnect() throws IOException {
+            }
+        };
+    }
+
+    // story tags are arrays, printed with their identity
+    private static String toString(Object entity) {
+        return String.valueOf(entity).replaceAll("\\[Lfacebook4j\\.Tag;@[0-9a-f]+", "Tag[]");
+    }
+
+    private static String toString(Map<String, Tag[]> storyTags) {
+        StringBuilder buf = new StringBuilder();
+        for (Map.Entry<String, Tag[]> entry : new TreeMap<String, Tag[]>(storyTags).entrySet()) {
+            buf.append(entry.getKey()).append('=').append(Arrays.toString(entry.getValue()));
+        }
+        return buf.toString();
+    }
+
+    private static JSONObject tree(byte[] body) throws Exception {
+        return new JSONObject(new String(body, "UTF-8"));
+    }
+
+    @Test
+    public void postList() throws Exception {
+        for (String name : POST_LISTS) {
+            byte[] body = read(name);
+            ResponseList<Post> expected = PostJSONImpl.createPostList(response(body), CONF);
+            ResponseList<Post> actual = PostJSONImpl.bindPostList(response(body), CONF);
+            assertThat(name, actual.size(), is(expected.size()));
+            assertThat(name, toString(actual), is(toString(expected)));
+            assertThat(name, String.valueOf(actual.getPaging()), is(String.valueOf(expected.getPaging())));
+        }
+    }
+
+    @Test
+    public void post() throws Exception {
+        for (String name : POSTS) {
+            byte[] body = read(name);
+            Post expected = new PostJSONImpl(tree(body));
+            Post actual = PostJSONImpl.bindPost(response(body), CONF);
+            assertThat(name, toString(actual), is(toString(expected)));
+            assertThat(name, actual.getParentId(), is(expected.getParentId()));
+            assertThat(name, toString(actual.getStoryTags()), is(toString(expected.getStoryTags())));
+            assertThat(name, String.valueOf(actual.getReactions()), is(String.valueOf(expected.getReactions())));
+            assertThat(name, String.valueOf(actual.getComments().getSummary()),
+                    is(String.valueOf(expected.getComments().getSummary())));
+        }
+    }
+
+    @Test
+    public void commentList() throws Exception {
+        for (String name : COMMENT_LISTS) {
+            byte[] body = read(name);
+            ResponseList<Comment> expected = CommentJSONImpl.createCommentList(response(body), CONF);
+            ResponseList<Comment> actual = CommentJSONImpl.bindCommentList(response(body));
+            assertThat(name, toString(actual), is(toString(expected)));
+            assertThat(name, String.valueOf(actual.getSummary()), is(String.valueOf(expected.getSummary())));
+        }
+    }
+
+    @Test
+    public void comment() throws Exception {
+        for (String name : COMMENTS) {
+            byte[] body = read(name);
+            Comment expected = new CommentJSONImpl(tree(body));
+            Comment actual = CommentJSONImpl.bindComment(response(body));
+            assertThat(name, toString(actual), is(toString(expected)));
+            assertThat(name, String.valueOf(actual.getParent()), is(String.valueOf(expected.getParent())));
+            assertThat(name, String.valueOf(actual.getAttachment()), is(String.valueOf(expected.getAttachment())));
+        }
+    }
+
+    @Test
+    public void userList() throws Exception {
+        for (String name : USER_LISTS) {
+            byte[] body = read(name);
+            ResponseList<User> expected = UserJSONImpl.createUserList(response(body), CONF);
+            ResponseList<User> actual = UserJSONImpl.bindUserList(response(body), CONF);
+            assertThat(name, toString(actual), is(toString(expected)));
+            assertThat(name, String.valueOf(actual.getPaging()), is(String.valueOf(expected.getPaging())));
+        }
+    }
+
+    @Test
+    public void user() throws Exception {
+        for (String name : USERS) {
+            byte[] body = read(name);
+            User expected = new UserJSONImpl(tree(body));
+            User actual = UserJSONImpl.bindUser(response(body), CONF);
+            assertThat(name, toString(actual), is(toString(expected)));
+        }
+        User user = UserJSONImpl.bindUser(response(read("user/metadata.json")), CONF);
+        assertThat(user.getMetadata().getType(), is("page"));
+        assertThat(user.getMetadata().getFields().getFields().size(),
+                is(new UserJSONImpl(response(read("user/metadata.json")), CONF).getMetadata().getFields().getFields().size()));
+    }
+
+    @Test
+    public void pageList() throws Exception {
+        for (String name : PAGE_LISTS) {
+            byte[] body = read(name);
+            ResponseList<Page> expected = PageJSONImpl.createPageList(response(body), CONF);
+            ResponseList<Page> actual = PageJSONImpl.bindPageList(response(body));
+            assertThat(name, toString(actual), is(toString(expected)));
+            assertThat(name, String.valueOf(actual.getPaging()), is(String.valueOf(expected.getPaging())));
+        }
+    }
+
+    @Test
+    public void page() throws Exception {
+        for (String name : PAGES) {
+            byte[] body = read(name);
+            Page expected = new PageJSONImpl(tree(body));
+            Page actual = PageJSONImpl.bindPage(response(body));
+            assertThat(name, toString(actual), is(toString(expected)));
+        }
+    }
+
+    @Test
+    public void placeList() throws Exception {
+        for (String name : PLACE_LISTS) {
+            byte[] body = read(name);
+            ResponseList<Place> expected = PlaceJSONImpl.createPlaceList(response(body), CONF);
+            ResponseList<Place> actual = PlaceJSONImpl.bindPlaceList(response(body));
+            assertThat(name, toString(actual), is(toString(expected)));
+        }
+    }
+
+    @Test
+    public void projection() throws Exception {
+        byte[] body = read("post/feed.json");
+        Set<String> projection = new Reading().fields("message", "comments.limit(1){message}").getFieldNames();
+        Post full = PostJSONImpl.bindPostList(response(body), CONF).get(0);
+        ResponseList<Post> posts = PostJSONImpl.bindPostList(response(body), CONF, projection);
+        Post post = posts.get(0);
+        assertThat(post.getId(), is(full.getId()));
+        assertThat(post.getMessage(), is(full.getMessage()));
+        assertThat(post.getComments().size(), is(full.getComments().size()));
+        assertThat(post.getFrom(), is(nullValue()));
+        assertThat(post.getCreatedTime(), is(nullValue()));
+        assertThat(post.getActions(), is(nullValue()));
+        assertThat(post.getLikes(), is(nullValue()));
+        assertThat(post.getMessageTags(), is(nullValue()));
+        // the tree decodes to the same projection
+        assertThat(toString(PostJSONImpl.createPostList(response(body), CONF, projection)), is(toString(posts)));
+    }
+
+    @Test
+    public void skipsUnknownFields() throws Exception {
+        byte[] body = ("{\"id\":\"1_2\",\"unknown\":{\"nested\":[1,{\"a\":null}]},\"message\":\"hello\"," +
+                "\"created_time\":\"2013-08-07T04:08:42+0000\",\"comments\":null}").getBytes("UTF-8");
+        Post post = PostJSONImpl.bindPost(response(body), CONF);
+        assertThat(post.getId(), is("1_2"));
+        assertThat(post.getMessage(), is("hello"));
+        assertThat(post.getCreatedTime(), is(new PostJSONImpl(tree(body)).getCreatedTime()));
+        assertThat(post.getComments().size(), is(0));
+        assertThat(post.getMessageTags().size(), is(0));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import facebook4j.internal.org.json.JSONArray;
+import facebook4j.internal.org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class JSONStoreTest {
+
+    @Test
+    public void identityKeys() throws Exception {
+        JSONStore store = new JSONStore();
+        List<String> list1 = new ArrayList<String>();
+        List<String> list2 = new ArrayList<String>();
+        store.put(list1, "[1]");
+        store.put(list2, new JSONObject("{\"a\":\"é\"}"));
+        assertThat(store.get(list1), is("[1]"));
+        assertThat(store.get(list2), is("{\"a\":\"é\"}"));
+        assertThat(store.get(new ArrayList<String>()), is(nullValue()));
+
+        store.put(list1, "[2]");
+        assertThat(store.get(list1), is("[2]"));
+        assertThat(store.size(), is(2));
+        assertThat(store.bytes(), is(3L + 10L));
+
+        store.clear(0);
+        assertThat(store.get(list1), is(nullValue()));
+        assertThat(store.size(), is(0));
+    }
+
+    @Test
+    public void budget() throws Exception {
+        JSONStore store = new JSONStore();
+        store.clear(10);
+        Object[] keys = new Object[5];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Object();
+            store.put(keys[i], "\"" + i + "\"");
+        }
+        // the oldest entries have been dropped
+        assertThat(store.bytes(), is(9L));
+        assertThat(store.get(keys[0]), is(nullValue()));
+        assertThat(store.get(keys[1]), is(nullValue()));
+        assertThat(store.get(keys[4]), is("\"4\""));
+
+        Object large = new Object();
+        store.put(large, "\"0123456789\"");
+        assertThat(store.get(large), is(nullValue()));
+        assertThat(store.get(keys[4]), is("\"4\""));
+    }
+
+    @Test
+    public void listShareBytes() throws Exception {
+        JSONArray data = new JSONObject("{\"data\":[{\"id\":\"1\",\"name\":\"é\"},{\"id\":\"2\"},{\"id\":\"3\",\"n\":[1,true,null]}]}").getJSONArray("data");
+        String json = data.toString();
+        int length = json.getBytes("UTF-8").length;
+        JSONStore store = new JSONStore();
+        // the list and little more fit into the budget, its elements are not counted twice
+        store.clear(length + 6);
+        List<Object> list = new ArrayList<Object>();
+        Object element1 = new Object();
+        Object element3 = new Object();
+        store.put(element1, data.getJSONObject(0));
+        store.put(element3, data.getJSONObject(2));
+        store.put(list, data);
+        assertThat(store.size(), is(3));
+        assertThat(store.bytes(), is((long) length));
+        assertThat(store.get(list), is(json));
+        assertThat(store.get(element1), is(data.getJSONObject(0).toString()));
+        assertThat(store.get(element3), is("{\"id\":\"3\",\"n\":[1,true,null]}"));
+
+        // the raw JSON is kept as it was registered
+        data.getJSONObject(0).put("name", "changed");
+        assertThat(store.get(element1).contains("é"), is(true));
+
+        // the bytes of the list are released with the last entry referring to them
+        store.put(list, "[]");
+        assertThat(store.bytes(), is((long) length + 2));
+        store.put(element1, "{}");
+        store.put(element3, "{}");
+        assertThat(store.bytes(), is(6L));
+    }
+
+    @Test
+    public void weakKeys() throws Exception {
+        JSONStore store = new JSONStore();
+        Object kept = new Object();
+        store.put(kept, "{}");
+        for (int i = 0; i < 1000; i++) {
+            store.put(new Object(), "{\"i\":" + i + "}");
+        }
+        for (int i = 0; i < 50 && store.size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(store.size(), is(1));
+        assertThat(store.get(kept), is("{}"));
+    }
+
+    @Test
+    public void perThread() throws Exception {
+        final Object key = new Object();
+        DataObjectFactoryUtil.registerJSONObject(key, "{}");
+        assertThat(JSONStore.getInstance().get(key), is("{}"));
+        final String[] other = new String[]{"unset"};
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other[0] = JSONStore.getInstance().get(key);
+            }
+        };
+        thread.start();
+        thread.join();
+        assertThat(other[0], is(nullValue()));
+        DataObjectFactoryUtil.clearThreadLocalMap();
+        assertThat(JSONStore.getInstance().get(key), is(nullValue()));
+    }
+}
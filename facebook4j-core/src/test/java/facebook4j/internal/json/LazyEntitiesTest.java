@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.json;
+
+import facebook4j.Post;
+import facebook4j.ResponseList;
+import facebook4j.User;
+import facebook4j.conf.Configuration;
+import facebook4j.conf.ConfigurationBuilder;
+import facebook4j.internal.org.json.JSONObject;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+
+import static facebook4j.internal.json.JSONBindingUtilTest.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class LazyEntitiesTest {
+    private static final Configuration EAGER = new ConfigurationBuilder().build();
+    private static final Configuration LAZY = new ConfigurationBuilder().setLazyEntitiesEnabled(true).build();
+
+    private static final String[] POST_LISTS = {"post/feed.json", "post/home.json", "post/page.json",
+            "post/tagged.json", "post/with_location.json"};
+    private static final String[] USERS = {"user/me.json", "user/me_fields.json", "user/me_picture.json",
+            "user/hometown_string.json", "user/age_range_min.json"};
+
+    private static boolean isDecoded(Object entity) throws Exception {
+        Field field = entity.getClass().getDeclaredField("undecodedEntities");
+        field.setAccessible(true);
+        return field.get(entity) == null;
+    }
+
+    @Test
+    public void postList() throws Exception {
+        for (String name : POST_LISTS) {
+            byte[] body = read(name);
+            String expected = PostJSONImpl.createPostList(response(body), EAGER).toString();
+            assertThat(name, PostJSONImpl.createPostList(response(body), LAZY).toString(), is(expected));
+            assertThat(name, PostJSONImpl.bindPostList(response(body), LAZY).toString(), is(expected));
+        }
+    }
+
+    @Test
+    public void decodedOnAccess() throws Exception {
+        ResponseList<Post> posts = PostJSONImpl.bindPostList(response(read("post/feed.json")), LAZY);
+        Post eager = PostJSONImpl.bindPostList(response(read("post/feed.json")), EAGER).get(0);
+        Post post = posts.get(0);
+        assertThat(post.getId(), is(eager.getId()));
+        assertThat(post.getCreatedTime(), is(eager.getCreatedTime()));
+        assertThat(post.getMessage(), is(eager.getMessage()));
+        assertThat(isDecoded(post), is(false));
+
+        assertThat(post.getComments().size(), is(eager.getComments().size()));
+        assertThat(isDecoded(post), is(true));
+        assertThat(post.getFrom().toString(), is(eager.getFrom().toString()));
+        assertThat(post.getActions().toString(), is(eager.getActions().toString()));
+    }
+
+    @Test
+    public void serializable() throws Exception {
+        Post post = PostJSONImpl.bindPostList(response(read("post/feed.json")), LAZY).get(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(post);
+        out.close();
+        Post copy = (Post) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertThat(isDecoded(copy), is(true));
+        assertThat(copy.toString(), is(post.toString()));
+    }
+
+    @Test
+    public void user() throws Exception {
+        for (String name : USERS) {
+            JSONObject json = new JSONObject(new String(read(name), "UTF-8"));
+            User expected = new UserJSONImpl(json, false);
+            User actual = new UserJSONImpl(json, true);
+            assertThat(name, actual.getName(), is(expected.getName()));
+            assertThat(name, isDecoded(actual), is(false));
+            assertThat(name, actual.toString(), is(expected.toString()));
+            assertThat(name, isDecoded(actual), is(true));
+        }
+        byte[] body = read("user/users.json");
+        assertThat(UserJSONImpl.createUserArray(response(body), LAZY).toString(),
+                is(UserJSONImpl.createUserArray(response(body), EAGER).toString()));
+    }
+}
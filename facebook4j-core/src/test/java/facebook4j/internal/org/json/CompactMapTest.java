@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class CompactMapTest {
+
+    @Test
+    public void insertionOrder() throws Exception {
+        CompactMap map = new CompactMap();
+        map.put("id", "1");
+        map.put("name", "a");
+        map.put("created_time", "t");
+        map.put("name", "b");
+        List<String> keys = new ArrayList<String>(map.keySet());
+        assertThat(keys.toString(), is("[id, name, created_time]"));
+        assertThat(map.get("name"), is((Object) "b"));
+        assertThat(map.get(new String("id")), is((Object) "1"));
+        assertThat(map.containsKey("missing"), is(false));
+        assertThat(map.get(null), is(nullValue()));
+    }
+
+    // compares against a HashMap across the switch from linear search to the index and back
+    @Test
+    public void sameAsHashMap() throws Exception {
+        Random random = new Random(1);
+        CompactMap map = new CompactMap();
+        Map<String, Object> expected = new HashMap<String, Object>();
+        for (int i = 0; i < 5000; i++) {
+            String key = "key" + random.nextInt(40);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key)));
+            } else {
+                assertThat(map.put(key, i), is(expected.put(key, i)));
+            }
+            assertThat(map.size(), is(expected.size()));
+            assertThat(map.get(key), is(expected.get(key)));
+        }
+        assertThat(map, is((Map<String, Object>) expected));
+        assertThat(map.hashCode(), is(expected.hashCode()));
+    }
+
+    @Test
+    public void iteratorRemove() throws Exception {
+        CompactMap map = new CompactMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        for (Iterator<String> it = map.keySet().iterator(); it.hasNext(); ) {
+            String key = it.next();
+            if (Integer.parseInt(key.substring(3)) % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertThat(map.size(), is(10));
+        assertThat(map.containsKey("key4"), is(false));
+        assertThat(map.get("key19"), is((Object) 19));
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            entry.setValue("x");
+        }
+        assertThat(map.get("key1"), is((Object) "x"));
+    }
+
+    @Test
+    public void parsedObjects() throws Exception {
+        JSONObject json = new JSONPullParser("{\"b\":1,\"a\":2,\"c\":{\"z\":true}}".getBytes("UTF-8")).nextObject();
+        assertThat(json.toString(), is("{\"b\":1,\"a\":2,\"c\":{\"z\":true}}"));
+        json.remove("a");
+        json.put("d", 3);
+        assertThat(json.toString(), is("{\"b\":1,\"c\":{\"z\":true},\"d\":3}"));
+    }
+
+    @Test
+    public void internedKeys() throws Exception {
+        JSONArray array = new JSONPullParser("[{\"created_time\":1},{\"created_time\":2}]".getBytes("UTF-8")).nextArray();
+        String first = (String) array.getJSONObject(0).keys().next();
+        String second = (String) array.getJSONObject(1).keys().next();
+        assertThat(second, is(sameInstance(first)));
+
+        char[] chars = "created_time".toCharArray();
+        assertThat(SymbolTable.intern(chars, chars.length), is(sameInstance(first)));
+        assertThat(SymbolTable.intern(new String(chars)), is(sameInstance(first)));
+
+        char[] longKey = new char[SymbolTable.MAX_LENGTH + 1];
+        assertThat(SymbolTable.intern(longKey, longKey.length), is(not(sameInstance(SymbolTable.intern(longKey, longKey.length)))));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2012 Ryuji Yamashita
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package facebook4j.internal.org.json;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import static facebook4j.internal.org.json.JSONPullParser.Token.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+public class JSONPullParserTest {
+
+    private static JSONPullParser parser(String json) throws Exception {
+        return new JSONPullParser(json.getBytes("UTF-8"));
+    }
+
+    // returns at most one byte per read, so that every token crosses a buffer boundary
+    private static InputStream trickle(byte[] bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+    }
+
+    private static void assertSameValue(String path, Object expected, Object actual) throws Exception {
+        if (expected instanceof JSONObject) {
+            assertThat(path, actual, is(instanceOf(JSONObject.class)));
+            JSONObject e = (JSONObject) expected;
+            JSONObject a = (JSONObject) actual;
+            assertThat(path, a.length(), is(e.length()));
+            for (Iterator keys = e.keys(); keys.hasNext(); ) {
+                String key = (String) keys.next();
+                assertSameValue(path + "." + key, e.get(key), a.opt(key));
+            }
+        } else if (expected instanceof JSONArray) {
+            assertThat(path, actual, is(instanceOf(JSONArray.class)));
+            JSONArray e = (JSONArray) expected;
+            JSONArray a = (JSONArray) actual;
+            assertThat(path, a.length(), is(e.length()));
+            for (int i = 0; i < e.length(); i++) {
+                assertSameValue(path + "[" + i + "]", e.get(i), a.get(i));
+            }
+        } else {
+            assertThat(path, actual, is(expected));
+        }
+    }
+
+    @Test
+    public void tokens() throws Exception {
+        JSONPullParser parser = parser("{\"a\":[1,-2.5,\"s\",true,false,null,{}],\"b\":{}}");
+        JSONPullParser.Token[] expected = {START_OBJECT, NAME, START_ARRAY, NUMBER, NUMBER, STRING, TRUE, FALSE, NULL,
+                START_OBJECT, END_OBJECT, END_ARRAY, NAME, START_OBJECT, END_OBJECT, END_OBJECT, END_DOCUMENT};
+        for (JSONPullParser.Token token : expected) {
+            assertThat(parser.next(), is(token));
+        }
+    }
+
+    @Test
+    public void values() throws Exception {
+        JSONObject json = parser("{\"int\":42,\"negative\":-7,\"long\":12345678901,\"big\":123456789012345678901234,"
+                + "\"double\":1.5,\"exp\":1e3,\"string\":\"a\\\"b\\\\c\\/d\\n\\u00e9\",\"utf8\":\"\u65e5\u672c\ud83d\ude00\","
+                + "\"true\":true,\"null\":null}").nextObject();
+        assertThat(json.get("int"), is((Object) 42));
+        assertThat(json.get("negative"), is((Object) (-7)));
+        assertThat(json.get("long"), is((Object) 12345678901L));
+        assertThat(json.get("big"), is(JSONObject.stringToValue("123456789012345678901234")));
+        assertThat(json.get("double"), is((Object) 1.5));
+        assertThat(json.get("exp"), is((Object) 1000.0));
+        assertThat(json.getString("string"), is("a\"b\\c/d\n\u00e9"));
+        assertThat(json.getString("utf8"), is("\u65e5\u672c\ud83d\ude00"));
+        assertThat(json.get("true"), is((Object) Boolean.TRUE));
+        assertThat(json.isNull("null"), is(true));
+    }
+
+    @Test
+    public void skipValue() throws Exception {
+        JSONPullParser parser = parser("{\"skip\":{\"a\":[1,{\"b\":2}]},\"keep\":\"value\"}");
+        assertThat(parser.next(), is(START_OBJECT));
+        assertThat(parser.next(), is(NAME));
+        assertThat(parser.next(), is(START_OBJECT));
+        parser.skipValue();
+        assertThat(parser.next(), is(NAME));
+        assertThat(parser.getText(), is("keep"));
+        assertThat(parser.nextValue(), is((Object) "value"));
+        assertThat(parser.next(), is(END_OBJECT));
+    }
+
+    @Test
+    public void malformed() throws Exception {
+        String[] malformed = {"{\"a\" 1}", "{\"a\":1", "[1 2]", "{a:1}", "{\"a\":tru}", "{\"a\":\"\\x\"}",
+                "{\"a\":1,\"a\":2}", "{\"a\":\"unterminated"};
+        for (String json : malformed) {
+            try {
+                parser(json).nextObject();
+                fail(json);
+            } catch (JSONException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void trailingComma() throws Exception {
+        JSONObject json = parser("{\"a\":[1,2,],}").nextObject();
+        assertThat(json.getJSONArray("a").length(), is(2));
+    }
+
+    @Test
+    public void sameTreeAsJSONTokener() throws Exception {
+        File dir = new File(getClass().getResource("/mock_json").toURI());
+        int count = assertSameTree(dir);
+        assertThat(count > 100, is(true));
+    }
+
+    private int assertSameTree(File dir) throws Exception {
+        int count = 0;
+        for (File file : dir.listFiles()) {
+            if (file.isDirectory()) {
+                count += assertSameTree(file);
+                continue;
+            }
+            byte[] bytes = new byte[(int) file.length()];
+            FileInputStream in = new FileInputStream(file);
+            try {
+                int offset = 0;
+                while (offset < bytes.length) {
+                    offset += in.read(bytes, offset, bytes.length - offset);
+                }
+            } finally {
+                in.close();
+            }
+            Object expected;
+            try {
+                expected = new JSONTokener(new String(bytes, "UTF-8")).nextValue();
+            } catch (JSONException notJSON) {
+                continue;
+            }
+            assertSameValue(file.getName(), expected, new JSONPullParser(bytes).nextValue());
+            assertSameValue(file.getName(), expected, new JSONPullParser(trickle(bytes)).nextValue());
+            count++;
+        }
+        return count;
+    }
+}
@@ -70,6 +70,54 @@ public class z_F4JInternalParseUtilTest {
         }
     }
 
+    public static class numbers extends FacebookTestBase {
+        @Test
+        public void storedTypes() throws Exception {
+            JSONObject json = new JSONObject("{\"int\": 123, \"long\": 12345678901, \"double\": 1.5, \"string\": \"42\", \"bool\": true, \"null\": null}");
+            assertThat(z_F4JInternalParseUtil.getPrimitiveInt("int", json), is(123));
+            assertThat(z_F4JInternalParseUtil.getPrimitiveInt("long", json), is(-1));
+            assertThat(z_F4JInternalParseUtil.getPrimitiveInt("double", json), is(-1));
+            assertThat(z_F4JInternalParseUtil.getPrimitiveInt("string", json), is(42));
+            assertThat(z_F4JInternalParseUtil.getPrimitiveInt("null", json), is(-1));
+            assertThat(z_F4JInternalParseUtil.getPrimitiveInt("missing", json), is(-1));
+
+            assertThat(z_F4JInternalParseUtil.getInt("int", json), is(123));
+            assertThat(z_F4JInternalParseUtil.getInt("long", json), is(nullValue()));
+            assertThat(z_F4JInternalParseUtil.getInt("double", json), is(nullValue()));
+            assertThat(z_F4JInternalParseUtil.getInt("string", json), is(42));
+
+            assertThat(z_F4JInternalParseUtil.getPrimitiveLong("long", json), is(12345678901L));
+            assertThat(z_F4JInternalParseUtil.getLong("int", json), is(123L));
+            assertThat(z_F4JInternalParseUtil.getLong("long", json), is(12345678901L));
+            assertThat(z_F4JInternalParseUtil.getLong("double", json), is(nullValue()));
+
+            assertThat(z_F4JInternalParseUtil.getDouble("int", json), is(123.0));
+            assertThat(z_F4JInternalParseUtil.getDouble("double", json), is(1.5));
+            assertThat(z_F4JInternalParseUtil.getDouble("string", json), is(42.0));
+            assertThat(z_F4JInternalParseUtil.getDouble("null", json), is(nullValue()));
+
+            assertThat(z_F4JInternalParseUtil.getBoolean("bool", json), is(true));
+            assertThat(z_F4JInternalParseUtil.getBoolean("int", json), is(false));
+            assertThat(z_F4JInternalParseUtil.getBoolean("null", json), is(nullValue()));
+        }
+
+        @Test
+        public void jsonAccessors() throws Exception {
+            JSONObject json = new JSONObject("{\"a\": [1, 12345678901, 2.5, \"7\", \"x\", null]}");
+            assertThat(json.getJSONArray("a").optIntValue(0, -1), is(1));
+            assertThat(json.getJSONArray("a").optIntValue(1, -1), is(-1));
+            assertThat(json.getJSONArray("a").optIntValue(2, -1), is(-1));
+            assertThat(json.getJSONArray("a").optIntValue(3, -1), is(7));
+            assertThat(json.getJSONArray("a").optIntValue(4, -1), is(-1));
+            assertThat(json.getJSONArray("a").optIntValue(5, -1), is(-1));
+            assertThat(json.getJSONArray("a").optIntValue(6, -1), is(-1));
+            assertThat(json.getJSONArray("a").optLongValue(1, -1), is(12345678901L));
+            assertThat(json.getJSONArray("a").optDoubleValue(2, -1), is(2.5));
+            assertThat(json.getJSONArray("a").optDoubleValue(4, -1), is(-1.0));
+            assertThat(json.optIntValue("missing", 3), is(3));
+        }
+    }
+
     public static class getLong extends FacebookTestBase {
         @Test
         public void whenLong() throws Exception {
@@ -180,6 +228,52 @@ public class z_F4JInternalParseUtilTest {
             assertThat(actual, is(df.parse("2012-07-31 09:00:00")));
         }
 
+        @Test
+        public void otherShapes() throws Exception {
+            SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("2012-07-31T20:49:44Z", (TimeZone) null),
+                    is(df.parse("2012-07-31 20:49:44.000")));
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("2012-07-31T20:49:44.123+09:00", (TimeZone) null),
+                    is(df.parse("2012-07-31 11:49:44.123")));
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("2012-07-31T20:49:44-05", (TimeZone) null),
+                    is(df.parse("2012-08-01 01:49:44.000")));
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("1969-12-31T23:59:59+0000", (TimeZone) null),
+                    is(new Date(-1000L)));
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("2000-02-29", (TimeZone) null),
+                    is(df.parse("2000-02-29 00:00:00.000")));
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("not a date", (TimeZone) null), is(nullValue()));
+        }
+
+        @Test
+        public void sameAsSimpleDateFormat() throws Exception {
+            TimeZone timezone = TimeZone.getTimeZone("America/Los_Angeles");
+            SimpleDateFormat local = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+            local.setTimeZone(timezone);
+            SimpleDateFormat offset = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+            // every day of a leap year and the following DST transitions
+            long time = offset.parse("2012-01-01T00:00:00+0000").getTime();
+            for (int i = 0; i < 1500; i++, time += 6 * 60 * 60 * 1000L + 1234000L) {
+                String withOffset = offset.format(new Date(time));
+                assertThat(withOffset, z_F4JInternalParseUtil.getISO8601Datetime(withOffset, timezone),
+                        is(offset.parse(withOffset)));
+                String withoutOffset = local.format(new Date(time));
+                assertThat(withoutOffset, z_F4JInternalParseUtil.getISO8601Datetime(withoutOffset, timezone),
+                        is(local.parse(withoutOffset)));
+            }
+        }
+
+        @Test
+        public void timezone() throws Exception {
+            JSONObject json = new JSONObject("{\"datetime\": \"2012-08-01T05:49:44\", \"timezone\": \"Asia/Tokyo\"}");
+            SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+            assertThat(z_F4JInternalParseUtil.getISO8601Datetime("datetime", json), is(df.parse("2012-07-31 20:49:44")));
+
+            assertThat(z_F4JInternalParseUtil.lookupTimeZone("Asia/Tokyo"), is(sameInstance(z_F4JInternalParseUtil.lookupTimeZone("Asia/Tokyo"))));
+            TimeZone copy = z_F4JInternalParseUtil.getTimeZone("timezone", json);
+            assertThat(copy.getID(), is("Asia/Tokyo"));
+            assertThat(copy, is(not(sameInstance(z_F4JInternalParseUtil.lookupTimeZone("Asia/Tokyo")))));
+        }
+
     }
 
     public static class getURL extends FacebookTestBase {